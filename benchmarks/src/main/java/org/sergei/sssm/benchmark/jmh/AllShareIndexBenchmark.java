@@ -0,0 +1,77 @@
+package org.sergei.sssm.benchmark.jmh;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sergei.sssm.model.AbstractStock;
+import org.sergei.sssm.model.StockMarket;
+import org.sergei.sssm.model.StockMarketPlayer;
+
+/**
+ * Measures StockMarket.calculateAllShareIndex() for a given number of traded
+ * stocks.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AllShareIndexBenchmark {
+	private static final int MAX_INITIAL_PRICE_LIMIT = 100;
+	private static final int QUANTITY = 100;
+
+	/**
+	 * Number of stocks which had trading activity.
+	 */
+	@Param({ "5", "100", "1000" })
+	private int stocksCount;
+
+	private StockMarket stockMarket;
+
+	/**
+	 * Method registers stocks SYM00001, SYM00002 and so on and executes one trade
+	 * transaction of each stock at a random price.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		final Random random = new Random(this.stocksCount);
+		this.stockMarket = new StockMarket();
+		for (int i = 0; i < this.stocksCount; i++) {
+			this.stockMarket.registerStockMarketCompany(String.format("SYM%05d", i + 1), BigDecimal.ZERO, BigDecimal.ONE, BigDecimal.valueOf(1 + random.nextInt(MAX_INITIAL_PRICE_LIMIT)));
+		}
+		for (AbstractStock stock : this.stockMarket.getStocks()) {
+			this.stockMarket.putSellOrder(stock, QUANTITY, stock.getScaledPrice(), StockMarketPlayer.PLAYER2, stockOrderTransaction -> {
+			});
+			this.stockMarket.putBuyOrder(stock, QUANTITY, stock.getScaledPrice(), StockMarketPlayer.PLAYER1, stockOrderTransaction -> {
+			});
+		}
+		if (this.stockMarket.calculateAllShareIndex().signum() == 0) {
+			throw new IllegalStateException("No stock was traded");
+		}
+	}
+
+	/**
+	 * @return BigDecimal - All Share Index of all traded stocks.
+	 */
+	@Benchmark
+	public BigDecimal calculateAllShareIndex() {
+		return this.stockMarket.calculateAllShareIndex();
+	}
+}
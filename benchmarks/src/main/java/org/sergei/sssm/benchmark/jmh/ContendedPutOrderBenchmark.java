@@ -0,0 +1,161 @@
+package org.sergei.sssm.benchmark.jmh;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sergei.sssm.model.AbstractStock;
+import org.sergei.sssm.model.StockMarket;
+import org.sergei.sssm.model.StockMarketConcurrencyMode;
+import org.sergei.sssm.model.StockMarketPlayer;
+import org.sergei.sssm.model.StockOrderTransactionListener;
+import org.sergei.sssm.model.StockSymbol;
+import org.sergei.sssm.utils.ScaledPrice;
+
+/**
+ * Measures StockMarket.putBuyOrder() and putSellOrder() of buying and selling
+ * threads contending for the synchronized stock order books, in GLOBAL_LOCK
+ * and ORDER_BOOK_LOCK modes. Buy and sell orders of random stocks have random
+ * quantities and prices of the same range around the middle price, so about
+ * half of them cross and the books stay balanced.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContendedPutOrderBenchmark {
+	private static final long SCALED_MIDDLE_PRICE = 50 * ScaledPrice.SCALE_FACTOR;
+	private static final long SCALED_TICK = ScaledPrice.SCALE_FACTOR / 100;
+	private static final int PRICE_TICKS_RANGE = 10;
+	private static final int MAX_QUANTITY_LIMIT = 100;
+	private static final int ORDERS_COUNT = 1024;
+	/**
+	 * Number of predefined stock symbols TEA, POP, ALE, GIN and JOE.
+	 */
+	private static final int PREDEFINED_STOCK_SYMBOLS_COUNT = 5;
+
+	/**
+	 * Synchronized concurrency mode guarding the stock order books.
+	 */
+	@Param({ "GLOBAL_LOCK", "ORDER_BOOK_LOCK" })
+	private StockMarketConcurrencyMode concurrencyMode;
+	/**
+	 * Number of traded predefined stocks, at most 5, orders of different stocks
+	 * contend only in GLOBAL_LOCK mode.
+	 */
+	@Param({ "1", "5" })
+	private int stocksCount;
+
+	private StockMarket stockMarket;
+	private AtomicInteger playersCount;
+
+	/**
+	 * Method registers the stock market companies.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.stockMarket = new StockMarket(this.concurrencyMode);
+		final List<StockSymbol> stockSymbols = StockSymbol.values().subList(0, PREDEFINED_STOCK_SYMBOLS_COUNT);
+		for (int i = 0; i < this.stocksCount; i++) {
+			this.stockMarket.registerStockMarketCompany(stockSymbols.get(i).getCode(), BigDecimal.ZERO, BigDecimal.ONE, ScaledPrice.toBigDecimal(SCALED_MIDDLE_PRICE));
+		}
+		this.playersCount = new AtomicInteger();
+	}
+
+	/**
+	 * Orders of one trading thread, taken in turn from pre-generated arrays.
+	 */
+	@State(Scope.Thread)
+	public static class TradingThread {
+		private StockMarketPlayer stockMarketPlayer;
+		private StockOrderTransactionListener stockOrderTransactionListener;
+		private AbstractStock[] stocks;
+		private int[] quantities;
+		private long[] scaledOfferedPrices;
+		private int orderIndex;
+
+		/**
+		 * Method registers the player of the thread and generates its orders.
+		 *
+		 * @param benchmark
+		 *            - ContendedPutOrderBenchmark of the stock market.
+		 */
+		@Setup(Level.Trial)
+		public void setUp(final ContendedPutOrderBenchmark benchmark) {
+			final int playerNumber = benchmark.playersCount.incrementAndGet();
+			final Random random = new Random(playerNumber);
+			final List<AbstractStock> registeredStocks = benchmark.stockMarket.getStocks();
+			this.stockMarketPlayer = benchmark.stockMarket.registerStockMarketPlayer(StockMarketPlayer.formatCode(playerNumber));
+			this.stockOrderTransactionListener = stockOrderTransaction -> {
+			};
+			this.stocks = new AbstractStock[ORDERS_COUNT];
+			this.quantities = new int[ORDERS_COUNT];
+			this.scaledOfferedPrices = new long[ORDERS_COUNT];
+			for (int i = 0; i < ORDERS_COUNT; i++) {
+				this.stocks[i] = registeredStocks.get(random.nextInt(registeredStocks.size()));
+				this.quantities[i] = 1 + random.nextInt(MAX_QUANTITY_LIMIT);
+				this.scaledOfferedPrices[i] = SCALED_MIDDLE_PRICE + SCALED_TICK * (random.nextInt(2 * PRICE_TICKS_RANGE + 1) - PRICE_TICKS_RANGE);
+			}
+		}
+
+		/**
+		 * @return int - index of the next order.
+		 */
+		private int nextOrderIndex() {
+			final int index = this.orderIndex;
+			this.orderIndex = (index + 1) & (ORDERS_COUNT - 1);
+			return index;
+		}
+	}
+
+	/**
+	 * @param tradingThread
+	 *            - TradingThread of the buying thread.
+	 *
+	 * @return int - number of executed trade transactions.
+	 */
+	@Benchmark
+	@Group("putOrders")
+	@GroupThreads(2)
+	public int putBuyOrder(final TradingThread tradingThread) {
+		final int index = tradingThread.nextOrderIndex();
+		return this.stockMarket.putBuyOrder(tradingThread.stocks[index], tradingThread.quantities[index], tradingThread.scaledOfferedPrices[index], tradingThread.stockMarketPlayer,
+				tradingThread.stockOrderTransactionListener);
+	}
+
+	/**
+	 * @param tradingThread
+	 *            - TradingThread of the selling thread.
+	 *
+	 * @return int - number of executed trade transactions.
+	 */
+	@Benchmark
+	@Group("putOrders")
+	@GroupThreads(2)
+	public int putSellOrder(final TradingThread tradingThread) {
+		final int index = tradingThread.nextOrderIndex();
+		return this.stockMarket.putSellOrder(tradingThread.stocks[index], tradingThread.quantities[index], tradingThread.scaledOfferedPrices[index], tradingThread.stockMarketPlayer,
+				tradingThread.stockOrderTransactionListener);
+	}
+}
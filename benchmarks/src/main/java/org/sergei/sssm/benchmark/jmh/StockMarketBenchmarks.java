@@ -0,0 +1,54 @@
+package org.sergei.sssm.benchmark.jmh;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar: runs JMH with the given command line
+ * options and always adds the GC profiler, so each benchmark reports its
+ * allocation rate (gc.alloc.rate and gc.alloc.rate.norm) next to its score.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public class StockMarketBenchmarks {
+
+	/**
+	 * Private constructor throws illegal state exception in case of instantiation
+	 * execution.
+	 */
+	private StockMarketBenchmarks() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * Main method runs the benchmarks.
+	 *
+	 * @param args
+	 *            - String[] of JMH command line options, e.g. a benchmark name
+	 *            regular expression or -p bookDepth=100.
+	 *
+	 * @throws CommandLineOptionException
+	 *             if the options are not valid.
+	 * @throws RunnerException
+	 *             if a benchmark fails.
+	 * @throws IOException
+	 *             if the help cannot be printed.
+	 */
+	public static void main(final String[] args) throws CommandLineOptionException, RunnerException, IOException {
+		final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+		if (commandLineOptions.shouldHelp()) {
+			commandLineOptions.showHelp();
+		} else if (commandLineOptions.shouldList()) {
+			new Runner(commandLineOptions).list();
+		} else {
+			new Runner(new OptionsBuilder().parent(commandLineOptions).addProfiler(GCProfiler.class).build()).run();
+		}
+	}
+}
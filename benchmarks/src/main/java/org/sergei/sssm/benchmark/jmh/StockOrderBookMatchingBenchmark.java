@@ -0,0 +1,164 @@
+package org.sergei.sssm.benchmark.jmh;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sergei.sssm.model.AbstractStock;
+import org.sergei.sssm.model.StockMarket;
+import org.sergei.sssm.model.StockMarketPlayer;
+import org.sergei.sssm.model.StockOrderBook;
+import org.sergei.sssm.model.StockOrderTransactionListener;
+import org.sergei.sssm.model.StockSymbol;
+import org.sergei.sssm.utils.ScaledPrice;
+
+/**
+ * Measures StockOrderBook.addBuyStockOrder() and addSellStockOrder() at several
+ * book depths and crossing ratios, without any lock.
+ *
+ * Orders are taken in turn from a pre-generated cycle alternating buy and sell
+ * orders. Passive orders rest at a random price level within bookDepth ticks
+ * of the middle price, crossing orders sweep the opposite side from its best
+ * price. Per side, crossing orders take exactly the quantity passive orders
+ * add during a cycle, and the book starts with more resting quantity than a
+ * cycle may take, so the book keeps the same shape however long it runs.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StockOrderBookMatchingBenchmark {
+	private static final int CYCLE_ORDERS_COUNT = 1000;
+	private static final int PASSIVE_QUANTITY = 100;
+	private static final long SCALED_MIDDLE_PRICE = 50 * ScaledPrice.SCALE_FACTOR;
+	private static final long SCALED_TICK = ScaledPrice.SCALE_FACTOR / 100;
+
+	/**
+	 * Number of price levels of each side.
+	 */
+	@Param({ "10", "100", "1000" })
+	private int bookDepth;
+	/**
+	 * Share of orders which cross the spread.
+	 */
+	@Param({ "0.1", "0.5", "0.9" })
+	private double crossingRatio;
+
+	private StockOrderBook stockOrderBook;
+	private AbstractStock stock;
+	private StockOrderTransactionListener stockOrderTransactionListener;
+	private boolean[] buyOrders;
+	private int[] quantities;
+	private long[] scaledOfferedPrices;
+	private int orderIndex;
+
+	/**
+	 * Method registers a stock, generates the order cycle and fills both sides of
+	 * the book with passive orders.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		final StockMarket stockMarket = new StockMarket();
+		stockMarket.registerStockMarketCompany(StockSymbol.TEA.getCode(), BigDecimal.ZERO, BigDecimal.ONE, ScaledPrice.toBigDecimal(SCALED_MIDDLE_PRICE));
+		this.stock = stockMarket.getStocks().get(0);
+		this.stockOrderBook = stockMarket.getStockOrderBook(this.stock.getStockSymbol());
+		this.stockOrderTransactionListener = stockOrderTransaction -> {
+		};
+		final Random random = new Random(this.bookDepth);
+		generateOrderCycle(random);
+		for (int i = 0; i < Math.max(this.bookDepth, CYCLE_ORDERS_COUNT); i++) {
+			final long scaledPriceOffset = SCALED_TICK * (1 + i % this.bookDepth);
+			this.stockOrderBook.addBuyStockOrder(this.stock, PASSIVE_QUANTITY, SCALED_MIDDLE_PRICE - scaledPriceOffset, StockMarketPlayer.PLAYER1, this.stockOrderTransactionListener);
+			this.stockOrderBook.addSellStockOrder(this.stock, PASSIVE_QUANTITY, SCALED_MIDDLE_PRICE + scaledPriceOffset, StockMarketPlayer.PLAYER2, this.stockOrderTransactionListener);
+		}
+	}
+
+	/**
+	 * Method generates the order cycle, crossing orders of each side are
+	 * shuffled among its passive orders.
+	 *
+	 * @param random
+	 *            - Random of the generated prices and order sequence.
+	 */
+	private void generateOrderCycle(final Random random) {
+		final int sideOrdersCount = CYCLE_ORDERS_COUNT / 2;
+		final int crossingOrdersCount = Math.max(1, Math.min(sideOrdersCount - 1, (int) Math.round(this.crossingRatio * sideOrdersCount)));
+		final int passiveOrdersCount = sideOrdersCount - crossingOrdersCount;
+		final int crossingQuantity = passiveOrdersCount * PASSIVE_QUANTITY / crossingOrdersCount;
+		final int crossingQuantityRemainder = passiveOrdersCount * PASSIVE_QUANTITY % crossingOrdersCount;
+		this.buyOrders = new boolean[CYCLE_ORDERS_COUNT];
+		this.quantities = new int[CYCLE_ORDERS_COUNT];
+		this.scaledOfferedPrices = new long[CYCLE_ORDERS_COUNT];
+
+		for (int side = 0; side < 2; side++) {
+			final boolean buy = side == 0;
+			final boolean[] crossing = new boolean[sideOrdersCount];
+			for (int i = 0; i < crossingOrdersCount; i++) {
+				crossing[i] = true;
+			}
+			for (int i = sideOrdersCount - 1; i > 0; i--) {
+				final int j = random.nextInt(i + 1);
+				final boolean swapped = crossing[i];
+				crossing[i] = crossing[j];
+				crossing[j] = swapped;
+			}
+			int crossingOrderNumber = 0;
+			for (int i = 0; i < sideOrdersCount; i++) {
+				final int index = 2 * i + side;
+				this.buyOrders[index] = buy;
+				if (crossing[i]) {
+					// Crossing orders may sweep the whole opposite side
+					this.quantities[index] = crossingQuantity + (crossingOrderNumber++ < crossingQuantityRemainder ? 1 : 0);
+					this.scaledOfferedPrices[index] = buy ? SCALED_MIDDLE_PRICE + SCALED_TICK * this.bookDepth : SCALED_MIDDLE_PRICE - SCALED_TICK * this.bookDepth;
+				} else {
+					final long scaledPriceOffset = SCALED_TICK * (1 + random.nextInt(this.bookDepth));
+					this.quantities[index] = PASSIVE_QUANTITY;
+					this.scaledOfferedPrices[index] = buy ? SCALED_MIDDLE_PRICE - scaledPriceOffset : SCALED_MIDDLE_PRICE + scaledPriceOffset;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Method adds the next order of the cycle.
+	 *
+	 * @return int - number of executed trade transactions.
+	 */
+	@Benchmark
+	public int addStockOrder() {
+		final int index = this.orderIndex;
+		this.orderIndex = index + 1 == CYCLE_ORDERS_COUNT ? 0 : index + 1;
+		if (this.buyOrders[index]) {
+			return this.stockOrderBook.addBuyStockOrder(this.stock, this.quantities[index], this.scaledOfferedPrices[index], StockMarketPlayer.PLAYER1, this.stockOrderTransactionListener);
+		}
+		return this.stockOrderBook.addSellStockOrder(this.stock, this.quantities[index], this.scaledOfferedPrices[index], StockMarketPlayer.PLAYER2, this.stockOrderTransactionListener);
+	}
+
+	/**
+	 * Method checks the book is not drained, a drained book would measure
+	 * resting of crossing orders instead of matching.
+	 */
+	@Setup(Level.Iteration)
+	public void checkStockOrderBook() {
+		if (this.stockOrderBook.getRestingBuyStockOrdersCount() == 0 || this.stockOrderBook.getRestingSellStockOrdersCount() == 0) {
+			throw new IllegalStateException("Stock order book is drained");
+		}
+	}
+}
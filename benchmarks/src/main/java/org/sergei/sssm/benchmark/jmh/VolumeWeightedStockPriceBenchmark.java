@@ -0,0 +1,90 @@
+package org.sergei.sssm.benchmark.jmh;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sergei.sssm.model.AbstractStock;
+import org.sergei.sssm.model.StockMarket;
+import org.sergei.sssm.model.StockMarketPlayer;
+import org.sergei.sssm.model.StockOrderBook;
+import org.sergei.sssm.model.StockOrderTransactionListener;
+import org.sergei.sssm.model.StockSymbol;
+import org.sergei.sssm.model.VolumeWeightedStockPriceWindow;
+import org.sergei.sssm.utils.ScaledPrice;
+
+/**
+ * Measures StockOrderBook.calculateVolumeWeightedStockPrice() of the whole
+ * session and of the last 15 minutes window after a given number of executed
+ * trade transactions.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VolumeWeightedStockPriceBenchmark {
+	private static final long SCALED_MIDDLE_PRICE = 50 * ScaledPrice.SCALE_FACTOR;
+	private static final int MAX_QUANTITY_LIMIT = 1000;
+
+	/**
+	 * Number of executed trade transactions of the book.
+	 */
+	@Param({ "1000", "100000" })
+	private int tradesCount;
+
+	private StockOrderBook stockOrderBook;
+
+	/**
+	 * Method executes trade transactions of random prices and quantities, each
+	 * one of a resting sell order and a crossing buy order.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		final StockMarket stockMarket = new StockMarket();
+		stockMarket.registerStockMarketCompany(StockSymbol.TEA.getCode(), BigDecimal.ZERO, BigDecimal.ONE, ScaledPrice.toBigDecimal(SCALED_MIDDLE_PRICE));
+		final AbstractStock stock = stockMarket.getStocks().get(0);
+		final StockOrderTransactionListener stockOrderTransactionListener = stockOrderTransaction -> {
+		};
+		final Random random = new Random(this.tradesCount);
+		this.stockOrderBook = stockMarket.getStockOrderBook(stock.getStockSymbol());
+		for (int i = 0; i < this.tradesCount; i++) {
+			final int quantity = 1 + random.nextInt(MAX_QUANTITY_LIMIT);
+			final long scaledPrice = SCALED_MIDDLE_PRICE + random.nextInt((int) ScaledPrice.SCALE_FACTOR) - ScaledPrice.SCALE_FACTOR / 2;
+			this.stockOrderBook.addSellStockOrder(stock, quantity, scaledPrice, StockMarketPlayer.PLAYER2, stockOrderTransactionListener);
+			this.stockOrderBook.addBuyStockOrder(stock, quantity, scaledPrice, StockMarketPlayer.PLAYER1, stockOrderTransactionListener);
+		}
+	}
+
+	/**
+	 * @return BigDecimal - session Volume Weighted Stock Price.
+	 */
+	@Benchmark
+	public BigDecimal calculateVolumeWeightedStockPrice() {
+		return this.stockOrderBook.calculateVolumeWeightedStockPrice();
+	}
+
+	/**
+	 * @return BigDecimal - Volume Weighted Stock Price of the last 15 minutes.
+	 */
+	@Benchmark
+	public BigDecimal calculateVolumeWeightedStockPriceOfLast15Minutes() {
+		return this.stockOrderBook.calculateVolumeWeightedStockPrice(VolumeWeightedStockPriceWindow.LAST_15_MINUTES);
+	}
+}
@@ -0,0 +1,143 @@
+package org.sergei.sssm;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.sergei.sssm.model.AbstractStock;
+import org.sergei.sssm.model.StockMarket;
+import org.sergei.sssm.model.StockMarketConcurrencyMode;
+import org.sergei.sssm.model.StockMarketPlayer;
+import org.sergei.sssm.model.StockOrderBook;
+import org.sergei.sssm.model.StockOrderTransactionListener;
+import org.sergei.sssm.model.VolumeWeightedStockPriceWindow;
+import org.sergei.sssm.simulation.DiscreteEventSimulation;
+import org.sergei.sssm.simulation.TradeTapeChecksum;
+import org.sergei.sssm.utils.NumberFormatter;
+import org.sergei.sssm.utils.TimeFormatter;
+
+/**
+ * Runs a trading day as a seeded discrete-event simulation: players act at
+ * simulated times taken from a priority event queue, so the day takes as long
+ * as matching its orders and the same arguments always print the same trade
+ * tape checksum.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public class StockMarketDiscreteEventSimulationMain {
+	private static final long DEFAULT_SEED = 20171002L;
+	private static final int DEFAULT_PLAYERS_COUNT = 10;
+	/**
+	 * Default trading day from 08:00 to 16:30.
+	 */
+	private static final int DEFAULT_TRADING_MINUTES = 510;
+	/**
+	 * Simulated start of trading, 2017.10.02 08:00:00 UTC.
+	 */
+	private static final long SIMULATED_START_TIME_MILLIS = 1506931200000L;
+	private static final int MAX_INITIAL_PRICE_LIMIT = 100;
+
+	/**
+	 * Private constructor throws illegal state exception in case of instantiation
+	 * execution.
+	 */
+	private StockMarketDiscreteEventSimulationMain() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * Main method simulates a trading day and prints its trade tape checksum,
+	 * Volume Weighted Stock Prices and All Share Index.
+	 *
+	 * @param args
+	 *            - String[] of arguments: optional seed (20171002 by default),
+	 *            players count (10 by default), trading minutes (510 by
+	 *            default), mean think time of players in milliseconds (1000 by
+	 *            default) and true to print the trade tape (false by default).
+	 */
+	public static void main(final String[] args) {
+		final long seed = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_SEED;
+		final int playersCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PLAYERS_COUNT;
+		final int tradingMinutes = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_TRADING_MINUTES;
+		final long meanThinkTimeMillis = args.length > 3 ? Long.parseLong(args[3]) : DiscreteEventSimulation.DEFAULT_MEAN_THINK_TIME_MILLIS;
+		final boolean printTradeTape = args.length > 4 && Boolean.parseBoolean(args[4]);
+
+		final DiscreteEventSimulation discreteEventSimulation = new DiscreteEventSimulation(seed, StockMarketConcurrencyMode.GLOBAL_LOCK, SIMULATED_START_TIME_MILLIS);
+		discreteEventSimulation.setMeanThinkTime(meanThinkTimeMillis, TimeUnit.MILLISECONDS);
+		initializeStocks(discreteEventSimulation.getStockMarket(), new Random(seed));
+		for (int i = 1; i <= playersCount; i++) {
+			discreteEventSimulation.addPlayer(StockMarketPlayer.formatCode(i));
+		}
+
+		final TradeTapeChecksum tradeTapeChecksum = new TradeTapeChecksum();
+		final StockOrderTransactionListener tapeListener;
+		if (printTradeTape) {
+			tapeListener = stockOrderTransaction -> {
+				tradeTapeChecksum.onStockOrderTransaction(stockOrderTransaction);
+				System.out.println(String.format("%1$s\t%2$s", stockOrderTransaction.getStockBuyOrder().getStock().getStockSymbol().getCode(), stockOrderTransaction));
+			};
+		} else {
+			tapeListener = tradeTapeChecksum;
+		}
+
+		System.out.println(String.format("Seed: %1$d\tPlayers: %2$d\tMean think time: %3$d ms", seed, playersCount, meanThinkTimeMillis));
+		System.out.println(String.format("Start trading time: %s", TimeFormatter.format(discreteEventSimulation.getStockMarketClock().currentTimeMillis())));
+		final long startNanoTime = System.nanoTime();
+		final long ordersCount = discreteEventSimulation.run(tradingMinutes, TimeUnit.MINUTES, tapeListener);
+		final long elapsedNanoTime = System.nanoTime() - startNanoTime;
+		System.out.println(String.format("End trading time: %s", TimeFormatter.format(discreteEventSimulation.getStockMarketClock().currentTimeMillis())));
+		System.out.println(String.format("Orders: %1$d\t%2$s\tSimulated in: %3$d ms", ordersCount, tradeTapeChecksum, TimeUnit.NANOSECONDS.toMillis(elapsedNanoTime)));
+
+		printVolumeWeightedStockPrice(discreteEventSimulation.getStockMarket());
+		System.out.println(String.format("GBCE All Share Index: %s", NumberFormatter.format(discreteEventSimulation.getStockMarket().calculateAllShareIndex())));
+	}
+
+	/**
+	 * Method registers stocks of the simulation with initial prices generated
+	 * from the seed.
+	 *
+	 * @param stockMarket
+	 *            - StockMarket of the simulation.
+	 * @param random
+	 *            - Random generator of initial prices.
+	 */
+	private static void initializeStocks(final StockMarket stockMarket, final Random random) {
+		stockMarket.registerStockMarketCompany("TEA", new BigDecimal("0.00"), new BigDecimal("1.00"), getRandomInitialPrice(random));
+		stockMarket.registerStockMarketCompany("POP", new BigDecimal("0.08"), new BigDecimal("1.00"), getRandomInitialPrice(random));
+		stockMarket.registerStockMarketCompany("ALE", new BigDecimal("0.23"), new BigDecimal("0.60"), getRandomInitialPrice(random));
+		stockMarket.registerStockMarketCompany("GIN", new BigDecimal("0.08"), new BigDecimal("0.02"), new BigDecimal("1.00"), getRandomInitialPrice(random));
+		stockMarket.registerStockMarketCompany("JOE", new BigDecimal("0.13"), new BigDecimal("2.50"), getRandomInitialPrice(random));
+	}
+
+	/**
+	 * Method generates random initial price but using MAX_INITIAL_PRICE_LIMIT
+	 * constant.
+	 *
+	 * @param random
+	 *            - Random generator of initial prices.
+	 *
+	 * @return BigDecimal of a initial price.
+	 */
+	private static BigDecimal getRandomInitialPrice(final Random random) {
+		final BigDecimal randomStockPrice = BigDecimal.valueOf(random.nextInt(MAX_INITIAL_PRICE_LIMIT) + random.nextDouble());
+		return randomStockPrice.setScale(NumberFormatter.SCALE_4_DECIMAL_DIGITS, RoundingMode.HALF_EVEN);
+	}
+
+	/**
+	 * Method prints per each Stock a Volume Weighted Stock Price of the whole
+	 * session and of the last 15 simulated minutes.
+	 *
+	 * @param stockMarket
+	 *            - StockMarket of the simulation.
+	 */
+	private static void printVolumeWeightedStockPrice(final StockMarket stockMarket) {
+		for (AbstractStock abstractStock : stockMarket.getStocks()) {
+			final StockOrderBook stockOrderBook = stockMarket.getStockOrderBook(abstractStock.getStockSymbol());
+			System.out.println(String.format("%1$s \tVolume Weighted Stock Price: %2$s\t%3$s: %4$s", abstractStock.getStockSymbol().getCode(),
+					NumberFormatter.format(stockOrderBook.calculateVolumeWeightedStockPrice()), VolumeWeightedStockPriceWindow.LAST_15_MINUTES,
+					NumberFormatter.format(stockOrderBook.calculateVolumeWeightedStockPrice(VolumeWeightedStockPriceWindow.LAST_15_MINUTES))));
+		}
+	}
+}
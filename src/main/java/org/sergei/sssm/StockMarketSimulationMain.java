@@ -2,20 +2,32 @@ package org.sergei.sssm;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Random;
 import java.util.concurrent.CountDownLatch;
 
+import org.sergei.sssm.journal.StockOrderJournalFlushPolicy;
+import org.sergei.sssm.loader.StockMarketDataLoader;
 import org.sergei.sssm.model.AbstractStock;
 import org.sergei.sssm.model.StockMarket;
+import org.sergei.sssm.model.StockMarketConcurrencyMode;
 import org.sergei.sssm.model.StockMarketPlayer;
 import org.sergei.sssm.model.StockOrderBook;
+import org.sergei.sssm.model.StockOrderLatencySnapshot;
+import org.sergei.sssm.model.StockPosition;
 import org.sergei.sssm.model.StockSymbol;
+import org.sergei.sssm.model.VolumeWeightedStockPriceWindow;
+import org.sergei.sssm.tape.TradeTapeFormat;
+import org.sergei.sssm.tape.TradeTapeWriter;
 import org.sergei.sssm.thread.Player;
+import org.sergei.sssm.thread.PlayerExecutionMode;
+import org.sergei.sssm.thread.PlayerExecutor;
 import org.sergei.sssm.utils.NumberFormatter;
+import org.sergei.sssm.utils.ScaledPrice;
 import org.sergei.sssm.utils.TimeFormatter;
 
 /**
@@ -27,18 +39,60 @@ public class StockMarketSimulationMain {
 	 * Constant indicates maximum price limit for initial price value of the stocks.
 	 */
 	private static final int MAX_INITIAL_PRICE_LIMIT = 100;
+	/**
+	 * Default number of stock market players.
+	 */
+	private static final int DEFAULT_PLAYERS_COUNT = 10;
+	/**
+	 * Name of the stock market snapshot file kept in the stock order journal
+	 * directory.
+	 */
+	private static final String SNAPSHOT_FILE_NAME = "stock-market.snapshot";
+	/**
+	 * Name of the stock market in its MBean names.
+	 */
+	private static final String STOCK_MARKET_NAME = "GBCE";
 
 	/**
 	 * Main model class, for simplicity of this example, it is a part of the main
 	 * class.
 	 */
 	private StockMarket stockMarket;
+	/**
+	 * Runs player threads or tasks.
+	 */
+	private PlayerExecutor playerExecutor;
+	/**
+	 * Stock market snapshot file written after trading, null if there is no stock
+	 * order journal.
+	 */
+	private Path snapshotFile;
+	/**
+	 * Asynchronous trade tape of executed trade transactions.
+	 */
+	private TradeTapeWriter tradeTapeWriter;
 
 	/**
 	 * Default constructor initializes stockMarket attribute.
 	 */
 	public StockMarketSimulationMain() {
-		this.stockMarket = new StockMarket();
+		this(StockMarketConcurrencyMode.GLOBAL_LOCK, PlayerExecutionMode.PLATFORM_THREAD);
+	}
+
+	/**
+	 * Constructor initializes stockMarket attribute with a given concurrency mode
+	 * and the way players are run, the stock market is registered as an MBean to
+	 * be watched with jconsole while trading.
+	 * 
+	 * @param concurrencyMode
+	 *            - StockMarketConcurrencyMode used to guard stock order books.
+	 * @param playerExecutionMode
+	 *            - PlayerExecutionMode used to run players.
+	 */
+	public StockMarketSimulationMain(final StockMarketConcurrencyMode concurrencyMode, final PlayerExecutionMode playerExecutionMode) {
+		this.stockMarket = new StockMarket(concurrencyMode);
+		this.stockMarket.registerMBeans(STOCK_MARKET_NAME);
+		this.playerExecutor = new PlayerExecutor(playerExecutionMode);
 	}
 
 	/**
@@ -46,17 +100,39 @@ public class StockMarketSimulationMain {
 	 * process.
 	 * 
 	 * @param args
-	 *            - String[] of arguments: is not used.
+	 *            - String[] of arguments: optional StockMarketConcurrencyMode
+	 *            name (GLOBAL_LOCK by default), PlayerExecutionMode name
+	 *            (PLATFORM_THREAD by default), players count (10 by default)
+	 *            and stock order journal directory (no journal by default), stock
+	 *            order books are restored from the snapshot and the journal of the
+	 *            directory before trading and a new snapshot is written after,
+	 *            trade tape file (standard output by default),
+	 *            TradeTapeFormat name (TEXT by default) and stock market data CSV
+	 *            file, see StockMarketDataLoader (five predefined companies with
+	 *            random initial prices by default).
 	 */
 	public static void main(final String[] args) {
-		final StockMarketSimulationMain superSimpleStockMarketMain = new StockMarketSimulationMain();
+		final StockMarketConcurrencyMode concurrencyMode = args.length > 0 ? StockMarketConcurrencyMode.valueOf(args[0]) : StockMarketConcurrencyMode.GLOBAL_LOCK;
+		final PlayerExecutionMode playerExecutionMode = args.length > 1 ? PlayerExecutionMode.valueOf(args[1]) : PlayerExecutionMode.PLATFORM_THREAD;
+		final int playersCount = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_PLAYERS_COUNT;
+		final StockMarketSimulationMain superSimpleStockMarketMain = new StockMarketSimulationMain(concurrencyMode, playerExecutionMode);
 
-		superSimpleStockMarketMain.initializeStocks();
-		superSimpleStockMarketMain.initializeStockMarketPlayers();
+		if (args.length > 6) {
+			superSimpleStockMarketMain.loadStocks(args[6]);
+		} else {
+			superSimpleStockMarketMain.initializeStocks();
+		}
+		superSimpleStockMarketMain.initializeStockMarketPlayers(playersCount);
+		if (args.length > 3) {
+			superSimpleStockMarketMain.openStockOrderJournal(args[3]);
+		}
 		superSimpleStockMarketMain.printDividendYieldAndPERatio();
+		superSimpleStockMarketMain.openTradeTape(args.length > 4 ? args[4] : null, args.length > 5 ? TradeTapeFormat.valueOf(args[5]) : TradeTapeFormat.TEXT);
 		superSimpleStockMarketMain.trade();
 		superSimpleStockMarketMain.printVolumeWeightedStockPrice();
 		superSimpleStockMarketMain.printAllShareIndex();
+		superSimpleStockMarketMain.printProfitAndLoss();
+		superSimpleStockMarketMain.printStockOrderLatencies();
 	}
 
 	/**
@@ -76,6 +152,54 @@ public class StockMarketSimulationMain {
 		this.stockMarket.registerStockMarketCompany("JOE", new BigDecimal("0.13"), new BigDecimal("2.50"), getRandomInitialPrice());
 	}
 
+	/**
+	 * Method registers stock market companies of a given stock market data CSV
+	 * file, the file is parsed by one thread per available processor.
+	 * 
+	 * @param file
+	 *            - String of the stock market data CSV file.
+	 */
+	private void loadStocks(final String file) {
+		final long startNanoTime = System.nanoTime();
+		final int registeredCompaniesCount = new StockMarketDataLoader().load(Paths.get(file), this.stockMarket);
+		System.out.println(String.format("Stock market data: %1$s\tRegistered companies: %2$d\tLoaded in: %3$.1f ms", file, registeredCompaniesCount, (System.nanoTime() - startNanoTime) / 1e6));
+	}
+
+	/**
+	 * Method restores stock order books from the snapshot of a given directory if
+	 * it exists and opens the stock order journal of the directory, journaled
+	 * stock orders which are not part of the snapshot are replayed first. Records
+	 * survive a crash of the process as soon as they are written, forcing them
+	 * to the storage device is left to the operating system.
+	 * 
+	 * @param directory
+	 *            - String of the journal directory.
+	 */
+	private void openStockOrderJournal(final String directory) {
+		this.snapshotFile = Paths.get(directory, SNAPSHOT_FILE_NAME);
+		if (Files.exists(this.snapshotFile)) {
+			final long startNanoTime = System.nanoTime();
+			final long restoredStockOrdersCount = this.stockMarket.loadSnapshot(this.snapshotFile);
+			System.out.println(String.format("Stock market snapshot: %1$s\tRestored resting orders: %2$d\tRestored in: %3$.1f ms", this.snapshotFile, restoredStockOrdersCount,
+					(System.nanoTime() - startNanoTime) / 1e6));
+		}
+		final long replayedStockOrdersCount = this.stockMarket.openStockOrderJournal(Paths.get(directory), StockOrderJournalFlushPolicy.NONE);
+		System.out.println(String.format("Stock order journal: %1$s\tReplayed stock orders: %2$d", directory, replayedStockOrdersCount));
+	}
+
+	/**
+	 * Method opens the asynchronous trade tape, players and matching engines hand
+	 * executed trade transactions to it instead of printing them.
+	 * 
+	 * @param file
+	 *            - String of the trade tape file, null for standard output.
+	 * @param format
+	 *            - TradeTapeFormat of the trade tape.
+	 */
+	private void openTradeTape(final String file, final TradeTapeFormat format) {
+		this.tradeTapeWriter = file == null ? TradeTapeWriter.openStandardOutput(format) : TradeTapeWriter.open(Paths.get(file), format);
+	}
+
 	/**
 	 * Method generates random initial price but using MAX_INITIAL_PRICE_LIMIT
 	 * constant.
@@ -104,38 +228,48 @@ public class StockMarketSimulationMain {
 	 * Method initializes Stock Market Player codes that will be used as name of the
 	 * Buying/Selling Player Threads, this simulates real world's trader
 	 * registration operation.
+	 * 
+	 * @param playersCount
+	 *            - int number of players, the first ten are the predefined
+	 *            players.
 	 */
-	private void initializeStockMarketPlayers() {
-		this.stockMarket.registerStockMarketPlayer(StockMarketPlayer.PLAYER1.getCode());
-		this.stockMarket.registerStockMarketPlayer(StockMarketPlayer.PLAYER2.getCode());
-		this.stockMarket.registerStockMarketPlayer(StockMarketPlayer.PLAYER3.getCode());
-		this.stockMarket.registerStockMarketPlayer(StockMarketPlayer.PLAYER4.getCode());
-		this.stockMarket.registerStockMarketPlayer(StockMarketPlayer.PLAYER5.getCode());
-		this.stockMarket.registerStockMarketPlayer(StockMarketPlayer.PLAYER6.getCode());
-		this.stockMarket.registerStockMarketPlayer(StockMarketPlayer.PLAYER7.getCode());
-		this.stockMarket.registerStockMarketPlayer(StockMarketPlayer.PLAYER8.getCode());
-		this.stockMarket.registerStockMarketPlayer(StockMarketPlayer.PLAYER9.getCode());
-		this.stockMarket.registerStockMarketPlayer(StockMarketPlayer.PLAYER10.getCode());
+	private void initializeStockMarketPlayers(final int playersCount) {
+		for (int i = 1; i <= playersCount; i++) {
+			this.stockMarket.registerStockMarketPlayer(StockMarketPlayer.formatCode(i));
+		}
 	}
 
 	/**
-	 * Simulation of a trade, all threads are launched in synchronized way, using
-	 * countDownLatch, and then all threads are joined this main thread, to complete
-	 * calculations over the traded transactions.
+	 * Simulation of a trade, all players are launched in synchronized way, using
+	 * countDownLatch, and then all players are joined this main thread, to
+	 * complete calculations over the traded transactions.
+	 * 
+	 * Executed trade transactions are handed to the trade tape by players, or by
+	 * matching engines in SINGLE_WRITER mode, which are stopped once all players
+	 * are done. The trade tape is closed after all of them.
 	 */
 	private void trade() {
+		this.stockMarket.setStockOrderTransactionListener(this.tradeTapeWriter);
 		final List<StockMarketPlayer> registeredStockMarketPlayers = this.stockMarket.getPlayers();
 		final CountDownLatch countDownLatch = new CountDownLatch(registeredStockMarketPlayers.size());
-		final List<Thread> players = new ArrayList<>();
+		final List<Player> players = new ArrayList<>();
 
 		for (StockMarketPlayer stockMarketPlayer : registeredStockMarketPlayers) {
-			final Thread player = new Thread(new Player(stockMarketPlayer, this.stockMarket, countDownLatch), stockMarketPlayer.getCode());
+			final Player player = new Player(stockMarketPlayer, this.stockMarket, countDownLatch);
+			player.setTradeTape(this.tradeTapeWriter);
 			players.add(player);
-			player.start();
 		}
 
+		this.playerExecutor.start(players);
 		startStockTrading(countDownLatch);
-		joinPlayerThreads(players);
+		joinPlayers();
+		final Path writtenSnapshotFile = this.snapshotFile != null ? this.stockMarket.writeSnapshot(this.snapshotFile).join() : null;
+		this.stockMarket.shutdown();
+		this.tradeTapeWriter.close();
+		System.out.println(String.format("Trade tape: %1$d executed trade transactions written", this.tradeTapeWriter.getWrittenTradesCount()));
+		if (writtenSnapshotFile != null) {
+			System.out.println(String.format("Stock market snapshot written: %s", writtenSnapshotFile));
+		}
 	}
 
 	/**
@@ -157,35 +291,26 @@ public class StockMarketSimulationMain {
 	}
 
 	/**
-	 * Method joins all players threads to the main thread, to complete afterwards
-	 * the calculations over the trade transactions.
+	 * Method joins all players to the main thread, to complete afterwards the
+	 * calculations over the trade transactions.
 	 * 
 	 * Also method prints stop of the execution time.
-	 * 
-	 * @param players
-	 *            - List<Thread> of trading threads.
-	 */
-	private void joinPlayerThreads(final List<Thread> players) {
-		for (Thread thread : players) {
-			try {
-				thread.join();
-			} catch (InterruptedException e) {
-				System.out.println("Error in synchronous thread starting.");
-				Thread.currentThread().interrupt();
-			}
-		}
+	 */
+	private void joinPlayers() {
+		this.playerExecutor.join();
 		System.out.println(String.format("End trading time: %s", TimeFormatter.format(System.currentTimeMillis())));
 	}
 
 	/**
-	 * Method calculates and prints per each Stock a Volume Weighted Stock Price.
+	 * Method calculates and prints per each Stock a Volume Weighted Stock Price of
+	 * the whole session and of the last 15 minutes.
 	 */
 	private void printVolumeWeightedStockPrice() {
-		final Map<StockSymbol, StockOrderBook> stockOrderBooks = this.stockMarket.getOrderBooks();
-		for (Entry<StockSymbol, StockOrderBook> stockSymbolEntry : stockOrderBooks.entrySet()) {
-			final StockSymbol stockSymbol = stockSymbolEntry.getKey();
-			final StockOrderBook stockOrderBook = stockOrderBooks.get(stockSymbol);
-			System.out.println(String.format("%1$s \tVolume Weighted Stock Price: %2$s", stockSymbol.getCode(), NumberFormatter.format(stockOrderBook.calculateVolumeWeightedStockPrice())));
+		for (AbstractStock abstractStock : this.stockMarket.getStocks()) {
+			final StockSymbol stockSymbol = abstractStock.getStockSymbol();
+			final StockOrderBook stockOrderBook = this.stockMarket.getStockOrderBook(stockSymbol);
+			System.out.println(String.format("%1$s \tVolume Weighted Stock Price: %2$s\t%3$s: %4$s", stockSymbol.getCode(), NumberFormatter.format(stockOrderBook.calculateVolumeWeightedStockPrice()),
+					VolumeWeightedStockPriceWindow.LAST_15_MINUTES, NumberFormatter.format(stockOrderBook.calculateVolumeWeightedStockPrice(VolumeWeightedStockPriceWindow.LAST_15_MINUTES))));
 		}
 	}
 
@@ -196,4 +321,34 @@ public class StockMarketSimulationMain {
 	private void printAllShareIndex() {
 		System.out.println(String.format("GBCE All Share Index: %s", NumberFormatter.format(this.stockMarket.calculateAllShareIndex())));
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Method prints realized and unrealized Profit and Loss of each player summed
+	 * over all stocks, open quantity is marked at the last stock prices.
+	 */
+	private void printProfitAndLoss() {
+		for (StockMarketPlayer stockMarketPlayer : this.stockMarket.getPlayers()) {
+			long scaledRealizedProfitAndLoss = 0;
+			long scaledUnrealizedProfitAndLoss = 0;
+			for (StockPosition stockPosition : this.stockMarket.getStockPositions(stockMarketPlayer)) {
+				scaledRealizedProfitAndLoss += stockPosition.getScaledRealizedProfitAndLoss();
+				scaledUnrealizedProfitAndLoss += stockPosition.getScaledUnrealizedProfitAndLoss();
+			}
+			System.out.println(String.format("%1$s\tRealized P&L: %2$s\tUnrealized P&L: %3$s", stockMarketPlayer.getCode(), ScaledPrice.format(scaledRealizedProfitAndLoss),
+					ScaledPrice.format(scaledUnrealizedProfitAndLoss)));
+		}
+	}
+
+	/**
+	 * Method prints per each Stock the percentiles of stock order latencies
+	 * recorded by its stock order book during the whole session.
+	 */
+	private void printStockOrderLatencies() {
+		for (AbstractStock abstractStock : this.stockMarket.getStocks()) {
+			final StockOrderLatencySnapshot stockOrderLatencySnapshot = this.stockMarket.getStockOrderLatencies(abstractStock.getStockSymbol()).getSnapshot();
+			if (stockOrderLatencySnapshot.getStockOrdersCount() > 0) {
+				System.out.println(String.format("%1$s \tStock order latencies:%n%2$s", abstractStock.getStockSymbol().getCode(), stockOrderLatencySnapshot));
+			}
+		}
+	}
+}
@@ -0,0 +1,228 @@
+package org.sergei.sssm.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.sergei.sssm.model.AbstractStock;
+import org.sergei.sssm.model.StockMarket;
+import org.sergei.sssm.model.StockMarketConcurrencyMode;
+import org.sergei.sssm.model.StockMarketPlayer;
+import org.sergei.sssm.model.StockOrderBatch;
+import org.sergei.sssm.model.StockOrderBatchResult;
+import org.sergei.sssm.model.StockOrderTransactionBuffer;
+import org.sergei.sssm.model.StockOrderTransactionType;
+import org.sergei.sssm.model.StockSymbol;
+import org.sergei.sssm.utils.ScaledPrice;
+
+/**
+ * Command line tool which compares order throughput of the stock market in each
+ * StockMarketConcurrencyMode. Trading threads put random buy/sell orders of
+ * random stocks without any printing or sleeping, so the result reflects
+ * matching and locking costs only.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.16. initial version
+ */
+public class ConcurrencyModeThroughputComparison {
+	private static final int DEFAULT_MEASUREMENT_SECONDS = 5;
+	private static final int WARM_UP_SECONDS = 2;
+	private static final long SCALED_INITIAL_PRICE = 50 * ScaledPrice.SCALE_FACTOR;
+	private static final int MAX_QUANTITY_LIMIT = 1000;
+	/**
+	 * Number of predefined stock symbols TEA, POP, ALE, GIN and JOE.
+	 */
+	private static final int PREDEFINED_STOCK_SYMBOLS_COUNT = 5;
+
+	/**
+	 * Private constructor throws illegal state exception in case of instantiation
+	 * execution.
+	 */
+	private ConcurrencyModeThroughputComparison() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * Main method measures and prints throughput of each concurrency mode.
+	 *
+	 * @param args
+	 *            - String[] of arguments: optional trading threads count (number
+	 *            of available processors by default), measurement seconds (5
+	 *            by default), orders batch size (1 by default, orders are put
+	 *            one by one) and stock symbols count (5 by default, additional
+	 *            stock symbols are registered as SYM00006, SYM00007 and so on).
+	 */
+	public static void main(final String[] args) {
+		final int threadsCount = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+		final int measurementSeconds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MEASUREMENT_SECONDS;
+		final int batchSize = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+		final int stockSymbolsCount = args.length > 3 ? Integer.parseInt(args[3]) : PREDEFINED_STOCK_SYMBOLS_COUNT;
+		final StockMarketConcurrencyMode[] concurrencyModes = StockMarketConcurrencyMode.values();
+		final double[] throughputs = new double[concurrencyModes.length];
+
+		System.out.println(String.format("Trading threads: %1$d\tStock symbols: %2$d\tMeasurement: %3$d s\tBatch size: %4$d", threadsCount, stockSymbolsCount, measurementSeconds, batchSize));
+		for (int i = 0; i < concurrencyModes.length; i++) {
+			measureThroughput(concurrencyModes[i], threadsCount, WARM_UP_SECONDS, batchSize, stockSymbolsCount);
+			throughputs[i] = measureThroughput(concurrencyModes[i], threadsCount, measurementSeconds, batchSize, stockSymbolsCount);
+			System.out.println(String.format("%1$-16s\t%2$,.0f orders/s\t%3$.2fx", concurrencyModes[i].getDescription(), throughputs[i], throughputs[i] / throughputs[0]));
+		}
+	}
+
+	/**
+	 * Method runs trading threads against a new stock market for a given time and
+	 * returns the number of orders put per second, including the time matching
+	 * engines need to execute all published orders.
+	 *
+	 * @param concurrencyMode
+	 *            - StockMarketConcurrencyMode of the stock market.
+	 * @param threadsCount
+	 *            - int trading threads count.
+	 * @param seconds
+	 *            - int measurement time.
+	 * @param batchSize
+	 *            - int number of orders submitted at once.
+	 * @param stockSymbolsCount
+	 *            - int number of traded stock symbols.
+	 *
+	 * @return double - orders per second.
+	 */
+	private static double measureThroughput(final StockMarketConcurrencyMode concurrencyMode, final int threadsCount, final int seconds, final int batchSize,
+			final int stockSymbolsCount) {
+		final StockMarket stockMarket = createStockMarket(concurrencyMode, stockSymbolsCount);
+		final CountDownLatch startLatch = new CountDownLatch(1);
+		final LongAdder ordersCount = new LongAdder();
+		final List<Thread> threads = new ArrayList<>();
+		final long[] endNanoTime = new long[1];
+
+		for (int i = 0; i < threadsCount; i++) {
+			final Thread thread = new Thread(() -> trade(stockMarket, startLatch, endNanoTime, ordersCount, batchSize), "Trader " + i);
+			threads.add(thread);
+			thread.start();
+		}
+
+		final long startNanoTime = System.nanoTime();
+		endNanoTime[0] = startNanoTime + TimeUnit.SECONDS.toNanos(seconds);
+		startLatch.countDown();
+		for (Thread thread : threads) {
+			try {
+				thread.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		stockMarket.shutdown();
+		return ordersCount.sum() * 1e9 / (System.nanoTime() - startNanoTime);
+	}
+
+	/**
+	 * Method creates stock market with a given number of stock symbols
+	 * registered, predefined stock symbols first.
+	 *
+	 * @param concurrencyMode
+	 *            - StockMarketConcurrencyMode of the stock market.
+	 * @param stockSymbolsCount
+	 *            - int number of stock symbols.
+	 *
+	 * @return StockMarket.
+	 */
+	private static StockMarket createStockMarket(final StockMarketConcurrencyMode concurrencyMode, final int stockSymbolsCount) {
+		final StockMarket stockMarket = new StockMarket(concurrencyMode);
+		final List<StockSymbol> predefinedStockSymbols = StockSymbol.values().subList(0, PREDEFINED_STOCK_SYMBOLS_COUNT);
+		for (int i = 0; i < stockSymbolsCount; i++) {
+			final String stockSymbolCode = i < PREDEFINED_STOCK_SYMBOLS_COUNT ? predefinedStockSymbols.get(i).getCode() : String.format("SYM%05d", i + 1);
+			stockMarket.registerStockMarketCompany(stockSymbolCode, BigDecimal.ZERO, BigDecimal.ONE, ScaledPrice.toBigDecimal(SCALED_INITIAL_PRICE));
+		}
+		return stockMarket;
+	}
+
+	/**
+	 * Method puts random orders until the end time is reached, one by one or in
+	 * batches.
+	 *
+	 * @param stockMarket
+	 *            - StockMarket to trade on.
+	 * @param startLatch
+	 *            - CountDownLatch released when all threads may start.
+	 * @param endNanoTime
+	 *            - long[] holding the end time of the measurement.
+	 * @param ordersCount
+	 *            - LongAdder accumulating put orders.
+	 * @param batchSize
+	 *            - int number of orders submitted at once.
+	 */
+	private static void trade(final StockMarket stockMarket, final CountDownLatch startLatch, final long[] endNanoTime, final LongAdder ordersCount, final int batchSize) {
+		try {
+			startLatch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
+		}
+		if (batchSize > 1) {
+			ordersCount.add(tradeBatches(stockMarket, endNanoTime, batchSize));
+			return;
+		}
+		final ThreadLocalRandom random = ThreadLocalRandom.current();
+		final List<AbstractStock> stocks = stockMarket.getStocks();
+		final StockOrderTransactionBuffer executedTransactions = stockMarket.getConcurrencyMode() == StockMarketConcurrencyMode.SINGLE_WRITER ? null
+				: new StockOrderTransactionBuffer();
+		long tradedOrdersCount = 0;
+
+		while (System.nanoTime() < endNanoTime[0]) {
+			final AbstractStock stock = stocks.get(random.nextInt(stocks.size()));
+			final int quantity = 1 + random.nextInt(MAX_QUANTITY_LIMIT - 1);
+			final long scaledPrice = SCALED_INITIAL_PRICE * 9 / 10 + random.nextLong(SCALED_INITIAL_PRICE / 5 + 1);
+
+			if (executedTransactions != null) {
+				executedTransactions.clear();
+			}
+			if (random.nextBoolean()) {
+				stockMarket.putBuyOrder(stock, quantity, scaledPrice, StockMarketPlayer.PLAYER1, executedTransactions);
+			} else {
+				stockMarket.putSellOrder(stock, quantity, scaledPrice, StockMarketPlayer.PLAYER2, executedTransactions);
+			}
+			tradedOrdersCount++;
+		}
+		ordersCount.add(tradedOrdersCount);
+	}
+
+	/**
+	 * Method submits batches of random orders until the end time is reached.
+	 *
+	 * @param stockMarket
+	 *            - StockMarket to trade on.
+	 * @param endNanoTime
+	 *            - long[] holding the end time of the measurement.
+	 * @param batchSize
+	 *            - int number of orders submitted at once.
+	 *
+	 * @return long - number of submitted orders.
+	 */
+	private static long tradeBatches(final StockMarket stockMarket, final long[] endNanoTime, final int batchSize) {
+		final ThreadLocalRandom random = ThreadLocalRandom.current();
+		final List<AbstractStock> stocks = stockMarket.getStocks();
+		final StockOrderBatch stockOrderBatch = new StockOrderBatch(batchSize);
+		final StockOrderBatchResult stockOrderBatchResult = new StockOrderBatchResult();
+		long tradedOrdersCount = 0;
+
+		while (System.nanoTime() < endNanoTime[0]) {
+			stockOrderBatch.clear();
+			for (int i = 0; i < batchSize; i++) {
+				final AbstractStock stock = stocks.get(random.nextInt(stocks.size()));
+				final int quantity = 1 + random.nextInt(MAX_QUANTITY_LIMIT - 1);
+				final long scaledPrice = SCALED_INITIAL_PRICE * 9 / 10 + random.nextLong(SCALED_INITIAL_PRICE / 5 + 1);
+				if (random.nextBoolean()) {
+					stockOrderBatch.add(StockOrderTransactionType.BUY, stock, quantity, scaledPrice, StockMarketPlayer.PLAYER1);
+				} else {
+					stockOrderBatch.add(StockOrderTransactionType.SELL, stock, quantity, scaledPrice, StockMarketPlayer.PLAYER2);
+				}
+			}
+			stockMarket.submitBatch(stockOrderBatch, stockOrderBatchResult);
+			tradedOrdersCount += batchSize;
+		}
+		return tradedOrdersCount;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,185 @@
+package org.sergei.sssm.benchmark;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.sergei.sssm.journal.StockOrderJournal;
+import org.sergei.sssm.model.AbstractStock;
+import org.sergei.sssm.model.StockMarket;
+import org.sergei.sssm.model.StockMarketConcurrencyMode;
+import org.sergei.sssm.model.StockMarketPlayer;
+import org.sergei.sssm.model.StockOrderTransactionListener;
+import org.sergei.sssm.model.StockOrderTransactionType;
+import org.sergei.sssm.model.StockSymbol;
+import org.sergei.sssm.utils.LatencyHistogram;
+import org.sergei.sssm.utils.ScaledPrice;
+
+/**
+ * Command line tool which replays a recorded stock order stream into new stock
+ * markets as fast as possible and reports order throughput, fill throughput
+ * and order latency percentiles, so matching changes can be compared on
+ * captured traffic. The stream is a StockOrderJournal directory, e.g. written
+ * by StockMarketSimulationMain with a journal directory argument.
+ *
+ * All journaled orders are read into primitive arrays before measuring, the
+ * journal directory is only read, so a captured stream may be replayed again.
+ * Then they are put one by one from a single thread in journal order, without
+ * players, sleeps or console output, so lock based modes execute exactly the
+ * recorded matching. The latency of an order is the time spent in
+ * StockMarket.putBuyOrder()/putSellOrder(), which is the publishing time only
+ * in SINGLE_WRITER mode.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public class JournalReplayBenchmark {
+	private static final int DEFAULT_MEASURED_RUNS_COUNT = 5;
+	private static final int WARM_UP_RUNS_COUNT = 2;
+	private static final int INITIAL_CAPACITY = 1024;
+	private static final double NANOS_PER_MICROSECOND = 1000.0;
+
+	private final List<StockSymbol> stockSymbols;
+	private final List<Long> initialScaledPrices;
+	private StockOrderTransactionType[] stockOrderTypes;
+	private StockSymbol[] orderStockSymbols;
+	private StockMarketPlayer[] stockMarketPlayers;
+	private int[] quantities;
+	private long[] scaledOfferedPrices;
+	private int stockOrdersCount;
+
+	/**
+	 * Constructor initializes empty recorded stock order stream.
+	 */
+	private JournalReplayBenchmark() {
+		this.stockSymbols = new ArrayList<>();
+		this.initialScaledPrices = new ArrayList<>();
+		this.stockOrderTypes = new StockOrderTransactionType[INITIAL_CAPACITY];
+		this.orderStockSymbols = new StockSymbol[INITIAL_CAPACITY];
+		this.stockMarketPlayers = new StockMarketPlayer[INITIAL_CAPACITY];
+		this.quantities = new int[INITIAL_CAPACITY];
+		this.scaledOfferedPrices = new long[INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Main method loads the stock order stream and prints replay results of each
+	 * concurrency mode.
+	 *
+	 * @param args
+	 *            - String[] of arguments: stock order journal directory, optional
+	 *            measured runs count (5 by default) and StockMarketConcurrencyMode
+	 *            name (all modes by default).
+	 */
+	public static void main(final String[] args) {
+		if (args.length == 0) {
+			System.out.println("Usage: JournalReplayBenchmark <stock order journal directory> [measured runs count] [concurrency mode]");
+			return;
+		}
+		final Path directory = Paths.get(args[0]);
+		final int measuredRunsCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MEASURED_RUNS_COUNT;
+		final StockMarketConcurrencyMode[] concurrencyModes = args.length > 2 ? new StockMarketConcurrencyMode[] { StockMarketConcurrencyMode.valueOf(args[2]) }
+				: StockMarketConcurrencyMode.values();
+		if (!Files.isDirectory(directory)) {
+			System.out.println(String.format("Stock order journal directory does not exist: %s", directory));
+			return;
+		}
+
+		final JournalReplayBenchmark journalReplayBenchmark = new JournalReplayBenchmark();
+		journalReplayBenchmark.load(directory);
+		System.out.println(String.format("Stock order journal: %1$s\tStock orders: %2$d\tStock symbols: %3$d\tMeasured runs: %4$d", directory, journalReplayBenchmark.stockOrdersCount,
+				journalReplayBenchmark.stockSymbols.size(), measuredRunsCount));
+		System.out.println("Concurrency mode\tOrders/s\tFills/s\tFills\tp50 us\tp99 us\tp99.9 us\tMax us");
+		for (StockMarketConcurrencyMode concurrencyMode : concurrencyModes) {
+			for (int i = 0; i < WARM_UP_RUNS_COUNT; i++) {
+				journalReplayBenchmark.replay(concurrencyMode, new LatencyHistogram());
+			}
+			final LatencyHistogram orderLatencyHistogram = new LatencyHistogram();
+			long replayNanos = 0;
+			long fillsCount = 0;
+			for (int i = 0; i < measuredRunsCount; i++) {
+				final long[] result = journalReplayBenchmark.replay(concurrencyMode, orderLatencyHistogram);
+				replayNanos += result[0];
+				fillsCount += result[1];
+			}
+			System.out.println(String.format("%1$-16s\t%2$,.0f\t%3$,.0f\t%4$d\t%5$.2f\t%6$.2f\t%7$.2f\t%8$.1f", concurrencyMode.getDescription(),
+					(double) journalReplayBenchmark.stockOrdersCount * measuredRunsCount * 1e9 / replayNanos, fillsCount * 1e9 / replayNanos, fillsCount / measuredRunsCount,
+					orderLatencyHistogram.getValueAtPercentile(50) / NANOS_PER_MICROSECOND, orderLatencyHistogram.getValueAtPercentile(99) / NANOS_PER_MICROSECOND,
+					orderLatencyHistogram.getValueAtPercentile(99.9) / NANOS_PER_MICROSECOND, orderLatencyHistogram.getMaxValue() / NANOS_PER_MICROSECOND));
+		}
+	}
+
+	/**
+	 * Method reads all journaled stock orders into primitive arrays, the first
+	 * offered price of each stock symbol becomes its initial price.
+	 *
+	 * @param directory
+	 *            - Path of the stock order journal directory.
+	 */
+	private void load(final Path directory) {
+		StockOrderJournal.replay(directory, (journalPosition, stockOrderType, stockSymbol, stockMarketPlayer, quantity, scaledOfferedPrice, timestampMillis) -> {
+			if (!this.stockSymbols.contains(stockSymbol)) {
+				this.stockSymbols.add(stockSymbol);
+				this.initialScaledPrices.add(scaledOfferedPrice);
+			}
+			if (this.stockOrdersCount == this.quantities.length) {
+				final int capacity = this.stockOrdersCount * 2;
+				this.stockOrderTypes = Arrays.copyOf(this.stockOrderTypes, capacity);
+				this.orderStockSymbols = Arrays.copyOf(this.orderStockSymbols, capacity);
+				this.stockMarketPlayers = Arrays.copyOf(this.stockMarketPlayers, capacity);
+				this.quantities = Arrays.copyOf(this.quantities, capacity);
+				this.scaledOfferedPrices = Arrays.copyOf(this.scaledOfferedPrices, capacity);
+			}
+			this.stockOrderTypes[this.stockOrdersCount] = stockOrderType;
+			this.orderStockSymbols[this.stockOrdersCount] = stockSymbol;
+			this.stockMarketPlayers[this.stockOrdersCount] = stockMarketPlayer;
+			this.quantities[this.stockOrdersCount] = quantity;
+			this.scaledOfferedPrices[this.stockOrdersCount] = scaledOfferedPrice;
+			this.stockOrdersCount++;
+		});
+	}
+
+	/**
+	 * Method replays all loaded stock orders into a new stock market.
+	 *
+	 * @param concurrencyMode
+	 *            - StockMarketConcurrencyMode of the stock market.
+	 * @param orderLatencyHistogram
+	 *            - LatencyHistogram recording latency of each order.
+	 *
+	 * @return long[] - replay time in nanoseconds, including the time matching
+	 *         engines need to execute all published orders, and number of fills.
+	 */
+	private long[] replay(final StockMarketConcurrencyMode concurrencyMode, final LatencyHistogram orderLatencyHistogram) {
+		final StockMarket stockMarket = new StockMarket(concurrencyMode);
+		final LongAdder fillsCount = new LongAdder();
+		final StockOrderTransactionListener fillsCountListener = stockOrderTransaction -> fillsCount.increment();
+		stockMarket.setStockOrderTransactionListener(fillsCountListener);
+		final StockOrderTransactionListener orderFillsCountListener = concurrencyMode == StockMarketConcurrencyMode.SINGLE_WRITER ? null : fillsCountListener;
+		for (int i = 0; i < this.stockSymbols.size(); i++) {
+			stockMarket.registerStockMarketCompany(this.stockSymbols.get(i).getCode(), BigDecimal.ZERO, BigDecimal.ONE, ScaledPrice.toBigDecimal(this.initialScaledPrices.get(i)));
+		}
+		final AbstractStock[] stocksById = new AbstractStock[StockSymbol.getRegisteredStockSymbolsCount()];
+		for (AbstractStock stock : stockMarket.getStocks()) {
+			stocksById[stock.getStockSymbol().getId()] = stock;
+		}
+
+		final long startNanoTime = System.nanoTime();
+		for (int i = 0; i < this.stockOrdersCount; i++) {
+			final AbstractStock stock = stocksById[this.orderStockSymbols[i].getId()];
+			final long orderStartNanoTime = System.nanoTime();
+			if (this.stockOrderTypes[i] == StockOrderTransactionType.BUY) {
+				stockMarket.putBuyOrder(stock, this.quantities[i], this.scaledOfferedPrices[i], this.stockMarketPlayers[i], orderFillsCountListener);
+			} else {
+				stockMarket.putSellOrder(stock, this.quantities[i], this.scaledOfferedPrices[i], this.stockMarketPlayers[i], orderFillsCountListener);
+			}
+			orderLatencyHistogram.recordValue(System.nanoTime() - orderStartNanoTime);
+		}
+		stockMarket.shutdown();
+		return new long[] { System.nanoTime() - startNanoTime, fillsCount.sum() };
+	}
+}
@@ -0,0 +1,132 @@
+package org.sergei.sssm.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.sergei.sssm.model.StockMarket;
+import org.sergei.sssm.model.StockMarketConcurrencyMode;
+import org.sergei.sssm.model.StockMarketPlayer;
+import org.sergei.sssm.model.StockSymbol;
+import org.sergei.sssm.thread.Player;
+import org.sergei.sssm.thread.PlayerExecutionMode;
+import org.sergei.sssm.thread.PlayerExecutor;
+import org.sergei.sssm.utils.LatencyHistogram;
+
+/**
+ * Command line tool which reports how order throughput and order latency scale
+ * with the number of concurrent players in each PlayerExecutionMode. Players
+ * place random orders back to back without printing, the latency of an order
+ * is the time spent in StockMarket.putBuyOrder()/putSellOrder(), including
+ * waiting for the lock.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public class PlayerScalingComparison {
+	private static final String DEFAULT_PLAYERS_COUNTS = "10,100,1000,10000,100000";
+	private static final int DEFAULT_MEASUREMENT_SECONDS = 5;
+	private static final int WARM_UP_SECONDS = 2;
+	private static final int WARM_UP_PLAYERS_COUNT = 10;
+	/**
+	 * Platform threads are not started for more players than this limit.
+	 */
+	private static final int MAX_PLATFORM_THREADS_COUNT = 10000;
+	private static final BigDecimal INITIAL_PRICE = new BigDecimal("50.0000");
+	private static final double NANOS_PER_MICROSECOND = 1000.0;
+
+	/**
+	 * Private constructor throws illegal state exception in case of instantiation
+	 * execution.
+	 */
+	private PlayerScalingComparison() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * Main method measures and prints throughput and latency of each player
+	 * execution mode and players count.
+	 *
+	 * @param args
+	 *            - String[] of arguments: optional comma separated players counts
+	 *            (10,100,1000,10000,100000 by default), measurement seconds (5 by
+	 *            default) and StockMarketConcurrencyMode name (GLOBAL_LOCK by
+	 *            default).
+	 */
+	public static void main(final String[] args) {
+		final String[] playersCounts = (args.length > 0 ? args[0] : DEFAULT_PLAYERS_COUNTS).split(",");
+		final int measurementSeconds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MEASUREMENT_SECONDS;
+		final StockMarketConcurrencyMode concurrencyMode = args.length > 2 ? StockMarketConcurrencyMode.valueOf(args[2]) : StockMarketConcurrencyMode.GLOBAL_LOCK;
+
+		System.out.println(String.format("Concurrency mode: %1$s\tMeasurement: %2$d s\tAvailable processors: %3$d", concurrencyMode.getDescription(), measurementSeconds,
+				Runtime.getRuntime().availableProcessors()));
+		System.out.println("Execution mode  \tPlayers\tStart-up ms\tOrders/s\tp50 us\tp99 us\tp99.9 us\tMax us");
+		for (PlayerExecutionMode playerExecutionMode : PlayerExecutionMode.values()) {
+			if (!PlayerExecutor.isSupported(playerExecutionMode)) {
+				System.out.println(String.format("%1$-16s\tnot supported by this Java runtime", playerExecutionMode.getDescription()));
+				continue;
+			}
+			measure(concurrencyMode, playerExecutionMode, WARM_UP_PLAYERS_COUNT, WARM_UP_SECONDS);
+			for (String playersCount : playersCounts) {
+				final int count = Integer.parseInt(playersCount.trim());
+				if (playerExecutionMode == PlayerExecutionMode.PLATFORM_THREAD && count > MAX_PLATFORM_THREADS_COUNT) {
+					System.out.println(String.format("%1$-16s\t%2$d\tskipped, more than %3$d platform threads", playerExecutionMode.getDescription(), count, MAX_PLATFORM_THREADS_COUNT));
+					continue;
+				}
+				System.out.println(measure(concurrencyMode, playerExecutionMode, count, measurementSeconds));
+			}
+		}
+	}
+
+	/**
+	 * Method runs a given number of players against a new stock market and
+	 * returns a report line. Players start trading as soon as they are started,
+	 * so throughput is measured from the start of the first player, start-up
+	 * time is the time until all players are started.
+	 *
+	 * @param concurrencyMode
+	 *            - StockMarketConcurrencyMode of the stock market.
+	 * @param playerExecutionMode
+	 *            - PlayerExecutionMode used to run players.
+	 * @param playersCount
+	 *            - int number of players.
+	 * @param seconds
+	 *            - int playing time of each player.
+	 *
+	 * @return String - report line.
+	 */
+	private static String measure(final StockMarketConcurrencyMode concurrencyMode, final PlayerExecutionMode playerExecutionMode, final int playersCount, final int seconds) {
+		final StockMarket stockMarket = new StockMarket(concurrencyMode);
+		for (StockSymbol stockSymbol : StockSymbol.values()) {
+			stockMarket.registerStockMarketCompany(stockSymbol.getCode(), BigDecimal.ZERO, BigDecimal.ONE, INITIAL_PRICE);
+		}
+		final CountDownLatch countDownLatch = new CountDownLatch(playersCount);
+		final LatencyHistogram orderLatencyHistogram = new LatencyHistogram();
+		final List<Player> players = new ArrayList<>(playersCount);
+		for (int i = 1; i <= playersCount; i++) {
+			final Player player = new Player(stockMarket.registerStockMarketPlayer(StockMarketPlayer.formatCode(i)), stockMarket, countDownLatch, seconds * 1000L);
+			player.setPrintExecutedTransactions(false);
+			player.setOrderLatencyHistogram(orderLatencyHistogram);
+			players.add(player);
+		}
+
+		final PlayerExecutor playerExecutor = new PlayerExecutor(playerExecutionMode);
+		final long startNanoTime = System.nanoTime();
+		playerExecutor.start(players);
+		try {
+			countDownLatch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		final long tradingStartNanoTime = System.nanoTime();
+		playerExecutor.join();
+		stockMarket.shutdown();
+		final long endNanoTime = System.nanoTime();
+
+		final double ordersPerSecond = orderLatencyHistogram.getTotalCount() * 1e9 / (endNanoTime - startNanoTime);
+		return String.format("%1$-16s\t%2$d\t%3$.0f\t%4$,.0f\t%5$.1f\t%6$.1f\t%7$.1f\t%8$.1f", playerExecutionMode.getDescription(), playersCount, (tradingStartNanoTime - startNanoTime) / 1e6,
+				ordersPerSecond, orderLatencyHistogram.getValueAtPercentile(50) / NANOS_PER_MICROSECOND, orderLatencyHistogram.getValueAtPercentile(99) / NANOS_PER_MICROSECOND,
+				orderLatencyHistogram.getValueAtPercentile(99.9) / NANOS_PER_MICROSECOND, orderLatencyHistogram.getMaxValue() / NANOS_PER_MICROSECOND);
+	}
+}
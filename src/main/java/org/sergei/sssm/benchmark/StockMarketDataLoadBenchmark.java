@@ -0,0 +1,145 @@
+package org.sergei.sssm.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.sergei.sssm.exeption.StockMarketSystemException;
+import org.sergei.sssm.loader.StockMarketDataLoader;
+import org.sergei.sssm.model.StockMarket;
+
+/**
+ * Command line tool which shows what the parser threads of
+ * StockMarketDataLoader gain. It writes a CSV file of generated stock market
+ * companies and measures the load time with one parser thread and with one
+ * parser thread per available processor, and the time of registering the same
+ * companies without parsing.
+ *
+ * Registration runs on the calling thread only, so the load time with any
+ * number of parser threads is bounded by the registration time, and the load
+ * time with one parser thread minus the registration time is what parser
+ * threads may take off.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public class StockMarketDataLoadBenchmark {
+	private static final int DEFAULT_COMPANIES_COUNT = 200000;
+	private static final int DEFAULT_MEASURED_RUNS_COUNT = 5;
+	private static final int WARM_UP_RUNS_COUNT = 2;
+	private static final int CHUNK_LINES_COUNT = 4096;
+	private static final int MAX_PRICE_LIMIT = 200;
+	private static final double NANOS_PER_MILLISECOND = 1e6;
+
+	/**
+	 * Private constructor throws illegal state exception in case of instantiation
+	 * execution.
+	 */
+	private StockMarketDataLoadBenchmark() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * Main method measures and prints load and registration times.
+	 *
+	 * @param args
+	 *            - String[] of arguments: optional stock market companies count
+	 *            (200000 by default, registered as LOAD000001, LOAD000002 and so
+	 *            on) and measured runs count (5 by default).
+	 */
+	public static void main(final String[] args) {
+		final int companiesCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_COMPANIES_COUNT;
+		final int measuredRunsCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MEASURED_RUNS_COUNT;
+		final int parserThreadsCount = Runtime.getRuntime().availableProcessors();
+		final Path file = writeStockMarketData(companiesCount);
+		try {
+			final long serialLoadNanos = measure(() -> new StockMarketDataLoader(1, CHUNK_LINES_COUNT).load(file, new StockMarket()), measuredRunsCount);
+			final long parallelLoadNanos = measure(() -> new StockMarketDataLoader(parserThreadsCount, CHUNK_LINES_COUNT).load(file, new StockMarket()), measuredRunsCount);
+			final long registrationNanos = measure(() -> registerStockMarketCompanies(companiesCount), measuredRunsCount);
+			System.out.println(String.format("Stock market companies: %1$d\tParser threads: %2$d\tMeasured runs: %3$d", companiesCount, parserThreadsCount, measuredRunsCount));
+			System.out.println("Load, 1 parser thread ms\tLoad, parser threads ms\tRegistration only ms\tSpeedup\tMax speedup");
+			System.out.println(String.format("%1$.1f\t%2$.1f\t%3$.1f\t%4$.2fx\t%5$.2fx", serialLoadNanos / NANOS_PER_MILLISECOND, parallelLoadNanos / NANOS_PER_MILLISECOND,
+					registrationNanos / NANOS_PER_MILLISECOND, (double) serialLoadNanos / parallelLoadNanos, (double) serialLoadNanos / registrationNanos));
+		} finally {
+			try {
+				Files.deleteIfExists(file);
+			} catch (IOException e) {
+				System.out.println(String.format("Stock market data file cannot be deleted: %s", file));
+			}
+		}
+	}
+
+	/**
+	 * Method writes a temporary CSV file of generated common and preferred stock
+	 * market companies.
+	 *
+	 * @param companiesCount
+	 *            - int number of stock market companies.
+	 *
+	 * @return Path - written file.
+	 */
+	private static Path writeStockMarketData(final int companiesCount) {
+		final Random random = new Random(companiesCount);
+		try {
+			final Path file = Files.createTempFile("stock-market-data", ".csv");
+			try (final BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+				writer.write("symbol,type,last dividend,fixed dividend,par value,price");
+				writer.newLine();
+				for (int i = 1; i <= companiesCount; i++) {
+					final String price = BigDecimal.valueOf(100 + random.nextInt(MAX_PRICE_LIMIT * 100), 2).toPlainString();
+					writer.write(i % 5 == 0 ? String.format("LOAD%06d,Preferred,0.08,0.02,1.00,%s", i, price) : String.format("LOAD%06d,Common,0.05,,1.00,%s", i, price));
+					writer.newLine();
+				}
+			}
+			return file;
+		} catch (IOException e) {
+			throw new StockMarketSystemException(e, "Stock market data file cannot be written");
+		}
+	}
+
+	/**
+	 * Method registers the generated stock market companies of the CSV file
+	 * without parsing it, at the same price.
+	 *
+	 * @param companiesCount
+	 *            - int number of stock market companies.
+	 */
+	private static void registerStockMarketCompanies(final int companiesCount) {
+		final StockMarket stockMarket = new StockMarket();
+		final BigDecimal lastDividend = new BigDecimal("0.05");
+		final BigDecimal preferredLastDividend = new BigDecimal("0.08");
+		final BigDecimal fixedDividend = new BigDecimal("0.02");
+		for (int i = 1; i <= companiesCount; i++) {
+			if (i % 5 == 0) {
+				stockMarket.registerStockMarketCompany(String.format("LOAD%06d", i), preferredLastDividend, fixedDividend, BigDecimal.ONE, BigDecimal.TEN);
+			} else {
+				stockMarket.registerStockMarketCompany(String.format("LOAD%06d", i), lastDividend, BigDecimal.ONE, BigDecimal.TEN);
+			}
+		}
+	}
+
+	/**
+	 * Method runs a measured step after warm-up runs.
+	 *
+	 * @param step
+	 *            - Runnable step.
+	 * @param measuredRunsCount
+	 *            - int number of measured runs.
+	 *
+	 * @return long - average time of a measured run in nanoseconds.
+	 */
+	private static long measure(final Runnable step, final int measuredRunsCount) {
+		for (int i = 0; i < WARM_UP_RUNS_COUNT; i++) {
+			step.run();
+		}
+		final long startNanoTime = System.nanoTime();
+		for (int i = 0; i < measuredRunsCount; i++) {
+			step.run();
+		}
+		return (System.nanoTime() - startNanoTime) / measuredRunsCount;
+	}
+}
@@ -0,0 +1,136 @@
+package org.sergei.sssm.engine;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Bounded lock-free ring buffer of pre-allocated entries with many producers
+ * and a single consumer, in the style of the LMAX Disruptor.
+ *
+ * A producer claims a sequence, fills the entry returned by get(sequence) and
+ * publishes the sequence. The consumer drains published entries in sequence
+ * order. Producers wait while the buffer is full, which applies back-pressure
+ * instead of growing the buffer.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.16. initial version
+ */
+public class ManyToOneRingBuffer<E> {
+	private static final long NOT_PUBLISHED = -1L;
+	private final Object[] entries;
+	private final int mask;
+	/**
+	 * Sequence published in each slot, written by producers, read by the consumer.
+	 */
+	private final AtomicLongArray publishedSequences;
+	/**
+	 * Last sequence claimed by producers.
+	 */
+	private final PaddedAtomicLong claimedSequence;
+	/**
+	 * Last sequence consumed by the consumer.
+	 */
+	private final PaddedAtomicLong consumedSequence;
+
+	/**
+	 * Constructor pre-allocates all entries.
+	 *
+	 * @param capacity
+	 *            - int capacity, must be a power of two.
+	 * @param entryFactory
+	 *            - Supplier<E> creating ring buffer entries.
+	 */
+	public ManyToOneRingBuffer(final int capacity, final Supplier<E> entryFactory) {
+		if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+			throw new IllegalArgumentException("Ring buffer capacity must be a power of two: " + capacity);
+		}
+		this.entries = new Object[capacity];
+		this.mask = capacity - 1;
+		this.publishedSequences = new AtomicLongArray(capacity);
+		for (int i = 0; i < capacity; i++) {
+			this.entries[i] = entryFactory.get();
+			this.publishedSequences.set(i, NOT_PUBLISHED);
+		}
+		this.claimedSequence = new PaddedAtomicLong(NOT_PUBLISHED);
+		this.consumedSequence = new PaddedAtomicLong(NOT_PUBLISHED);
+	}
+
+	/**
+	 * Method claims the next sequence, waiting while the buffer is full.
+	 *
+	 * @return long - claimed sequence.
+	 */
+	public long claim() {
+		final long sequence = this.claimedSequence.incrementAndGet();
+		final long wrapSequence = sequence - this.entries.length;
+		while (wrapSequence > this.consumedSequence.get()) {
+			LockSupport.parkNanos(1L);
+		}
+		return sequence;
+	}
+
+	/**
+	 * Method returns the entry of a claimed sequence.
+	 *
+	 * @param sequence
+	 *            - long claimed sequence.
+	 *
+	 * @return E - entry to fill.
+	 */
+	@SuppressWarnings("unchecked")
+	public E get(final long sequence) {
+		return (E) this.entries[(int) sequence & this.mask];
+	}
+
+	/**
+	 * Method makes the filled entry of a claimed sequence visible to the consumer.
+	 *
+	 * @param sequence
+	 *            - long claimed sequence.
+	 */
+	public void publish(final long sequence) {
+		this.publishedSequences.lazySet((int) sequence & this.mask, sequence);
+	}
+
+	/**
+	 * Method passes published entries to a handler in sequence order, it must be
+	 * called by the consumer thread only.
+	 *
+	 * @param entryHandler
+	 *            - Consumer<E> handling each entry.
+	 * @param maxEntriesCount
+	 *            - int maximum number of entries handled by this call.
+	 *
+	 * @return int - number of handled entries.
+	 */
+	@SuppressWarnings("unchecked")
+	public int drain(final Consumer<E> entryHandler, final int maxEntriesCount) {
+		final long firstSequence = this.consumedSequence.get() + 1;
+		long sequence = firstSequence;
+
+		while (sequence - firstSequence < maxEntriesCount && this.publishedSequences.get((int) sequence & this.mask) == sequence) {
+			entryHandler.accept((E) this.entries[(int) sequence & this.mask]);
+			sequence++;
+		}
+		if (sequence != firstSequence) {
+			this.consumedSequence.lazySet(sequence - 1);
+		}
+		return (int) (sequence - firstSequence);
+	}
+
+	/**
+	 * @return true if every claimed sequence has been consumed.
+	 */
+	public boolean isEmpty() {
+		return this.consumedSequence.get() == this.claimedSequence.get();
+	}
+
+	/**
+	 * @return the capacity
+	 */
+	public int getCapacity() {
+		return this.entries.length;
+	}
+}
@@ -0,0 +1,27 @@
+package org.sergei.sssm.engine;
+
+/**
+ * Atomic long padded to a cache line on both sides, so sequences written by
+ * different threads do not invalidate each other's cache lines.
+ *
+ * Fields of a superclass are laid out before fields of its subclass, so the
+ * value is declared between a class of padding fields before it and a
+ * subclass of padding fields after it, whatever object precedes or follows it
+ * in the heap. Padding fields are never read, the JVM keeps them anyway.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.16. initial version
+ */
+final class PaddedAtomicLong extends PaddedAtomicLongValue {
+	long p8, p9, p10, p11, p12, p13, p14;
+
+	/**
+	 * Constructor initializes the value.
+	 *
+	 * @param initialValue
+	 *            - long initial value.
+	 */
+	PaddedAtomicLong(final long initialValue) {
+		super(initialValue);
+	}
+}
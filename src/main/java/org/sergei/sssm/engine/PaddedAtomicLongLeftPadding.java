@@ -0,0 +1,11 @@
+package org.sergei.sssm.engine;
+
+/**
+ * Padding fields laid out before the value of a PaddedAtomicLong.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.16. initial version
+ */
+abstract class PaddedAtomicLongLeftPadding {
+	long p1, p2, p3, p4, p5, p6, p7;
+}
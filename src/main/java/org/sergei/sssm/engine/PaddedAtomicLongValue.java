@@ -0,0 +1,51 @@
+package org.sergei.sssm.engine;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Value of a PaddedAtomicLong and its atomic operations.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.16. initial version
+ */
+abstract class PaddedAtomicLongValue extends PaddedAtomicLongLeftPadding {
+	private static final AtomicLongFieldUpdater<PaddedAtomicLongValue> VALUE_UPDATER = AtomicLongFieldUpdater.newUpdater(PaddedAtomicLongValue.class, "value");
+	private volatile long value;
+
+	/**
+	 * Constructor initializes the value.
+	 *
+	 * @param initialValue
+	 *            - long initial value.
+	 */
+	PaddedAtomicLongValue(final long initialValue) {
+		this.value = initialValue;
+	}
+
+	/**
+	 * @return long - current value.
+	 */
+	long get() {
+		return this.value;
+	}
+
+	/**
+	 * Method atomically increments the value.
+	 *
+	 * @return long - incremented value.
+	 */
+	long incrementAndGet() {
+		return VALUE_UPDATER.incrementAndGet(this);
+	}
+
+	/**
+	 * Method sets the value with an ordered store, it becomes visible to other
+	 * threads eventually, without a full fence.
+	 *
+	 * @param newValue
+	 *            - long new value.
+	 */
+	void lazySet(final long newValue) {
+		VALUE_UPDATER.lazySet(this, newValue);
+	}
+}
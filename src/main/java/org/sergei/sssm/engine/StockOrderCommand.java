@@ -0,0 +1,130 @@
+package org.sergei.sssm.engine;
+
+import org.sergei.sssm.model.AbstractStock;
+import org.sergei.sssm.model.StockMarketPlayer;
+import org.sergei.sssm.model.StockOrderBook;
+import org.sergei.sssm.model.StockOrderTransactionType;
+
+/**
+ * Pre-allocated, reusable ring buffer entry describing an order to be placed to
+ * a stock order book by its matching engine.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.16. initial version
+ */
+public class StockOrderCommand {
+	private StockOrderTransactionType stockOrderTransactionType;
+	private StockOrderBook stockOrderBook;
+	private AbstractStock stock;
+	private int quantity;
+	private long scaledOfferedPrice;
+	private StockMarketPlayer stockMarketPlayer;
+	/**
+	 * System.nanoTime() of the order submission, before waiting for a free ring
+	 * buffer entry.
+	 */
+	private long submitNanoTime;
+	/**
+	 * Task run by the matching engine instead of placing an order, null for order
+	 * commands.
+	 */
+	private Runnable task;
+
+	/**
+	 * Method sets all attributes of this command.
+	 *
+	 * @param stockOrderTransactionType
+	 *            - StockOrderTransactionType buy or sell.
+	 * @param stockOrderBook
+	 *            - StockOrderBook to place the order to.
+	 * @param stock
+	 *            - AbstractStock of the order.
+	 * @param quantity
+	 *            - int of the order.
+	 * @param scaledOfferedPrice
+	 *            - long offered price scaled to 4 decimal digits.
+	 * @param stockMarketPlayer
+	 *            - StockMarketPlayer who is issuing the order.
+	 * @param submitNanoTime
+	 *            - long System.nanoTime() of the order submission.
+	 */
+	public void set(final StockOrderTransactionType stockOrderTransactionType, final StockOrderBook stockOrderBook, final AbstractStock stock, final int quantity, final long scaledOfferedPrice,
+			final StockMarketPlayer stockMarketPlayer, final long submitNanoTime) {
+		this.stockOrderTransactionType = stockOrderTransactionType;
+		this.stockOrderBook = stockOrderBook;
+		this.stock = stock;
+		this.quantity = quantity;
+		this.scaledOfferedPrice = scaledOfferedPrice;
+		this.stockMarketPlayer = stockMarketPlayer;
+		this.submitNanoTime = submitNanoTime;
+		this.task = null;
+	}
+
+	/**
+	 * Method turns this command into a task command, order attributes are
+	 * cleared.
+	 *
+	 * @param task
+	 *            - Runnable run on the matching engine thread.
+	 */
+	public void setTask(final Runnable task) {
+		set(null, null, null, 0, 0, null, 0);
+		this.task = task;
+	}
+
+	/**
+	 * @return the stockOrderTransactionType
+	 */
+	public StockOrderTransactionType getStockOrderTransactionType() {
+		return stockOrderTransactionType;
+	}
+
+	/**
+	 * @return the stockOrderBook
+	 */
+	public StockOrderBook getStockOrderBook() {
+		return stockOrderBook;
+	}
+
+	/**
+	 * @return the stock
+	 */
+	public AbstractStock getStock() {
+		return stock;
+	}
+
+	/**
+	 * @return the quantity
+	 */
+	public int getQuantity() {
+		return quantity;
+	}
+
+	/**
+	 * @return the scaledOfferedPrice
+	 */
+	public long getScaledOfferedPrice() {
+		return scaledOfferedPrice;
+	}
+
+	/**
+	 * @return the stockMarketPlayer
+	 */
+	public StockMarketPlayer getStockMarketPlayer() {
+		return stockMarketPlayer;
+	}
+
+	/**
+	 * @return the submitNanoTime
+	 */
+	public long getSubmitNanoTime() {
+		return submitNanoTime;
+	}
+
+	/**
+	 * @return the task, null for order commands.
+	 */
+	public Runnable getTask() {
+		return task;
+	}
+}
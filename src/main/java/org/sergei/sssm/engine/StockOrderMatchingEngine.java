@@ -0,0 +1,240 @@
+package org.sergei.sssm.engine;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.sergei.sssm.model.AbstractStock;
+import org.sergei.sssm.model.StockMarketPlayer;
+import org.sergei.sssm.model.StockOrderBook;
+import org.sergei.sssm.model.StockOrderTransactionListener;
+import org.sergei.sssm.model.StockOrderTransactionType;
+
+/**
+ * Single-writer matching engine: one thread owns a group of stock order books
+ * and is the only thread that ever modifies them. Players publish order
+ * commands into a pre-allocated lock-free ring buffer, the engine thread
+ * executes them in publication order and passes executed trade transactions to
+ * a listener, so no lock is taken on the stock order books.
+ *
+ * A command which throws, e.g. from the listener or the stock order journal,
+ * is reported to the uncaught exception handler of the engine thread and the
+ * engine goes on with the next command, so producers are never left waiting
+ * for a dead consumer.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.16. initial version
+ */
+public class StockOrderMatchingEngine implements Runnable {
+	public static final int DEFAULT_RING_BUFFER_CAPACITY = 4096;
+	private static final int MAX_DRAINED_COMMANDS_COUNT = 256;
+	private static final int SPINNING_IDLE_ITERATIONS = 100;
+	private static final int YIELDING_IDLE_ITERATIONS = 200;
+	private static final long PARKING_IDLE_NANOS = 50000L;
+
+	private final ManyToOneRingBuffer<StockOrderCommand> ringBuffer;
+	private final StockOrderTransactionListener stockOrderTransactionListener;
+	private final Consumer<StockOrderCommand> stockOrderCommandHandler;
+	private final Thread thread;
+	private volatile boolean running;
+	private volatile boolean shutdown;
+	/**
+	 * Number of publishers between the shutdown check and the publication of
+	 * their command, shutdown() waits for them before it stops the engine.
+	 */
+	private final AtomicInteger activePublishersCount;
+	private final AtomicLong failedCommandsCount;
+
+	/**
+	 * Constructor initializes classes attributes, the engine thread is started by
+	 * start() method.
+	 *
+	 * @param name
+	 *            - String name of the engine thread.
+	 * @param ringBufferCapacity
+	 *            - int capacity of the command ring buffer, a power of two.
+	 * @param stockOrderTransactionListener
+	 *            - StockOrderTransactionListener receiving executed trade
+	 *            transactions on the engine thread.
+	 */
+	public StockOrderMatchingEngine(final String name, final int ringBufferCapacity, final StockOrderTransactionListener stockOrderTransactionListener) {
+		this.ringBuffer = new ManyToOneRingBuffer<>(ringBufferCapacity, StockOrderCommand::new);
+		this.stockOrderTransactionListener = stockOrderTransactionListener;
+		this.stockOrderCommandHandler = this::executeReportingFailure;
+		this.thread = new Thread(this, name);
+		this.thread.setDaemon(true);
+		this.activePublishersCount = new AtomicInteger();
+		this.failedCommandsCount = new AtomicLong();
+	}
+
+	/**
+	 * Method starts the engine thread.
+	 */
+	public void start() {
+		this.running = true;
+		this.thread.start();
+	}
+
+	/**
+	 * Method stops the engine thread after all published commands are executed and
+	 * waits for its completion. Publishers which passed the shutdown check before
+	 * are waited for, so each accepted command is executed.
+	 */
+	public void shutdown() {
+		this.shutdown = true;
+		while (this.activePublishersCount.get() > 0) {
+			Thread.yield();
+		}
+		this.running = false;
+		try {
+			this.thread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Method publishes a task run on the matching engine thread after all orders
+	 * published before, so it may read stock order books owned by this engine
+	 * without locking, waiting while the ring buffer is full.
+	 *
+	 * @param task
+	 *            - Runnable to run.
+	 *
+	 * @throws IllegalStateException
+	 *             - if the engine is shut down.
+	 */
+	public void publishTask(final Runnable task) {
+		beginPublishing();
+		try {
+			final long sequence = this.ringBuffer.claim();
+			this.ringBuffer.get(sequence).setTask(task);
+			this.ringBuffer.publish(sequence);
+		} finally {
+			this.activePublishersCount.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Method publishes an order command for a stock order book owned by this
+	 * engine, waiting while the ring buffer is full.
+	 *
+	 * @param stockOrderTransactionType
+	 *            - StockOrderTransactionType buy or sell.
+	 * @param stockOrderBook
+	 *            - StockOrderBook to place the order to.
+	 * @param stock
+	 *            - AbstractStock of the order.
+	 * @param quantity
+	 *            - int of the order.
+	 * @param scaledOfferedPrice
+	 *            - long offered price scaled to 4 decimal digits.
+	 * @param stockMarketPlayer
+	 *            - StockMarketPlayer who is issuing the order.
+	 *
+	 * @throws IllegalStateException
+	 *             - if the engine is shut down.
+	 */
+	public void publish(final StockOrderTransactionType stockOrderTransactionType, final StockOrderBook stockOrderBook, final AbstractStock stock, final int quantity, final long scaledOfferedPrice,
+			final StockMarketPlayer stockMarketPlayer) {
+		beginPublishing();
+		try {
+			final long submitNanoTime = System.nanoTime();
+			final long sequence = this.ringBuffer.claim();
+			this.ringBuffer.get(sequence).set(stockOrderTransactionType, stockOrderBook, stock, quantity, scaledOfferedPrice, stockMarketPlayer, submitNanoTime);
+			this.ringBuffer.publish(sequence);
+		} finally {
+			this.activePublishersCount.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Method registers an active publisher and rejects commands published after
+	 * shutdown(), they would never be executed and would block the publisher once
+	 * the ring buffer wraps. The publisher is registered before the check, so
+	 * shutdown() either is seen by the check or waits for the publication.
+	 *
+	 * @throws IllegalStateException
+	 *             - if the engine is shut down.
+	 */
+	private void beginPublishing() {
+		this.activePublishersCount.incrementAndGet();
+		if (this.shutdown) {
+			this.activePublishersCount.decrementAndGet();
+			throw new IllegalStateException("Matching engine is shut down: " + this.thread.getName());
+		}
+	}
+
+	/**
+	 * Method drains the ring buffer until the engine is stopped and the buffer is
+	 * empty, backing off from spinning to yielding to parking while idle.
+	 */
+	@Override
+	public void run() {
+		int idleIterations = 0;
+
+		while (this.running || !this.ringBuffer.isEmpty()) {
+			if (this.ringBuffer.drain(this.stockOrderCommandHandler, MAX_DRAINED_COMMANDS_COUNT) > 0) {
+				idleIterations = 0;
+			} else if (idleIterations < SPINNING_IDLE_ITERATIONS) {
+				idleIterations++;
+			} else if (idleIterations < SPINNING_IDLE_ITERATIONS + YIELDING_IDLE_ITERATIONS) {
+				idleIterations++;
+				Thread.yield();
+			} else {
+				LockSupport.parkNanos(PARKING_IDLE_NANOS);
+			}
+		}
+	}
+
+	/**
+	 * Method executes a command, a failure is counted and reported to the
+	 * uncaught exception handler of the engine thread.
+	 *
+	 * @param stockOrderCommand
+	 *            - StockOrderCommand to execute.
+	 */
+	private void executeReportingFailure(final StockOrderCommand stockOrderCommand) {
+		try {
+			execute(stockOrderCommand);
+		} catch (RuntimeException e) {
+			this.failedCommandsCount.incrementAndGet();
+			this.thread.getUncaughtExceptionHandler().uncaughtException(this.thread, e);
+		}
+	}
+
+	/**
+	 * Method places the order of a command to its stock order book and passes
+	 * executed trade transactions to the listener, or runs the task of a task
+	 * command. Latencies of the order are recorded by the stock order book, the
+	 * time spent in the ring buffer counts as its lock wait.
+	 *
+	 * @param stockOrderCommand
+	 *            - StockOrderCommand to execute.
+	 */
+	private void execute(final StockOrderCommand stockOrderCommand) {
+		if (stockOrderCommand.getTask() != null) {
+			stockOrderCommand.getTask().run();
+			return;
+		}
+		final StockOrderBook stockOrderBook = stockOrderCommand.getStockOrderBook();
+		final long acceptNanoTime = System.nanoTime();
+
+		if (stockOrderCommand.getStockOrderTransactionType() == StockOrderTransactionType.BUY) {
+			stockOrderBook.addBuyStockOrder(stockOrderCommand.getStock(), stockOrderCommand.getQuantity(), stockOrderCommand.getScaledOfferedPrice(), stockOrderCommand.getStockMarketPlayer(),
+					this.stockOrderTransactionListener);
+		} else {
+			stockOrderBook.addSellStockOrder(stockOrderCommand.getStock(), stockOrderCommand.getQuantity(), stockOrderCommand.getScaledOfferedPrice(), stockOrderCommand.getStockMarketPlayer(),
+					this.stockOrderTransactionListener);
+		}
+		stockOrderBook.getStockOrderLatencies().recordStockOrder(stockOrderCommand.getSubmitNanoTime(), acceptNanoTime, System.nanoTime());
+	}
+
+	/**
+	 * @return the number of commands which failed with an exception.
+	 */
+	public long getFailedCommandsCount() {
+		return failedCommandsCount.get();
+	}
+}
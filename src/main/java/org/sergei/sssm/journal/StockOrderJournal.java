@@ -0,0 +1,532 @@
+package org.sergei.sssm.journal;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.sergei.sssm.exeption.StockMarketSystemException;
+import org.sergei.sssm.model.StockMarketPlayer;
+import org.sergei.sssm.model.StockOrderTransactionType;
+import org.sergei.sssm.model.StockSymbol;
+
+/**
+ * Write-ahead journal of accepted stock orders and executed trade
+ * transactions, kept as fixed-size binary records in memory-mapped segment
+ * files of a directory. Each opening of the journal starts a new session
+ * split into streams, see StockOrderJournalStream, so writers of different
+ * streams never share a monitor. Appending a record is a few absolute writes
+ * to the mapped segment of a stream, no system call is made unless the flush
+ * policy requires it or a segment is full.
+ *
+ * Each 32 bytes record starts with a header holding the record type and a
+ * check of the payload, written after the payload, so a record torn by a
+ * crash is recognized and ends its stream. Stock symbols and players are
+ * referred to by ids, the code of each id is journaled once per stream before
+ * its first use, so ids of a later process may differ.
+ *
+ * Replaying the journaled stock orders of each stock order book in order
+ * through an empty book rebuilds the book, because matching is deterministic.
+ * Sessions are replayed in order and a book appends to a single stream per
+ * session, so the orders of each book are replayed in the order they were
+ * accepted. Executed trade transactions are journaled as an audit trail and
+ * are not needed to replay.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public class StockOrderJournal {
+	/**
+	 * Size of each record in bytes.
+	 */
+	public static final int RECORD_SIZE = 32;
+	/**
+	 * Default segment file size, 2 097 152 records.
+	 */
+	public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+	/**
+	 * Maximum length of journaled stock symbol and player codes in UTF-8 bytes.
+	 */
+	public static final int MAX_CODE_LENGTH = RECORD_SIZE - 8;
+	static final byte STOCK_SYMBOL_RECORD_TYPE = 1;
+	static final byte STOCK_MARKET_PLAYER_RECORD_TYPE = 2;
+	static final byte BUY_STOCK_ORDER_RECORD_TYPE = 3;
+	static final byte SELL_STOCK_ORDER_RECORD_TYPE = 4;
+	static final byte STOCK_ORDER_TRANSACTION_RECORD_TYPE = 5;
+	/**
+	 * Sessions and segments of a stream are limited by the bits they take in a
+	 * journal position.
+	 */
+	static final int MAX_SESSION = Short.MAX_VALUE;
+	static final int MAX_SEGMENT_INDEX = 0xFFFF;
+	private static final String SEGMENT_FILE_NAME_FORMAT = "stock-orders-%05d-%03d-%08d.journal";
+	private static final Pattern SEGMENT_FILE_NAME_PATTERN = Pattern.compile("stock-orders-(\\d+)-(\\d+)-(\\d+)\\.journal");
+	private static final int SESSION_SHIFT = 48;
+	private static final int HEADER_TYPE_MASK = 0xFF;
+	private static final int HEADER_AUX_SHIFT = 8;
+	private static final int HEADER_CHECK_SHIFT = 16;
+	private static final int CHECK_MASK = 0xFFFF;
+	private static final int FNV_OFFSET_BASIS = 0x811C9DC5;
+	private static final int FNV_PRIME = 0x01000193;
+
+	private final Path directory;
+	private final int segmentSize;
+	private final StockOrderJournalFlushPolicy flushPolicy;
+	private final int session;
+	private final StockOrderJournalStream[] streams;
+	private boolean closed;
+
+	/**
+	 * Constructor initializes class attributes, use open() to create a journal.
+	 *
+	 * @param directory
+	 *            - Path of the journal directory.
+	 * @param segmentSize
+	 *            - int segment file size in bytes.
+	 * @param flushPolicy
+	 *            - StockOrderJournalFlushPolicy.
+	 * @param session
+	 *            - int session of this journal.
+	 * @param streamsCount
+	 *            - int number of streams.
+	 */
+	private StockOrderJournal(final Path directory, final int segmentSize, final StockOrderJournalFlushPolicy flushPolicy, final int session, final int streamsCount) {
+		this.directory = directory;
+		this.segmentSize = segmentSize;
+		this.flushPolicy = flushPolicy;
+		this.session = session;
+		this.streams = new StockOrderJournalStream[streamsCount];
+		for (int i = 0; i < streamsCount; i++) {
+			this.streams[i] = new StockOrderJournalStream(this, i);
+		}
+	}
+
+	/**
+	 * Method opens a journal of a given directory with default segment size, see
+	 * open(Path, StockOrderJournalFlushPolicy, int, int).
+	 *
+	 * @param directory
+	 *            - Path of the journal directory, created if it does not exist.
+	 * @param flushPolicy
+	 *            - StockOrderJournalFlushPolicy.
+	 * @param streamsCount
+	 *            - int number of streams of the new session.
+	 *
+	 * @return StockOrderJournal - opened journal.
+	 */
+	public static StockOrderJournal open(final Path directory, final StockOrderJournalFlushPolicy flushPolicy, final int streamsCount) {
+		return open(directory, flushPolicy, streamsCount, DEFAULT_SEGMENT_SIZE);
+	}
+
+	/**
+	 * Method opens a journal of a given directory, new records are appended to
+	 * new segment files of a session following the sessions already journaled.
+	 * Files of earlier sessions are not modified.
+	 *
+	 * @param directory
+	 *            - Path of the journal directory, created if it does not exist.
+	 * @param flushPolicy
+	 *            - StockOrderJournalFlushPolicy.
+	 * @param streamsCount
+	 *            - int number of streams of the new session.
+	 * @param segmentSize
+	 *            - int segment file size in bytes, a multiple of RECORD_SIZE.
+	 *
+	 * @return StockOrderJournal - opened journal.
+	 */
+	public static StockOrderJournal open(final Path directory, final StockOrderJournalFlushPolicy flushPolicy, final int streamsCount, final int segmentSize) {
+		if (segmentSize <= 0 || segmentSize % RECORD_SIZE != 0) {
+			throw new IllegalArgumentException("Segment size must be a positive multiple of " + RECORD_SIZE + ": " + segmentSize);
+		}
+		if (streamsCount <= 0) {
+			throw new IllegalArgumentException("Streams count must be positive: " + streamsCount);
+		}
+		final TreeMap<Integer, SortedSet<Integer>> sessionStreams;
+		try {
+			Files.createDirectories(directory);
+			sessionStreams = findSessionStreams(directory);
+		} catch (IOException e) {
+			throw new StockMarketSystemException(e, "Stock order journal cannot be opened: " + directory);
+		}
+		final int session = sessionStreams.isEmpty() ? 0 : sessionStreams.lastKey() + 1;
+		if (session > MAX_SESSION) {
+			throw new IllegalStateException("Stock order journal has no more sessions: " + directory);
+		}
+		return new StockOrderJournal(directory, segmentSize, flushPolicy, session, streamsCount);
+	}
+
+	/**
+	 * Method finds journaled sessions of a directory and streams of each session.
+	 *
+	 * @param directory
+	 *            - Path of the journal directory.
+	 *
+	 * @return TreeMap<Integer, SortedSet<Integer>> - stream indexes by session.
+	 *
+	 * @throws IOException
+	 *             if the directory cannot be listed.
+	 */
+	private static TreeMap<Integer, SortedSet<Integer>> findSessionStreams(final Path directory) throws IOException {
+		final TreeMap<Integer, SortedSet<Integer>> sessionStreams = new TreeMap<>();
+		try (DirectoryStream<Path> segmentPaths = Files.newDirectoryStream(directory)) {
+			for (Path segmentPath : segmentPaths) {
+				final Matcher matcher = SEGMENT_FILE_NAME_PATTERN.matcher(segmentPath.getFileName().toString());
+				if (matcher.matches()) {
+					sessionStreams.computeIfAbsent(Integer.valueOf(matcher.group(1)), session -> new TreeSet<>()).add(Integer.valueOf(matcher.group(2)));
+				}
+			}
+		}
+		return sessionStreams;
+	}
+
+	/**
+	 * Method reads all valid records of the sessions before this one and passes
+	 * stock orders to a given listener. Stock symbols and players are registered
+	 * by their journaled codes. Segment files are mapped read-only.
+	 *
+	 * @param stockOrderJournalListener
+	 *            - StockOrderJournalListener receiving journaled stock orders.
+	 *
+	 * @return long - number of replayed stock orders.
+	 */
+	public long replay(final StockOrderJournalListener stockOrderJournalListener) {
+		return replay(this.directory, this.session, stockOrderJournalListener);
+	}
+
+	/**
+	 * Method reads all valid records of all sessions of a given directory
+	 * without opening a journal: segment files are mapped read-only, nothing is
+	 * created, truncated or cleared, so a captured journal may be read any number
+	 * of times. Stock symbols and players are registered by their journaled
+	 * codes.
+	 *
+	 * @param directory
+	 *            - Path of the journal directory.
+	 * @param stockOrderJournalListener
+	 *            - StockOrderJournalListener receiving journaled stock orders.
+	 *
+	 * @return long - number of replayed stock orders.
+	 */
+	public static long replay(final Path directory, final StockOrderJournalListener stockOrderJournalListener) {
+		return replay(directory, Integer.MAX_VALUE, stockOrderJournalListener);
+	}
+
+	/**
+	 * Method reads all valid records of the sessions before a given session.
+	 *
+	 * @param directory
+	 *            - Path of the journal directory.
+	 * @param endSession
+	 *            - int first session not replayed.
+	 * @param stockOrderJournalListener
+	 *            - StockOrderJournalListener receiving journaled stock orders.
+	 *
+	 * @return long - number of replayed stock orders.
+	 */
+	private static long replay(final Path directory, final int endSession, final StockOrderJournalListener stockOrderJournalListener) {
+		final TreeMap<Integer, SortedSet<Integer>> sessionStreams;
+		try {
+			sessionStreams = findSessionStreams(directory);
+		} catch (IOException e) {
+			throw new StockMarketSystemException(e, "Stock order journal cannot be read: " + directory);
+		}
+		long stockOrdersCount = 0;
+		for (Map.Entry<Integer, SortedSet<Integer>> entry : sessionStreams.headMap(endSession).entrySet()) {
+			for (int stream : entry.getValue()) {
+				stockOrdersCount += replayStream(directory, entry.getKey(), stream, stockOrderJournalListener);
+			}
+		}
+		return stockOrdersCount;
+	}
+
+	/**
+	 * Method reads valid records of one stream, segment by segment, up to the
+	 * first invalid record.
+	 *
+	 * @param directory
+	 *            - Path of the journal directory.
+	 * @param session
+	 *            - int session of the stream.
+	 * @param stream
+	 *            - int index of the stream.
+	 * @param stockOrderJournalListener
+	 *            - StockOrderJournalListener receiving journaled stock orders.
+	 *
+	 * @return long - number of replayed stock orders.
+	 */
+	private static long replayStream(final Path directory, final int session, final int stream, final StockOrderJournalListener stockOrderJournalListener) {
+		StockSymbol[] stockSymbols = new StockSymbol[0];
+		StockMarketPlayer[] stockMarketPlayers = new StockMarketPlayer[0];
+		final byte[] codeBytes = new byte[MAX_CODE_LENGTH];
+		long stockOrdersCount = 0;
+
+		for (int segmentIndex = 0; segmentIndex <= MAX_SEGMENT_INDEX; segmentIndex++) {
+			final Path segmentPath = getSegmentPath(directory, session, stream, segmentIndex);
+			if (!Files.exists(segmentPath)) {
+				break;
+			}
+			final MappedByteBuffer replayedSegment = mapReadOnlySegment(segmentPath);
+			final int endPosition = replayedSegment.capacity() - replayedSegment.capacity() % RECORD_SIZE;
+			int recordPosition = 0;
+			for (; recordPosition < endPosition && isValidRecord(replayedSegment, recordPosition); recordPosition += RECORD_SIZE) {
+				final int header = replayedSegment.getInt(recordPosition);
+				final int id = replayedSegment.getInt(recordPosition + 4);
+				switch ((byte) (header & HEADER_TYPE_MASK)) {
+				case STOCK_SYMBOL_RECORD_TYPE:
+					if (id >= stockSymbols.length) {
+						stockSymbols = Arrays.copyOf(stockSymbols, Math.max(id + 1, stockSymbols.length * 2));
+					}
+					stockSymbols[id] = StockSymbol.register(readCode(replayedSegment, recordPosition, header, codeBytes));
+					break;
+				case STOCK_MARKET_PLAYER_RECORD_TYPE:
+					if (id >= stockMarketPlayers.length) {
+						stockMarketPlayers = Arrays.copyOf(stockMarketPlayers, Math.max(id + 1, stockMarketPlayers.length * 2));
+					}
+					stockMarketPlayers[id] = StockMarketPlayer.register(readCode(replayedSegment, recordPosition, header, codeBytes));
+					break;
+				case BUY_STOCK_ORDER_RECORD_TYPE:
+				case SELL_STOCK_ORDER_RECORD_TYPE:
+					stockOrderJournalListener.onStockOrder(toPosition(session, segmentIndex, recordPosition),
+							(header & HEADER_TYPE_MASK) == BUY_STOCK_ORDER_RECORD_TYPE ? StockOrderTransactionType.BUY : StockOrderTransactionType.SELL, stockSymbols[id],
+							stockMarketPlayers[replayedSegment.getInt(recordPosition + 8)], replayedSegment.getInt(recordPosition + 12), replayedSegment.getLong(recordPosition + 16),
+							replayedSegment.getLong(recordPosition + 24));
+					stockOrdersCount++;
+					break;
+				default:
+					break;
+				}
+			}
+			if (recordPosition < endPosition || endPosition == 0) {
+				// The stream ends at its first invalid record, a torn record ends it for good
+				break;
+			}
+		}
+		return stockOrdersCount;
+	}
+
+	/**
+	 * Method reads the code of a stock symbol or player record.
+	 *
+	 * @param buffer
+	 *            - MappedByteBuffer of a segment.
+	 * @param recordPosition
+	 *            - int position of the record.
+	 * @param header
+	 *            - int header of the record.
+	 * @param codeBytes
+	 *            - byte[] reusable buffer.
+	 *
+	 * @return String - code.
+	 */
+	private static String readCode(final MappedByteBuffer buffer, final int recordPosition, final int header, final byte[] codeBytes) {
+		final int codeLength = (header >>> HEADER_AUX_SHIFT) & HEADER_TYPE_MASK;
+		for (int i = 0; i < codeLength; i++) {
+			codeBytes[i] = buffer.get(recordPosition + 8 + i);
+		}
+		return new String(codeBytes, 0, codeLength, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Method writes the header of a record whose payload is written, which makes
+	 * the record valid.
+	 *
+	 * @param buffer
+	 *            - MappedByteBuffer of a segment.
+	 * @param recordPosition
+	 *            - int position of the record.
+	 * @param recordType
+	 *            - byte record type.
+	 * @param aux
+	 *            - int record type specific byte.
+	 */
+	static void writeHeader(final MappedByteBuffer buffer, final int recordPosition, final byte recordType, final int aux) {
+		final int check = computeCheck(buffer, recordPosition);
+		buffer.putInt(recordPosition, (check << HEADER_CHECK_SHIFT) | (aux << HEADER_AUX_SHIFT) | recordType);
+	}
+
+	/**
+	 * @param buffer
+	 *            - MappedByteBuffer of a segment.
+	 * @param recordPosition
+	 *            - int position of a record.
+	 *
+	 * @return true if the record has a known type and its payload matches its
+	 *         check.
+	 */
+	private static boolean isValidRecord(final MappedByteBuffer buffer, final int recordPosition) {
+		final int header = buffer.getInt(recordPosition);
+		final int recordType = header & HEADER_TYPE_MASK;
+		return recordType >= STOCK_SYMBOL_RECORD_TYPE && recordType <= STOCK_ORDER_TRANSACTION_RECORD_TYPE && (header >>> HEADER_CHECK_SHIFT) == computeCheck(buffer, recordPosition);
+	}
+
+	/**
+	 * Method computes a 16-bit FNV-1a based check of a record payload.
+	 *
+	 * @param buffer
+	 *            - MappedByteBuffer of a segment.
+	 * @param recordPosition
+	 *            - int position of a record.
+	 *
+	 * @return int - check of the payload.
+	 */
+	private static int computeCheck(final MappedByteBuffer buffer, final int recordPosition) {
+		int hash = FNV_OFFSET_BASIS;
+		for (int offset = 4; offset < RECORD_SIZE; offset += 4) {
+			hash = (hash ^ buffer.getInt(recordPosition + offset)) * FNV_PRIME;
+		}
+		return (hash ^ (hash >>> HEADER_CHECK_SHIFT)) & CHECK_MASK;
+	}
+
+	/**
+	 * Method maps a segment file of an earlier session for reading.
+	 *
+	 * @param segmentPath
+	 *            - Path of the segment file.
+	 *
+	 * @return MappedByteBuffer - mapped segment.
+	 */
+	private static MappedByteBuffer mapReadOnlySegment(final Path segmentPath) {
+		try (FileChannel fileChannel = FileChannel.open(segmentPath, StandardOpenOption.READ)) {
+			final MappedByteBuffer readOnlySegment = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(fileChannel.size(), Integer.MAX_VALUE));
+			readOnlySegment.order(ByteOrder.LITTLE_ENDIAN);
+			return readOnlySegment;
+		} catch (IOException e) {
+			throw new StockMarketSystemException(e, "Stock order journal segment cannot be read: " + segmentPath);
+		}
+	}
+
+	/**
+	 * @param directory
+	 *            - Path of the journal directory.
+	 * @param session
+	 *            - int session.
+	 * @param stream
+	 *            - int index of a stream.
+	 * @param segmentIndex
+	 *            - int index of a segment of the stream.
+	 *
+	 * @return Path - path of a segment file.
+	 */
+	private static Path getSegmentPath(final Path directory, final int session, final int stream, final int segmentIndex) {
+		return directory.resolve(String.format(SEGMENT_FILE_NAME_FORMAT, session, stream, segmentIndex));
+	}
+
+	/**
+	 * @param stream
+	 *            - int index of a stream of this session.
+	 * @param segmentIndex
+	 *            - int index of a segment of the stream.
+	 *
+	 * @return Path - path of a segment file.
+	 */
+	Path getSegmentPath(final int stream, final int segmentIndex) {
+		return getSegmentPath(this.directory, this.session, stream, segmentIndex);
+	}
+
+	/**
+	 * @param session
+	 *            - int session.
+	 * @param segmentIndex
+	 *            - int index of a segment of a stream.
+	 * @param recordPosition
+	 *            - int byte position within the segment.
+	 *
+	 * @return long - journal position, the session in the high 16 bits, the
+	 *         segment index in the next 16 bits and the byte position within
+	 *         the segment in the low 32 bits.
+	 */
+	static long toPosition(final int session, final int segmentIndex, final int recordPosition) {
+		return (long) session << SESSION_SHIFT | (long) segmentIndex << Integer.SIZE | recordPosition;
+	}
+
+	/**
+	 * Method forces appended records of all streams to the storage device.
+	 */
+	public void flush() {
+		for (StockOrderJournalStream stream : this.streams) {
+			stream.flush();
+		}
+	}
+
+	/**
+	 * Method forces appended records and closes all streams.
+	 */
+	public synchronized void close() {
+		if (this.closed) {
+			return;
+		}
+		this.closed = true;
+		for (StockOrderJournalStream stream : this.streams) {
+			stream.close();
+		}
+	}
+
+	/**
+	 * @param index
+	 *            - int index of a stream.
+	 *
+	 * @return StockOrderJournalStream - stream of this session.
+	 */
+	public StockOrderJournalStream getStream(final int index) {
+		return this.streams[index];
+	}
+
+	/**
+	 * @return the number of streams of this session.
+	 */
+	public int getStreamsCount() {
+		return this.streams.length;
+	}
+
+	/**
+	 * @return the directory
+	 */
+	public Path getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * @return the flushPolicy
+	 */
+	public StockOrderJournalFlushPolicy getFlushPolicy() {
+		return flushPolicy;
+	}
+
+	/**
+	 * @return the session
+	 */
+	public int getSession() {
+		return session;
+	}
+
+	/**
+	 * @return the segmentSize
+	 */
+	public int getSegmentSize() {
+		return segmentSize;
+	}
+
+	/**
+	 * @return the number of records appended to all streams since the journal
+	 *         is opened.
+	 */
+	public long getAppendedRecordsCount() {
+		long appendedRecordsCount = 0;
+		for (StockOrderJournalStream stream : this.streams) {
+			appendedRecordsCount += stream.getAppendedRecordsCount();
+		}
+		return appendedRecordsCount;
+	}
+}
@@ -0,0 +1,112 @@
+package org.sergei.sssm.journal;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable flush policy of a StockOrderJournal: how often appended records
+ * are forced from the memory-mapped file to the storage device.
+ *
+ * Records are written to the page cache as soon as they are appended, so they
+ * survive a crash of the process with any policy, the policy decides how many
+ * records may be lost on a crash of the operating system or a power failure.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public class StockOrderJournalFlushPolicy {
+	/**
+	 * Records are never forced explicitly, the operating system writes them back
+	 * in the background. This is the fastest policy.
+	 */
+	public static final StockOrderJournalFlushPolicy NONE = new StockOrderJournalFlushPolicy(Long.MAX_VALUE, Long.MAX_VALUE);
+	/**
+	 * Each record is forced before the append returns. This is the safest and
+	 * slowest policy.
+	 */
+	public static final StockOrderJournalFlushPolicy EVERY_RECORD = everyRecords(1);
+	private final long recordsInterval;
+	private final long millisInterval;
+
+	/**
+	 * Constructor initializes class attributes.
+	 *
+	 * @param recordsInterval
+	 *            - long number of records appended between two flushes.
+	 * @param millisInterval
+	 *            - long minimum time between two flushes in milliseconds.
+	 */
+	private StockOrderJournalFlushPolicy(final long recordsInterval, final long millisInterval) {
+		this.recordsInterval = recordsInterval;
+		this.millisInterval = millisInterval;
+	}
+
+	/**
+	 * Method creates policy forcing records after a given number of appended
+	 * records.
+	 *
+	 * @param recordsInterval
+	 *            - long number of records appended between two flushes.
+	 *
+	 * @return StockOrderJournalFlushPolicy.
+	 */
+	public static StockOrderJournalFlushPolicy everyRecords(final long recordsInterval) {
+		if (recordsInterval <= 0) {
+			throw new IllegalArgumentException("Flush records interval must be positive: " + recordsInterval);
+		}
+		return new StockOrderJournalFlushPolicy(recordsInterval, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Method creates policy forcing records on the first append after a given
+	 * time since the previous flush. Time is checked by appending threads, no
+	 * background thread is started.
+	 *
+	 * @param duration
+	 *            - long minimum time between two flushes.
+	 * @param timeUnit
+	 *            - TimeUnit of the duration.
+	 *
+	 * @return StockOrderJournalFlushPolicy.
+	 */
+	public static StockOrderJournalFlushPolicy everyTimeInterval(final long duration, final TimeUnit timeUnit) {
+		if (duration <= 0) {
+			throw new IllegalArgumentException("Flush time interval must be positive: " + duration);
+		}
+		return new StockOrderJournalFlushPolicy(Long.MAX_VALUE, timeUnit.toMillis(duration));
+	}
+
+	/**
+	 * @return true if this policy depends on time.
+	 */
+	public boolean isTimeBased() {
+		return millisInterval != Long.MAX_VALUE;
+	}
+
+	/**
+	 * @return the recordsInterval
+	 */
+	public long getRecordsInterval() {
+		return recordsInterval;
+	}
+
+	/**
+	 * @return the millisInterval
+	 */
+	public long getMillisInterval() {
+		return millisInterval;
+	}
+
+	/**
+	 * Method represents this object as string value.
+	 */
+	@Override
+	public String toString() {
+		if (isTimeBased()) {
+			return String.format("Every %d ms", this.millisInterval);
+		}
+		if (this.recordsInterval == Long.MAX_VALUE) {
+			return "None";
+		}
+		return String.format("Every %d records", this.recordsInterval);
+	}
+}
@@ -0,0 +1,37 @@
+package org.sergei.sssm.journal;
+
+import org.sergei.sssm.model.StockMarketPlayer;
+import org.sergei.sssm.model.StockOrderTransactionType;
+import org.sergei.sssm.model.StockSymbol;
+
+/**
+ * Receives stock orders read from a StockOrderJournal in the order they were
+ * accepted.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+@FunctionalInterface
+public interface StockOrderJournalListener {
+	/**
+	 * Method is called for each journaled stock order.
+	 *
+	 * @param journalPosition
+	 *            - long position of the order record, see
+	 *            StockOrderJournalStream.getPosition().
+	 * @param stockOrderType
+	 *            - StockOrderTransactionType BUY or SELL.
+	 * @param stockSymbol
+	 *            - StockSymbol of the order.
+	 * @param stockMarketPlayer
+	 *            - StockMarketPlayer who issued the order.
+	 * @param quantity
+	 *            - int quantity of the order.
+	 * @param scaledOfferedPrice
+	 *            - long offered price scaled to 4 decimal digits.
+	 * @param timestampMillis
+	 *            - long time the order was accepted in milliseconds.
+	 */
+	void onStockOrder(long journalPosition, StockOrderTransactionType stockOrderType, StockSymbol stockSymbol, StockMarketPlayer stockMarketPlayer, int quantity, long scaledOfferedPrice,
+			long timestampMillis);
+}
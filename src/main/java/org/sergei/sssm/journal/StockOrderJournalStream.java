@@ -0,0 +1,293 @@
+package org.sergei.sssm.journal;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+
+import org.sergei.sssm.exeption.StockMarketSystemException;
+import org.sergei.sssm.model.StockMarketPlayer;
+import org.sergei.sssm.model.StockOrderTransaction;
+import org.sergei.sssm.model.StockOrderTransactionType;
+import org.sergei.sssm.model.StockSymbol;
+
+/**
+ * One stream of a StockOrderJournal session: its own chain of memory-mapped
+ * segment files, appended to under the monitor of this stream only. Each stock
+ * order book appends to a single stream for the whole session, and a stream is
+ * shared only by books of the same writer, e.g. of the same matching engine in
+ * SINGLE_WRITER mode, so its monitor is not contended by other writers.
+ *
+ * Segment files are created on the first append and never appended to by a
+ * later session, so records torn by a crash stay at the end of their stream.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public final class StockOrderJournalStream {
+	private final StockOrderJournal stockOrderJournal;
+	private final int index;
+	/**
+	 * Stock symbols and players whose code is journaled in this stream, by id.
+	 */
+	private final BitSet journaledStockSymbols;
+	private final BitSet journaledStockMarketPlayers;
+	private int segmentIndex;
+	private FileChannel segmentChannel;
+	private MappedByteBuffer segment;
+	private int position;
+	private long recordsSinceFlush;
+	private long lastFlushTimeMillis;
+	private long appendedRecordsCount;
+	private boolean closed;
+
+	/**
+	 * Constructor initializes class attributes, no file is created before the
+	 * first append.
+	 *
+	 * @param stockOrderJournal
+	 *            - StockOrderJournal of this stream.
+	 * @param index
+	 *            - int index of this stream in the session.
+	 */
+	StockOrderJournalStream(final StockOrderJournal stockOrderJournal, final int index) {
+		this.stockOrderJournal = stockOrderJournal;
+		this.index = index;
+		this.journaledStockSymbols = new BitSet();
+		this.journaledStockMarketPlayers = new BitSet();
+		this.segmentIndex = -1;
+		this.position = stockOrderJournal.getSegmentSize();
+		this.lastFlushTimeMillis = System.currentTimeMillis();
+	}
+
+	/**
+	 * Method appends a record of an accepted stock order.
+	 *
+	 * @param stockOrderType
+	 *            - StockOrderTransactionType BUY or SELL.
+	 * @param stockSymbol
+	 *            - StockSymbol of the order.
+	 * @param stockMarketPlayer
+	 *            - StockMarketPlayer who is issuing the order.
+	 * @param quantity
+	 *            - int quantity of the order.
+	 * @param scaledOfferedPrice
+	 *            - long offered price scaled to 4 decimal digits.
+	 * @param timestampMillis
+	 *            - long time the order is accepted in milliseconds.
+	 */
+	public synchronized void appendStockOrder(final StockOrderTransactionType stockOrderType, final StockSymbol stockSymbol, final StockMarketPlayer stockMarketPlayer,
+			final int quantity, final long scaledOfferedPrice, final long timestampMillis) {
+		journalStockSymbol(stockSymbol);
+		journalStockMarketPlayer(stockMarketPlayer);
+		final int recordPosition = claimRecord();
+		this.segment.putInt(recordPosition + 4, stockSymbol.getId());
+		this.segment.putInt(recordPosition + 8, stockMarketPlayer.getId());
+		this.segment.putInt(recordPosition + 12, quantity);
+		this.segment.putLong(recordPosition + 16, scaledOfferedPrice);
+		this.segment.putLong(recordPosition + 24, timestampMillis);
+		commitRecord(recordPosition,
+				stockOrderType == StockOrderTransactionType.BUY ? StockOrderJournal.BUY_STOCK_ORDER_RECORD_TYPE : StockOrderJournal.SELL_STOCK_ORDER_RECORD_TYPE, 0);
+	}
+
+	/**
+	 * Method appends a record of an executed trade transaction.
+	 *
+	 * @param stockOrderTransaction
+	 *            - StockOrderTransaction executed by a stock order book.
+	 */
+	public synchronized void appendStockOrderTransaction(final StockOrderTransaction stockOrderTransaction) {
+		final StockSymbol stockSymbol = stockOrderTransaction.getStockBuyOrder().getStock().getStockSymbol();
+		final StockMarketPlayer buyStockMarketPlayer = stockOrderTransaction.getStockBuyOrder().getStockMarketPlayer();
+		final StockMarketPlayer sellStockMarketPlayer = stockOrderTransaction.getStockSellOrder().getStockMarketPlayer();
+		journalStockSymbol(stockSymbol);
+		journalStockMarketPlayer(buyStockMarketPlayer);
+		journalStockMarketPlayer(sellStockMarketPlayer);
+		final int recordPosition = claimRecord();
+		this.segment.putInt(recordPosition + 4, stockSymbol.getId());
+		this.segment.putInt(recordPosition + 8, buyStockMarketPlayer.getId());
+		this.segment.putInt(recordPosition + 12, stockOrderTransaction.getExchangedStocksQuantiy());
+		this.segment.putLong(recordPosition + 16, stockOrderTransaction.getScaledTransactionStockPrice());
+		this.segment.putInt(recordPosition + 24, sellStockMarketPlayer.getId());
+		this.segment.putInt(recordPosition + 28, 0);
+		commitRecord(recordPosition, StockOrderJournal.STOCK_ORDER_TRANSACTION_RECORD_TYPE, stockOrderTransaction.getStockOrderTransactionType().ordinal());
+	}
+
+	/**
+	 * Method journals the code of a stock symbol once per stream.
+	 *
+	 * @param stockSymbol
+	 *            - StockSymbol.
+	 */
+	private void journalStockSymbol(final StockSymbol stockSymbol) {
+		if (!this.journaledStockSymbols.get(stockSymbol.getId())) {
+			appendCode(StockOrderJournal.STOCK_SYMBOL_RECORD_TYPE, stockSymbol.getId(), stockSymbol.getCode());
+			this.journaledStockSymbols.set(stockSymbol.getId());
+		}
+	}
+
+	/**
+	 * Method journals the code of a player once per stream.
+	 *
+	 * @param stockMarketPlayer
+	 *            - StockMarketPlayer.
+	 */
+	private void journalStockMarketPlayer(final StockMarketPlayer stockMarketPlayer) {
+		if (!this.journaledStockMarketPlayers.get(stockMarketPlayer.getId())) {
+			appendCode(StockOrderJournal.STOCK_MARKET_PLAYER_RECORD_TYPE, stockMarketPlayer.getId(), stockMarketPlayer.getCode());
+			this.journaledStockMarketPlayers.set(stockMarketPlayer.getId());
+		}
+	}
+
+	/**
+	 * Method appends a record mapping an id to a code.
+	 *
+	 * @param recordType
+	 *            - byte STOCK_SYMBOL_RECORD_TYPE or
+	 *            STOCK_MARKET_PLAYER_RECORD_TYPE.
+	 * @param id
+	 *            - int id of the stock symbol or player.
+	 * @param code
+	 *            - String code of the stock symbol or player.
+	 */
+	private void appendCode(final byte recordType, final int id, final String code) {
+		final byte[] codeBytes = code.getBytes(StandardCharsets.UTF_8);
+		if (codeBytes.length > StockOrderJournal.MAX_CODE_LENGTH) {
+			throw new IllegalArgumentException("Code is longer than " + StockOrderJournal.MAX_CODE_LENGTH + " bytes and cannot be journaled: " + code);
+		}
+		final int recordPosition = claimRecord();
+		this.segment.putInt(recordPosition + 4, id);
+		for (int i = 0; i < StockOrderJournal.MAX_CODE_LENGTH; i++) {
+			this.segment.put(recordPosition + 8 + i, i < codeBytes.length ? codeBytes[i] : 0);
+		}
+		commitRecord(recordPosition, recordType, codeBytes.length);
+	}
+
+	/**
+	 * Method returns the position of the next record, a new segment is started
+	 * when the current one is full or on the first append.
+	 *
+	 * @return int - position of the record in the current segment.
+	 */
+	private int claimRecord() {
+		if (this.closed) {
+			throw new IllegalStateException("Stock order journal stream is closed: " + this.index);
+		}
+		if (this.position == this.stockOrderJournal.getSegmentSize()) {
+			mapNextSegment();
+		}
+		final int recordPosition = this.position;
+		this.position += StockOrderJournal.RECORD_SIZE;
+		return recordPosition;
+	}
+
+	/**
+	 * Method forces the current segment, closes it and maps a new segment file
+	 * for appending.
+	 */
+	private void mapNextSegment() {
+		if (this.segmentIndex == StockOrderJournal.MAX_SEGMENT_INDEX) {
+			throw new IllegalStateException("Stock order journal stream has no more segments: " + this.index);
+		}
+		final int nextSegmentIndex = this.segmentIndex + 1;
+		try {
+			if (this.segmentChannel != null) {
+				flush();
+				this.segmentChannel.close();
+			}
+			this.segmentChannel = FileChannel.open(this.stockOrderJournal.getSegmentPath(this.index, nextSegmentIndex), StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+					StandardOpenOption.WRITE);
+			this.segment = this.segmentChannel.map(FileChannel.MapMode.READ_WRITE, 0, this.stockOrderJournal.getSegmentSize());
+		} catch (IOException e) {
+			throw new StockMarketSystemException(e, "Stock order journal segment cannot be created: " + this.stockOrderJournal.getSegmentPath(this.index, nextSegmentIndex));
+		}
+		this.segment.order(ByteOrder.LITTLE_ENDIAN);
+		this.segmentIndex = nextSegmentIndex;
+		this.position = 0;
+	}
+
+	/**
+	 * Method writes the header of a record whose payload is written, which makes
+	 * the record valid, and flushes records according to the flush policy.
+	 *
+	 * @param recordPosition
+	 *            - int position of the record.
+	 * @param recordType
+	 *            - byte record type.
+	 * @param aux
+	 *            - int record type specific byte.
+	 */
+	private void commitRecord(final int recordPosition, final byte recordType, final int aux) {
+		StockOrderJournal.writeHeader(this.segment, recordPosition, recordType, aux);
+		this.appendedRecordsCount++;
+		final StockOrderJournalFlushPolicy flushPolicy = this.stockOrderJournal.getFlushPolicy();
+		if (++this.recordsSinceFlush >= flushPolicy.getRecordsInterval()
+				|| (flushPolicy.isTimeBased() && System.currentTimeMillis() - this.lastFlushTimeMillis >= flushPolicy.getMillisInterval())) {
+			flush();
+		}
+	}
+
+	/**
+	 * Method forces appended records of the current segment to the storage
+	 * device.
+	 */
+	public synchronized void flush() {
+		if (this.recordsSinceFlush > 0 && !this.closed) {
+			this.segment.force();
+		}
+		this.recordsSinceFlush = 0;
+		this.lastFlushTimeMillis = System.currentTimeMillis();
+	}
+
+	/**
+	 * Method forces appended records and closes this stream.
+	 */
+	synchronized void close() {
+		if (this.closed) {
+			return;
+		}
+		flush();
+		this.closed = true;
+		if (this.segmentChannel == null) {
+			return;
+		}
+		try {
+			this.segmentChannel.close();
+		} catch (IOException e) {
+			throw new StockMarketSystemException(e, "Stock order journal stream cannot be closed: " + this.index);
+		}
+	}
+
+	/**
+	 * @return the index
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * Method returns the position the next record of this stream is appended at.
+	 * Positions of the records of a stock order book grow with each record and
+	 * with each session, as a book appends to a single stream per session, so a
+	 * snapshot of a stock order book may record the position up to which the
+	 * journal is already applied.
+	 *
+	 * @return long - journal position, see StockOrderJournal.toPosition().
+	 */
+	public synchronized long getPosition() {
+		if (this.segmentIndex < 0) {
+			return StockOrderJournal.toPosition(this.stockOrderJournal.getSession(), 0, 0);
+		}
+		return StockOrderJournal.toPosition(this.stockOrderJournal.getSession(), this.segmentIndex, this.position);
+	}
+
+	/**
+	 * @return the number of records appended to this stream.
+	 */
+	public synchronized long getAppendedRecordsCount() {
+		return appendedRecordsCount;
+	}
+}
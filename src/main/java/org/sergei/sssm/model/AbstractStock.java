@@ -4,18 +4,32 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 
 import org.sergei.sssm.utils.NumberFormatter;
+import org.sergei.sssm.utils.ScaledPrice;
 
 /**
  * @author - Sergei Shurpenkov
  * @date - 2017.09.30. initial version
  */
 public abstract class AbstractStock {
+	/**
+	 * Scaled Dividend Yield or P/E Ratio which cannot be calculated.
+	 */
+	public static final long NOT_APPLICABLE = Long.MIN_VALUE;
 	private static final String PE_RATIO_NOT_APPLICABLE = "N/A";
 	private StockSymbol stockSymbol;
 	private StockType stockType;
 	private BigDecimal lastDividend;
 	private BigDecimal parValue;
-	private BigDecimal price;
+	/**
+	 * Last price scaled to 4 implied decimal digits, see ScaledPrice. It is
+	 * written under the stock order book lock and read without it by players.
+	 */
+	private volatile long scaledPrice;
+	/**
+	 * Dividend Yield and P/E Ratio of the latest price they were read at, they
+	 * are recalculated by the first read after a price change.
+	 */
+	private volatile StockRatios stockRatios;
 
 	/**
 	 * Constructor initializes class attributes.
@@ -32,19 +46,43 @@ public abstract class AbstractStock {
 	 *            - BigDecimal of a initial stock price.
 	 */
 	public AbstractStock(final String stockSymbolCode, final StockType stockType, final BigDecimal lastDividend, final BigDecimal parValue, final BigDecimal initialPrice) {
-		this.stockSymbol = StockSymbol.valueOf(stockSymbolCode);
+		this.stockSymbol = StockSymbol.register(stockSymbolCode);
 		this.stockType = stockType;
 		this.lastDividend = lastDividend;
 		this.parValue = parValue;
-		this.price = initialPrice;
+		this.scaledPrice = ScaledPrice.valueOf(initialPrice);
 	}
 
 	/**
-	 * Method calculates Dividend Yield for a given stock.
+	 * Method calculates Dividend Yield for a given stock at a given price.
+	 * 
+	 * @param price
+	 *            - BigDecimal positive price of the stock.
 	 * 
 	 * @return dividendYield - BigDecimal of a calculated Dividend Yield.
 	 */
-	public abstract BigDecimal calculateDividendYield();
+	protected abstract BigDecimal calculateDividendYield(BigDecimal price);
+
+	/**
+	 * Method returns Dividend Yield for a given stock at the current price. It is
+	 * calculated once per price change, so repeated calls do not allocate.
+	 * 
+	 * @return dividendYield - BigDecimal of a calculated Dividend Yield, null if
+	 *         the price is zero.
+	 */
+	public BigDecimal calculateDividendYield() {
+		return getStockRatios().dividendYield;
+	}
+
+	/**
+	 * Method returns Dividend Yield for a given stock at the current price scaled
+	 * to 4 decimal digits, without allocation.
+	 * 
+	 * @return long - scaled Dividend Yield or NOT_APPLICABLE if the price is zero.
+	 */
+	public long getScaledDividendYield() {
+		return getStockRatios().scaledDividendYield;
+	}
 
 	/**
 	 * Method calculates Dividend Yield for a given stock and formats result as
@@ -61,17 +99,43 @@ public abstract class AbstractStock {
 	}
 
 	/**
-	 * Method calculates P/E Ratio for a given stock, if a Dividend Yield is null or
-	 * zero, N/A is returned.
+	 * Method returns P/E Ratio for a given stock at the current price, if a
+	 * Dividend Yield is null or zero, null is returned. It is calculated once per
+	 * price change, so repeated calls do not allocate.
 	 * 
-	 * @return dividendYield - BigDecimal of a calculated P/E Ratio.
+	 * @return peRatio - BigDecimal of a calculated P/E Ratio.
 	 */
 	public BigDecimal calculatePERatio() {
-		final BigDecimal dividendYield = this.calculateDividendYield();
-		if (dividendYield == null || BigDecimal.ZERO.compareTo(dividendYield) == 0) {
-			return null;
+		return getStockRatios().peRatio;
+	}
+
+	/**
+	 * Method returns P/E Ratio for a given stock at the current price scaled to 4
+	 * decimal digits, without allocation.
+	 * 
+	 * @return long - scaled P/E Ratio or NOT_APPLICABLE if a Dividend Yield is
+	 *         null or zero.
+	 */
+	public long getScaledPERatio() {
+		return getStockRatios().scaledPERatio;
+	}
+
+	/**
+	 * Method returns Dividend Yield and P/E Ratio of the current price, they are
+	 * recalculated if the price has changed since the latest call. Concurrent
+	 * callers may both recalculate after a change, which is harmless as the
+	 * result only depends on the price.
+	 * 
+	 * @return StockRatios of the current price.
+	 */
+	private StockRatios getStockRatios() {
+		final long currentScaledPrice = this.scaledPrice;
+		StockRatios currentStockRatios = this.stockRatios;
+		if (currentStockRatios == null || currentStockRatios.scaledPrice != currentScaledPrice) {
+			currentStockRatios = new StockRatios(currentScaledPrice);
+			this.stockRatios = currentStockRatios;
 		}
-		return price.divide(dividendYield, NumberFormatter.SCALE_4_DECIMAL_DIGITS, RoundingMode.HALF_EVEN);
+		return currentStockRatios;
 	}
 
 	/**
@@ -113,7 +177,7 @@ public abstract class AbstractStock {
 	 * @return the price formatted as String.
 	 */
 	public String getPriceFormatted() {
-		return NumberFormatter.format(this.price);
+		return ScaledPrice.format(this.scaledPrice);
 	}
 
 	/**
@@ -141,7 +205,7 @@ public abstract class AbstractStock {
 	 * @return the price
 	 */
 	public BigDecimal getPrice() {
-		return price;
+		return ScaledPrice.toBigDecimal(scaledPrice);
 	}
 
 	/**
@@ -149,7 +213,22 @@ public abstract class AbstractStock {
 	 *            the price to set
 	 */
 	public void setPrice(BigDecimal price) {
-		this.price = price;
+		this.scaledPrice = ScaledPrice.valueOf(price);
+	}
+
+	/**
+	 * @return the scaledPrice
+	 */
+	public long getScaledPrice() {
+		return scaledPrice;
+	}
+
+	/**
+	 * @param scaledPrice
+	 *            the scaledPrice to set
+	 */
+	public void setScaledPrice(long scaledPrice) {
+		this.scaledPrice = scaledPrice;
 	}
 
 	/**
@@ -160,4 +239,31 @@ public abstract class AbstractStock {
 		return new StringBuilder("Stock symbol: ").append(this.stockSymbol.getCode()).append("\tType: ").append(this.stockType.getDescription()).append("\tLast Dividend: ")
 				.append(getLastDividendFormatted()).append("\tPar Value: ").append(getParValueFormatted()).append("\tPrice: ").append(getPriceFormatted()).toString();
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Immutable Dividend Yield and P/E Ratio of one price.
+	 */
+	private final class StockRatios {
+		private final long scaledPrice;
+		private final BigDecimal dividendYield;
+		private final BigDecimal peRatio;
+		private final long scaledDividendYield;
+		private final long scaledPERatio;
+
+		/**
+		 * Constructor calculates Dividend Yield and P/E Ratio of a given price.
+		 * 
+		 * @param scaledPrice
+		 *            - long scaled price of the stock.
+		 */
+		private StockRatios(final long scaledPrice) {
+			final BigDecimal price = ScaledPrice.toBigDecimal(scaledPrice);
+			this.scaledPrice = scaledPrice;
+			this.dividendYield = scaledPrice == 0 ? null : calculateDividendYield(price);
+			this.peRatio = this.dividendYield == null || BigDecimal.ZERO.compareTo(this.dividendYield) == 0 ? null
+					: price.divide(this.dividendYield, NumberFormatter.SCALE_4_DECIMAL_DIGITS, RoundingMode.HALF_EVEN);
+			this.scaledDividendYield = this.dividendYield == null ? NOT_APPLICABLE : ScaledPrice.valueOf(this.dividendYield);
+			this.scaledPERatio = this.peRatio == null ? NOT_APPLICABLE : ScaledPrice.valueOf(this.peRatio);
+		}
+	}
+}
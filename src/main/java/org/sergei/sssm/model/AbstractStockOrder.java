@@ -3,6 +3,8 @@ package org.sergei.sssm.model;
 import java.math.BigDecimal;
 import java.sql.Timestamp;
 
+import org.sergei.sssm.utils.ScaledPrice;
+
 /**
  * @author - Sergei Shurpenkov
  * @date - 2017.10.03. initial version
@@ -10,9 +12,12 @@ import java.sql.Timestamp;
 public abstract class AbstractStockOrder {
 	public static final int MAX_QUANTITY_LIMIT = 1000;
 	private AbstractStock stock;
-	private Integer quantity;
-	private BigDecimal offeredPrice;
-	private Timestamp timestamp;
+	private int quantity;
+	/**
+	 * Offered price scaled to 4 implied decimal digits, see ScaledPrice.
+	 */
+	private long scaledOfferedPrice;
+	private long timestampMillis;
 	private StockMarketPlayer stockMarketPlayer;
 	private boolean matched;
 
@@ -20,7 +25,7 @@ public abstract class AbstractStockOrder {
 	 * Constructor sets current time stamp to timestamp attribute.
 	 */
 	public AbstractStockOrder() {
-		this.timestamp = new Timestamp(System.currentTimeMillis());
+		this.timestampMillis = System.currentTimeMillis();
 	}
 
 	/**
@@ -29,18 +34,36 @@ public abstract class AbstractStockOrder {
 	 * @param stock
 	 *            - AbstractStock of order.
 	 * @param quantity
-	 *            - Integer stock order quantity.
-	 * @param offeredPrice
-	 *            - BigDecimal stock order offered price.
+	 *            - int stock order quantity.
+	 * @param scaledOfferedPrice
+	 *            - long stock order offered price scaled to 4 decimal digits.
+	 * @param stockMarketPlayer
+	 *            - StockMarketPlayer who is issuing stock order.
+	 */
+	public AbstractStockOrder(AbstractStock stock, int quantity, long scaledOfferedPrice, StockMarketPlayer stockMarketPlayer) {
+		this(stock, quantity, scaledOfferedPrice, stockMarketPlayer, System.currentTimeMillis());
+	}
+
+	/**
+	 * Constructor initializes classes attributes with a given time stamp.
+	 * 
+	 * @param stock
+	 *            - AbstractStock of order.
+	 * @param quantity
+	 *            - int stock order quantity.
+	 * @param scaledOfferedPrice
+	 *            - long stock order offered price scaled to 4 decimal digits.
 	 * @param stockMarketPlayer
 	 *            - StockMarketPlayer who is issuing stock order.
+	 * @param timestampMillis
+	 *            - long time stamp of order in milliseconds.
 	 */
-	public AbstractStockOrder(AbstractStock stock, Integer quantity, BigDecimal offeredPrice, StockMarketPlayer stockMarketPlayer) {
-		this();
+	public AbstractStockOrder(AbstractStock stock, int quantity, long scaledOfferedPrice, StockMarketPlayer stockMarketPlayer, long timestampMillis) {
 		this.stock = stock;
 		this.quantity = quantity;
-		this.offeredPrice = offeredPrice;
+		this.scaledOfferedPrice = scaledOfferedPrice;
 		this.stockMarketPlayer = stockMarketPlayer;
+		this.timestampMillis = timestampMillis;
 	}
 
 	/**
@@ -61,7 +84,7 @@ public abstract class AbstractStockOrder {
 	/**
 	 * @return the quantity
 	 */
-	public Integer getQuantity() {
+	public int getQuantity() {
 		return quantity;
 	}
 
@@ -69,7 +92,7 @@ public abstract class AbstractStockOrder {
 	 * @param quantity
 	 *            the quantity to set
 	 */
-	public void setQuantity(Integer quantity) {
+	public void setQuantity(int quantity) {
 		this.quantity = quantity;
 	}
 
@@ -77,7 +100,7 @@ public abstract class AbstractStockOrder {
 	 * @return the offeredPrice
 	 */
 	public BigDecimal getOfferedPrice() {
-		return offeredPrice;
+		return ScaledPrice.toBigDecimal(scaledOfferedPrice);
 	}
 
 	/**
@@ -85,14 +108,28 @@ public abstract class AbstractStockOrder {
 	 *            the offeredPrice to set
 	 */
 	public void setOfferedPrice(BigDecimal offeredPrice) {
-		this.offeredPrice = offeredPrice;
+		this.scaledOfferedPrice = ScaledPrice.valueOf(offeredPrice);
+	}
+
+	/**
+	 * @return the scaledOfferedPrice
+	 */
+	public long getScaledOfferedPrice() {
+		return scaledOfferedPrice;
 	}
 
 	/**
 	 * @return the timestamp
 	 */
 	public Timestamp getTimestamp() {
-		return timestamp;
+		return new Timestamp(timestampMillis);
+	}
+
+	/**
+	 * @return the timestamp in milliseconds
+	 */
+	public long getTimestampMillis() {
+		return timestampMillis;
 	}
 
 	/**
@@ -130,7 +167,7 @@ public abstract class AbstractStockOrder {
 	 */
 	@Override
 	public String toString() {
-		return new StringBuilder("Stock Price: ").append(this.stock.getPrice().toString()).append("\tOrder quantity: ").append(this.quantity).append("\tOffered Price: ").append(this.offeredPrice)
-				.append("\tTimestamp: ").append(this.timestamp).toString();
+		return new StringBuilder("Stock Price: ").append(this.stock.getPrice().toString()).append("\tOrder quantity: ").append(this.quantity).append("\tOffered Price: ").append(getOfferedPrice())
+				.append("\tTimestamp: ").append(getTimestamp()).toString();
 	}
 }
\ No newline at end of file
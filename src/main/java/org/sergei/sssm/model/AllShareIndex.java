@@ -0,0 +1,120 @@
+package org.sergei.sssm.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.sergei.sssm.utils.NumberFormatter;
+import org.sergei.sssm.utils.ScaledPrice;
+
+/**
+ * All Share Index maintained incrementally as the geometric mean of Volume
+ * Weighted Stock Prices of all stock order books that had trading activity.
+ *
+ * The product of prices is never built: the index keeps the sum of natural
+ * logarithms of prices and the number of traded stock order books, so it is
+ * correct at any number of stocks and is read in O(1) as exp(sum / count).
+ * Logarithms are accumulated as fixed-point longs with 12 decimal digits, the
+ * logarithm added for a price is removed with exactly the same value when the
+ * price changes, so millions of updates do not drift.
+ *
+ * Stock order books may update the index concurrently. Price changes only add
+ * a delta to the sum, the rare change of the traded stock order books count is
+ * made under a lock and published through an even/odd version, readers retry
+ * until they see a sum and a count of the same version.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public class AllShareIndex implements VolumeWeightedStockPriceListener {
+	private static final double LOGARITHM_SCALE_FACTOR = 1e12;
+	/**
+	 * Sum of fixed-point natural logarithms of non zero Volume Weighted Stock
+	 * Prices.
+	 */
+	private final LongAdder scaledLogarithmsSum;
+	/**
+	 * Number of stock order books having non zero Volume Weighted Stock Price.
+	 */
+	private final AtomicLong volumeWeightedStockPricesCount;
+	/**
+	 * Version of the count, odd while the count and the sum are being changed.
+	 */
+	private final AtomicLong version;
+
+	/**
+	 * Constructor initializes an empty index.
+	 */
+	public AllShareIndex() {
+		this.scaledLogarithmsSum = new LongAdder();
+		this.volumeWeightedStockPricesCount = new AtomicLong();
+		this.version = new AtomicLong();
+	}
+
+	/**
+	 * Method replaces logarithm of the previous Volume Weighted Stock Price of a
+	 * stock order book with logarithm of the new one.
+	 */
+	@Override
+	public void onVolumeWeightedStockPriceChange(final long previousScaledVolumeWeightedStockPrice, final long scaledVolumeWeightedStockPrice) {
+		if (previousScaledVolumeWeightedStockPrice > 0 && scaledVolumeWeightedStockPrice > 0) {
+			this.scaledLogarithmsSum.add(toScaledLogarithm(scaledVolumeWeightedStockPrice) - toScaledLogarithm(previousScaledVolumeWeightedStockPrice));
+			return;
+		}
+		synchronized (this) {
+			this.version.incrementAndGet();
+			if (previousScaledVolumeWeightedStockPrice > 0) {
+				this.scaledLogarithmsSum.add(-toScaledLogarithm(previousScaledVolumeWeightedStockPrice));
+				this.volumeWeightedStockPricesCount.decrementAndGet();
+			}
+			if (scaledVolumeWeightedStockPrice > 0) {
+				this.scaledLogarithmsSum.add(toScaledLogarithm(scaledVolumeWeightedStockPrice));
+				this.volumeWeightedStockPricesCount.incrementAndGet();
+			}
+			this.version.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Method returns All Share Index: power of 1/N of product of all non zero
+	 * Volume Weighted Stock Prices.
+	 *
+	 * @return BigDecimal of All Share Index, zero if no stock was traded.
+	 */
+	public BigDecimal calculateAllShareIndex() {
+		long scaledLogarithmsSumValue;
+		long count;
+		long currentVersion;
+
+		do {
+			currentVersion = this.version.get();
+			scaledLogarithmsSumValue = this.scaledLogarithmsSum.sum();
+			count = this.volumeWeightedStockPricesCount.get();
+		} while ((currentVersion & 1) == 1 || currentVersion != this.version.get());
+
+		if (count == 0) {
+			return BigDecimal.ZERO.setScale(NumberFormatter.SCALE_4_DECIMAL_DIGITS);
+		}
+		final double allShareIndex = Math.exp(scaledLogarithmsSumValue / LOGARITHM_SCALE_FACTOR / count);
+		return BigDecimal.valueOf(allShareIndex).setScale(NumberFormatter.SCALE_4_DECIMAL_DIGITS, RoundingMode.HALF_EVEN);
+	}
+
+	/**
+	 * @param scaledPrice
+	 *            - long positive scaled price.
+	 *
+	 * @return long - natural logarithm of the price in fixed-point with 12
+	 *         decimal digits.
+	 */
+	private static long toScaledLogarithm(final long scaledPrice) {
+		return Math.round(Math.log(scaledPrice / (double) ScaledPrice.SCALE_FACTOR) * LOGARITHM_SCALE_FACTOR);
+	}
+
+	/**
+	 * @return the number of stocks taking part in the index.
+	 */
+	public long getVolumeWeightedStockPricesCount() {
+		return volumeWeightedStockPricesCount.get();
+	}
+}
@@ -0,0 +1,110 @@
+package org.sergei.sssm.model;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable definition of OHLCV candles of a stock order book: the interval
+ * of a candle and the number of latest candles kept. Candles start at
+ * multiples of the interval since the epoch, so 1 minute candles start at
+ * whole minutes.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public class CandleInterval {
+	private static final int DEFAULT_CANDLES_COUNT = 60;
+	/**
+	 * 1 second candles of the last minute.
+	 */
+	public static final CandleInterval ONE_SECOND = of(1, TimeUnit.SECONDS);
+	/**
+	 * 1 minute candles of the last hour.
+	 */
+	public static final CandleInterval ONE_MINUTE = of(1, TimeUnit.MINUTES);
+	/**
+	 * 5 minute candles of the last 5 hours.
+	 */
+	public static final CandleInterval FIVE_MINUTES = of(5, TimeUnit.MINUTES);
+	private final long intervalMillis;
+	private final int candlesCount;
+	private final String description;
+
+	/**
+	 * Constructor initializes class attributes.
+	 *
+	 * @param intervalMillis
+	 *            - long interval of a candle in milliseconds.
+	 * @param candlesCount
+	 *            - int number of latest candles kept.
+	 * @param description
+	 *            - String description of the interval.
+	 */
+	private CandleInterval(final long intervalMillis, final int candlesCount, final String description) {
+		this.intervalMillis = intervalMillis;
+		this.candlesCount = candlesCount;
+		this.description = description;
+	}
+
+	/**
+	 * Method creates an interval keeping the latest 60 candles.
+	 *
+	 * @param duration
+	 *            - long duration of a candle.
+	 * @param timeUnit
+	 *            - TimeUnit of the duration.
+	 *
+	 * @return CandleInterval.
+	 */
+	public static CandleInterval of(final long duration, final TimeUnit timeUnit) {
+		return of(duration, timeUnit, DEFAULT_CANDLES_COUNT);
+	}
+
+	/**
+	 * Method creates an interval keeping a given number of latest candles.
+	 *
+	 * @param duration
+	 *            - long duration of a candle, at least 1 millisecond.
+	 * @param timeUnit
+	 *            - TimeUnit of the duration.
+	 * @param candlesCount
+	 *            - int number of latest candles kept.
+	 *
+	 * @return CandleInterval.
+	 */
+	public static CandleInterval of(final long duration, final TimeUnit timeUnit, final int candlesCount) {
+		final long intervalMillis = timeUnit.toMillis(duration);
+		if (intervalMillis <= 0 || candlesCount <= 0) {
+			throw new IllegalArgumentException("Invalid candle interval: " + duration + " " + timeUnit + " of " + candlesCount + " candles");
+		}
+		return new CandleInterval(intervalMillis, candlesCount, duration + " " + timeUnit.name().toLowerCase());
+	}
+
+	/**
+	 * @return the intervalMillis
+	 */
+	public long getIntervalMillis() {
+		return intervalMillis;
+	}
+
+	/**
+	 * @return the candlesCount
+	 */
+	public int getCandlesCount() {
+		return candlesCount;
+	}
+
+	/**
+	 * @return the description
+	 */
+	public String getDescription() {
+		return description;
+	}
+
+	/**
+	 * Method represents this object as string value.
+	 */
+	@Override
+	public String toString() {
+		return description;
+	}
+}
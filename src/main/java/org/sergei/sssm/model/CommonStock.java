@@ -30,17 +30,16 @@ public class CommonStock extends AbstractStock {
 	}
 
 	/**
-	 * Method calculates Dividend Yield using formula: Last Dividend / Price. <br>
-	 * If price is zero, null is returned.
+	 * Method calculates Dividend Yield using formula: Last Dividend / Price.
+	 * 
+	 * @param price
+	 *            - BigDecimal positive price of the stock.
 	 * 
 	 * @return dividendYield - BigDecimal of a calculated Dividend Yield.
 	 */
 	@Override
-	public BigDecimal calculateDividendYield() {
-		if (BigDecimal.ZERO.compareTo(super.getPrice()) == 0) {
-			return null;
-		}
-		return super.getLastDividend().divide(super.getPrice(), NumberFormatter.SCALE_4_DECIMAL_DIGITS, RoundingMode.HALF_EVEN);
+	protected BigDecimal calculateDividendYield(final BigDecimal price) {
+		return super.getLastDividend().divide(price, NumberFormatter.SCALE_4_DECIMAL_DIGITS, RoundingMode.HALF_EVEN);
 	}
 
 	/**
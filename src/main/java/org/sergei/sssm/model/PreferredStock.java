@@ -35,14 +35,14 @@ public class PreferredStock extends AbstractStock {
 	 * Method calculates Dividend Yield using formula: <br>
 	 * Fixed Dividend * Par Value / Price.
 	 * 
+	 * @param price
+	 *            - BigDecimal positive price of the stock.
+	 * 
 	 * @return dividendYield - BigDecimal of a calculated Dividend Yield.
 	 */
 	@Override
-	public BigDecimal calculateDividendYield() {
-		if (BigDecimal.ZERO.compareTo(super.getPrice()) == 0) {
-			return null;
-		}
-		return this.fixedDividend.multiply(super.getParValue()).divide(super.getPrice(), NumberFormatter.SCALE_4_DECIMAL_DIGITS, RoundingMode.HALF_EVEN);
+	protected BigDecimal calculateDividendYield(final BigDecimal price) {
+		return this.fixedDividend.multiply(super.getParValue()).divide(price, NumberFormatter.SCALE_4_DECIMAL_DIGITS, RoundingMode.HALF_EVEN);
 	}
 
 	/**
@@ -0,0 +1,230 @@
+package org.sergei.sssm.model;
+
+import java.math.BigDecimal;
+
+import org.sergei.sssm.utils.ScaledPrice;
+
+/**
+ * Volume Weighted Stock Price of a rolling window, maintained incrementally.
+ *
+ * The window is split into a ring of buckets holding primitive price *
+ * quantity and quantity sums, running totals of all buckets are kept as well.
+ * A trade is added to its bucket in O(1), buckets leaving the window are
+ * subtracted from the totals as the window advances, so reading the price
+ * never rescans trades.
+ *
+ * Updates come from the stock order book owner, reads may come from any
+ * thread, both are synchronized on this object.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.16. initial version
+ */
+public class RollingVolumeWeightedStockPrice {
+	private final VolumeWeightedStockPriceWindow window;
+	private final StockMarketClock stockMarketClock;
+	private final long[] bucketScaledPriceQuantitySums;
+	private final long[] bucketQuantities;
+	private long scaledPriceQuantitySum;
+	private long quantity;
+	private long tradesCount;
+	private long lastBucketKey;
+	private boolean empty;
+
+	/**
+	 * Constructor initializes empty buckets of a given window.
+	 *
+	 * @param window
+	 *            - VolumeWeightedStockPriceWindow definition.
+	 */
+	public RollingVolumeWeightedStockPrice(final VolumeWeightedStockPriceWindow window) {
+		this(window, StockMarketClock.SYSTEM);
+	}
+
+	/**
+	 * Constructor initializes empty buckets of a given window, time windows are
+	 * advanced by a given clock.
+	 *
+	 * @param window
+	 *            - VolumeWeightedStockPriceWindow definition.
+	 * @param stockMarketClock
+	 *            - StockMarketClock of executed trade transactions.
+	 */
+	public RollingVolumeWeightedStockPrice(final VolumeWeightedStockPriceWindow window, final StockMarketClock stockMarketClock) {
+		this.window = window;
+		this.stockMarketClock = stockMarketClock;
+		this.bucketScaledPriceQuantitySums = new long[window.getBucketsCount()];
+		this.bucketQuantities = new long[window.getBucketsCount()];
+		this.empty = true;
+	}
+
+	/**
+	 * Method adds a trade to the window.
+	 *
+	 * @param nanoTime
+	 *            - long completion time of the trade.
+	 * @param scaledPrice
+	 *            - long scaled price of the trade.
+	 * @param tradeQuantity
+	 *            - int quantity of the trade.
+	 */
+	public synchronized void update(final long nanoTime, final long scaledPrice, final int tradeQuantity) {
+		final long bucketKey = getBucketKey(this.window.isTimeBased() ? nanoTime : this.tradesCount);
+		advance(bucketKey);
+		final int bucketIndex = getBucketIndex(Math.max(bucketKey, this.lastBucketKey));
+		final long scaledPriceQuantity = scaledPrice * tradeQuantity;
+
+		this.bucketScaledPriceQuantitySums[bucketIndex] += scaledPriceQuantity;
+		this.bucketQuantities[bucketIndex] += tradeQuantity;
+		this.scaledPriceQuantitySum += scaledPriceQuantity;
+		this.quantity += tradeQuantity;
+		this.tradesCount++;
+	}
+
+	/**
+	 * Method returns Volume Weighted Stock Price of the window scaled to 4 decimal
+	 * digits, time windows are advanced to the current time first.
+	 *
+	 * @return long - scaled Volume Weighted Stock Price or zero if no trade is in
+	 *         the window.
+	 */
+	public synchronized long calculateScaledVolumeWeightedStockPrice() {
+		if (this.window.isTimeBased()) {
+			advance(getBucketKey(this.stockMarketClock.nanoTime()));
+		}
+		if (this.quantity == 0) {
+			return 0;
+		}
+		return ScaledPrice.divide(this.scaledPriceQuantitySum, this.quantity);
+	}
+
+	/**
+	 * Method returns Volume Weighted Stock Price of the window.
+	 *
+	 * @return BigDecimal - Volume Weighted Stock Price or zero if no trade is in
+	 *         the window.
+	 */
+	public BigDecimal calculateVolumeWeightedStockPrice() {
+		return ScaledPrice.toBigDecimal(calculateScaledVolumeWeightedStockPrice());
+	}
+
+	/**
+	 * Method copies the state of the window: trades count, whether it is empty,
+	 * key of the latest bucket relative to the current time and the buckets from
+	 * the latest to the oldest one. Keys of time based windows are relative, so
+	 * the state may be restored by another process with another nanoTime() base.
+	 *
+	 * @return long[] - state of the window.
+	 */
+	synchronized long[] captureState() {
+		final long referenceBucketKey = getReferenceBucketKey(this.stockMarketClock.nanoTime());
+		if (this.window.isTimeBased()) {
+			advance(referenceBucketKey);
+		}
+		final int bucketsCount = this.bucketQuantities.length;
+		final long[] state = new long[3 + 2 * bucketsCount];
+		state[0] = this.tradesCount;
+		state[1] = this.empty ? 1 : 0;
+		state[2] = this.lastBucketKey - referenceBucketKey;
+		for (int i = 0; i < bucketsCount; i++) {
+			final int bucketIndex = getBucketIndex(this.lastBucketKey - i);
+			state[3 + 2 * i] = this.bucketScaledPriceQuantitySums[bucketIndex];
+			state[4 + 2 * i] = this.bucketQuantities[bucketIndex];
+		}
+		return state;
+	}
+
+	/**
+	 * Method restores the state copied by captureState() of a window with the same
+	 * buckets. Time based buckets are aged by a given time, so trades leave the
+	 * window as if the state was kept in memory meanwhile.
+	 *
+	 * @param state
+	 *            - long[] state of the window.
+	 * @param elapsedNanos
+	 *            - long time since the state was captured.
+	 */
+	synchronized void restoreState(final long[] state, final long elapsedNanos) {
+		final int bucketsCount = this.bucketQuantities.length;
+		if (state.length != 3 + 2 * bucketsCount) {
+			throw new IllegalArgumentException("State does not match buckets of the window: " + this.window);
+		}
+		this.tradesCount = state[0];
+		this.empty = state[1] != 0;
+		this.lastBucketKey = getReferenceBucketKey(this.stockMarketClock.nanoTime() - elapsedNanos) + state[2];
+		this.scaledPriceQuantitySum = 0;
+		this.quantity = 0;
+		for (int i = 0; i < bucketsCount; i++) {
+			final int bucketIndex = getBucketIndex(this.lastBucketKey - i);
+			this.bucketScaledPriceQuantitySums[bucketIndex] = state[3 + 2 * i];
+			this.bucketQuantities[bucketIndex] = state[4 + 2 * i];
+			this.scaledPriceQuantitySum += state[3 + 2 * i];
+			this.quantity += state[4 + 2 * i];
+		}
+	}
+
+	/**
+	 * @param nanoTime
+	 *            - long current time.
+	 *
+	 * @return long - bucket key of a given time for time based windows, zero for
+	 *         trades count based windows.
+	 */
+	private long getReferenceBucketKey(final long nanoTime) {
+		return this.window.isTimeBased() ? getBucketKey(nanoTime) : 0;
+	}
+
+	/**
+	 * Method moves the window so that a given bucket is the latest one, buckets
+	 * leaving the window are subtracted from the totals and cleared. At most one
+	 * pass over the buckets is made, no matter how long the window was idle.
+	 *
+	 * @param bucketKey
+	 *            - long key of the latest bucket.
+	 */
+	private void advance(final long bucketKey) {
+		if (this.empty) {
+			this.empty = false;
+			this.lastBucketKey = bucketKey;
+			return;
+		}
+		if (bucketKey <= this.lastBucketKey) {
+			return;
+		}
+		final long advancedBucketsCount = Math.min(bucketKey - this.lastBucketKey, this.bucketQuantities.length);
+		for (long i = advancedBucketsCount - 1; i >= 0; i--) {
+			final int bucketIndex = getBucketIndex(bucketKey - i);
+			this.scaledPriceQuantitySum -= this.bucketScaledPriceQuantitySums[bucketIndex];
+			this.quantity -= this.bucketQuantities[bucketIndex];
+			this.bucketScaledPriceQuantitySums[bucketIndex] = 0;
+			this.bucketQuantities[bucketIndex] = 0;
+		}
+		this.lastBucketKey = bucketKey;
+	}
+
+	/**
+	 * @param position
+	 *            - long time in nanoseconds or trade number.
+	 *
+	 * @return long - key of the bucket holding a given position.
+	 */
+	private long getBucketKey(final long position) {
+		return Math.floorDiv(position, this.window.getBucketWidth());
+	}
+
+	/**
+	 * @param bucketKey
+	 *            - long bucket key.
+	 *
+	 * @return int - index of the bucket in the ring.
+	 */
+	private int getBucketIndex(final long bucketKey) {
+		return (int) Math.floorMod(bucketKey, (long) this.bucketQuantities.length);
+	}
+
+	/**
+	 * @return the window
+	 */
+	public VolumeWeightedStockPriceWindow getWindow() {
+		return window;
+	}
+}
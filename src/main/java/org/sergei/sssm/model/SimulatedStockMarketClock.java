@@ -0,0 +1,59 @@
+package org.sergei.sssm.model;
+
+/**
+ * Stock market clock which only moves when it is advanced, used by
+ * discrete-event simulations. Simulated nano time starts at zero and
+ * milliseconds are counted from a given start time.
+ *
+ * The clock is advanced by the thread driving the simulation and may be read
+ * by any thread.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public class SimulatedStockMarketClock implements StockMarketClock {
+	private static final long NANOS_PER_MILLISECOND = 1000000L;
+	private final long startTimeMillis;
+	private volatile long nanoTime;
+
+	/**
+	 * Constructor initializes the clock at a given start time.
+	 *
+	 * @param startTimeMillis
+	 *            - long simulated start time in milliseconds since the epoch.
+	 */
+	public SimulatedStockMarketClock(final long startTimeMillis) {
+		this.startTimeMillis = startTimeMillis;
+	}
+
+	/**
+	 * Method moves the clock to a given simulated time, the clock never moves
+	 * backwards.
+	 *
+	 * @param nanoTime
+	 *            - long simulated nanoseconds since the start time.
+	 */
+	public void advanceTo(final long nanoTime) {
+		if (nanoTime < this.nanoTime) {
+			throw new IllegalArgumentException("Simulated clock cannot move backwards");
+		}
+		this.nanoTime = nanoTime;
+	}
+
+	@Override
+	public long currentTimeMillis() {
+		return this.startTimeMillis + this.nanoTime / NANOS_PER_MILLISECOND;
+	}
+
+	@Override
+	public long nanoTime() {
+		return this.nanoTime;
+	}
+
+	/**
+	 * @return the startTimeMillis
+	 */
+	public long getStartTimeMillis() {
+		return startTimeMillis;
+	}
+}
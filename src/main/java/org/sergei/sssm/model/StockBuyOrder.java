@@ -1,8 +1,5 @@
 package org.sergei.sssm.model;
 
-import java.math.BigDecimal;
-import java.util.Comparator;
-
 /**
  * @author - Sergei Shurpenkov
  * @date - 2017.10.01. initial version
@@ -22,14 +19,32 @@ public class StockBuyOrder extends AbstractStockOrder implements Comparable<Stoc
 	 * @param stock
 	 *            - AbstractStock of order.
 	 * @param quantity
-	 *            - Integer stock order quantity.
-	 * @param offeredPrice
-	 *            - BigDecimal stock order offered price.
+	 *            - int stock order quantity.
+	 * @param scaledOfferedPrice
+	 *            - long stock order offered price scaled to 4 decimal digits.
+	 * @param stockMarketPlayer
+	 *            - StockMarketPlayer who is issuing a stock order.
+	 */
+	public StockBuyOrder(final AbstractStock stock, final int quantity, final long scaledOfferedPrice, final StockMarketPlayer stockMarketPlayer) {
+		super(stock, quantity, scaledOfferedPrice, stockMarketPlayer);
+	}
+
+	/**
+	 * Constructor calls for super constructor with a given time stamp.
+	 * 
+	 * @param stock
+	 *            - AbstractStock of order.
+	 * @param quantity
+	 *            - int stock order quantity.
+	 * @param scaledOfferedPrice
+	 *            - long stock order offered price scaled to 4 decimal digits.
 	 * @param stockMarketPlayer
 	 *            - StockMarketPlayer who is issuing a stock order.
+	 * @param timestampMillis
+	 *            - long time stamp of order in milliseconds.
 	 */
-	public StockBuyOrder(final AbstractStock stock, final Integer quantity, final BigDecimal offeredPrice, final StockMarketPlayer stockMarketPlayer) {
-		super(stock, quantity, offeredPrice, stockMarketPlayer);
+	public StockBuyOrder(final AbstractStock stock, final int quantity, final long scaledOfferedPrice, final StockMarketPlayer stockMarketPlayer, final long timestampMillis) {
+		super(stock, quantity, scaledOfferedPrice, stockMarketPlayer, timestampMillis);
 	}
 
 	/**
@@ -55,6 +70,10 @@ public class StockBuyOrder extends AbstractStockOrder implements Comparable<Stoc
 	 */
 	@Override
 	public int compareTo(final StockBuyOrder stockBuyOrder) {
-		return Comparator.comparing(StockBuyOrder::getOfferedPrice).thenComparing(StockBuyOrder::getTimestamp, Comparator.reverseOrder()).compare(stockBuyOrder, this);
+		final int offeredPriceCompareTo = Long.compare(stockBuyOrder.getScaledOfferedPrice(), this.getScaledOfferedPrice());
+		if (offeredPriceCompareTo != 0) {
+			return offeredPriceCompareTo;
+		}
+		return Long.compare(this.getTimestampMillis(), stockBuyOrder.getTimestampMillis());
 	}
 }
\ No newline at end of file
@@ -0,0 +1,159 @@
+package org.sergei.sssm.model;
+
+import java.math.BigDecimal;
+
+import org.sergei.sssm.utils.ScaledPrice;
+
+/**
+ * Immutable OHLCV candle: open, high, low and close trade prices, traded
+ * quantity and Volume Weighted Stock Price of the trades of one interval.
+ * Prices are scaled to 4 implied decimal digits, see ScaledPrice.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public class StockCandle {
+	private final long startTimeMillis;
+	private final long scaledOpenPrice;
+	private final long scaledHighPrice;
+	private final long scaledLowPrice;
+	private final long scaledClosePrice;
+	private final long volume;
+	private final long scaledPriceQuantitySum;
+	private final long tradesCount;
+
+	/**
+	 * Constructor initializes class attributes.
+	 *
+	 * @param startTimeMillis
+	 *            - long start time of the interval in milliseconds since the
+	 *            epoch.
+	 * @param scaledOpenPrice
+	 *            - long scaled price of the first trade.
+	 * @param scaledHighPrice
+	 *            - long highest scaled price.
+	 * @param scaledLowPrice
+	 *            - long lowest scaled price.
+	 * @param scaledClosePrice
+	 *            - long scaled price of the latest trade.
+	 * @param volume
+	 *            - long sum of traded quantity.
+	 * @param scaledPriceQuantitySum
+	 *            - long sum of scaled price multiplied by quantity.
+	 * @param tradesCount
+	 *            - long number of trades.
+	 */
+	StockCandle(final long startTimeMillis, final long scaledOpenPrice, final long scaledHighPrice, final long scaledLowPrice, final long scaledClosePrice, final long volume,
+			final long scaledPriceQuantitySum, final long tradesCount) {
+		this.startTimeMillis = startTimeMillis;
+		this.scaledOpenPrice = scaledOpenPrice;
+		this.scaledHighPrice = scaledHighPrice;
+		this.scaledLowPrice = scaledLowPrice;
+		this.scaledClosePrice = scaledClosePrice;
+		this.volume = volume;
+		this.scaledPriceQuantitySum = scaledPriceQuantitySum;
+		this.tradesCount = tradesCount;
+	}
+
+	/**
+	 * @return the startTimeMillis
+	 */
+	public long getStartTimeMillis() {
+		return startTimeMillis;
+	}
+
+	/**
+	 * @return the scaledOpenPrice
+	 */
+	public long getScaledOpenPrice() {
+		return scaledOpenPrice;
+	}
+
+	/**
+	 * @return the scaledHighPrice
+	 */
+	public long getScaledHighPrice() {
+		return scaledHighPrice;
+	}
+
+	/**
+	 * @return the scaledLowPrice
+	 */
+	public long getScaledLowPrice() {
+		return scaledLowPrice;
+	}
+
+	/**
+	 * @return the scaledClosePrice
+	 */
+	public long getScaledClosePrice() {
+		return scaledClosePrice;
+	}
+
+	/**
+	 * @return the volume
+	 */
+	public long getVolume() {
+		return volume;
+	}
+
+	/**
+	 * @return the tradesCount
+	 */
+	public long getTradesCount() {
+		return tradesCount;
+	}
+
+	/**
+	 * @return the scaled Volume Weighted Stock Price of the candle trades.
+	 */
+	public long getScaledVolumeWeightedStockPrice() {
+		return ScaledPrice.divide(this.scaledPriceQuantitySum, this.volume);
+	}
+
+	/**
+	 * @return the open price
+	 */
+	public BigDecimal getOpenPrice() {
+		return ScaledPrice.toBigDecimal(this.scaledOpenPrice);
+	}
+
+	/**
+	 * @return the high price
+	 */
+	public BigDecimal getHighPrice() {
+		return ScaledPrice.toBigDecimal(this.scaledHighPrice);
+	}
+
+	/**
+	 * @return the low price
+	 */
+	public BigDecimal getLowPrice() {
+		return ScaledPrice.toBigDecimal(this.scaledLowPrice);
+	}
+
+	/**
+	 * @return the close price
+	 */
+	public BigDecimal getClosePrice() {
+		return ScaledPrice.toBigDecimal(this.scaledClosePrice);
+	}
+
+	/**
+	 * @return the Volume Weighted Stock Price of the candle trades.
+	 */
+	public BigDecimal getVolumeWeightedStockPrice() {
+		return ScaledPrice.toBigDecimal(getScaledVolumeWeightedStockPrice());
+	}
+
+	/**
+	 * Method represents this object as string value.
+	 */
+	@Override
+	public String toString() {
+		return new StringBuilder("Start: ").append(this.startTimeMillis).append("\tOpen: ").append(ScaledPrice.format(this.scaledOpenPrice)).append("\tHigh: ")
+				.append(ScaledPrice.format(this.scaledHighPrice)).append("\tLow: ").append(ScaledPrice.format(this.scaledLowPrice)).append("\tClose: ")
+				.append(ScaledPrice.format(this.scaledClosePrice)).append("\tVolume: ").append(this.volume).append("\tVWSP: ")
+				.append(ScaledPrice.format(getScaledVolumeWeightedStockPrice())).append("\tTrades: ").append(this.tradesCount).toString();
+	}
+}
@@ -0,0 +1,231 @@
+package org.sergei.sssm.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * OHLCV candles of one CandleInterval, maintained incrementally from executed
+ * trade transactions of a stock order book.
+ *
+ * The latest candles are kept in a ring of primitive fields, a candle lives in
+ * the slot of its candle number (start time / interval) modulo the number of
+ * kept candles. A trade updates its candle in O(1), a candle is looked up by
+ * its start time in O(1), and a slot is reused when a newer candle claims it,
+ * so intervals without trades cost nothing. The ring is allocated by the first
+ * trade, books which never trade take no candle memory.
+ *
+ * Updates come from the stock order book owner, reads may come from any
+ * thread, both are synchronized on this object.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public class StockCandleSeries {
+	private static final int START_TIME = 0;
+	private static final int OPEN = 1;
+	private static final int HIGH = 2;
+	private static final int LOW = 3;
+	private static final int CLOSE = 4;
+	private static final int VOLUME = 5;
+	private static final int SCALED_PRICE_QUANTITY_SUM = 6;
+	private static final int TRADES_COUNT = 7;
+	private static final int FIELDS_COUNT = 8;
+	private final CandleInterval candleInterval;
+	/**
+	 * Fields of kept candles, FIELDS_COUNT longs per slot, null until the first
+	 * trade.
+	 */
+	private long[] candles;
+	/**
+	 * Candle number of the latest trade.
+	 */
+	private long latestCandleNumber;
+	/**
+	 * Start time and slot of the latest candle, trades of the latest candle are
+	 * added without any division.
+	 */
+	private long latestStartTimeMillis;
+	private int latestSlot;
+
+	/**
+	 * Constructor initializes an empty series of a given interval.
+	 *
+	 * @param candleInterval
+	 *            - CandleInterval definition.
+	 */
+	public StockCandleSeries(final CandleInterval candleInterval) {
+		this.candleInterval = candleInterval;
+	}
+
+	/**
+	 * Method adds a trade to the candle of its time. Trades older than the kept
+	 * candles are ignored.
+	 *
+	 * @param timestampMillis
+	 *            - long completion time of the trade in milliseconds since the
+	 *            epoch.
+	 * @param scaledPrice
+	 *            - long scaled price of the trade.
+	 * @param tradeQuantity
+	 *            - int quantity of the trade.
+	 */
+	public synchronized void update(final long timestampMillis, final long scaledPrice, final int tradeQuantity) {
+		final int slot;
+		if (this.candles != null && timestampMillis >= this.latestStartTimeMillis && timestampMillis - this.latestStartTimeMillis < this.candleInterval.getIntervalMillis()) {
+			slot = this.latestSlot;
+			if (scaledPrice > this.candles[slot + HIGH]) {
+				this.candles[slot + HIGH] = scaledPrice;
+			} else if (scaledPrice < this.candles[slot + LOW]) {
+				this.candles[slot + LOW] = scaledPrice;
+			}
+		} else {
+			slot = startCandle(Math.floorDiv(timestampMillis, this.candleInterval.getIntervalMillis()), scaledPrice);
+			if (slot < 0) {
+				return;
+			}
+		}
+		this.candles[slot + CLOSE] = scaledPrice;
+		this.candles[slot + VOLUME] += tradeQuantity;
+		this.candles[slot + SCALED_PRICE_QUANTITY_SUM] += scaledPrice * tradeQuantity;
+		this.candles[slot + TRADES_COUNT]++;
+	}
+
+	/**
+	 * Method finds the slot of a trade which is not part of the latest candle,
+	 * the slot is reset if the trade starts a new candle.
+	 *
+	 * @param candleNumber
+	 *            - long candle number of the trade.
+	 * @param scaledPrice
+	 *            - long scaled price of the trade.
+	 *
+	 * @return int - index of the first field of the candle slot, -1 if the trade
+	 *         is older than the kept candles.
+	 */
+	private int startCandle(final long candleNumber, final long scaledPrice) {
+		if (this.candles == null) {
+			this.candles = new long[FIELDS_COUNT * this.candleInterval.getCandlesCount()];
+			this.latestCandleNumber = candleNumber;
+		} else if (this.latestCandleNumber - candleNumber >= this.candleInterval.getCandlesCount()) {
+			return -1;
+		}
+		final int slot = getSlot(candleNumber);
+		final long startTimeMillis = candleNumber * this.candleInterval.getIntervalMillis();
+		if (candleNumber >= this.latestCandleNumber) {
+			this.latestCandleNumber = candleNumber;
+			this.latestStartTimeMillis = startTimeMillis;
+			this.latestSlot = slot;
+		}
+		if (this.candles[slot + TRADES_COUNT] == 0 || this.candles[slot + START_TIME] != startTimeMillis) {
+			this.candles[slot + START_TIME] = startTimeMillis;
+			this.candles[slot + OPEN] = scaledPrice;
+			this.candles[slot + HIGH] = scaledPrice;
+			this.candles[slot + LOW] = scaledPrice;
+			this.candles[slot + VOLUME] = 0;
+			this.candles[slot + SCALED_PRICE_QUANTITY_SUM] = 0;
+			this.candles[slot + TRADES_COUNT] = 0;
+		} else if (scaledPrice > this.candles[slot + HIGH]) {
+			this.candles[slot + HIGH] = scaledPrice;
+		} else if (scaledPrice < this.candles[slot + LOW]) {
+			this.candles[slot + LOW] = scaledPrice;
+		}
+		return slot;
+	}
+
+	/**
+	 * Method returns the candle of the latest trade, which may still be updated.
+	 *
+	 * @return StockCandle - latest candle or null if there was no trade.
+	 */
+	public synchronized StockCandle getLatestCandle() {
+		return this.candles == null ? null : newStockCandle(this.latestSlot);
+	}
+
+	/**
+	 * Method returns the candle of a given time.
+	 *
+	 * @param timeMillis
+	 *            - long time within the candle in milliseconds since the epoch.
+	 *
+	 * @return StockCandle - found candle or null if there was no trade in its
+	 *         interval or it is no longer kept.
+	 */
+	public synchronized StockCandle getCandle(final long timeMillis) {
+		final long candleNumber = Math.floorDiv(timeMillis, this.candleInterval.getIntervalMillis());
+		if (!isKept(candleNumber)) {
+			return null;
+		}
+		final int slot = getSlot(candleNumber);
+		if (this.candles[slot + TRADES_COUNT] == 0 || this.candles[slot + START_TIME] != candleNumber * this.candleInterval.getIntervalMillis()) {
+			return null;
+		}
+		return newStockCandle(slot);
+	}
+
+	/**
+	 * Method returns kept candles which start within a time range, intervals
+	 * without trades are skipped.
+	 *
+	 * @param fromTimeMillis
+	 *            - long first time of the range, inclusive.
+	 * @param toTimeMillis
+	 *            - long last time of the range, inclusive.
+	 *
+	 * @return List<StockCandle> - candles in time order.
+	 */
+	public synchronized List<StockCandle> getCandles(final long fromTimeMillis, final long toTimeMillis) {
+		final List<StockCandle> stockCandles = new ArrayList<>();
+		if (this.candles == null) {
+			return stockCandles;
+		}
+		final long intervalMillis = this.candleInterval.getIntervalMillis();
+		final long firstCandleNumber = Math.max(Math.floorDiv(fromTimeMillis + intervalMillis - 1, intervalMillis),
+				this.latestCandleNumber - this.candleInterval.getCandlesCount() + 1);
+		final long lastCandleNumber = Math.min(Math.floorDiv(toTimeMillis, intervalMillis), this.latestCandleNumber);
+		for (long candleNumber = firstCandleNumber; candleNumber <= lastCandleNumber; candleNumber++) {
+			final int slot = getSlot(candleNumber);
+			if (this.candles[slot + TRADES_COUNT] != 0 && this.candles[slot + START_TIME] == candleNumber * intervalMillis) {
+				stockCandles.add(newStockCandle(slot));
+			}
+		}
+		return stockCandles;
+	}
+
+	/**
+	 * @param candleNumber
+	 *            - long candle number.
+	 *
+	 * @return true if the candle of a given number may be kept.
+	 */
+	private boolean isKept(final long candleNumber) {
+		return this.candles != null && candleNumber <= this.latestCandleNumber && this.latestCandleNumber - candleNumber < this.candleInterval.getCandlesCount();
+	}
+
+	/**
+	 * @param candleNumber
+	 *            - long candle number.
+	 *
+	 * @return int - index of the first field of the candle slot.
+	 */
+	private int getSlot(final long candleNumber) {
+		return (int) Math.floorMod(candleNumber, (long) this.candleInterval.getCandlesCount()) * FIELDS_COUNT;
+	}
+
+	/**
+	 * @param slot
+	 *            - int index of the first field of a candle slot.
+	 *
+	 * @return StockCandle - copy of the candle.
+	 */
+	private StockCandle newStockCandle(final int slot) {
+		return new StockCandle(this.candles[slot + START_TIME], this.candles[slot + OPEN], this.candles[slot + HIGH], this.candles[slot + LOW], this.candles[slot + CLOSE],
+				this.candles[slot + VOLUME], this.candles[slot + SCALED_PRICE_QUANTITY_SUM], this.candles[slot + TRADES_COUNT]);
+	}
+
+	/**
+	 * @return the candleInterval
+	 */
+	public CandleInterval getCandleInterval() {
+		return candleInterval;
+	}
+}
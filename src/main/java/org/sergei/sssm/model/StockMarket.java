@@ -1,32 +1,162 @@
 package org.sergei.sssm.model;
 
+import java.lang.management.ManagementFactory;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.EnumMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 
-import org.sergei.sssm.utils.NumberFormatter;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.sergei.sssm.engine.StockOrderMatchingEngine;
+import org.sergei.sssm.exeption.StockMarketSystemException;
+import org.sergei.sssm.journal.StockOrderJournal;
+import org.sergei.sssm.journal.StockOrderJournalFlushPolicy;
+import org.sergei.sssm.utils.ScaledPrice;
 
 /**
  * @author - Sergei Shurpenkov
  * @date - 2017.10.01. initial version
  */
 public class StockMarket {
+	private static final String SNAPSHOT_WRITER_THREAD_NAME = "Stock market snapshot writer";
+	private static final String MBEAN_DOMAIN = "org.sergei.sssm";
 	private List<AbstractStock> stocks;
 	private List<StockMarketPlayer> players;
-	private Map<StockSymbol, StockOrderBook> orderBooks;
+	/**
+	 * Stock order books indexed by stock symbol id, null for symbols not traded on
+	 * this stock market. The array is replaced by a larger copy on registration,
+	 * so lookups take no lock.
+	 */
+	private volatile StockOrderBook[] orderBooks;
+	private StockMarketConcurrencyMode concurrencyMode;
+	/**
+	 * Matching engines of SINGLE_WRITER mode, each one owns a group of stock order
+	 * books.
+	 */
+	private StockOrderMatchingEngine[] matchingEngines;
+	/**
+	 * Matching engine owning the stock order book of each stock symbol in
+	 * SINGLE_WRITER mode, indexed by stock symbol id.
+	 */
+	private volatile StockOrderMatchingEngine[] orderBookMatchingEngines;
+	/**
+	 * Retention of executed trade transactions of stock order books registered
+	 * afterwards.
+	 */
+	private StockOrderTransactionRetention stockOrderTransactionRetention;
+	/**
+	 * Rolling Volume Weighted Stock Price windows of stock order books registered
+	 * afterwards.
+	 */
+	private VolumeWeightedStockPriceWindow[] volumeWeightedStockPriceWindows;
+	/**
+	 * OHLCV candle intervals of stock order books registered afterwards.
+	 */
+	private CandleInterval[] candleIntervals;
+	/**
+	 * All Share Index updated by stock order books on each Volume Weighted Stock
+	 * Price change.
+	 */
+	private AllShareIndex allShareIndex;
+	/**
+	 * Number of price levels per side published in snapshots of stock order books
+	 * registered afterwards.
+	 */
+	private int stockOrderBookSnapshotDepth;
+	/**
+	 * Clock of stock order books registered afterwards.
+	 */
+	private StockMarketClock stockMarketClock;
+	/**
+	 * Listener receiving executed trade transactions from matching engines.
+	 */
+	private volatile StockOrderTransactionListener stockOrderTransactionListener;
+	/**
+	 * Write-ahead journal of stock order books, null if journaling is disabled.
+	 */
+	private StockOrderJournal stockOrderJournal;
+	/**
+	 * Name of this stock market in MBean names, null if MBeans are not
+	 * registered.
+	 */
+	private String mBeanStockMarketName;
+	/**
+	 * Names of MBeans registered by this stock market.
+	 */
+	private List<ObjectName> registeredMBeanNames;
 
 	/**
-	 * Constructor initializes all collections of this class.
+	 * Constructor initializes all collections of this class, all stock order books
+	 * are guarded by a single stock market lock.
 	 */
 	public StockMarket() {
+		this(StockMarketConcurrencyMode.GLOBAL_LOCK);
+	}
+
+	/**
+	 * Constructor initializes all collections of this class and concurrency mode
+	 * used to guard stock order books. In SINGLE_WRITER mode one matching engine
+	 * per two available processors is started.
+	 * 
+	 * @param concurrencyMode
+	 *            - StockMarketConcurrencyMode.
+	 */
+	public StockMarket(final StockMarketConcurrencyMode concurrencyMode) {
+		this(concurrencyMode, Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+	}
+
+	/**
+	 * Constructor initializes all collections of this class and concurrency mode
+	 * used to guard stock order books.
+	 * 
+	 * @param concurrencyMode
+	 *            - StockMarketConcurrencyMode.
+	 * @param matchingEnginesCount
+	 *            - int number of matching engine threads started in SINGLE_WRITER
+	 *            mode.
+	 */
+	public StockMarket(final StockMarketConcurrencyMode concurrencyMode, final int matchingEnginesCount) {
 		this.stocks = new ArrayList<>();
 		this.players = new ArrayList<>();
-		this.orderBooks = new EnumMap<>(StockSymbol.class);
+		this.orderBooks = new StockOrderBook[StockSymbol.getRegisteredStockSymbolsCount()];
+		this.concurrencyMode = concurrencyMode;
+		this.orderBookMatchingEngines = new StockOrderMatchingEngine[StockSymbol.getRegisteredStockSymbolsCount()];
+		this.stockOrderTransactionRetention = StockOrderTransactionRetention.DEFAULT;
+		this.volumeWeightedStockPriceWindows = new VolumeWeightedStockPriceWindow[] { VolumeWeightedStockPriceWindow.LAST_15_MINUTES };
+		this.candleIntervals = new CandleInterval[] { CandleInterval.ONE_SECOND, CandleInterval.ONE_MINUTE, CandleInterval.FIVE_MINUTES };
+		this.allShareIndex = new AllShareIndex();
+		this.stockOrderBookSnapshotDepth = StockOrderBookSnapshot.DEFAULT_DEPTH;
+		this.stockMarketClock = StockMarketClock.SYSTEM;
+		this.stockOrderTransactionListener = stockOrderTransaction -> {
+		};
+		this.registeredMBeanNames = new ArrayList<>();
+		initializeMatchingEngines(matchingEnginesCount);
+	}
+
+	/**
+	 * Method starts matching engines of SINGLE_WRITER mode.
+	 * 
+	 * @param matchingEnginesCount
+	 *            - int number of matching engines.
+	 */
+	private void initializeMatchingEngines(final int matchingEnginesCount) {
+		if (this.concurrencyMode != StockMarketConcurrencyMode.SINGLE_WRITER) {
+			this.matchingEngines = new StockOrderMatchingEngine[0];
+			return;
+		}
+		this.matchingEngines = new StockOrderMatchingEngine[matchingEnginesCount];
+		for (int i = 0; i < matchingEnginesCount; i++) {
+			this.matchingEngines[i] = new StockOrderMatchingEngine("Matching engine " + (i + 1), StockOrderMatchingEngine.DEFAULT_RING_BUFFER_CAPACITY,
+					stockOrderTransaction -> this.stockOrderTransactionListener.onStockOrderTransaction(stockOrderTransaction));
+			this.matchingEngines[i].start();
+		}
 	}
 
 	/**
@@ -78,17 +208,48 @@ public class StockMarket {
 	 *            - AbstractStock.
 	 */
 	private void initializeStockOrderBook(final AbstractStock abstractStock) {
-		this.orderBooks.put(abstractStock.getStockSymbol(), new StockOrderBook());
+		final int stockSymbolId = abstractStock.getStockSymbol().getId();
+		final int capacity = Math.max(stockSymbolId + 1, this.orderBooks.length * 2);
+		if (this.matchingEngines.length > 0) {
+			StockOrderMatchingEngine[] stockOrderMatchingEngines = this.orderBookMatchingEngines;
+			if (stockSymbolId >= stockOrderMatchingEngines.length) {
+				stockOrderMatchingEngines = Arrays.copyOf(stockOrderMatchingEngines, capacity);
+			}
+			stockOrderMatchingEngines[stockSymbolId] = this.matchingEngines[(this.stocks.size() - 1) % this.matchingEngines.length];
+			this.orderBookMatchingEngines = stockOrderMatchingEngines;
+		}
+		final StockOrderBook stockOrderBook = new StockOrderBook(this.stockMarketClock, this.stockOrderTransactionRetention, this.volumeWeightedStockPriceWindows);
+		stockOrderBook.setVolumeWeightedStockPriceListener(this.allShareIndex);
+		stockOrderBook.setSnapshotDepth(this.stockOrderBookSnapshotDepth);
+		stockOrderBook.setCandleIntervals(this.candleIntervals);
+		if (this.stockOrderJournal != null) {
+			stockOrderBook.setStockOrderJournalStream(this.stockOrderJournal.getStream((this.stocks.size() - 1) % this.stockOrderJournal.getStreamsCount()));
+		}
+		StockOrderBook[] stockOrderBooks = this.orderBooks;
+		if (stockSymbolId >= stockOrderBooks.length) {
+			stockOrderBooks = Arrays.copyOf(stockOrderBooks, capacity);
+		}
+		stockOrderBooks[stockSymbolId] = stockOrderBook;
+		// Volatile write publishes the new stock order book to lock free readers
+		this.orderBooks = stockOrderBooks;
+		if (this.mBeanStockMarketName != null) {
+			registerStockOrderBookMBean(abstractStock.getStockSymbol(), stockOrderBook);
+		}
 	}
 
 	/**
-	 * Method adds to the registeredStockMarketPlayers StockMarketPlayer.
+	 * Method adds to the registeredStockMarketPlayers StockMarketPlayer, the
+	 * player is registered if its code is not known yet.
 	 * 
 	 * @param stockMarketPlayerCode
 	 *            - String of Stock Market Player code.
+	 * 
+	 * @return StockMarketPlayer - registered player.
 	 */
-	public void registerStockMarketPlayer(String stockMarketPlayerCode) {
-		this.players.add(StockMarketPlayer.valueOfByCode(stockMarketPlayerCode));
+	public StockMarketPlayer registerStockMarketPlayer(String stockMarketPlayerCode) {
+		final StockMarketPlayer stockMarketPlayer = StockMarketPlayer.register(stockMarketPlayerCode);
+		this.players.add(stockMarketPlayer);
+		return stockMarketPlayer;
 	}
 
 	/**
@@ -97,7 +258,7 @@ public class StockMarket {
 	 * @param stock
 	 *            - AbstractStock of a stock buy order.
 	 * @param quantity
-	 *            - Integer of a stock buy order.
+	 *            - int of a stock buy order.
 	 * @param offeredPrice
 	 *            - BigDecimal offered price value of a stock buy order.
 	 * @param stockMarketPlayer
@@ -106,9 +267,83 @@ public class StockMarket {
 	 * @return executedStockOrderTransactions - Set<StockOrderTransaction>
 	 *         containing a set of an executed trade transactions.
 	 */
-	public Set<StockOrderTransaction> putBuyOrder(final AbstractStock stock, final Integer quantity, final BigDecimal offeredPrice, final StockMarketPlayer stockMarketPlayer) {
-		final StockOrderBook stockOrderBook = this.orderBooks.get(stock.getStockSymbol());
-		return stockOrderBook.addBuyStockOrder(stock, quantity, offeredPrice, stockMarketPlayer);
+	public Set<StockOrderTransaction> putBuyOrder(final AbstractStock stock, final int quantity, final BigDecimal offeredPrice, final StockMarketPlayer stockMarketPlayer) {
+		return putBuyOrder(stock, quantity, ScaledPrice.valueOf(offeredPrice), stockMarketPlayer);
+	}
+
+	/**
+	 * Method puts a buy order with an offered price scaled to 4 decimal digits
+	 * of a given stock symbol to the stockOrderBooks map.
+	 * 
+	 * In SINGLE_WRITER mode the order is published to the matching engine owning
+	 * the stock order book, an empty set is returned and executed trade
+	 * transactions are passed to the stockOrderTransactionListener of the stock
+	 * market on the matching engine thread.
+	 * 
+	 * @param stock
+	 *            - AbstractStock of a stock buy order.
+	 * @param quantity
+	 *            - int of a stock buy order.
+	 * @param scaledOfferedPrice
+	 *            - long scaled offered price value of a stock buy order.
+	 * @param stockMarketPlayer
+	 *            - StockMarketPlayer who is issuing stock buy order.
+	 * 
+	 * @return executedStockOrderTransactions - Set<StockOrderTransaction>
+	 *         containing a set of an executed trade transactions.
+	 */
+	public Set<StockOrderTransaction> putBuyOrder(final AbstractStock stock, final int quantity, final long scaledOfferedPrice, final StockMarketPlayer stockMarketPlayer) {
+		final Set<StockOrderTransaction> executedStockOrderTransactions = new TreeSet<>();
+		putBuyOrder(stock, quantity, scaledOfferedPrice, stockMarketPlayer,
+				this.concurrencyMode == StockMarketConcurrencyMode.SINGLE_WRITER ? null : executedStockOrderTransactions::add);
+		return executedStockOrderTransactions;
+	}
+
+	/**
+	 * Method puts a buy order with an offered price scaled to 4 decimal digits
+	 * of a given stock symbol to the stockOrderBooks map and passes each executed
+	 * trade transaction to a given listener, typically a reusable
+	 * StockOrderTransactionBuffer, so no collection is allocated per call.
+	 * 
+	 * In SINGLE_WRITER mode the order is published to the matching engine owning
+	 * the stock order book and 0 is returned at once. Executed trade transactions
+	 * are passed only to the stockOrderTransactionListener of the stock market on
+	 * the matching engine thread, so the given listener must be null.
+	 * 
+	 * @param stock
+	 *            - AbstractStock of a stock buy order.
+	 * @param quantity
+	 *            - int of a stock buy order.
+	 * @param scaledOfferedPrice
+	 *            - long scaled offered price value of a stock buy order.
+	 * @param stockMarketPlayer
+	 *            - StockMarketPlayer who is issuing stock buy order.
+	 * @param stockOrderTransactionListener
+	 *            - StockOrderTransactionListener receiving executed trade
+	 *            transactions, null in SINGLE_WRITER mode.
+	 * 
+	 * @return executedStockOrderTransactionsCount - int number of executed trade
+	 *         transactions passed to the listener.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if the stock is not traded on this stock market or a listener
+	 *             is given in SINGLE_WRITER mode.
+	 */
+	public int putBuyOrder(final AbstractStock stock, final int quantity, final long scaledOfferedPrice, final StockMarketPlayer stockMarketPlayer,
+			final StockOrderTransactionListener stockOrderTransactionListener) {
+		final StockOrderBook stockOrderBook = getListedStockOrderBook(stock.getStockSymbol());
+		if (this.concurrencyMode == StockMarketConcurrencyMode.SINGLE_WRITER) {
+			checkNoStockOrderTransactionListener(stockOrderTransactionListener);
+			getStockOrderMatchingEngine(stock.getStockSymbol()).publish(StockOrderTransactionType.BUY, stockOrderBook, stock, quantity, scaledOfferedPrice, stockMarketPlayer);
+			return 0;
+		}
+		final long submitNanoTime = System.nanoTime();
+		synchronized (getOrderBookMonitor(stockOrderBook)) {
+			final long acceptNanoTime = System.nanoTime();
+			final int executedStockOrderTransactionsCount = stockOrderBook.addBuyStockOrder(stock, quantity, scaledOfferedPrice, stockMarketPlayer, stockOrderTransactionListener);
+			stockOrderBook.getStockOrderLatencies().recordStockOrder(submitNanoTime, acceptNanoTime, System.nanoTime());
+			return executedStockOrderTransactionsCount;
+		}
 	}
 
 	/**
@@ -119,7 +354,7 @@ public class StockMarket {
 	 * @param stock
 	 *            - AbstractStock of a stock sell order.
 	 * @param quantity
-	 *            - Integer of a stock sell order.
+	 *            - int of a stock sell order.
 	 * @param offeredPrice
 	 *            - BigDecimal offered price value of a stock sell order.
 	 * @param stockMarketPlayer
@@ -128,35 +363,608 @@ public class StockMarket {
 	 * @return executedStockOrderTransactions - Set<StockOrderTransaction>
 	 *         containing a set of an executed trade transactions.
 	 */
-	public Set<StockOrderTransaction> putSellOrder(final AbstractStock stock, final Integer quantity, final BigDecimal offeredPrice, final StockMarketPlayer stockMarketPlayer) {
-		final StockOrderBook stockOrderBook = this.orderBooks.get(stock.getStockSymbol());
-		return stockOrderBook.addSellStockOrder(stock, quantity, offeredPrice, stockMarketPlayer);
+	public Set<StockOrderTransaction> putSellOrder(final AbstractStock stock, final int quantity, final BigDecimal offeredPrice, final StockMarketPlayer stockMarketPlayer) {
+		return putSellOrder(stock, quantity, ScaledPrice.valueOf(offeredPrice), stockMarketPlayer);
 	}
 
 	/**
-	 * Method calculates All Share Index using formula: power of 1/N of product of
-	 * all Volume Weighted Stock Prices that had trading activity (value different
-	 * of zero).
+	 * Method puts a sell order with an offered price scaled to 4 decimal digits
+	 * of a given stock symbol to the stockOrderBooks map.
 	 * 
-	 * @return BigDecimal of All Share Index.
+	 * In SINGLE_WRITER mode the order is published to the matching engine owning
+	 * the stock order book, an empty set is returned and executed trade
+	 * transactions are passed to the stockOrderTransactionListener of the stock
+	 * market on the matching engine thread.
+	 * 
+	 * @param stock
+	 *            - AbstractStock of a stock sell order.
+	 * @param quantity
+	 *            - int of a stock sell order.
+	 * @param scaledOfferedPrice
+	 *            - long scaled offered price value of a stock sell order.
+	 * @param stockMarketPlayer
+	 *            - StockMarketPlayer who is issuing stock sell order.
+	 * 
+	 * @return executedStockOrderTransactions - Set<StockOrderTransaction>
+	 *         containing a set of an executed trade transactions.
+	 */
+	public Set<StockOrderTransaction> putSellOrder(final AbstractStock stock, final int quantity, final long scaledOfferedPrice, final StockMarketPlayer stockMarketPlayer) {
+		final Set<StockOrderTransaction> executedStockOrderTransactions = new TreeSet<>();
+		putSellOrder(stock, quantity, scaledOfferedPrice, stockMarketPlayer,
+				this.concurrencyMode == StockMarketConcurrencyMode.SINGLE_WRITER ? null : executedStockOrderTransactions::add);
+		return executedStockOrderTransactions;
+	}
+
+	/**
+	 * Method puts a sell order with an offered price scaled to 4 decimal digits
+	 * of a given stock symbol to the stockOrderBooks map and passes each executed
+	 * trade transaction to a given listener, typically a reusable
+	 * StockOrderTransactionBuffer, so no collection is allocated per call.
+	 * 
+	 * In SINGLE_WRITER mode the order is published to the matching engine owning
+	 * the stock order book and 0 is returned at once. Executed trade transactions
+	 * are passed only to the stockOrderTransactionListener of the stock market on
+	 * the matching engine thread, so the given listener must be null.
+	 * 
+	 * @param stock
+	 *            - AbstractStock of a stock sell order.
+	 * @param quantity
+	 *            - int of a stock sell order.
+	 * @param scaledOfferedPrice
+	 *            - long scaled offered price value of a stock sell order.
+	 * @param stockMarketPlayer
+	 *            - StockMarketPlayer who is issuing stock sell order.
+	 * @param stockOrderTransactionListener
+	 *            - StockOrderTransactionListener receiving executed trade
+	 *            transactions, null in SINGLE_WRITER mode.
+	 * 
+	 * @return executedStockOrderTransactionsCount - int number of executed trade
+	 *         transactions passed to the listener.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if the stock is not traded on this stock market or a listener
+	 *             is given in SINGLE_WRITER mode.
+	 */
+	public int putSellOrder(final AbstractStock stock, final int quantity, final long scaledOfferedPrice, final StockMarketPlayer stockMarketPlayer,
+			final StockOrderTransactionListener stockOrderTransactionListener) {
+		final StockOrderBook stockOrderBook = getListedStockOrderBook(stock.getStockSymbol());
+		if (this.concurrencyMode == StockMarketConcurrencyMode.SINGLE_WRITER) {
+			checkNoStockOrderTransactionListener(stockOrderTransactionListener);
+			getStockOrderMatchingEngine(stock.getStockSymbol()).publish(StockOrderTransactionType.SELL, stockOrderBook, stock, quantity, scaledOfferedPrice, stockMarketPlayer);
+			return 0;
+		}
+		final long submitNanoTime = System.nanoTime();
+		synchronized (getOrderBookMonitor(stockOrderBook)) {
+			final long acceptNanoTime = System.nanoTime();
+			final int executedStockOrderTransactionsCount = stockOrderBook.addSellStockOrder(stock, quantity, scaledOfferedPrice, stockMarketPlayer, stockOrderTransactionListener);
+			stockOrderBook.getStockOrderLatencies().recordStockOrder(submitNanoTime, acceptNanoTime, System.nanoTime());
+			return executedStockOrderTransactionsCount;
+		}
+	}
+
+	/**
+	 * Method rejects a per-order listener in SINGLE_WRITER mode, where executed
+	 * trade transactions are passed only to the stockOrderTransactionListener of
+	 * the stock market after the order is published.
+	 * 
+	 * @param stockOrderTransactionListener
+	 *            - StockOrderTransactionListener given with the order.
+	 */
+	private static void checkNoStockOrderTransactionListener(final StockOrderTransactionListener stockOrderTransactionListener) {
+		if (stockOrderTransactionListener != null) {
+			throw new IllegalArgumentException(
+					"Stock order transaction listener of an order is not supported in SINGLE_WRITER mode, use the stock order transaction listener of the stock market");
+		}
+	}
+
+	/**
+	 * Method stops matching engines of SINGLE_WRITER mode after all published
+	 * orders are executed, stock order books may be read safely afterwards. It has
+	 * no effect in other modes.
+	 */
+	public void shutdown() {
+		for (StockOrderMatchingEngine matchingEngine : this.matchingEngines) {
+			matchingEngine.shutdown();
+		}
+		if (this.stockOrderJournal != null) {
+			this.stockOrderJournal.close();
+		}
+		unregisterMBeans();
+	}
+
+	/**
+	 * Method registers this stock market and each of its stock order books as
+	 * MBeans of the platform MBean server, stock order books registered
+	 * afterwards are registered as well. MBeans are unregistered by shutdown().
+	 * 
+	 * MBean names are org.sergei.sssm:type=StockMarket,name=stockMarketName and
+	 * org.sergei.sssm:type=StockOrderBook,market=stockMarketName,symbol=code,
+	 * names and codes are quoted.
+	 * 
+	 * @param stockMarketName
+	 *            - String name distinguishing this stock market from other ones
+	 *            of the JVM.
+	 */
+	public void registerMBeans(final String stockMarketName) {
+		if (this.mBeanStockMarketName != null) {
+			throw new IllegalStateException("Stock market MBeans are already registered: " + this.mBeanStockMarketName);
+		}
+		this.mBeanStockMarketName = stockMarketName;
+		registerMBean(MBEAN_DOMAIN + ":type=StockMarket,name=" + ObjectName.quote(stockMarketName), new StockMarketMetrics(this));
+		for (AbstractStock stock : this.stocks) {
+			registerStockOrderBookMBean(stock.getStockSymbol(), getStockOrderBook(stock.getStockSymbol()));
+		}
+	}
+
+	/**
+	 * Method registers the MBean of a stock order book.
+	 * 
+	 * @param stockSymbol
+	 *            - StockSymbol of the stock order book.
+	 * @param stockOrderBook
+	 *            - StockOrderBook to register.
+	 */
+	private void registerStockOrderBookMBean(final StockSymbol stockSymbol, final StockOrderBook stockOrderBook) {
+		registerMBean(MBEAN_DOMAIN + ":type=StockOrderBook,market=" + ObjectName.quote(this.mBeanStockMarketName) + ",symbol=" + ObjectName.quote(stockSymbol.getCode()),
+				stockOrderBook.getStockOrderBookMetrics());
+	}
+
+	/**
+	 * Method registers an MBean in the platform MBean server.
+	 * 
+	 * @param name
+	 *            - String object name of the MBean.
+	 * @param mBean
+	 *            - Object implementing an MXBean interface.
+	 */
+	private void registerMBean(final String name, final Object mBean) {
+		try {
+			final ObjectName objectName = new ObjectName(name);
+			ManagementFactory.getPlatformMBeanServer().registerMBean(mBean, objectName);
+			this.registeredMBeanNames.add(objectName);
+		} catch (JMException e) {
+			throw new StockMarketSystemException(e, "Error in registering MBean: " + name);
+		}
+	}
+
+	/**
+	 * Method unregisters all MBeans registered by this stock market, it has no
+	 * effect if MBeans are not registered.
+	 */
+	public void unregisterMBeans() {
+		final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+		for (ObjectName objectName : this.registeredMBeanNames) {
+			try {
+				mBeanServer.unregisterMBean(objectName);
+			} catch (JMException e) {
+				throw new StockMarketSystemException(e, "Error in unregistering MBean: " + objectName);
+			}
+		}
+		this.registeredMBeanNames.clear();
+		this.mBeanStockMarketName = null;
+	}
+
+	/**
+	 * Method opens the write-ahead journal of a given directory, rebuilds stock
+	 * order books by replaying journaled stock orders and then journals each
+	 * accepted stock order and executed trade transaction of all stock order
+	 * books. It is called once, after stock market companies are registered and
+	 * before trading starts, the journal is closed by shutdown().
+	 * 
+	 * Stock order books restored by loadSnapshot() skip journaled stock orders
+	 * already applied to the snapshot, so only the tail of the journal written
+	 * after the snapshot is replayed.
+	 * 
+	 * The journal session has a stream per matching engine in SINGLE_WRITER mode,
+	 * a stream per available processor in ORDER_BOOK_LOCK mode and a single
+	 * stream in GLOBAL_LOCK mode. Stock order books are assigned to streams like
+	 * to matching engines, so books of different writers do not share a stream.
+	 * 
+	 * @param directory
+	 *            - Path of the journal directory, created if it does not exist.
+	 * @param flushPolicy
+	 *            - StockOrderJournalFlushPolicy of the journal.
+	 * 
+	 * @return long - number of replayed stock orders.
+	 */
+	public long openStockOrderJournal(final Path directory, final StockOrderJournalFlushPolicy flushPolicy) {
+		if (this.stockOrderJournal != null) {
+			throw new IllegalStateException("Stock order journal is already open: " + this.stockOrderJournal.getDirectory());
+		}
+		final AbstractStock[] stocksById = getStocksById();
+		final long[] replayedStockOrdersCount = new long[1];
+		final StockOrderJournal journal = StockOrderJournal.open(directory, flushPolicy, getStockOrderJournalStreamsCount());
+		journal.replay((journalPosition, stockOrderType, stockSymbol, stockMarketPlayer, quantity, scaledOfferedPrice, timestampMillis) -> {
+			final StockOrderBook stockOrderBook = getStockOrderBook(stockSymbol);
+			if (stockOrderBook == null) {
+				throw new IllegalStateException("Journaled stock symbol is not registered on this stock market: " + stockSymbol);
+			}
+			if (journalPosition >= stockOrderBook.getRestoredJournalPosition()) {
+				stockOrderBook.replayStockOrder(stockOrderType, stocksById[stockSymbol.getId()], quantity, scaledOfferedPrice, stockMarketPlayer, timestampMillis);
+				replayedStockOrdersCount[0]++;
+			}
+		});
+		this.stockOrderJournal = journal;
+		for (int i = 0; i < this.stocks.size(); i++) {
+			getStockOrderBook(this.stocks.get(i).getStockSymbol()).setStockOrderJournalStream(journal.getStream(i % journal.getStreamsCount()));
+		}
+		return replayedStockOrdersCount[0];
+	}
+
+	/**
+	 * @return int - number of stock order journal streams of the concurrency
+	 *         mode.
+	 */
+	private int getStockOrderJournalStreamsCount() {
+		switch (this.concurrencyMode) {
+		case SINGLE_WRITER:
+			return Math.max(1, this.matchingEngines.length);
+		case ORDER_BOOK_LOCK:
+			return Runtime.getRuntime().availableProcessors();
+		default:
+			return 1;
+		}
+	}
+
+	/**
+	 * Method writes a binary snapshot of all stock order books to a given file in
+	 * the background, trading goes on meanwhile. A snapshot writer thread copies
+	 * the state of each stock order book in turn, holding its lock only for the
+	 * copy, or on its matching engine thread in SINGLE_WRITER mode, and then
+	 * writes the copies, so each stock order book is captured at a consistent
+	 * point in time. The file is replaced atomically once it is complete. It must
+	 * not be called after shutdown().
+	 * 
+	 * @param file
+	 *            - Path of the snapshot file.
+	 * 
+	 * @return CompletableFuture<Path> - completed with the file once it is
+	 *         written.
+	 */
+	public CompletableFuture<Path> writeSnapshot(final Path file) {
+		final List<AbstractStock> snapshotStocks = new ArrayList<>(this.stocks);
+		final CompletableFuture<Path> writtenSnapshot = new CompletableFuture<>();
+		final Thread snapshotWriterThread = new Thread(() -> {
+			try {
+				StockMarketSnapshotFile.write(file, captureStockOrderBookStates(snapshotStocks));
+				writtenSnapshot.complete(file);
+			} catch (RuntimeException e) {
+				writtenSnapshot.completeExceptionally(e);
+			}
+		}, SNAPSHOT_WRITER_THREAD_NAME);
+		snapshotWriterThread.start();
+		return writtenSnapshot;
+	}
+
+	/**
+	 * Method copies the state of the stock order book of each given stock.
+	 * 
+	 * @param snapshotStocks
+	 *            - List<AbstractStock> of the stocks.
+	 * 
+	 * @return List<StockOrderBookState> - states in the order of the stocks.
+	 */
+	private List<StockOrderBookState> captureStockOrderBookStates(final List<AbstractStock> snapshotStocks) {
+		final List<CompletableFuture<StockOrderBookState>> capturedStates = new ArrayList<>(snapshotStocks.size());
+		for (AbstractStock stock : snapshotStocks) {
+			final StockOrderBook stockOrderBook = getStockOrderBook(stock.getStockSymbol());
+			final CompletableFuture<StockOrderBookState> capturedState = new CompletableFuture<>();
+			if (this.concurrencyMode == StockMarketConcurrencyMode.SINGLE_WRITER) {
+				getStockOrderMatchingEngine(stock.getStockSymbol()).publishTask(() -> {
+					try {
+						capturedState.complete(stockOrderBook.captureState(stock));
+					} catch (RuntimeException e) {
+						capturedState.completeExceptionally(e);
+					}
+				});
+			} else {
+				synchronized (getOrderBookMonitor(stockOrderBook)) {
+					capturedState.complete(stockOrderBook.captureState(stock));
+				}
+			}
+			capturedStates.add(capturedState);
+		}
+		final List<StockOrderBookState> stockOrderBookStates = new ArrayList<>(capturedStates.size());
+		for (CompletableFuture<StockOrderBookState> capturedState : capturedStates) {
+			stockOrderBookStates.add(capturedState.join());
+		}
+		return stockOrderBookStates;
+	}
+
+	/**
+	 * Method restores stock order books from a snapshot written by
+	 * writeSnapshot(). It is called once, after stock market companies are
+	 * registered and before the stock order journal is opened and trading
+	 * starts. Stock prices, resting orders, Volume Weighted Stock Price
+	 * accumulators and sequence numbers are restored, executed trade transactions
+	 * of the snapshot are not.
+	 * 
+	 * @param file
+	 *            - Path of the snapshot file.
+	 * 
+	 * @return long - number of restored resting orders.
+	 */
+	public long loadSnapshot(final Path file) {
+		if (this.stockOrderJournal != null) {
+			throw new IllegalStateException("Stock market snapshot must be loaded before the stock order journal is opened");
+		}
+		final AbstractStock[] stocksById = getStocksById();
+		long restoredStockOrdersCount = 0;
+		for (StockOrderBookState stockOrderBookState : StockMarketSnapshotFile.read(file)) {
+			final StockOrderBook stockOrderBook = getStockOrderBook(stockOrderBookState.stockSymbol);
+			if (stockOrderBook == null) {
+				throw new IllegalStateException("Stock symbol of the snapshot is not registered on this stock market: " + stockOrderBookState.stockSymbol);
+			}
+			restoredStockOrdersCount += stockOrderBook.restoreState(stockOrderBookState, stocksById[stockOrderBookState.stockSymbol.getId()]);
+		}
+		return restoredStockOrdersCount;
+	}
+
+	/**
+	 * @return StockOrderBook[] - stock order books indexed by stock symbol id,
+	 *         null for symbols not traded on this stock market.
+	 */
+	StockOrderBook[] getStockOrderBooks() {
+		return this.orderBooks;
+	}
+
+	/**
+	 * @return AbstractStock[] - registered stocks indexed by stock symbol id.
+	 */
+	private AbstractStock[] getStocksById() {
+		final AbstractStock[] stocksById = new AbstractStock[StockSymbol.getRegisteredStockSymbolsCount()];
+		for (AbstractStock stock : this.stocks) {
+			stocksById[stock.getStockSymbol().getId()] = stock;
+		}
+		return stocksById;
+	}
+
+	/**
+	 * Method submits a batch of buy and sell orders across stock symbols. Orders
+	 * are grouped by stock symbol and each group is added to its stock order book
+	 * under one acquisition of the book's monitor, in submission order. Executed
+	 * trade transactions are appended to the given reusable result together with
+	 * the range of transactions of each order.
+	 * 
+	 * In SINGLE_WRITER mode each group is published to the matching engine owning
+	 * the stock order book, the result is left empty and executed trade
+	 * transactions are passed to the stockOrderTransactionListener.
+	 * 
+	 * @param stockOrderBatch
+	 *            - StockOrderBatch of orders to submit.
+	 * @param stockOrderBatchResult
+	 *            - StockOrderBatchResult cleared and filled with executed trade
+	 *            transactions.
+	 * 
+	 * @return executedStockOrderTransactionsCount - int number of executed trade
+	 *         transactions of the whole batch.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if the stock symbol is not traded on this stock market.
+	 */
+	public int submitBatch(final StockOrderBatch stockOrderBatch, final StockOrderBatchResult stockOrderBatchResult) {
+		stockOrderBatchResult.reset(stockOrderBatch.size());
+		final int[] groupedOrderIndexes = stockOrderBatch.groupByStockSymbol();
+		int groupStart = 0;
+
+		while (groupStart < stockOrderBatch.size()) {
+			final StockSymbol stockSymbol = stockOrderBatch.getStock(groupedOrderIndexes[groupStart]).getStockSymbol();
+			int groupEnd = groupStart + 1;
+			while (groupEnd < stockOrderBatch.size() && stockOrderBatch.getStock(groupedOrderIndexes[groupEnd]).getStockSymbol() == stockSymbol) {
+				groupEnd++;
+			}
+			final StockOrderBook stockOrderBook = getListedStockOrderBook(stockSymbol);
+			if (this.concurrencyMode == StockMarketConcurrencyMode.SINGLE_WRITER) {
+				publishStockOrders(getStockOrderMatchingEngine(stockSymbol), stockOrderBook, stockOrderBatch, groupedOrderIndexes, groupStart, groupEnd);
+			} else {
+				final long submitNanoTime = System.nanoTime();
+				synchronized (getOrderBookMonitor(stockOrderBook)) {
+					addStockOrders(stockOrderBook, stockOrderBatch, groupedOrderIndexes, groupStart, groupEnd, stockOrderBatchResult, submitNanoTime);
+				}
+			}
+			groupStart = groupEnd;
+		}
+		return stockOrderBatchResult.size();
+	}
+
+	/**
+	 * Method adds a group of batch orders of one stock symbol to its stock order
+	 * book, the caller holds the book's monitor.
+	 * 
+	 * @param stockOrderBook
+	 *            - StockOrderBook of the group stock symbol.
+	 * @param stockOrderBatch
+	 *            - StockOrderBatch of submitted orders.
+	 * @param groupedOrderIndexes
+	 *            - int[] order indexes grouped by stock symbol.
+	 * @param groupStart
+	 *            - int first position of the group, inclusive.
+	 * @param groupEnd
+	 *            - int last position of the group, exclusive.
+	 * @param stockOrderBatchResult
+	 *            - StockOrderBatchResult receiving executed trade transactions.
+	 * @param submitNanoTime
+	 *            - long System.nanoTime() of the group submission, each order of
+	 *            the group waits for the orders before it.
+	 */
+	private void addStockOrders(final StockOrderBook stockOrderBook, final StockOrderBatch stockOrderBatch, final int[] groupedOrderIndexes, final int groupStart, final int groupEnd,
+			final StockOrderBatchResult stockOrderBatchResult, final long submitNanoTime) {
+		long acceptNanoTime = System.nanoTime();
+		for (int i = groupStart; i < groupEnd; i++) {
+			final int orderIndex = groupedOrderIndexes[i];
+			final int firstStockOrderTransactionIndex = stockOrderBatchResult.size();
+			final int executedStockOrderTransactionsCount;
+			if (stockOrderBatch.getStockOrderType(orderIndex) == StockOrderTransactionType.BUY) {
+				executedStockOrderTransactionsCount = stockOrderBook.addBuyStockOrder(stockOrderBatch.getStock(orderIndex), stockOrderBatch.getQuantity(orderIndex),
+						stockOrderBatch.getScaledOfferedPrice(orderIndex), stockOrderBatch.getStockMarketPlayer(orderIndex), stockOrderBatchResult);
+			} else {
+				executedStockOrderTransactionsCount = stockOrderBook.addSellStockOrder(stockOrderBatch.getStock(orderIndex), stockOrderBatch.getQuantity(orderIndex),
+						stockOrderBatch.getScaledOfferedPrice(orderIndex), stockOrderBatch.getStockMarketPlayer(orderIndex), stockOrderBatchResult);
+			}
+			stockOrderBatchResult.setOrderStockOrderTransactions(orderIndex, firstStockOrderTransactionIndex, executedStockOrderTransactionsCount);
+			final long matchedNanoTime = System.nanoTime();
+			stockOrderBook.getStockOrderLatencies().recordStockOrder(submitNanoTime, acceptNanoTime, matchedNanoTime);
+			acceptNanoTime = matchedNanoTime;
+		}
+	}
+
+	/**
+	 * Method publishes a group of batch orders of one stock symbol to the
+	 * matching engine owning its stock order book.
+	 * 
+	 * @param stockOrderMatchingEngine
+	 *            - StockOrderMatchingEngine owning the stock order book.
+	 * @param stockOrderBook
+	 *            - StockOrderBook of the group stock symbol.
+	 * @param stockOrderBatch
+	 *            - StockOrderBatch of submitted orders.
+	 * @param groupedOrderIndexes
+	 *            - int[] order indexes grouped by stock symbol.
+	 * @param groupStart
+	 *            - int first position of the group, inclusive.
+	 * @param groupEnd
+	 *            - int last position of the group, exclusive.
+	 */
+	private void publishStockOrders(final StockOrderMatchingEngine stockOrderMatchingEngine, final StockOrderBook stockOrderBook, final StockOrderBatch stockOrderBatch,
+			final int[] groupedOrderIndexes, final int groupStart, final int groupEnd) {
+		for (int i = groupStart; i < groupEnd; i++) {
+			final int orderIndex = groupedOrderIndexes[i];
+			stockOrderMatchingEngine.publish(stockOrderBatch.getStockOrderType(orderIndex), stockOrderBook, stockOrderBatch.getStock(orderIndex), stockOrderBatch.getQuantity(orderIndex),
+					stockOrderBatch.getScaledOfferedPrice(orderIndex), stockOrderBatch.getStockMarketPlayer(orderIndex));
+		}
+	}
+
+	/**
+	 * Method returns the monitor guarding a given stock order book: this stock
+	 * market in GLOBAL_LOCK mode, or the stock order book itself in
+	 * ORDER_BOOK_LOCK mode.
+	 * 
+	 * @param stockOrderBook
+	 *            - StockOrderBook to guard.
+	 * 
+	 * @return Object - monitor to synchronize on.
+	 */
+	private Object getOrderBookMonitor(final StockOrderBook stockOrderBook) {
+		if (this.concurrencyMode == StockMarketConcurrencyMode.ORDER_BOOK_LOCK) {
+			return stockOrderBook;
+		}
+		return this;
+	}
+
+	/**
+	 * Method returns All Share Index: power of 1/N of product of all Volume
+	 * Weighted Stock Prices that had trading activity (value different of zero).
+	 * The index is maintained by stock order books as their prices change, so
+	 * this call costs O(1) at any number of stocks and takes no lock.
+	 * 
+	 * @return BigDecimal of All Share Index, zero if no stock was traded.
 	 */
 	public BigDecimal calculateAllShareIndex() {
-		BigDecimal volumeWeightedStockPricesProduct = BigDecimal.ONE;
-		int volumeWeightedStocksPricesCount = 0;
+		return this.allShareIndex.calculateAllShareIndex();
+	}
+
+	/**
+	 * Method returns retained trade transactions of a stock symbol completed
+	 * within a time range, optionally filtered by a player on either side and by
+	 * the type of the incoming order. Transactions are found through the time
+	 * index of the stock order book, so the cost is O(log n) plus the number of
+	 * transactions of the range. It takes no lock of the stock order book and
+	 * returns the transactions executed up to the call.
+	 * 
+	 * @param stockSymbol
+	 *            - StockSymbol of the stock order book.
+	 * @param fromTimeMillis
+	 *            - long first completion time in milliseconds since the epoch,
+	 *            inclusive.
+	 * @param toTimeMillis
+	 *            - long last completion time in milliseconds since the epoch,
+	 *            inclusive.
+	 * @param stockMarketPlayer
+	 *            - StockMarketPlayer who bought or sold, null for any player.
+	 * @param stockOrderTransactionType
+	 *            - StockOrderTransactionType of the incoming order, null for both
+	 *            types.
+	 * 
+	 * @return List<StockOrderTransaction> - transactions in sequence order.
+	 */
+	public List<StockOrderTransaction> findStockOrderTransactions(final StockSymbol stockSymbol, final long fromTimeMillis, final long toTimeMillis,
+			final StockMarketPlayer stockMarketPlayer, final StockOrderTransactionType stockOrderTransactionType) {
+		final List<StockOrderTransaction> stockOrderTransactions = new ArrayList<>();
+		final StockOrderBook stockOrderBook = getStockOrderBook(stockSymbol);
+		if (stockOrderBook == null) {
+			return stockOrderTransactions;
+		}
+		stockOrderBook.getStockOrderTransactions().scanByTime(fromTimeMillis, toTimeMillis, stockOrderTransaction -> {
+			if ((stockMarketPlayer == null || stockOrderTransaction.getStockBuyOrder().getStockMarketPlayer() == stockMarketPlayer
+					|| stockOrderTransaction.getStockSellOrder().getStockMarketPlayer() == stockMarketPlayer)
+					&& (stockOrderTransactionType == null || stockOrderTransaction.getStockOrderTransactionType() == stockOrderTransactionType)) {
+				stockOrderTransactions.add(stockOrderTransaction);
+			}
+		});
+		return stockOrderTransactions;
+	}
 
-		for (Entry<StockSymbol, StockOrderBook> stockOrderBookEntry : this.orderBooks.entrySet()) {
-			final StockOrderBook stockOrderBook = stockOrderBookEntry.getValue();
-			final BigDecimal volumeWeightedStockPrice = stockOrderBook.calculateVolumeWeightedStockPrice();
+	/**
+	 * Method returns the position of a player in a given stock, marked at the
+	 * current stock price. It takes no lock of the stock order book and may be
+	 * called while trading.
+	 * 
+	 * @param stockMarketPlayer
+	 *            - StockMarketPlayer of the position.
+	 * @param stock
+	 *            - AbstractStock of the position.
+	 * 
+	 * @return StockPosition.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if the stock symbol is not traded on this stock market.
+	 */
+	public StockPosition getStockPosition(final StockMarketPlayer stockMarketPlayer, final AbstractStock stock) {
+		return getListedStockOrderBook(stock.getStockSymbol()).getStockPositions().getStockPosition(stockMarketPlayer, stock);
+	}
 
-			if (BigDecimal.ZERO.compareTo(volumeWeightedStockPrice) != 0) {
-				volumeWeightedStockPricesProduct = volumeWeightedStockPricesProduct.multiply(volumeWeightedStockPrice);
-				volumeWeightedStocksPricesCount++;
+	/**
+	 * Method returns positions of a player in all stocks it has traded, marked at
+	 * current stock prices, in order of stock registration.
+	 * 
+	 * @param stockMarketPlayer
+	 *            - StockMarketPlayer of the positions.
+	 * 
+	 * @return List<StockPosition> - positions which are open or have realized
+	 *         Profit and Loss.
+	 */
+	public List<StockPosition> getStockPositions(final StockMarketPlayer stockMarketPlayer) {
+		final List<StockPosition> stockPositions = new ArrayList<>();
+		for (AbstractStock stock : this.stocks) {
+			final StockPosition stockPosition = getStockPosition(stockMarketPlayer, stock);
+			if (stockPosition.getQuantity() != 0 || stockPosition.getScaledRealizedProfitAndLoss() != 0) {
+				stockPositions.add(stockPosition);
 			}
 		}
+		return stockPositions;
+	}
 
-		final BigDecimal power = BigDecimal.ONE.divide(BigDecimal.valueOf(volumeWeightedStocksPricesCount), NumberFormatter.SCALE_4_DECIMAL_DIGITS, RoundingMode.HALF_EVEN);
+	/**
+	 * Method returns the stock order latency histograms of a given stock symbol,
+	 * interval and total snapshots may be taken from any thread while trading.
+	 * 
+	 * @param stockSymbol
+	 *            - StockSymbol of the stock order book.
+	 * 
+	 * @return StockOrderLatencies.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if the stock symbol is not traded on this stock market.
+	 */
+	public StockOrderLatencies getStockOrderLatencies(final StockSymbol stockSymbol) {
+		return getListedStockOrderBook(stockSymbol).getStockOrderLatencies();
+	}
 
-		return BigDecimal.valueOf(Math.pow(volumeWeightedStockPricesProduct.doubleValue(), power.doubleValue())).setScale(NumberFormatter.SCALE_4_DECIMAL_DIGITS, RoundingMode.HALF_EVEN);
+	/**
+	 * @return the allShareIndex
+	 */
+	public AllShareIndex getAllShareIndex() {
+		return allShareIndex;
 	}
 
 	/**
@@ -174,9 +982,150 @@ public class StockMarket {
 	}
 
 	/**
-	 * @return the orderBooks
+	 * @return the concurrencyMode
+	 */
+	public StockMarketConcurrencyMode getConcurrencyMode() {
+		return concurrencyMode;
+	}
+
+	/**
+	 * @param stockOrderTransactionRetention
+	 *            the stockOrderTransactionRetention to set, it applies to stock
+	 *            order books registered afterwards.
+	 */
+	public void setStockOrderTransactionRetention(StockOrderTransactionRetention stockOrderTransactionRetention) {
+		this.stockOrderTransactionRetention = stockOrderTransactionRetention;
+	}
+
+	/**
+	 * @param volumeWeightedStockPriceWindows
+	 *            the volumeWeightedStockPriceWindows to set, they apply to stock
+	 *            order books registered afterwards.
+	 */
+	public void setVolumeWeightedStockPriceWindows(VolumeWeightedStockPriceWindow... volumeWeightedStockPriceWindows) {
+		this.volumeWeightedStockPriceWindows = volumeWeightedStockPriceWindows.clone();
+	}
+
+	/**
+	 * @param candleIntervals
+	 *            the candleIntervals to set, they apply to stock order books
+	 *            registered afterwards.
+	 */
+	public void setCandleIntervals(CandleInterval... candleIntervals) {
+		this.candleIntervals = candleIntervals.clone();
+	}
+
+	/**
+	 * @param stockOrderBookSnapshotDepth
+	 *            the number of price levels per side published in snapshots, it
+	 *            applies to stock order books registered afterwards.
+	 */
+	public void setStockOrderBookSnapshotDepth(int stockOrderBookSnapshotDepth) {
+		this.stockOrderBookSnapshotDepth = stockOrderBookSnapshotDepth;
+	}
+
+	/**
+	 * @return the stockMarketClock
+	 */
+	public StockMarketClock getStockMarketClock() {
+		return stockMarketClock;
+	}
+
+	/**
+	 * @param stockMarketClock
+	 *            the stockMarketClock to set, it applies to stock order books
+	 *            registered afterwards.
+	 */
+	public void setStockMarketClock(StockMarketClock stockMarketClock) {
+		this.stockMarketClock = stockMarketClock;
+	}
+
+	/**
+	 * Method returns the latest market data snapshot of a stock order book, it is
+	 * safe to call from any thread in any concurrency mode and takes no lock.
+	 * 
+	 * @param stockSymbol
+	 *            - StockSymbol of the stock order book.
+	 * 
+	 * @return StockOrderBookSnapshot.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if the stock symbol is not traded on this stock market.
+	 */
+	public StockOrderBookSnapshot getStockOrderBookSnapshot(final StockSymbol stockSymbol) {
+		return getListedStockOrderBook(stockSymbol).getSnapshot();
+	}
+
+	/**
+	 * @return the stockOrderJournal, null if journaling is disabled.
+	 */
+	public StockOrderJournal getStockOrderJournal() {
+		return stockOrderJournal;
+	}
+
+	/**
+	 * @param stockOrderTransactionListener
+	 *            the stockOrderTransactionListener to set, it receives executed
+	 *            trade transactions of SINGLE_WRITER mode on matching engine
+	 *            threads.
+	 */
+	public void setStockOrderTransactionListener(StockOrderTransactionListener stockOrderTransactionListener) {
+		this.stockOrderTransactionListener = stockOrderTransactionListener;
+	}
+
+	/**
+	 * Method returns the stock order book of a given stock symbol in constant
+	 * time.
+	 * 
+	 * @param stockSymbol
+	 *            - StockSymbol of the stock order book.
+	 * 
+	 * @return StockOrderBook - stock order book or null if the stock symbol is not
+	 *         traded on this stock market.
+	 */
+	public StockOrderBook getStockOrderBook(final StockSymbol stockSymbol) {
+		final StockOrderBook[] stockOrderBooks = this.orderBooks;
+		return stockSymbol.getId() < stockOrderBooks.length ? stockOrderBooks[stockSymbol.getId()] : null;
+	}
+
+	/**
+	 * Method returns the stock order book of a stock symbol listed on this stock
+	 * market.
+	 * 
+	 * @param stockSymbol
+	 *            - StockSymbol of the stock order book.
+	 * 
+	 * @return StockOrderBook - stock order book.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if the stock symbol is not traded on this stock market.
+	 */
+	private StockOrderBook getListedStockOrderBook(final StockSymbol stockSymbol) {
+		final StockOrderBook stockOrderBook = getStockOrderBook(stockSymbol);
+		if (stockOrderBook == null) {
+			throw new IllegalArgumentException("Stock symbol is not traded on this stock market: " + stockSymbol.getCode());
+		}
+		return stockOrderBook;
+	}
+
+	/**
+	 * Method returns the matching engine owning the stock order book of a stock
+	 * symbol listed on this stock market in SINGLE_WRITER mode.
+	 * 
+	 * @param stockSymbol
+	 *            - StockSymbol of the stock order book.
+	 * 
+	 * @return StockOrderMatchingEngine - matching engine of the stock order book.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if the stock symbol is not traded on this stock market.
 	 */
-	public Map<StockSymbol, StockOrderBook> getOrderBooks() {
-		return orderBooks;
+	private StockOrderMatchingEngine getStockOrderMatchingEngine(final StockSymbol stockSymbol) {
+		final StockOrderMatchingEngine[] stockOrderMatchingEngines = this.orderBookMatchingEngines;
+		final StockOrderMatchingEngine stockOrderMatchingEngine = stockSymbol.getId() < stockOrderMatchingEngines.length ? stockOrderMatchingEngines[stockSymbol.getId()] : null;
+		if (stockOrderMatchingEngine == null) {
+			throw new IllegalArgumentException("Stock symbol is not traded on this stock market: " + stockSymbol.getCode());
+		}
+		return stockOrderMatchingEngine;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package org.sergei.sssm.model;
+
+/**
+ * Source of time of stock orders, executed trade transactions and rolling
+ * windows. The stock market reads wall-clock time by default, a simulation
+ * replaces it with a simulated clock so its trade tape does not depend on the
+ * speed of the machine.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public interface StockMarketClock {
+	/**
+	 * Wall-clock time of System.currentTimeMillis() and System.nanoTime().
+	 */
+	StockMarketClock SYSTEM = new StockMarketClock() {
+		@Override
+		public long currentTimeMillis() {
+			return System.currentTimeMillis();
+		}
+
+		@Override
+		public long nanoTime() {
+			return System.nanoTime();
+		}
+	};
+
+	/**
+	 * @return current time in milliseconds since the epoch.
+	 */
+	long currentTimeMillis();
+
+	/**
+	 * @return current value of a monotonic time source in nanoseconds, only
+	 *         differences of two values are meaningful.
+	 */
+	long nanoTime();
+}
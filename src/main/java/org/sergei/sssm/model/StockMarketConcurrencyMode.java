@@ -0,0 +1,41 @@
+package org.sergei.sssm.model;
+
+/**
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.16. initial version
+ */
+public enum StockMarketConcurrencyMode {
+	/**
+	 * All stock order books are guarded by a single stock market monitor.
+	 */
+	GLOBAL_LOCK("Global lock"),
+	/**
+	 * Each stock order book is guarded by its own monitor, orders of different
+	 * stock symbols are matched in parallel.
+	 */
+	ORDER_BOOK_LOCK("Order book lock"),
+	/**
+	 * Each stock order book is owned by a single matching engine thread fed by a
+	 * lock-free ring buffer, no lock is taken on stock order books.
+	 */
+	SINGLE_WRITER("Single writer");
+
+	private String description;
+
+	/**
+	 * Constructor initializes description attribute.
+	 *
+	 * @param description
+	 *            - String concurrency mode description value.
+	 */
+	private StockMarketConcurrencyMode(final String description) {
+		this.description = description;
+	}
+
+	/**
+	 * @return the description
+	 */
+	public String getDescription() {
+		return description;
+	}
+}
@@ -0,0 +1,96 @@
+package org.sergei.sssm.model;
+
+import java.math.BigDecimal;
+import java.util.function.ToLongFunction;
+
+/**
+ * Live counters of a stock market exposed as an MXBean. Nothing is recorded at
+ * the stock market level, each attribute sums the counters of the stock order
+ * books when it is read, so trading threads pay nothing for it.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public class StockMarketMetrics implements StockMarketMetricsMXBean {
+	private final StockMarket stockMarket;
+
+	/**
+	 * Constructor initializes class attributes.
+	 *
+	 * @param stockMarket
+	 *            - StockMarket of the counters.
+	 */
+	StockMarketMetrics(final StockMarket stockMarket) {
+		this.stockMarket = stockMarket;
+	}
+
+	@Override
+	public String getConcurrencyMode() {
+		return this.stockMarket.getConcurrencyMode().getDescription();
+	}
+
+	@Override
+	public int getStockOrderBooksCount() {
+		int stockOrderBooksCount = 0;
+		for (StockOrderBook stockOrderBook : this.stockMarket.getStockOrderBooks()) {
+			if (stockOrderBook != null) {
+				stockOrderBooksCount++;
+			}
+		}
+		return stockOrderBooksCount;
+	}
+
+	@Override
+	public long getBuyStockOrdersCount() {
+		return sum(StockOrderBookMetrics::getBuyStockOrdersCount);
+	}
+
+	@Override
+	public long getSellStockOrdersCount() {
+		return sum(StockOrderBookMetrics::getSellStockOrdersCount);
+	}
+
+	@Override
+	public long getStockOrderTransactionsCount() {
+		return sum(StockOrderBookMetrics::getStockOrderTransactionsCount);
+	}
+
+	@Override
+	public long getTradedQuantity() {
+		return sum(StockOrderBookMetrics::getTradedQuantity);
+	}
+
+	@Override
+	public long getRestingBuyStockOrdersCount() {
+		return sum(StockOrderBookMetrics::getRestingBuyStockOrdersCount);
+	}
+
+	@Override
+	public long getRestingSellStockOrdersCount() {
+		return sum(StockOrderBookMetrics::getRestingSellStockOrdersCount);
+	}
+
+	@Override
+	public BigDecimal getAllShareIndex() {
+		return this.stockMarket.calculateAllShareIndex();
+	}
+
+	/**
+	 * Method sums a counter of all stock order books.
+	 *
+	 * @param counter
+	 *            - ToLongFunction<StockOrderBookMetrics> reading the counter of
+	 *            one stock order book.
+	 *
+	 * @return long - sum of the counter.
+	 */
+	private long sum(final ToLongFunction<StockOrderBookMetrics> counter) {
+		long sum = 0;
+		for (StockOrderBook stockOrderBook : this.stockMarket.getStockOrderBooks()) {
+			if (stockOrderBook != null) {
+				sum += counter.applyAsLong(stockOrderBook.getStockOrderBookMetrics());
+			}
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,58 @@
+package org.sergei.sssm.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Management interface of a stock market, registered by
+ * StockMarket.registerMBeans() and readable with jconsole or any JMX client.
+ * Counters are summed over all stock order books.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public interface StockMarketMetricsMXBean {
+	/**
+	 * @return the description of the concurrency mode guarding stock order books.
+	 */
+	String getConcurrencyMode();
+
+	/**
+	 * @return the number of stock order books.
+	 */
+	int getStockOrderBooksCount();
+
+	/**
+	 * @return the number of accepted buy orders.
+	 */
+	long getBuyStockOrdersCount();
+
+	/**
+	 * @return the number of accepted sell orders.
+	 */
+	long getSellStockOrdersCount();
+
+	/**
+	 * @return the number of executed trade transactions.
+	 */
+	long getStockOrderTransactionsCount();
+
+	/**
+	 * @return the sum of stocks quantity of executed trade transactions.
+	 */
+	long getTradedQuantity();
+
+	/**
+	 * @return the number of resting buy orders.
+	 */
+	long getRestingBuyStockOrdersCount();
+
+	/**
+	 * @return the number of resting sell orders.
+	 */
+	long getRestingSellStockOrdersCount();
+
+	/**
+	 * @return the All Share Index.
+	 */
+	BigDecimal getAllShareIndex();
+}
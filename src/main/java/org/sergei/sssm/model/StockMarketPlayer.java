@@ -1,46 +1,125 @@
 package org.sergei.sssm.model;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
+ * Stock market player identified by its code. Players are kept in a dynamic
+ * registry: any number of players can be registered at runtime, each code maps
+ * to a single instance with a unique, dense id, so players can be compared by
+ * reference and used as array indexes. The first ten players are predefined.
+ *
  * @author - Sergei Shurpenkov
  * @date - 2017.10.01. initial version
  */
-public enum StockMarketPlayer {
-	PLAYER1("Player  1"), PLAYER2("Player  2"), PLAYER3("Player  3"), PLAYER4("Player  4"), PLAYER5("Player  5"), PLAYER6("Player  6"), PLAYER7("Player  7"), PLAYER8("Player  8"), PLAYER9(
-			"Player  9"), PLAYER10("Player 10");
+public final class StockMarketPlayer {
+	private static final Map<String, StockMarketPlayer> REGISTERED_PLAYERS = new ConcurrentHashMap<>();
+	private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+	public static final StockMarketPlayer PLAYER1 = register("Player  1");
+	public static final StockMarketPlayer PLAYER2 = register("Player  2");
+	public static final StockMarketPlayer PLAYER3 = register("Player  3");
+	public static final StockMarketPlayer PLAYER4 = register("Player  4");
+	public static final StockMarketPlayer PLAYER5 = register("Player  5");
+	public static final StockMarketPlayer PLAYER6 = register("Player  6");
+	public static final StockMarketPlayer PLAYER7 = register("Player  7");
+	public static final StockMarketPlayer PLAYER8 = register("Player  8");
+	public static final StockMarketPlayer PLAYER9 = register("Player  9");
+	public static final StockMarketPlayer PLAYER10 = register("Player 10");
 
-	private String code;
+	private final int id;
+	private final String code;
 
 	/**
-	 * Constructor initializes code attribute.
-	 * 
-	 * @param description
-	 *            - String stock symbol code value.
+	 * Constructor initializes class attributes.
+	 *
+	 * @param id
+	 *            - int unique id of the player.
+	 * @param code
+	 *            - String stock market player code value.
 	 */
-	private StockMarketPlayer(final String code) {
+	private StockMarketPlayer(final int id, final String code) {
+		this.id = id;
 		this.code = code;
 	}
 
 	/**
-	 * @return the code
+	 * Method registers a player of a given code, or returns the already
+	 * registered one. It is safe to call from any thread.
+	 *
+	 * @param stockMarketPlayerCode
+	 *            - String of stock market player code.
+	 *
+	 * @return StockMarketPlayer - registered player.
 	 */
-	public String getCode() {
-		return code;
+	public static StockMarketPlayer register(final String stockMarketPlayerCode) {
+		return REGISTERED_PLAYERS.computeIfAbsent(stockMarketPlayerCode, code -> new StockMarketPlayer(NEXT_ID.getAndIncrement(), code));
+	}
+
+	/**
+	 * Method formats a player code of a given number the way predefined players
+	 * are named, e.g. "Player  7" or "Player 1234".
+	 *
+	 * @param playerNumber
+	 *            - int player number.
+	 *
+	 * @return String - player code.
+	 */
+	public static String formatCode(final int playerNumber) {
+		return String.format("Player %2d", playerNumber);
 	}
 
 	/**
-	 * Method searches for a StockMarketPlayer constant by code parameter.
-	 * 
+	 * Method searches for a registered StockMarketPlayer by code parameter.
+	 *
 	 * @param stockMarketPlayerCode
 	 *            - String of stock market player code.
-	 * 
-	 * @return StockMarketPlayer - found constant or null.
+	 *
+	 * @return StockMarketPlayer - found player or null.
 	 */
 	public static StockMarketPlayer valueOfByCode(String stockMarketPlayerCode) {
-		for (StockMarketPlayer stockMarketPlayer : StockMarketPlayer.values()) {
-			if (stockMarketPlayer.getCode().equals(stockMarketPlayerCode)) {
-				return stockMarketPlayer;
-			}
-		}
-		return null;
+		return REGISTERED_PLAYERS.get(stockMarketPlayerCode);
+	}
+
+	/**
+	 * @return all registered players ordered by id.
+	 */
+	public static List<StockMarketPlayer> values() {
+		final List<StockMarketPlayer> stockMarketPlayers = new ArrayList<>(REGISTERED_PLAYERS.values());
+		stockMarketPlayers.sort((playerOne, playerTwo) -> Integer.compare(playerOne.id, playerTwo.id));
+		return stockMarketPlayers;
+	}
+
+	/**
+	 * @return the number of registered players, which is also the upper bound of
+	 *         player ids.
+	 */
+	public static int getRegisteredPlayersCount() {
+		return NEXT_ID.get();
+	}
+
+	/**
+	 * @return the id
+	 */
+	public int getId() {
+		return id;
+	}
+
+	/**
+	 * @return the code
+	 */
+	public String getCode() {
+		return code;
+	}
+
+	/**
+	 * Method represents this object as string value.
+	 */
+	@Override
+	public String toString() {
+		return code;
 	}
 }
@@ -0,0 +1,298 @@
+package org.sergei.sssm.model;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.sergei.sssm.exeption.StockMarketSystemException;
+
+/**
+ * Compact little-endian binary file of stock order book states. The file is
+ * written through a direct buffer to a temporary file, forced to the storage
+ * device and atomically renamed, so a crash during writing leaves the previous
+ * snapshot intact. It is read through a memory mapping, resting orders are
+ * fixed-size 24 bytes records read without any parsing.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+final class StockMarketSnapshotFile {
+	/**
+	 * "SSSM" in ASCII.
+	 */
+	private static final int MAGIC = 0x5353534D;
+	private static final int VERSION = 1;
+	private static final int BUFFER_SIZE = 1 << 20;
+	private static final int MAX_CODE_LENGTH = 0xFFFF;
+	private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+	/**
+	 * Private constructor throws illegal state exception in case of instantiation
+	 * execution.
+	 */
+	private StockMarketSnapshotFile() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * Method writes stock order book states to a given file, replacing it
+	 * atomically.
+	 *
+	 * @param file
+	 *            - Path of the snapshot file.
+	 * @param stockOrderBookStates
+	 *            - List<StockOrderBookState> to write.
+	 */
+	static void write(final Path file, final List<StockOrderBookState> stockOrderBookStates) {
+		final Path temporaryFile = file.resolveSibling(file.getFileName() + TEMPORARY_FILE_SUFFIX);
+		try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			buffer.putInt(MAGIC).putInt(VERSION).putInt(stockOrderBookStates.size());
+			for (StockOrderBookState stockOrderBookState : stockOrderBookStates) {
+				writeStockOrderBookState(channel, buffer, stockOrderBookState);
+			}
+			ensureRemaining(channel, buffer, Integer.BYTES);
+			buffer.putInt(MAGIC);
+			flush(channel, buffer);
+			channel.force(true);
+		} catch (IOException e) {
+			throw new StockMarketSystemException(e, "Stock market snapshot cannot be written: " + temporaryFile);
+		}
+		try {
+			Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			throw new StockMarketSystemException(e, "Stock market snapshot cannot be renamed: " + file);
+		}
+	}
+
+	/**
+	 * Method writes one stock order book state.
+	 *
+	 * @param channel
+	 *            - FileChannel of the file.
+	 * @param buffer
+	 *            - ByteBuffer of pending bytes.
+	 * @param stockOrderBookState
+	 *            - StockOrderBookState to write.
+	 *
+	 * @throws IOException
+	 *             - if writing fails.
+	 */
+	private static void writeStockOrderBookState(final FileChannel channel, final ByteBuffer buffer, final StockOrderBookState stockOrderBookState) throws IOException {
+		writeCode(channel, buffer, stockOrderBookState.stockSymbol.getCode());
+		ensureRemaining(channel, buffer, 8 * Long.BYTES + Integer.BYTES);
+		buffer.putLong(stockOrderBookState.capturedTimeMillis).putLong(stockOrderBookState.journalPosition).putLong(stockOrderBookState.scaledStockPrice)
+				.putLong(stockOrderBookState.scaledLastTradePrice).putLong(stockOrderBookState.totalScaledPriceQuantitySum).putLong(stockOrderBookState.totalQuantity)
+				.putLong(stockOrderBookState.lastTransactionSequenceNumber).putLong(stockOrderBookState.snapshotVersion).putInt(stockOrderBookState.windowStates.length);
+		for (int i = 0; i < stockOrderBookState.windowStates.length; i++) {
+			ensureRemaining(channel, buffer, 1 + Long.BYTES + Integer.BYTES);
+			buffer.put((byte) (stockOrderBookState.timeBasedWindows[i] ? 1 : 0)).putLong(stockOrderBookState.windowBucketWidths[i]).putInt(stockOrderBookState.windowStates[i].length);
+			for (long value : stockOrderBookState.windowStates[i]) {
+				ensureRemaining(channel, buffer, Long.BYTES);
+				buffer.putLong(value);
+			}
+		}
+		ensureRemaining(channel, buffer, Integer.BYTES);
+		buffer.putInt(stockOrderBookState.stockMarketPlayers.length);
+		for (StockMarketPlayer stockMarketPlayer : stockOrderBookState.stockMarketPlayers) {
+			writeCode(channel, buffer, stockMarketPlayer.getCode());
+		}
+		writeRestingStockOrders(channel, buffer, stockOrderBookState.buyStockOrders);
+		writeRestingStockOrders(channel, buffer, stockOrderBookState.sellStockOrders);
+	}
+
+	/**
+	 * Method writes resting orders of one side.
+	 *
+	 * @param channel
+	 *            - FileChannel of the file.
+	 * @param buffer
+	 *            - ByteBuffer of pending bytes.
+	 * @param restingStockOrders
+	 *            - StockOrderBookState.RestingStockOrders to write.
+	 *
+	 * @throws IOException
+	 *             - if writing fails.
+	 */
+	private static void writeRestingStockOrders(final FileChannel channel, final ByteBuffer buffer, final StockOrderBookState.RestingStockOrders restingStockOrders)
+			throws IOException {
+		ensureRemaining(channel, buffer, Integer.BYTES);
+		buffer.putInt(restingStockOrders.count);
+		for (int i = 0; i < restingStockOrders.count; i++) {
+			ensureRemaining(channel, buffer, 2 * Integer.BYTES + 2 * Long.BYTES);
+			buffer.putInt(restingStockOrders.playerIndexes[i]).putInt(restingStockOrders.quantities[i]).putLong(restingStockOrders.scaledOfferedPrices[i])
+					.putLong(restingStockOrders.timestampsMillis[i]);
+		}
+	}
+
+	/**
+	 * Method writes a stock symbol or player code as its UTF-8 length and bytes.
+	 *
+	 * @param channel
+	 *            - FileChannel of the file.
+	 * @param buffer
+	 *            - ByteBuffer of pending bytes.
+	 * @param code
+	 *            - String code.
+	 *
+	 * @throws IOException
+	 *             - if writing fails.
+	 */
+	private static void writeCode(final FileChannel channel, final ByteBuffer buffer, final String code) throws IOException {
+		final byte[] codeBytes = code.getBytes(StandardCharsets.UTF_8);
+		if (codeBytes.length > MAX_CODE_LENGTH) {
+			throw new IllegalArgumentException("Code is too long to be written to a snapshot: " + code);
+		}
+		ensureRemaining(channel, buffer, Short.BYTES + codeBytes.length);
+		buffer.putShort((short) codeBytes.length).put(codeBytes);
+	}
+
+	/**
+	 * Method writes pending bytes if the buffer has not enough room left.
+	 *
+	 * @param channel
+	 *            - FileChannel of the file.
+	 * @param buffer
+	 *            - ByteBuffer of pending bytes.
+	 * @param length
+	 *            - int number of bytes to put next.
+	 *
+	 * @throws IOException
+	 *             - if writing fails.
+	 */
+	private static void ensureRemaining(final FileChannel channel, final ByteBuffer buffer, final int length) throws IOException {
+		if (buffer.remaining() < length) {
+			flush(channel, buffer);
+		}
+	}
+
+	/**
+	 * Method writes all pending bytes. Buffer methods are called through Buffer,
+	 * so the class links on Java 8 when compiled by a later JDK.
+	 *
+	 * @param channel
+	 *            - FileChannel of the file.
+	 * @param buffer
+	 *            - ByteBuffer of pending bytes.
+	 *
+	 * @throws IOException
+	 *             - if writing fails.
+	 */
+	private static void flush(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+		((Buffer) buffer).flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		((Buffer) buffer).clear();
+	}
+
+	/**
+	 * Method reads stock order book states of a given file, stock symbols and
+	 * players are registered by their codes.
+	 *
+	 * @param file
+	 *            - Path of the snapshot file.
+	 *
+	 * @return List<StockOrderBookState> - read states.
+	 */
+	static List<StockOrderBookState> read(final Path file) {
+		final MappedByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		} catch (IOException e) {
+			throw new StockMarketSystemException(e, "Stock market snapshot cannot be read: " + file);
+		}
+		buffer.order(ByteOrder.LITTLE_ENDIAN);
+		if (buffer.remaining() < 4 * Integer.BYTES || buffer.getInt() != MAGIC || buffer.getInt() != VERSION || buffer.getInt(buffer.limit() - Integer.BYTES) != MAGIC) {
+			throw new IllegalArgumentException("File is not a complete stock market snapshot of version " + VERSION + ": " + file);
+		}
+		final int stockOrderBooksCount = buffer.getInt();
+		final List<StockOrderBookState> stockOrderBookStates = new ArrayList<>(stockOrderBooksCount);
+		for (int i = 0; i < stockOrderBooksCount; i++) {
+			stockOrderBookStates.add(readStockOrderBookState(buffer));
+		}
+		return stockOrderBookStates;
+	}
+
+	/**
+	 * Method reads one stock order book state.
+	 *
+	 * @param buffer
+	 *            - ByteBuffer positioned at the state.
+	 *
+	 * @return StockOrderBookState.
+	 */
+	private static StockOrderBookState readStockOrderBookState(final ByteBuffer buffer) {
+		final StockSymbol stockSymbol = StockSymbol.register(readCode(buffer));
+		final long capturedTimeMillis = buffer.getLong();
+		final long journalPosition = buffer.getLong();
+		final long scaledStockPrice = buffer.getLong();
+		final long scaledLastTradePrice = buffer.getLong();
+		final long totalScaledPriceQuantitySum = buffer.getLong();
+		final long totalQuantity = buffer.getLong();
+		final long lastTransactionSequenceNumber = buffer.getLong();
+		final long snapshotVersion = buffer.getLong();
+		final int windowsCount = buffer.getInt();
+		final boolean[] timeBasedWindows = new boolean[windowsCount];
+		final long[] windowBucketWidths = new long[windowsCount];
+		final long[][] windowStates = new long[windowsCount][];
+		for (int i = 0; i < windowsCount; i++) {
+			timeBasedWindows[i] = buffer.get() != 0;
+			windowBucketWidths[i] = buffer.getLong();
+			windowStates[i] = new long[buffer.getInt()];
+			buffer.asLongBuffer().get(windowStates[i]);
+			((Buffer) buffer).position(buffer.position() + windowStates[i].length * Long.BYTES);
+		}
+		final StockMarketPlayer[] stockMarketPlayers = new StockMarketPlayer[buffer.getInt()];
+		for (int i = 0; i < stockMarketPlayers.length; i++) {
+			stockMarketPlayers[i] = StockMarketPlayer.register(readCode(buffer));
+		}
+		final StockOrderBookState.RestingStockOrders buyStockOrders = readRestingStockOrders(buffer);
+		final StockOrderBookState.RestingStockOrders sellStockOrders = readRestingStockOrders(buffer);
+		return new StockOrderBookState(stockSymbol, capturedTimeMillis, journalPosition, scaledStockPrice, scaledLastTradePrice, totalScaledPriceQuantitySum, totalQuantity,
+				lastTransactionSequenceNumber, snapshotVersion, timeBasedWindows, windowBucketWidths, windowStates, stockMarketPlayers, buyStockOrders, sellStockOrders);
+	}
+
+	/**
+	 * Method reads resting orders of one side.
+	 *
+	 * @param buffer
+	 *            - ByteBuffer positioned at the orders.
+	 *
+	 * @return StockOrderBookState.RestingStockOrders.
+	 */
+	private static StockOrderBookState.RestingStockOrders readRestingStockOrders(final ByteBuffer buffer) {
+		final StockOrderBookState.RestingStockOrders restingStockOrders = new StockOrderBookState.RestingStockOrders(buffer.getInt());
+		for (int i = 0; i < restingStockOrders.count; i++) {
+			restingStockOrders.playerIndexes[i] = buffer.getInt();
+			restingStockOrders.quantities[i] = buffer.getInt();
+			restingStockOrders.scaledOfferedPrices[i] = buffer.getLong();
+			restingStockOrders.timestampsMillis[i] = buffer.getLong();
+		}
+		return restingStockOrders;
+	}
+
+	/**
+	 * Method reads a code written by writeCode().
+	 *
+	 * @param buffer
+	 *            - ByteBuffer positioned at the code.
+	 *
+	 * @return String - code.
+	 */
+	private static String readCode(final ByteBuffer buffer) {
+		final byte[] codeBytes = new byte[buffer.getShort() & MAX_CODE_LENGTH];
+		buffer.get(codeBytes);
+		return new String(codeBytes, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,232 @@
+package org.sergei.sssm.model;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import org.sergei.sssm.utils.ScaledPrice;
+
+/**
+ * Reusable batch of buy and sell stock orders across stock symbols, submitted
+ * to a stock market at once. Orders are kept in primitive parallel arrays and
+ * cleared by the owner before reuse, so a batch does not allocate per order.
+ * It is not thread safe, each thread uses its own batch.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public class StockOrderBatch {
+	private static final int DEFAULT_CAPACITY = 64;
+	private StockOrderTransactionType[] stockOrderTypes;
+	private AbstractStock[] stocks;
+	private int[] quantities;
+	private long[] scaledOfferedPrices;
+	private StockMarketPlayer[] stockMarketPlayers;
+	private int size;
+	/**
+	 * Order indexes grouped by stock symbol, submission order is kept within a
+	 * group.
+	 */
+	private int[] groupedOrderIndexes;
+	/**
+	 * Stock symbol id and order index of each order packed in a long, sorted to
+	 * group orders.
+	 */
+	private long[] groupingKeys;
+
+	/**
+	 * Constructor initializes batch with a default capacity.
+	 */
+	public StockOrderBatch() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructor initializes batch with a given initial capacity.
+	 *
+	 * @param capacity
+	 *            - int initial number of orders.
+	 */
+	public StockOrderBatch(final int capacity) {
+		final int initialCapacity = Math.max(1, capacity);
+		this.stockOrderTypes = new StockOrderTransactionType[initialCapacity];
+		this.stocks = new AbstractStock[initialCapacity];
+		this.quantities = new int[initialCapacity];
+		this.scaledOfferedPrices = new long[initialCapacity];
+		this.stockMarketPlayers = new StockMarketPlayer[initialCapacity];
+		this.groupedOrderIndexes = new int[initialCapacity];
+		this.groupingKeys = new long[initialCapacity];
+	}
+
+	/**
+	 * Method appends a buy stock order.
+	 *
+	 * @param stock
+	 *            - AbstractStock of the stock to buy.
+	 * @param quantity
+	 *            - int of quantity of the stocks to buy.
+	 * @param offeredPrice
+	 *            - BigDecimal of offered price of the stock to buy.
+	 * @param stockMarketPlayer
+	 *            - StockMarketPlayer who is issuing stock buy order.
+	 *
+	 * @return int - index of the order in this batch.
+	 */
+	public int addBuyOrder(final AbstractStock stock, final int quantity, final BigDecimal offeredPrice, final StockMarketPlayer stockMarketPlayer) {
+		return add(StockOrderTransactionType.BUY, stock, quantity, ScaledPrice.valueOf(offeredPrice), stockMarketPlayer);
+	}
+
+	/**
+	 * Method appends a sell stock order.
+	 *
+	 * @param stock
+	 *            - AbstractStock of the stock to sell.
+	 * @param quantity
+	 *            - int of quantity of the stocks to sell.
+	 * @param offeredPrice
+	 *            - BigDecimal of offered price of the stock to sell.
+	 * @param stockMarketPlayer
+	 *            - StockMarketPlayer who is issuing stock sell order.
+	 *
+	 * @return int - index of the order in this batch.
+	 */
+	public int addSellOrder(final AbstractStock stock, final int quantity, final BigDecimal offeredPrice, final StockMarketPlayer stockMarketPlayer) {
+		return add(StockOrderTransactionType.SELL, stock, quantity, ScaledPrice.valueOf(offeredPrice), stockMarketPlayer);
+	}
+
+	/**
+	 * Method appends a stock order with an offered price scaled to 4 decimal
+	 * digits.
+	 *
+	 * @param stockOrderType
+	 *            - StockOrderTransactionType BUY or SELL.
+	 * @param stock
+	 *            - AbstractStock of the stock order.
+	 * @param quantity
+	 *            - int of quantity of the stock order.
+	 * @param scaledOfferedPrice
+	 *            - long of scaled offered price of the stock order.
+	 * @param stockMarketPlayer
+	 *            - StockMarketPlayer who is issuing stock order.
+	 *
+	 * @return int - index of the order in this batch.
+	 */
+	public int add(final StockOrderTransactionType stockOrderType, final AbstractStock stock, final int quantity, final long scaledOfferedPrice, final StockMarketPlayer stockMarketPlayer) {
+		if (this.size == this.quantities.length) {
+			grow();
+		}
+		this.stockOrderTypes[this.size] = stockOrderType;
+		this.stocks[this.size] = stock;
+		this.quantities[this.size] = quantity;
+		this.scaledOfferedPrices[this.size] = scaledOfferedPrice;
+		this.stockMarketPlayers[this.size] = stockMarketPlayer;
+		return this.size++;
+	}
+
+	/**
+	 * Method doubles the capacity of this batch.
+	 */
+	private void grow() {
+		final int capacity = this.size * 2;
+		this.stockOrderTypes = Arrays.copyOf(this.stockOrderTypes, capacity);
+		this.stocks = Arrays.copyOf(this.stocks, capacity);
+		this.quantities = Arrays.copyOf(this.quantities, capacity);
+		this.scaledOfferedPrices = Arrays.copyOf(this.scaledOfferedPrices, capacity);
+		this.stockMarketPlayers = Arrays.copyOf(this.stockMarketPlayers, capacity);
+		this.groupedOrderIndexes = new int[capacity];
+		this.groupingKeys = new long[capacity];
+	}
+
+	/**
+	 * Method groups orders by stock symbol sorting stock symbol id and order
+	 * index pairs, which keeps submission order of orders of the same stock
+	 * symbol. The cost depends on the batch size only, not on the number of
+	 * registered stock symbols.
+	 *
+	 * @return int[] - order indexes grouped by stock symbol, only the first
+	 *         size() elements are valid.
+	 */
+	int[] groupByStockSymbol() {
+		for (int i = 0; i < this.size; i++) {
+			this.groupingKeys[i] = ((long) this.stocks[i].getStockSymbol().getId() << Integer.SIZE) | i;
+		}
+		Arrays.sort(this.groupingKeys, 0, this.size);
+		for (int i = 0; i < this.size; i++) {
+			this.groupedOrderIndexes[i] = (int) this.groupingKeys[i];
+		}
+		return this.groupedOrderIndexes;
+	}
+
+	/**
+	 * Method removes all orders, keeping the allocated capacity.
+	 */
+	public void clear() {
+		Arrays.fill(this.stockOrderTypes, 0, this.size, null);
+		Arrays.fill(this.stocks, 0, this.size, null);
+		Arrays.fill(this.stockMarketPlayers, 0, this.size, null);
+		this.size = 0;
+	}
+
+	/**
+	 * @return the number of orders in this batch.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * @return true if this batch has no order.
+	 */
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/**
+	 * @param index
+	 *            - int index of an order.
+	 *
+	 * @return the stockOrderType of a given order.
+	 */
+	public StockOrderTransactionType getStockOrderType(final int index) {
+		return stockOrderTypes[index];
+	}
+
+	/**
+	 * @param index
+	 *            - int index of an order.
+	 *
+	 * @return the stock of a given order.
+	 */
+	public AbstractStock getStock(final int index) {
+		return stocks[index];
+	}
+
+	/**
+	 * @param index
+	 *            - int index of an order.
+	 *
+	 * @return the quantity of a given order.
+	 */
+	public int getQuantity(final int index) {
+		return quantities[index];
+	}
+
+	/**
+	 * @param index
+	 *            - int index of an order.
+	 *
+	 * @return the scaledOfferedPrice of a given order.
+	 */
+	public long getScaledOfferedPrice(final int index) {
+		return scaledOfferedPrices[index];
+	}
+
+	/**
+	 * @param index
+	 *            - int index of an order.
+	 *
+	 * @return the stockMarketPlayer of a given order.
+	 */
+	public StockMarketPlayer getStockMarketPlayer(final int index) {
+		return stockMarketPlayers[index];
+	}
+}
@@ -0,0 +1,109 @@
+package org.sergei.sssm.model;
+
+import java.util.Arrays;
+
+/**
+ * Reusable result of a submitted StockOrderBatch: all executed trade
+ * transactions in one flat buffer, plus the range of transactions executed by
+ * each order of the batch. It is not thread safe, each thread uses its own
+ * result.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public class StockOrderBatchResult extends StockOrderTransactionBuffer {
+	private int[] firstStockOrderTransactionIndexes;
+	private int[] stockOrderTransactionsCounts;
+	private int ordersCount;
+
+	/**
+	 * Constructor initializes an empty result.
+	 */
+	public StockOrderBatchResult() {
+		this.firstStockOrderTransactionIndexes = new int[0];
+		this.stockOrderTransactionsCounts = new int[0];
+	}
+
+	/**
+	 * Method clears this result and prepares ranges of a given number of orders.
+	 *
+	 * @param batchOrdersCount
+	 *            - int number of orders of the submitted batch.
+	 */
+	void reset(final int batchOrdersCount) {
+		clear();
+		if (this.stockOrderTransactionsCounts.length < batchOrdersCount) {
+			this.firstStockOrderTransactionIndexes = new int[batchOrdersCount];
+			this.stockOrderTransactionsCounts = new int[batchOrdersCount];
+		} else {
+			Arrays.fill(this.firstStockOrderTransactionIndexes, 0, batchOrdersCount, 0);
+			Arrays.fill(this.stockOrderTransactionsCounts, 0, batchOrdersCount, 0);
+		}
+		this.ordersCount = batchOrdersCount;
+	}
+
+	/**
+	 * Method removes all transactions and order ranges, keeping the allocated
+	 * capacity.
+	 */
+	@Override
+	public void clear() {
+		super.clear();
+		this.ordersCount = 0;
+	}
+
+	/**
+	 * Method records the range of transactions executed by an order.
+	 *
+	 * @param orderIndex
+	 *            - int index of the order in the batch.
+	 * @param firstStockOrderTransactionIndex
+	 *            - int index of the first transaction of the order.
+	 * @param stockOrderTransactionsCount
+	 *            - int number of transactions of the order.
+	 */
+	void setOrderStockOrderTransactions(final int orderIndex, final int firstStockOrderTransactionIndex, final int stockOrderTransactionsCount) {
+		this.firstStockOrderTransactionIndexes[orderIndex] = firstStockOrderTransactionIndex;
+		this.stockOrderTransactionsCounts[orderIndex] = stockOrderTransactionsCount;
+	}
+
+	/**
+	 * @param orderIndex
+	 *            - int index of the order in the batch.
+	 *
+	 * @return int - index of the first transaction executed by a given order, use
+	 *         with get(int).
+	 */
+	public int getFirstStockOrderTransactionIndex(final int orderIndex) {
+		checkOrderIndex(orderIndex);
+		return this.firstStockOrderTransactionIndexes[orderIndex];
+	}
+
+	/**
+	 * @param orderIndex
+	 *            - int index of the order in the batch.
+	 *
+	 * @return int - number of transactions executed by a given order.
+	 */
+	public int getStockOrderTransactionsCount(final int orderIndex) {
+		checkOrderIndex(orderIndex);
+		return this.stockOrderTransactionsCounts[orderIndex];
+	}
+
+	/**
+	 * @param orderIndex
+	 *            - int index of the order in the batch.
+	 */
+	private void checkOrderIndex(final int orderIndex) {
+		if (orderIndex >= this.ordersCount) {
+			throw new IndexOutOfBoundsException("Order index: " + orderIndex + ", Orders: " + this.ordersCount);
+		}
+	}
+
+	/**
+	 * @return the number of orders of the submitted batch.
+	 */
+	public int getOrdersCount() {
+		return ordersCount;
+	}
+}
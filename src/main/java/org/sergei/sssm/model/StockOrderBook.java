@@ -1,13 +1,15 @@
 package org.sergei.sssm.model;
 
 import java.math.BigDecimal;
-import java.math.BigInteger;
-import java.math.RoundingMode;
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
 
-import org.sergei.sssm.utils.NumberFormatter;
+import org.sergei.sssm.journal.StockOrderJournalStream;
+import org.sergei.sssm.utils.ScaledPrice;
 
 /**
  * @author - Sergei Shurpenkov
@@ -15,53 +17,171 @@ import org.sergei.sssm.utils.NumberFormatter;
  */
 public class StockOrderBook {
 	/**
-	 * Placed buy stock orders set.
+	 * Clock stamping stock orders and executed trade transactions.
 	 */
-	private Set<StockBuyOrder> buyStockOrders;
+	private StockMarketClock stockMarketClock;
 	/**
-	 * Placed sell stock orders set.
+	 * Resting buy stock orders grouped by price level.
 	 */
-	private Set<StockSellOrder> sellStockOrders;
+	private StockOrderBookSide<StockBuyOrder> buyStockOrders;
 	/**
-	 * Executed trade buy+sell stock orders transaction.
+	 * Resting sell stock orders grouped by price level.
 	 */
-	private Set<StockOrderTransaction> stockOrderTransactions;
+	private StockOrderBookSide<StockSellOrder> sellStockOrders;
 	/**
-	 * Total sum of price multiplied by quantity of executed exchange transactions.
+	 * Executed trade buy+sell stock orders transactions within retention.
 	 */
-	private BigDecimal totalPriceQuantitySum;
+	private StockOrderTransactionStore stockOrderTransactions;
+	/**
+	 * Total sum of price multiplied by quantity of executed exchange transactions,
+	 * scaled to 4 implied decimal digits.
+	 */
+	private long totalScaledPriceQuantitySum;
 	/**
 	 * Total sum of stocks quantity of executed exchange transactions.
 	 */
-	private BigInteger totalQuantity;
+	private long totalQuantity;
+	/**
+	 * Incrementally maintained Volume Weighted Stock Prices of rolling windows.
+	 */
+	private RollingVolumeWeightedStockPrice[] rollingVolumeWeightedStockPrices;
+	/**
+	 * Incrementally maintained OHLCV candles of each candle interval.
+	 */
+	private StockCandleSeries[] stockCandleSeries;
+	/**
+	 * Positions and Profit and Loss of players trading in this book.
+	 */
+	private StockPositions stockPositions;
+	/**
+	 * Latency histograms of stock orders of this book.
+	 */
+	private StockOrderLatencies stockOrderLatencies;
+	/**
+	 * Live counters of this book exposed as an MXBean.
+	 */
+	private StockOrderBookMetrics stockOrderBookMetrics;
+	/**
+	 * Scaled session Volume Weighted Stock Price after the latest executed trade
+	 * transaction, volatile so that it may be read without locking.
+	 */
+	private volatile long scaledVolumeWeightedStockPrice;
+	/**
+	 * Listener receiving changes of the session Volume Weighted Stock Price.
+	 */
+	private VolumeWeightedStockPriceListener volumeWeightedStockPriceListener;
+	/**
+	 * Scaled price of the latest executed trade transaction.
+	 */
+	private long scaledLastTradePrice;
+	/**
+	 * Number of price levels per side published in snapshots.
+	 */
+	private int snapshotDepth;
+	/**
+	 * Latest published market data snapshot, read without locking.
+	 */
+	private volatile StockOrderBookSnapshot snapshot;
+	/**
+	 * Numbers of resting orders of each side, read without locking.
+	 */
+	private volatile int restingBuyStockOrdersCount;
+	private volatile int restingSellStockOrdersCount;
+	/**
+	 * Optional stream of the write-ahead journal receiving accepted stock orders
+	 * and executed trade transactions of this book.
+	 */
+	private StockOrderJournalStream stockOrderJournalStream;
+	/**
+	 * Position of the stock order journal up to which a restored state is
+	 * applied, -1 if the book is not restored.
+	 */
+	private long restoredJournalPosition;
 
 	/**
-	 * Constructor initializes class attributes using TreeSet class, this class was
-	 * used because it fits better and has better performance on current
-	 * solution.<br>
+	 * Constructor initializes class attributes.<br>
 	 * 
-	 * TreeSet has a log(n) time complexity guarantee for add()/remove()/contains()
-	 * methods.<br>
-	 * Sorting an ArrayList takes n*log(n) operations, but add()/get() takes only 1
-	 * operation.
+	 * Each side keeps a FIFO queue per price level, so the best resting order is
+	 * found in constant time and filled orders are removed as soon as they are
+	 * filled, matching cost depends on the produced fills only. Prices and
+	 * quantities are kept as primitive scaled longs and ints, BigDecimal is only
+	 * used by the API and reporting methods.
 	 */
 	public StockOrderBook() {
-		this.buyStockOrders = new TreeSet<>();
-		this.sellStockOrders = new TreeSet<>();
-		this.stockOrderTransactions = new TreeSet<>();
-		this.totalPriceQuantitySum = BigDecimal.ZERO;
-		this.totalQuantity = BigInteger.ZERO;
+		this(StockOrderTransactionRetention.DEFAULT);
+	}
+
+	/**
+	 * Constructor initializes class attributes with a given retention of executed
+	 * trade transactions.
+	 * 
+	 * @param stockOrderTransactionRetention
+	 *            - StockOrderTransactionRetention of executed trade transactions.
+	 */
+	public StockOrderBook(final StockOrderTransactionRetention stockOrderTransactionRetention) {
+		this(stockOrderTransactionRetention, VolumeWeightedStockPriceWindow.LAST_15_MINUTES);
 	}
 
 	/**
-	 * Method adds buy stock order, if a buy order's price is equal to or higher
+	 * Constructor initializes class attributes with a given retention of executed
+	 * trade transactions and rolling Volume Weighted Stock Price windows, each
+	 * window is updated by every executed trade transaction in constant time.
+	 * 
+	 * @param stockOrderTransactionRetention
+	 *            - StockOrderTransactionRetention of executed trade transactions.
+	 * @param volumeWeightedStockPriceWindows
+	 *            - VolumeWeightedStockPriceWindow... maintained rolling windows.
+	 */
+	public StockOrderBook(final StockOrderTransactionRetention stockOrderTransactionRetention, final VolumeWeightedStockPriceWindow... volumeWeightedStockPriceWindows) {
+		this(StockMarketClock.SYSTEM, stockOrderTransactionRetention, volumeWeightedStockPriceWindows);
+	}
+
+	/**
+	 * Constructor initializes class attributes with a given clock, retention of
+	 * executed trade transactions and rolling Volume Weighted Stock Price
+	 * windows. Stock orders and executed trade transactions are stamped with the
+	 * time of a given clock.
+	 * 
+	 * @param stockMarketClock
+	 *            - StockMarketClock of stock orders and executed trade
+	 *            transactions.
+	 * @param stockOrderTransactionRetention
+	 *            - StockOrderTransactionRetention of executed trade transactions.
+	 * @param volumeWeightedStockPriceWindows
+	 *            - VolumeWeightedStockPriceWindow... maintained rolling windows.
+	 */
+	public StockOrderBook(final StockMarketClock stockMarketClock, final StockOrderTransactionRetention stockOrderTransactionRetention,
+			final VolumeWeightedStockPriceWindow... volumeWeightedStockPriceWindows) {
+		this.stockMarketClock = stockMarketClock;
+		this.buyStockOrders = StockOrderBookSide.createBuySide();
+		this.sellStockOrders = StockOrderBookSide.createSellSide();
+		this.stockOrderTransactions = new StockOrderTransactionStore(stockOrderTransactionRetention);
+		this.rollingVolumeWeightedStockPrices = new RollingVolumeWeightedStockPrice[volumeWeightedStockPriceWindows.length];
+		for (int i = 0; i < volumeWeightedStockPriceWindows.length; i++) {
+			this.rollingVolumeWeightedStockPrices[i] = new RollingVolumeWeightedStockPrice(volumeWeightedStockPriceWindows[i], stockMarketClock);
+		}
+		this.stockCandleSeries = new StockCandleSeries[0];
+		this.stockPositions = new StockPositions();
+		this.stockOrderLatencies = new StockOrderLatencies();
+		this.stockOrderBookMetrics = new StockOrderBookMetrics(this);
+		this.volumeWeightedStockPriceListener = (previousScaledVolumeWeightedStockPrice, currentScaledVolumeWeightedStockPrice) -> {
+		};
+		this.snapshotDepth = StockOrderBookSnapshot.DEFAULT_DEPTH;
+		this.snapshot = StockOrderBookSnapshot.EMPTY;
+		this.restoredJournalPosition = -1;
+	}
+
+	/**
+	 * Method adds buy stock order, while a buy order's price is equal to or higher
 	 * than the lowest priced sell order currently available, a trade occurs and
-	 * trade transaction is added to the transactions set.
+	 * trade transaction is added to the transactions set. Filled sell orders are
+	 * removed from the book, matching stops at the first price level that does not
+	 * cross and the unfilled remainder of the buy order rests in the book.
 	 * 
 	 * @param stock
 	 *            - AbstractStock of the stock to buy.
 	 * @param quantity
-	 *            - Integer of quantity of the stocks to buy.
+	 *            - int of quantity of the stocks to buy.
 	 * @param offeredPrice
 	 *            - BigDecimal of offered price of the stock to buy.
 	 * @param stockMarketPlayer
@@ -70,34 +190,127 @@ public class StockOrderBook {
 	 * @return executedStockOrderTransactions - Set<StockOrderTransaction>
 	 *         containing a set of an executed trade transactions.
 	 */
-	public Set<StockOrderTransaction> addBuyStockOrder(final AbstractStock stock, final Integer quantity, final BigDecimal offeredPrice, final StockMarketPlayer stockMarketPlayer) {
+	public Set<StockOrderTransaction> addBuyStockOrder(final AbstractStock stock, final int quantity, final BigDecimal offeredPrice, final StockMarketPlayer stockMarketPlayer) {
+		return addBuyStockOrder(stock, quantity, ScaledPrice.valueOf(offeredPrice), stockMarketPlayer);
+	}
+
+	/**
+	 * Method adds buy stock order with an offered price scaled to 4 decimal
+	 * digits, see addBuyStockOrder(AbstractStock, int, BigDecimal,
+	 * StockMarketPlayer).
+	 * 
+	 * @param stock
+	 *            - AbstractStock of the stock to buy.
+	 * @param quantity
+	 *            - int of quantity of the stocks to buy.
+	 * @param scaledOfferedPrice
+	 *            - long of scaled offered price of the stock to buy.
+	 * @param stockMarketPlayer
+	 *            - StockMarketPlayer who is issuing stock buy order.
+	 * 
+	 * @return executedStockOrderTransactions - Set<StockOrderTransaction>
+	 *         containing a set of an executed trade transactions.
+	 */
+	public Set<StockOrderTransaction> addBuyStockOrder(final AbstractStock stock, final int quantity, final long scaledOfferedPrice, final StockMarketPlayer stockMarketPlayer) {
 		final Set<StockOrderTransaction> executedStockOrderTransactions = new TreeSet<>();
-		final StockBuyOrder stockBuyOrder = new StockBuyOrder(stock, quantity, offeredPrice, stockMarketPlayer);
-		this.buyStockOrders.add(stockBuyOrder);
+		addBuyStockOrder(stock, quantity, scaledOfferedPrice, stockMarketPlayer, executedStockOrderTransactions::add);
+		return executedStockOrderTransactions;
+	}
 
-		for (final Iterator<StockSellOrder> iterator = this.sellStockOrders.iterator(); iterator.hasNext() && !stockBuyOrder.isMatched();) {
-			final StockSellOrder stockSellOrder = iterator.next();
+	/**
+	 * Method adds buy stock order with an offered price scaled to 4 decimal
+	 * digits and passes each executed trade transaction to a given listener, no
+	 * collection is allocated per call.
+	 * 
+	 * @param stock
+	 *            - AbstractStock of the stock to buy.
+	 * @param quantity
+	 *            - int of quantity of the stocks to buy.
+	 * @param scaledOfferedPrice
+	 *            - long of scaled offered price of the stock to buy.
+	 * @param stockMarketPlayer
+	 *            - StockMarketPlayer who is issuing stock buy order.
+	 * @param stockOrderTransactionListener
+	 *            - StockOrderTransactionListener receiving executed trade
+	 *            transactions.
+	 * 
+	 * @return executedStockOrderTransactionsCount - int number of executed trade
+	 *         transactions.
+	 */
+	public int addBuyStockOrder(final AbstractStock stock, final int quantity, final long scaledOfferedPrice, final StockMarketPlayer stockMarketPlayer,
+			final StockOrderTransactionListener stockOrderTransactionListener) {
+		final long timestampMillis = this.stockMarketClock.currentTimeMillis();
+		if (this.stockOrderJournalStream != null) {
+			this.stockOrderJournalStream.appendStockOrder(StockOrderTransactionType.BUY, stock.getStockSymbol(), stockMarketPlayer, quantity, scaledOfferedPrice, timestampMillis);
+		}
+		return matchBuyStockOrder(stock, quantity, scaledOfferedPrice, stockMarketPlayer, timestampMillis, this.stockMarketClock.nanoTime(), stockOrderTransactionListener);
+	}
 
-			if (!stockSellOrder.isMatched() && stockBuyOrder.getOfferedPrice().compareTo(stockSellOrder.getOfferedPrice()) >= 0) {
+	/**
+	 * Method matches a buy stock order accepted at a given time against resting
+	 * sell orders, see addBuyStockOrder().
+	 * 
+	 * @param stock
+	 *            - AbstractStock of the stock to buy.
+	 * @param quantity
+	 *            - int of quantity of the stocks to buy.
+	 * @param scaledOfferedPrice
+	 *            - long of scaled offered price of the stock to buy.
+	 * @param stockMarketPlayer
+	 *            - StockMarketPlayer who is issuing stock buy order.
+	 * @param timestampMillis
+	 *            - long time stamp of the order and its trade transactions.
+	 * @param nanoTime
+	 *            - long completion time of its trade transactions.
+	 * @param stockOrderTransactionListener
+	 *            - StockOrderTransactionListener receiving executed trade
+	 *            transactions.
+	 * 
+	 * @return executedStockOrderTransactionsCount - int number of executed trade
+	 *         transactions.
+	 */
+	private int matchBuyStockOrder(final AbstractStock stock, final int quantity, final long scaledOfferedPrice, final StockMarketPlayer stockMarketPlayer, final long timestampMillis,
+			final long nanoTime, final StockOrderTransactionListener stockOrderTransactionListener) {
+		final StockBuyOrder stockBuyOrder = new StockBuyOrder(stock, quantity, scaledOfferedPrice, stockMarketPlayer, timestampMillis);
+		int executedStockOrderTransactionsCount = 0;
+		this.stockOrderBookMetrics.recordStockOrder(StockOrderTransactionType.BUY);
 
-				final Integer exchangedStocksQuantiy = executeTradeTransaction(stock, stockBuyOrder, stockSellOrder);
+		while (!stockBuyOrder.isMatched() && !this.sellStockOrders.isEmpty()) {
+			final StockSellOrder stockSellOrder = this.sellStockOrders.peekBestStockOrder();
 
-				executedStockOrderTransactions.add(addExecutedStockOrderTransaction(stockBuyOrder, stockSellOrder, exchangedStocksQuantiy, stock.getPrice(), StockOrderTransactionType.BUY));
+			if (scaledOfferedPrice < stockSellOrder.getScaledOfferedPrice()) {
+				break;
 			}
+
+			this.stockOrderLatencies.recordRestToFill(timestampMillis - stockSellOrder.getTimestampMillis());
+			final int exchangedStocksQuantiy = executeTradeTransaction(stock, stockBuyOrder, stockSellOrder);
+
+			stockOrderTransactionListener.onStockOrderTransaction(addExecutedStockOrderTransaction(stockBuyOrder, stockSellOrder, exchangedStocksQuantiy, stock.getScaledPrice(), StockOrderTransactionType.BUY,
+					timestampMillis, nanoTime));
+			executedStockOrderTransactionsCount++;
+
+			this.sellStockOrders.fillBestStockOrder(exchangedStocksQuantiy);
 		}
 
-		return executedStockOrderTransactions;
+		if (!stockBuyOrder.isMatched()) {
+			this.buyStockOrders.addStockOrder(stockBuyOrder);
+		}
+		publishSnapshot();
+
+		return executedStockOrderTransactionsCount;
 	}
 
 	/**
-	 * Method adds a sell stock order to the set, if a sell order's price is equal
-	 * to or lower than the highest priced buy order currently available, a trade
-	 * occurs and trade transaction is added to the transactions set.
+	 * Method adds a sell stock order, while a sell order's price is equal to or
+	 * lower than the highest priced buy order currently available, a trade occurs
+	 * and trade transaction is added to the transactions set. Filled buy orders
+	 * are removed from the book, matching stops at the first price level that does
+	 * not cross and the unfilled remainder of the sell order rests in the book.
 	 * 
 	 * @param stock
 	 *            - AbstractStock of the stock to sell.
 	 * @param quantity
-	 *            - Integer of quantity of the stocks to sell.
+	 *            - int of quantity of the stocks to sell.
 	 * @param offeredPrice
 	 *            - BigDecimal of offered price of the stock to sell.
 	 * @param stockMarketPlayer
@@ -106,23 +319,114 @@ public class StockOrderBook {
 	 * @return executedStockOrderTransactions - Set<StockOrderTransaction>
 	 *         containing a set of an executed trade transactions.
 	 */
-	public Set<StockOrderTransaction> addSellStockOrder(final AbstractStock stock, final Integer quantity, final BigDecimal offeredPrice, final StockMarketPlayer stockMarketPlayer) {
+	public Set<StockOrderTransaction> addSellStockOrder(final AbstractStock stock, final int quantity, final BigDecimal offeredPrice, final StockMarketPlayer stockMarketPlayer) {
+		return addSellStockOrder(stock, quantity, ScaledPrice.valueOf(offeredPrice), stockMarketPlayer);
+	}
+
+	/**
+	 * Method adds sell stock order with an offered price scaled to 4 decimal
+	 * digits, see addSellStockOrder(AbstractStock, int, BigDecimal,
+	 * StockMarketPlayer).
+	 * 
+	 * @param stock
+	 *            - AbstractStock of the stock to sell.
+	 * @param quantity
+	 *            - int of quantity of the stocks to sell.
+	 * @param scaledOfferedPrice
+	 *            - long of scaled offered price of the stock to sell.
+	 * @param stockMarketPlayer
+	 *            - StockMarketPlayer who is issuing stock sell order.
+	 * 
+	 * @return executedStockOrderTransactions - Set<StockOrderTransaction>
+	 *         containing a set of an executed trade transactions.
+	 */
+	public Set<StockOrderTransaction> addSellStockOrder(final AbstractStock stock, final int quantity, final long scaledOfferedPrice, final StockMarketPlayer stockMarketPlayer) {
 		final Set<StockOrderTransaction> executedStockOrderTransactions = new TreeSet<>();
-		final StockSellOrder stockSellOrder = new StockSellOrder(stock, quantity, offeredPrice, stockMarketPlayer);
-		this.sellStockOrders.add(stockSellOrder);
+		addSellStockOrder(stock, quantity, scaledOfferedPrice, stockMarketPlayer, executedStockOrderTransactions::add);
+		return executedStockOrderTransactions;
+	}
 
-		for (final Iterator<StockBuyOrder> iterator = this.buyStockOrders.iterator(); iterator.hasNext() && !stockSellOrder.isMatched();) {
-			final StockBuyOrder stockBuyOrder = iterator.next();
+	/**
+	 * Method adds sell stock order with an offered price scaled to 4 decimal
+	 * digits and passes each executed trade transaction to a given listener, no
+	 * collection is allocated per call.
+	 * 
+	 * @param stock
+	 *            - AbstractStock of the stock to sell.
+	 * @param quantity
+	 *            - int of quantity of the stocks to sell.
+	 * @param scaledOfferedPrice
+	 *            - long of scaled offered price of the stock to sell.
+	 * @param stockMarketPlayer
+	 *            - StockMarketPlayer who is issuing stock sell order.
+	 * @param stockOrderTransactionListener
+	 *            - StockOrderTransactionListener receiving executed trade
+	 *            transactions.
+	 * 
+	 * @return executedStockOrderTransactionsCount - int number of executed trade
+	 *         transactions.
+	 */
+	public int addSellStockOrder(final AbstractStock stock, final int quantity, final long scaledOfferedPrice, final StockMarketPlayer stockMarketPlayer,
+			final StockOrderTransactionListener stockOrderTransactionListener) {
+		final long timestampMillis = this.stockMarketClock.currentTimeMillis();
+		if (this.stockOrderJournalStream != null) {
+			this.stockOrderJournalStream.appendStockOrder(StockOrderTransactionType.SELL, stock.getStockSymbol(), stockMarketPlayer, quantity, scaledOfferedPrice, timestampMillis);
+		}
+		return matchSellStockOrder(stock, quantity, scaledOfferedPrice, stockMarketPlayer, timestampMillis, this.stockMarketClock.nanoTime(), stockOrderTransactionListener);
+	}
 
-			if (!stockBuyOrder.isMatched() && stockSellOrder.getOfferedPrice().compareTo(stockBuyOrder.getOfferedPrice()) <= 0) {
+	/**
+	 * Method matches a sell stock order accepted at a given time against resting
+	 * buy orders, see addSellStockOrder().
+	 * 
+	 * @param stock
+	 *            - AbstractStock of the stock to sell.
+	 * @param quantity
+	 *            - int of quantity of the stocks to sell.
+	 * @param scaledOfferedPrice
+	 *            - long of scaled offered price of the stock to sell.
+	 * @param stockMarketPlayer
+	 *            - StockMarketPlayer who is issuing stock sell order.
+	 * @param timestampMillis
+	 *            - long time stamp of the order and its trade transactions.
+	 * @param nanoTime
+	 *            - long completion time of its trade transactions.
+	 * @param stockOrderTransactionListener
+	 *            - StockOrderTransactionListener receiving executed trade
+	 *            transactions.
+	 * 
+	 * @return executedStockOrderTransactionsCount - int number of executed trade
+	 *         transactions.
+	 */
+	private int matchSellStockOrder(final AbstractStock stock, final int quantity, final long scaledOfferedPrice, final StockMarketPlayer stockMarketPlayer, final long timestampMillis,
+			final long nanoTime, final StockOrderTransactionListener stockOrderTransactionListener) {
+		final StockSellOrder stockSellOrder = new StockSellOrder(stock, quantity, scaledOfferedPrice, stockMarketPlayer, timestampMillis);
+		int executedStockOrderTransactionsCount = 0;
+		this.stockOrderBookMetrics.recordStockOrder(StockOrderTransactionType.SELL);
 
-				final Integer exchangedStocksQuantiy = executeTradeTransaction(stock, stockSellOrder, stockBuyOrder);
+		while (!stockSellOrder.isMatched() && !this.buyStockOrders.isEmpty()) {
+			final StockBuyOrder stockBuyOrder = this.buyStockOrders.peekBestStockOrder();
 
-				executedStockOrderTransactions.add(addExecutedStockOrderTransaction(stockBuyOrder, stockSellOrder, exchangedStocksQuantiy, stock.getPrice(), StockOrderTransactionType.SELL));
+			if (scaledOfferedPrice > stockBuyOrder.getScaledOfferedPrice()) {
+				break;
 			}
+
+			this.stockOrderLatencies.recordRestToFill(timestampMillis - stockBuyOrder.getTimestampMillis());
+			final int exchangedStocksQuantiy = executeTradeTransaction(stock, stockSellOrder, stockBuyOrder);
+
+			stockOrderTransactionListener.onStockOrderTransaction(addExecutedStockOrderTransaction(stockBuyOrder, stockSellOrder, exchangedStocksQuantiy, stock.getScaledPrice(), StockOrderTransactionType.SELL,
+					timestampMillis, nanoTime));
+			executedStockOrderTransactionsCount++;
+
+			this.buyStockOrders.fillBestStockOrder(exchangedStocksQuantiy);
 		}
 
-		return executedStockOrderTransactions;
+		if (!stockSellOrder.isMatched()) {
+			this.sellStockOrders.addStockOrder(stockSellOrder);
+		}
+		publishSnapshot();
+
+		return executedStockOrderTransactionsCount;
 	}
 
 	/**
@@ -141,11 +445,11 @@ public class StockOrderBook {
 	 * @param existingStockOrder
 	 *            - AbstractStockOrder existing stock order in the stock order book.
 	 * 
-	 * @return executedStockTradeQuantity - Integer value of executed stock trade
+	 * @return executedStockTradeQuantity - int value of executed stock trade
 	 *         quantity.
 	 */
-	private Integer executeTradeTransaction(final AbstractStock stock, final AbstractStockOrder incomingStockOrder, final AbstractStockOrder existingStockOrder) {
-		final int buyStockOrderQuantityCompareTo = incomingStockOrder.getQuantity().compareTo(existingStockOrder.getQuantity());
+	private int executeTradeTransaction(final AbstractStock stock, final AbstractStockOrder incomingStockOrder, final AbstractStockOrder existingStockOrder) {
+		final int buyStockOrderQuantityCompareTo = Integer.compare(incomingStockOrder.getQuantity(), existingStockOrder.getQuantity());
 		int executedStockTradeQuantity = 0;
 
 		if (buyStockOrderQuantityCompareTo > 0) {
@@ -156,7 +460,7 @@ public class StockOrderBook {
 			executedStockTradeQuantity = executeCompletedEqualsBuySellOrder(incomingStockOrder, existingStockOrder);
 		}
 
-		stock.setPrice(incomingStockOrder.getOfferedPrice());
+		stock.setScaledPrice(incomingStockOrder.getScaledOfferedPrice());
 
 		return executedStockTradeQuantity;
 	}
@@ -172,11 +476,11 @@ public class StockOrderBook {
 	 * @param completedStockOrder
 	 *            - StockSellOrder.
 	 * 
-	 * @return executedStockTradeQuantity - Integer value of executed stock trade
+	 * @return executedStockTradeQuantity - int value of executed stock trade
 	 *         quantity.
 	 */
-	private Integer executeUncompletedStockOrderCompletedStockOrder(final AbstractStockOrder uncompletedStockOrder, final AbstractStockOrder completedStockOrder) {
-		final Integer remainingBuyQuantity = uncompletedStockOrder.getQuantity() - completedStockOrder.getQuantity();
+	private int executeUncompletedStockOrderCompletedStockOrder(final AbstractStockOrder uncompletedStockOrder, final AbstractStockOrder completedStockOrder) {
+		final int remainingBuyQuantity = uncompletedStockOrder.getQuantity() - completedStockOrder.getQuantity();
 		uncompletedStockOrder.setQuantity(remainingBuyQuantity);
 		completedStockOrder.setMatched(Boolean.TRUE);
 		return completedStockOrder.getQuantity();
@@ -191,10 +495,10 @@ public class StockOrderBook {
 	 * @param stockOrderTwo
 	 *            - AbstractStockOrder.
 	 * 
-	 * @return executedStockTradeQuantity - Integer value of executed stock trade
+	 * @return executedStockTradeQuantity - int value of executed stock trade
 	 *         quantity.
 	 */
-	private Integer executeCompletedEqualsBuySellOrder(final AbstractStockOrder stockOrderOne, final AbstractStockOrder stockOrderTwo) {
+	private int executeCompletedEqualsBuySellOrder(final AbstractStockOrder stockOrderOne, final AbstractStockOrder stockOrderTwo) {
 		stockOrderOne.setMatched(Boolean.TRUE);
 		stockOrderTwo.setMatched(Boolean.TRUE);
 		return stockOrderOne.getQuantity();
@@ -207,57 +511,483 @@ public class StockOrderBook {
 	 * of all transactions made in this Stock Order Book.
 	 * 
 	 * @return BigDecimal of Volume Weighted Stock Price of executed buy/sell trade
-	 *         transactions.
+	 *         transactions, zero if no transaction was executed.
 	 */
 	public BigDecimal calculateVolumeWeightedStockPrice() {
-		return this.totalPriceQuantitySum.divide(new BigDecimal(this.totalQuantity.intValue()), NumberFormatter.SCALE_4_DECIMAL_DIGITS, RoundingMode.HALF_EVEN);
+		return ScaledPrice.toBigDecimal(calculateScaledVolumeWeightedStockPrice());
+	}
+
+	/**
+	 * Method returns Volume Weighted Stock Price of all transactions made in this
+	 * Stock Order Book scaled to 4 decimal digits, it is recalculated by each
+	 * executed trade transaction.
+	 * 
+	 * @return long of scaled Volume Weighted Stock Price, zero if no transaction
+	 *         was executed.
+	 */
+	public long calculateScaledVolumeWeightedStockPrice() {
+		return this.scaledVolumeWeightedStockPrice;
+	}
+
+	/**
+	 * Method returns Volume Weighted Stock Price of transactions within a rolling
+	 * window maintained by this Stock Order Book.
+	 * 
+	 * @param volumeWeightedStockPriceWindow
+	 *            - VolumeWeightedStockPriceWindow passed to the constructor.
+	 * 
+	 * @return BigDecimal of Volume Weighted Stock Price of the window, zero if no
+	 *         transaction is in the window.
+	 */
+	public BigDecimal calculateVolumeWeightedStockPrice(final VolumeWeightedStockPriceWindow volumeWeightedStockPriceWindow) {
+		for (RollingVolumeWeightedStockPrice rollingVolumeWeightedStockPrice : this.rollingVolumeWeightedStockPrices) {
+			if (rollingVolumeWeightedStockPrice.getWindow() == volumeWeightedStockPriceWindow) {
+				return rollingVolumeWeightedStockPrice.calculateVolumeWeightedStockPrice();
+			}
+		}
+		throw new IllegalArgumentException("Volume Weighted Stock Price window is not maintained: " + volumeWeightedStockPriceWindow);
+	}
+
+	/**
+	 * Method returns OHLCV candles of a candle interval maintained by this Stock
+	 * Order Book.
+	 * 
+	 * @param candleInterval
+	 *            - CandleInterval passed to setCandleIntervals().
+	 * 
+	 * @return StockCandleSeries of the interval, it may be read from any thread.
+	 */
+	public StockCandleSeries getStockCandleSeries(final CandleInterval candleInterval) {
+		for (StockCandleSeries candleSeries : this.stockCandleSeries) {
+			if (candleSeries.getCandleInterval() == candleInterval) {
+				return candleSeries;
+			}
+		}
+		throw new IllegalArgumentException("Candle interval is not maintained: " + candleInterval);
 	}
 
 	/**
 	 * Method adds the two matched buy+sell stock orders to an executed stock order
-	 * transactions set.
+	 * transactions store.
 	 * 
 	 * @param stockBuyOrder
 	 *            - StockBuyOrder of an executed stock buy order.
 	 * @param stockSellOrder
 	 *            - StockBuyOrder of an executed stock sell order.
 	 * @param exchangedStocksQuantiy
-	 *            - Integer of traded/executed stocks quantity.
-	 * @param transactionStockPrice
-	 *            - BigDecimal of transaction stocks price.
+	 *            - int of traded/executed stocks quantity.
+	 * @param scaledTransactionStockPrice
+	 *            - long of transaction stocks price scaled to 4 decimal digits.
 	 * @param stockOrderTransactionType
 	 *            - StockOrderTransactionType of an executed stock operation.
+	 * @param timestampMillis
+	 *            - long completion time in milliseconds since the epoch.
+	 * @param nanoTime
+	 *            - long completion time of a monotonic time source.
 	 * 
 	 * @return stockOrderTransaction - StockOrderTransaction of an executed trade
 	 *         operation.
 	 */
-	private StockOrderTransaction addExecutedStockOrderTransaction(final StockBuyOrder stockBuyOrder, final StockSellOrder stockSellOrder, final Integer exchangedStocksQuantiy,
-			final BigDecimal transactionStockPrice, final StockOrderTransactionType stockOrderTransactionType) {
-		final StockOrderTransaction stockOrderTransaction = new StockOrderTransaction(stockBuyOrder, stockSellOrder, exchangedStocksQuantiy, transactionStockPrice, stockOrderTransactionType);
-		this.stockOrderTransactions.add(stockOrderTransaction);
-		this.totalPriceQuantitySum = this.totalPriceQuantitySum.add(transactionStockPrice.multiply(new BigDecimal(exchangedStocksQuantiy.intValue())));
-		this.totalQuantity = this.totalQuantity.add(BigInteger.valueOf(exchangedStocksQuantiy.intValue()));
+	private StockOrderTransaction addExecutedStockOrderTransaction(final StockBuyOrder stockBuyOrder, final StockSellOrder stockSellOrder, final int exchangedStocksQuantiy,
+			final long scaledTransactionStockPrice, final StockOrderTransactionType stockOrderTransactionType, final long timestampMillis, final long nanoTime) {
+		final StockOrderTransaction stockOrderTransaction = new StockOrderTransaction(stockBuyOrder, stockSellOrder, exchangedStocksQuantiy, scaledTransactionStockPrice, stockOrderTransactionType,
+				timestampMillis, nanoTime);
+		if (this.stockOrderJournalStream != null) {
+			this.stockOrderJournalStream.appendStockOrderTransaction(stockOrderTransaction);
+		}
+		this.stockOrderTransactions.append(stockOrderTransaction);
+		this.totalScaledPriceQuantitySum += scaledTransactionStockPrice * exchangedStocksQuantiy;
+		this.totalQuantity += exchangedStocksQuantiy;
+		this.stockOrderBookMetrics.recordStockOrderTransaction(exchangedStocksQuantiy);
+		this.scaledLastTradePrice = scaledTransactionStockPrice;
+		updateScaledVolumeWeightedStockPrice();
+		for (RollingVolumeWeightedStockPrice rollingVolumeWeightedStockPrice : this.rollingVolumeWeightedStockPrices) {
+			rollingVolumeWeightedStockPrice.update(stockOrderTransaction.getTransactionCompletedNanoTime(), scaledTransactionStockPrice, exchangedStocksQuantiy);
+		}
+		for (StockCandleSeries candleSeries : this.stockCandleSeries) {
+			candleSeries.update(timestampMillis, scaledTransactionStockPrice, exchangedStocksQuantiy);
+		}
+		this.stockPositions.update(stockBuyOrder.getStockMarketPlayer(), stockSellOrder.getStockMarketPlayer(), exchangedStocksQuantiy, scaledTransactionStockPrice);
 		return stockOrderTransaction;
 	}
 
 	/**
-	 * @return the buyStockOrders
+	 * Method replays a journaled stock order, it is matched like a new order but
+	 * it is not journaled again and its trade transactions are stamped with the
+	 * journaled time, so rolling windows see them as old trades.
+	 * 
+	 * @param stockOrderType
+	 *            - StockOrderTransactionType BUY or SELL.
+	 * @param stock
+	 *            - AbstractStock of the order.
+	 * @param quantity
+	 *            - int quantity of the order.
+	 * @param scaledOfferedPrice
+	 *            - long offered price scaled to 4 decimal digits.
+	 * @param stockMarketPlayer
+	 *            - StockMarketPlayer who issued the order.
+	 * @param timestampMillis
+	 *            - long journaled time of the order.
+	 * 
+	 * @return executedStockOrderTransactionsCount - int number of executed trade
+	 *         transactions.
 	 */
-	public Set<StockBuyOrder> getBuyStockOrders() {
-		return buyStockOrders;
+	int replayStockOrder(final StockOrderTransactionType stockOrderType, final AbstractStock stock, final int quantity, final long scaledOfferedPrice,
+			final StockMarketPlayer stockMarketPlayer, final long timestampMillis) {
+		final long ageNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, this.stockMarketClock.currentTimeMillis() - timestampMillis));
+		final long nanoTime = this.stockMarketClock.nanoTime() - ageNanos;
+		final StockOrderJournalStream currentStockOrderJournalStream = this.stockOrderJournalStream;
+		this.stockOrderJournalStream = null;
+		try {
+			if (stockOrderType == StockOrderTransactionType.BUY) {
+				return matchBuyStockOrder(stock, quantity, scaledOfferedPrice, stockMarketPlayer, timestampMillis, nanoTime, stockOrderTransaction -> {
+				});
+			}
+			return matchSellStockOrder(stock, quantity, scaledOfferedPrice, stockMarketPlayer, timestampMillis, nanoTime, stockOrderTransaction -> {
+			});
+		} finally {
+			this.stockOrderJournalStream = currentStockOrderJournalStream;
+		}
 	}
 
 	/**
-	 * @return the sellStockOrders
+	 * Method copies the full state of this book, it is called by the book owner
+	 * and costs one pass over the resting orders, writing the copy is left to the
+	 * caller.
+	 * 
+	 * @param stock
+	 *            - AbstractStock traded in this book.
+	 * 
+	 * @return StockOrderBookState.
 	 */
-	public Set<StockSellOrder> getSellStockOrders() {
-		return sellStockOrders;
+	StockOrderBookState captureState(final AbstractStock stock) {
+		final int[] playerIndexesById = new int[StockMarketPlayer.getRegisteredPlayersCount()];
+		final List<StockMarketPlayer> stockMarketPlayers = new ArrayList<>();
+		final StockOrderBookState.RestingStockOrders restingBuyStockOrders = captureStockOrders(this.buyStockOrders.getStockOrders(), playerIndexesById, stockMarketPlayers);
+		final StockOrderBookState.RestingStockOrders restingSellStockOrders = captureStockOrders(this.sellStockOrders.getStockOrders(), playerIndexesById, stockMarketPlayers);
+		final boolean[] timeBasedWindows = new boolean[this.rollingVolumeWeightedStockPrices.length];
+		final long[] windowBucketWidths = new long[this.rollingVolumeWeightedStockPrices.length];
+		final long[][] windowStates = new long[this.rollingVolumeWeightedStockPrices.length][];
+		for (int i = 0; i < this.rollingVolumeWeightedStockPrices.length; i++) {
+			timeBasedWindows[i] = this.rollingVolumeWeightedStockPrices[i].getWindow().isTimeBased();
+			windowBucketWidths[i] = this.rollingVolumeWeightedStockPrices[i].getWindow().getBucketWidth();
+			windowStates[i] = this.rollingVolumeWeightedStockPrices[i].captureState();
+		}
+		return new StockOrderBookState(stock.getStockSymbol(), this.stockMarketClock.currentTimeMillis(), this.stockOrderJournalStream != null ? this.stockOrderJournalStream.getPosition() : -1,
+				stock.getScaledPrice(), this.scaledLastTradePrice, this.totalScaledPriceQuantitySum, this.totalQuantity, this.stockOrderTransactions.getLastSequenceNumber(),
+				this.snapshot.getVersion(), timeBasedWindows, windowBucketWidths, windowStates, stockMarketPlayers.toArray(new StockMarketPlayer[stockMarketPlayers.size()]),
+				restingBuyStockOrders, restingSellStockOrders);
 	}
 
 	/**
-	 * @return the stockOrderTransactions
+	 * Method copies resting orders of one side, players are numbered in order of
+	 * their first appearance.
+	 * 
+	 * @param stockOrders
+	 *            - Collection of resting orders in price-time priority order.
+	 * @param playerIndexesById
+	 *            - int[] index + 1 of each player already numbered, by player id.
+	 * @param stockMarketPlayers
+	 *            - List<StockMarketPlayer> of numbered players.
+	 * 
+	 * @return StockOrderBookState.RestingStockOrders.
 	 */
-	public Set<StockOrderTransaction> getStockOrderTransactions() {
+	private static StockOrderBookState.RestingStockOrders captureStockOrders(final Collection<? extends AbstractStockOrder> stockOrders, final int[] playerIndexesById,
+			final List<StockMarketPlayer> stockMarketPlayers) {
+		final StockOrderBookState.RestingStockOrders restingStockOrders = new StockOrderBookState.RestingStockOrders(stockOrders.size());
+		int i = 0;
+		for (AbstractStockOrder stockOrder : stockOrders) {
+			final StockMarketPlayer stockMarketPlayer = stockOrder.getStockMarketPlayer();
+			if (playerIndexesById[stockMarketPlayer.getId()] == 0) {
+				stockMarketPlayers.add(stockMarketPlayer);
+				playerIndexesById[stockMarketPlayer.getId()] = stockMarketPlayers.size();
+			}
+			restingStockOrders.playerIndexes[i] = playerIndexesById[stockMarketPlayer.getId()] - 1;
+			restingStockOrders.quantities[i] = stockOrder.getQuantity();
+			restingStockOrders.scaledOfferedPrices[i] = stockOrder.getScaledOfferedPrice();
+			restingStockOrders.timestampsMillis[i] = stockOrder.getTimestampMillis();
+			i++;
+		}
+		return restingStockOrders;
+	}
+
+	/**
+	 * Method restores a state captured by captureState() into this empty book.
+	 * Rolling windows are restored if the state holds a window with the same
+	 * buckets, time based windows are aged by the time since the capture.
+	 * Executed trade transactions are not part of the state, sequence numbers of
+	 * new ones continue after the captured ones.
+	 * 
+	 * @param stockOrderBookState
+	 *            - StockOrderBookState to restore.
+	 * @param stock
+	 *            - AbstractStock traded in this book.
+	 * 
+	 * @return int - number of restored resting orders.
+	 */
+	int restoreState(final StockOrderBookState stockOrderBookState, final AbstractStock stock) {
+		if (!this.buyStockOrders.isEmpty() || !this.sellStockOrders.isEmpty() || this.stockOrderTransactions.getLastSequenceNumber() != 0) {
+			throw new IllegalStateException("Only an empty stock order book can be restored: " + stock.getStockSymbol());
+		}
+		restoreStockOrders(this.buyStockOrders, stockOrderBookState.buyStockOrders, stockOrderBookState.stockMarketPlayers,
+				(quantity, scaledOfferedPrice, stockMarketPlayer, timestampMillis) -> new StockBuyOrder(stock, quantity, scaledOfferedPrice, stockMarketPlayer, timestampMillis));
+		restoreStockOrders(this.sellStockOrders, stockOrderBookState.sellStockOrders, stockOrderBookState.stockMarketPlayers,
+				(quantity, scaledOfferedPrice, stockMarketPlayer, timestampMillis) -> new StockSellOrder(stock, quantity, scaledOfferedPrice, stockMarketPlayer, timestampMillis));
+		final long elapsedNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, this.stockMarketClock.currentTimeMillis() - stockOrderBookState.capturedTimeMillis));
+		for (RollingVolumeWeightedStockPrice rollingVolumeWeightedStockPrice : this.rollingVolumeWeightedStockPrices) {
+			final VolumeWeightedStockPriceWindow window = rollingVolumeWeightedStockPrice.getWindow();
+			for (int i = 0; i < stockOrderBookState.windowStates.length; i++) {
+				if (stockOrderBookState.timeBasedWindows[i] == window.isTimeBased() && stockOrderBookState.windowBucketWidths[i] == window.getBucketWidth()
+						&& stockOrderBookState.windowStates[i].length == 3 + 2 * window.getBucketsCount()) {
+					rollingVolumeWeightedStockPrice.restoreState(stockOrderBookState.windowStates[i], elapsedNanos);
+					break;
+				}
+			}
+		}
+		stock.setScaledPrice(stockOrderBookState.scaledStockPrice);
+		this.stockOrderTransactions.restartSequenceNumbers(stockOrderBookState.lastTransactionSequenceNumber);
+		this.totalScaledPriceQuantitySum = stockOrderBookState.totalScaledPriceQuantitySum;
+		this.totalQuantity = stockOrderBookState.totalQuantity;
+		this.scaledLastTradePrice = stockOrderBookState.scaledLastTradePrice;
+		this.restoredJournalPosition = stockOrderBookState.journalPosition;
+		if (this.totalQuantity > 0) {
+			updateScaledVolumeWeightedStockPrice();
+		}
+		this.snapshot = new StockOrderBookSnapshot(stockOrderBookState.snapshotVersion, 0, new long[0], 0, new long[0], 0);
+		publishSnapshot();
+		return stockOrderBookState.getRestingStockOrdersCount();
+	}
+
+	/**
+	 * Method restores resting orders of one side. Price levels are added from the
+	 * worst to the best one, so each new level is appended after the existing
+	 * ones without shifting them, and orders of a level are added in time
+	 * priority order.
+	 * 
+	 * @param stockOrderBookSide
+	 *            - StockOrderBookSide to restore.
+	 * @param restingStockOrders
+	 *            - StockOrderBookState.RestingStockOrders in price-time priority
+	 *            order.
+	 * @param stockMarketPlayers
+	 *            - StockMarketPlayer[] referred to by resting orders.
+	 * @param stockOrderFactory
+	 *            - StockOrderFactory creating orders of the side.
+	 */
+	private static <T extends AbstractStockOrder> void restoreStockOrders(final StockOrderBookSide<T> stockOrderBookSide, final StockOrderBookState.RestingStockOrders restingStockOrders,
+			final StockMarketPlayer[] stockMarketPlayers, final StockOrderFactory<T> stockOrderFactory) {
+		int priceLevelEnd = restingStockOrders.count;
+		while (priceLevelEnd > 0) {
+			final long scaledOfferedPrice = restingStockOrders.scaledOfferedPrices[priceLevelEnd - 1];
+			int priceLevelStart = priceLevelEnd - 1;
+			while (priceLevelStart > 0 && restingStockOrders.scaledOfferedPrices[priceLevelStart - 1] == scaledOfferedPrice) {
+				priceLevelStart--;
+			}
+			for (int i = priceLevelStart; i < priceLevelEnd; i++) {
+				stockOrderBookSide.addStockOrder(stockOrderFactory.create(restingStockOrders.quantities[i], scaledOfferedPrice, stockMarketPlayers[restingStockOrders.playerIndexes[i]],
+						restingStockOrders.timestampsMillis[i]));
+			}
+			priceLevelEnd = priceLevelStart;
+		}
+	}
+
+	/**
+	 * Creates resting orders of one side of a restored book.
+	 */
+	@FunctionalInterface
+	private interface StockOrderFactory<T extends AbstractStockOrder> {
+		/**
+		 * @param quantity
+		 *            - int remaining quantity.
+		 * @param scaledOfferedPrice
+		 *            - long scaled offered price.
+		 * @param stockMarketPlayer
+		 *            - StockMarketPlayer who issued the order.
+		 * @param timestampMillis
+		 *            - long time the order was accepted.
+		 * 
+		 * @return T - resting order.
+		 */
+		T create(int quantity, long scaledOfferedPrice, StockMarketPlayer stockMarketPlayer, long timestampMillis);
+	}
+
+	/**
+	 * Method recalculates the session Volume Weighted Stock Price and notifies
+	 * the listener if it has changed.
+	 */
+	private void updateScaledVolumeWeightedStockPrice() {
+		final long previousScaledVolumeWeightedStockPrice = this.scaledVolumeWeightedStockPrice;
+		this.scaledVolumeWeightedStockPrice = ScaledPrice.divide(this.totalScaledPriceQuantitySum, this.totalQuantity);
+		if (this.scaledVolumeWeightedStockPrice != previousScaledVolumeWeightedStockPrice) {
+			this.volumeWeightedStockPriceListener.onVolumeWeightedStockPriceChange(previousScaledVolumeWeightedStockPrice, this.scaledVolumeWeightedStockPrice);
+		}
+	}
+
+	/**
+	 * Method publishes an immutable snapshot of the best price levels of both
+	 * sides, readers see either the previous or the new snapshot as a whole. It
+	 * is called after each order, so nothing is allocated unless the best price
+	 * levels or the last trade price changed, and the price levels of an
+	 * unchanged side are shared with the previous snapshot.
+	 */
+	private void publishSnapshot() {
+		this.restingBuyStockOrdersCount = this.buyStockOrders.size();
+		this.restingSellStockOrdersCount = this.sellStockOrders.size();
+		final StockOrderBookSnapshot currentSnapshot = this.snapshot;
+		final boolean bidLevelsChanged = !this.buyStockOrders.hasBestPriceLevels(currentSnapshot.getBidLevels(), currentSnapshot.getBidLevelsCount(), this.snapshotDepth);
+		final boolean askLevelsChanged = !this.sellStockOrders.hasBestPriceLevels(currentSnapshot.getAskLevels(), currentSnapshot.getAskLevelsCount(), this.snapshotDepth);
+		if (!bidLevelsChanged && !askLevelsChanged && this.scaledLastTradePrice == currentSnapshot.getScaledLastTradePrice()) {
+			return;
+		}
+		final long[] bidLevels = bidLevelsChanged ? copyBestPriceLevels(this.buyStockOrders) : currentSnapshot.getBidLevels();
+		final long[] askLevels = askLevelsChanged ? copyBestPriceLevels(this.sellStockOrders) : currentSnapshot.getAskLevels();
+		this.snapshot = new StockOrderBookSnapshot(currentSnapshot.getVersion() + 1, bidLevels.length / 2, bidLevels, askLevels.length / 2, askLevels, this.scaledLastTradePrice);
+	}
+
+	/**
+	 * @param stockOrderBookSide
+	 *            - StockOrderBookSide to copy.
+	 *
+	 * @return long[] - scaled price and total quantity pairs of the best price
+	 *         levels of the side.
+	 */
+	private long[] copyBestPriceLevels(final StockOrderBookSide<?> stockOrderBookSide) {
+		final long[] priceLevelsData = new long[2 * Math.min(this.snapshotDepth, stockOrderBookSide.getPriceLevelsCount())];
+		stockOrderBookSide.copyBestPriceLevels(priceLevelsData, this.snapshotDepth);
+		return priceLevelsData;
+	}
+
+	/**
+	 * @return the latest published snapshot, safe to call from any thread without
+	 *         locking.
+	 */
+	public StockOrderBookSnapshot getSnapshot() {
+		return snapshot;
+	}
+
+	/**
+	 * @return the number of resting buy orders, safe to call from any thread
+	 *         without locking.
+	 */
+	public int getRestingBuyStockOrdersCount() {
+		return restingBuyStockOrdersCount;
+	}
+
+	/**
+	 * @return the number of resting sell orders, safe to call from any thread
+	 *         without locking.
+	 */
+	public int getRestingSellStockOrdersCount() {
+		return restingSellStockOrdersCount;
+	}
+
+	/**
+	 * @param snapshotDepth
+	 *            the number of price levels per side published in snapshots,
+	 *            applied from the next change.
+	 */
+	public void setSnapshotDepth(int snapshotDepth) {
+		this.snapshotDepth = snapshotDepth;
+	}
+
+	/**
+	 * @return the resting buyStockOrders in price-time priority order.
+	 */
+	public Collection<StockBuyOrder> getBuyStockOrders() {
+		return buyStockOrders.getStockOrders();
+	}
+
+	/**
+	 * @return the resting sellStockOrders in price-time priority order.
+	 */
+	public Collection<StockSellOrder> getSellStockOrders() {
+		return sellStockOrders.getStockOrders();
+	}
+
+	/**
+	 * @return the stockOrderTransactions store of retained executed trade
+	 *         transactions.
+	 */
+	public StockOrderTransactionStore getStockOrderTransactions() {
 		return stockOrderTransactions;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * @return the rollingVolumeWeightedStockPrices
+	 */
+	public RollingVolumeWeightedStockPrice[] getRollingVolumeWeightedStockPrices() {
+		return rollingVolumeWeightedStockPrices;
+	}
+
+	/**
+	 * @return the stockCandleSeries of each candle interval.
+	 */
+	public StockCandleSeries[] getStockCandleSeries() {
+		return stockCandleSeries;
+	}
+
+	/**
+	 * @return the stockPositions of players trading in this book, they may be read
+	 *         from any thread.
+	 */
+	public StockPositions getStockPositions() {
+		return stockPositions;
+	}
+
+	/**
+	 * @return the stockOrderBookMetrics of this book, they may be read from any
+	 *         thread.
+	 */
+	public StockOrderBookMetrics getStockOrderBookMetrics() {
+		return stockOrderBookMetrics;
+	}
+
+	/**
+	 * @return the stockOrderLatencies of this book, snapshots may be taken from
+	 *         any thread.
+	 */
+	public StockOrderLatencies getStockOrderLatencies() {
+		return stockOrderLatencies;
+	}
+
+	/**
+	 * Method sets candle intervals maintained from the next executed trade
+	 * transaction, it is called before trading starts.
+	 * 
+	 * @param candleIntervals
+	 *            - CandleInterval... maintained candle intervals.
+	 */
+	public void setCandleIntervals(final CandleInterval... candleIntervals) {
+		final StockCandleSeries[] candleSeries = new StockCandleSeries[candleIntervals.length];
+		for (int i = 0; i < candleIntervals.length; i++) {
+			candleSeries[i] = new StockCandleSeries(candleIntervals[i]);
+		}
+		this.stockCandleSeries = candleSeries;
+	}
+
+	/**
+	 * @param volumeWeightedStockPriceListener
+	 *            the volumeWeightedStockPriceListener to set, it is called by the
+	 *            stock order book owner.
+	 */
+	public void setVolumeWeightedStockPriceListener(VolumeWeightedStockPriceListener volumeWeightedStockPriceListener) {
+		this.volumeWeightedStockPriceListener = volumeWeightedStockPriceListener;
+	}
+
+	/**
+	 * @return the restoredJournalPosition, journaled stock orders before it are
+	 *         already applied to this book, -1 if the book is not restored.
+	 */
+	long getRestoredJournalPosition() {
+		return restoredJournalPosition;
+	}
+
+	/**
+	 * @param stockOrderJournalStream
+	 *            the stockOrderJournalStream to set, null disables journaling. A
+	 *            book appends to a single stream per journal session.
+	 */
+	public void setStockOrderJournalStream(StockOrderJournalStream stockOrderJournalStream) {
+		this.stockOrderJournalStream = stockOrderJournalStream;
+	}
+}
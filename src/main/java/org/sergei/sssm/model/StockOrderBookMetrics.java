@@ -0,0 +1,106 @@
+package org.sergei.sssm.model;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.sergei.sssm.utils.ScaledPrice;
+
+/**
+ * Live counters of a stock order book exposed as an MXBean. Counters are
+ * LongAdder cells updated by the stock order book owner while matching, so
+ * recording never contends with the trading threads and a JMX client may read
+ * them at any time. Resting depth, the latest published snapshot and Volume
+ * Weighted Stock Price are read from the book, no lock is taken.
+ *
+ * A filled resting order is removed from its price level by the same fill, so
+ * there is no matched but unremoved order to report.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public class StockOrderBookMetrics implements StockOrderBookMetricsMXBean {
+	private final StockOrderBook stockOrderBook;
+	private final LongAdder buyStockOrdersCount;
+	private final LongAdder sellStockOrdersCount;
+	private final LongAdder stockOrderTransactionsCount;
+	private final LongAdder tradedQuantity;
+
+	/**
+	 * Constructor initializes zero counters.
+	 *
+	 * @param stockOrderBook
+	 *            - StockOrderBook of the counters.
+	 */
+	StockOrderBookMetrics(final StockOrderBook stockOrderBook) {
+		this.stockOrderBook = stockOrderBook;
+		this.buyStockOrdersCount = new LongAdder();
+		this.sellStockOrdersCount = new LongAdder();
+		this.stockOrderTransactionsCount = new LongAdder();
+		this.tradedQuantity = new LongAdder();
+	}
+
+	/**
+	 * Method counts an accepted stock order.
+	 *
+	 * @param stockOrderTransactionType
+	 *            - StockOrderTransactionType BUY or SELL.
+	 */
+	void recordStockOrder(final StockOrderTransactionType stockOrderTransactionType) {
+		if (stockOrderTransactionType == StockOrderTransactionType.BUY) {
+			this.buyStockOrdersCount.increment();
+		} else {
+			this.sellStockOrdersCount.increment();
+		}
+	}
+
+	/**
+	 * Method counts an executed trade transaction.
+	 *
+	 * @param exchangedStocksQuantiy
+	 *            - int of traded stocks quantity.
+	 */
+	void recordStockOrderTransaction(final int exchangedStocksQuantiy) {
+		this.stockOrderTransactionsCount.increment();
+		this.tradedQuantity.add(exchangedStocksQuantiy);
+	}
+
+	@Override
+	public long getBuyStockOrdersCount() {
+		return this.buyStockOrdersCount.sum();
+	}
+
+	@Override
+	public long getSellStockOrdersCount() {
+		return this.sellStockOrdersCount.sum();
+	}
+
+	@Override
+	public long getStockOrderTransactionsCount() {
+		return this.stockOrderTransactionsCount.sum();
+	}
+
+	@Override
+	public long getTradedQuantity() {
+		return this.tradedQuantity.sum();
+	}
+
+	@Override
+	public int getRestingBuyStockOrdersCount() {
+		return this.stockOrderBook.getRestingBuyStockOrdersCount();
+	}
+
+	@Override
+	public int getRestingSellStockOrdersCount() {
+		return this.stockOrderBook.getRestingSellStockOrdersCount();
+	}
+
+	@Override
+	public BigDecimal getVolumeWeightedStockPrice() {
+		return this.stockOrderBook.calculateVolumeWeightedStockPrice();
+	}
+
+	@Override
+	public BigDecimal getLastTradePrice() {
+		return ScaledPrice.toBigDecimal(this.stockOrderBook.getSnapshot().getScaledLastTradePrice());
+	}
+}
@@ -0,0 +1,52 @@
+package org.sergei.sssm.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Management interface of a stock order book, registered by
+ * StockMarket.registerMBeans() and readable with jconsole or any JMX client.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public interface StockOrderBookMetricsMXBean {
+	/**
+	 * @return the number of accepted buy orders.
+	 */
+	long getBuyStockOrdersCount();
+
+	/**
+	 * @return the number of accepted sell orders.
+	 */
+	long getSellStockOrdersCount();
+
+	/**
+	 * @return the number of executed trade transactions.
+	 */
+	long getStockOrderTransactionsCount();
+
+	/**
+	 * @return the sum of stocks quantity of executed trade transactions.
+	 */
+	long getTradedQuantity();
+
+	/**
+	 * @return the number of resting buy orders.
+	 */
+	int getRestingBuyStockOrdersCount();
+
+	/**
+	 * @return the number of resting sell orders.
+	 */
+	int getRestingSellStockOrdersCount();
+
+	/**
+	 * @return the session Volume Weighted Stock Price.
+	 */
+	BigDecimal getVolumeWeightedStockPrice();
+
+	/**
+	 * @return the price of the latest executed trade transaction.
+	 */
+	BigDecimal getLastTradePrice();
+}
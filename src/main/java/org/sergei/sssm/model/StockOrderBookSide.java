@@ -0,0 +1,256 @@
+package org.sergei.sssm.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.16. initial version
+ */
+public class StockOrderBookSide<T extends AbstractStockOrder> {
+	private static final int INITIAL_PRICE_LEVELS_CAPACITY = 64;
+	private static final int MAX_RECYCLED_PRICE_LEVELS = 64;
+	/**
+	 * True if the highest price is the best one (buy side).
+	 */
+	private final boolean highestPriceBest;
+	/**
+	 * Priority keys of price levels sorted in ascending order, the best level is
+	 * the last one. The key is the scaled price for the buy side and the negated
+	 * scaled price for the sell side.
+	 */
+	private long[] priorityKeys;
+	/**
+	 * Price levels in the same order as priorityKeys.
+	 */
+	private StockOrderPriceLevel<T>[] priceLevels;
+	/**
+	 * Number of price levels.
+	 */
+	private int priceLevelsCount;
+	/**
+	 * Emptied price levels kept for reuse.
+	 */
+	private final Deque<StockOrderPriceLevel<T>> recycledPriceLevels;
+	/**
+	 * Number of resting stock orders on this side.
+	 */
+	private int size;
+
+	/**
+	 * Constructor initializes class attributes.
+	 *
+	 * Levels are kept in sorted primitive arrays with the best level at the end,
+	 * so the best level is removed in constant time and new levels, which usually
+	 * appear close to the top of the book, shift only a few elements.
+	 *
+	 * @param highestPriceBest
+	 *            - boolean true for the buy side, false for the sell side.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public StockOrderBookSide(final boolean highestPriceBest) {
+		this.highestPriceBest = highestPriceBest;
+		this.priorityKeys = new long[INITIAL_PRICE_LEVELS_CAPACITY];
+		this.priceLevels = new StockOrderPriceLevel[INITIAL_PRICE_LEVELS_CAPACITY];
+		this.recycledPriceLevels = new ArrayDeque<>();
+	}
+
+	/**
+	 * Method creates a side where the highest price is the best one, used for buy
+	 * stock orders.
+	 *
+	 * @return StockOrderBookSide<StockBuyOrder>.
+	 */
+	public static StockOrderBookSide<StockBuyOrder> createBuySide() {
+		return new StockOrderBookSide<>(true);
+	}
+
+	/**
+	 * Method creates a side where the lowest price is the best one, used for sell
+	 * stock orders.
+	 *
+	 * @return StockOrderBookSide<StockSellOrder>.
+	 */
+	public static StockOrderBookSide<StockSellOrder> createSellSide() {
+		return new StockOrderBookSide<>(false);
+	}
+
+	/**
+	 * Method rests a stock order at the tail of its price level, creating the
+	 * level if it does not exist yet.
+	 *
+	 * @param stockOrder
+	 *            - T stock order to rest.
+	 */
+	public void addStockOrder(final T stockOrder) {
+		final long scaledOfferedPrice = stockOrder.getScaledOfferedPrice();
+		final long priorityKey = this.highestPriceBest ? scaledOfferedPrice : -scaledOfferedPrice;
+		int index = Arrays.binarySearch(this.priorityKeys, 0, this.priceLevelsCount, priorityKey);
+
+		if (index < 0) {
+			index = -index - 1;
+			insertPriceLevel(index, priorityKey, scaledOfferedPrice);
+		}
+		this.priceLevels[index].addStockOrder(stockOrder);
+		this.size++;
+	}
+
+	/**
+	 * Method inserts a new empty price level at a given position.
+	 *
+	 * @param index
+	 *            - int position of the new level.
+	 * @param priorityKey
+	 *            - long priority key of the new level.
+	 * @param scaledOfferedPrice
+	 *            - long scaled offered price of the new level.
+	 */
+	private void insertPriceLevel(final int index, final long priorityKey, final long scaledOfferedPrice) {
+		if (this.priceLevelsCount == this.priorityKeys.length) {
+			this.priorityKeys = Arrays.copyOf(this.priorityKeys, this.priceLevelsCount * 2);
+			this.priceLevels = Arrays.copyOf(this.priceLevels, this.priceLevelsCount * 2);
+		}
+		final int shiftedLevelsCount = this.priceLevelsCount - index;
+		System.arraycopy(this.priorityKeys, index, this.priorityKeys, index + 1, shiftedLevelsCount);
+		System.arraycopy(this.priceLevels, index, this.priceLevels, index + 1, shiftedLevelsCount);
+
+		StockOrderPriceLevel<T> priceLevel = this.recycledPriceLevels.pollFirst();
+		if (priceLevel == null) {
+			priceLevel = new StockOrderPriceLevel<>(scaledOfferedPrice);
+		} else {
+			priceLevel.reset(scaledOfferedPrice);
+		}
+		this.priorityKeys[index] = priorityKey;
+		this.priceLevels[index] = priceLevel;
+		this.priceLevelsCount++;
+	}
+
+	/**
+	 * Method returns the stock order with the best price and the highest time
+	 * priority, or null if this side is empty.
+	 *
+	 * @return T - best stock order.
+	 */
+	public T peekBestStockOrder() {
+		if (this.priceLevelsCount == 0) {
+			return null;
+		}
+		return this.priceLevels[this.priceLevelsCount - 1].peekStockOrder();
+	}
+
+	/**
+	 * Method deducts a quantity executed against the stock order returned by
+	 * peekBestStockOrder() from its price level and removes the stock order once
+	 * it is matched, dropping its price level once it becomes empty.
+	 *
+	 * @param exchangedStocksQuantity
+	 *            - int quantity executed against the best stock order.
+	 */
+	public void fillBestStockOrder(final int exchangedStocksQuantity) {
+		if (this.priceLevelsCount == 0) {
+			return;
+		}
+		final int bestIndex = this.priceLevelsCount - 1;
+		final StockOrderPriceLevel<T> bestPriceLevel = this.priceLevels[bestIndex];
+		bestPriceLevel.reduceTotalQuantity(exchangedStocksQuantity);
+		if (!bestPriceLevel.peekStockOrder().isMatched()) {
+			return;
+		}
+		bestPriceLevel.removeStockOrder();
+		this.size--;
+		if (bestPriceLevel.isEmpty()) {
+			this.priceLevels[bestIndex] = null;
+			this.priceLevelsCount--;
+			if (this.recycledPriceLevels.size() < MAX_RECYCLED_PRICE_LEVELS) {
+				this.recycledPriceLevels.addFirst(bestPriceLevel);
+			}
+		}
+	}
+
+	/**
+	 * @return true if no stock order rests on this side.
+	 */
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/**
+	 * @return the number of resting stock orders.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * @return the number of price levels.
+	 */
+	public int getPriceLevelsCount() {
+		return this.priceLevelsCount;
+	}
+
+	/**
+	 * Method copies scaled prices and total quantities of the best price levels,
+	 * best first, as pairs of price and quantity.
+	 *
+	 * @param priceLevelsData
+	 *            - long[] receiving price and quantity pairs.
+	 * @param depth
+	 *            - int maximum number of copied price levels.
+	 *
+	 * @return int - number of copied price levels.
+	 */
+	public int copyBestPriceLevels(final long[] priceLevelsData, final int depth) {
+		final int copiedPriceLevelsCount = Math.min(depth, this.priceLevelsCount);
+		for (int i = 0; i < copiedPriceLevelsCount; i++) {
+			final StockOrderPriceLevel<T> priceLevel = this.priceLevels[this.priceLevelsCount - 1 - i];
+			priceLevelsData[2 * i] = priceLevel.getScaledOfferedPrice();
+			priceLevelsData[2 * i + 1] = priceLevel.getTotalQuantity();
+		}
+		return copiedPriceLevelsCount;
+	}
+
+	/**
+	 * Method compares the best price levels with price and quantity pairs copied
+	 * by copyBestPriceLevels(), without allocating.
+	 *
+	 * @param priceLevelsData
+	 *            - long[] price and quantity pairs, best first.
+	 * @param priceLevelsDataCount
+	 *            - int number of price levels of the pairs.
+	 * @param depth
+	 *            - int maximum number of compared price levels.
+	 *
+	 * @return true if the best price levels, up to the depth, are equal to the
+	 *         pairs.
+	 */
+	public boolean hasBestPriceLevels(final long[] priceLevelsData, final int priceLevelsDataCount, final int depth) {
+		final int comparedPriceLevelsCount = Math.min(depth, this.priceLevelsCount);
+		if (comparedPriceLevelsCount != priceLevelsDataCount) {
+			return false;
+		}
+		for (int i = 0; i < comparedPriceLevelsCount; i++) {
+			final StockOrderPriceLevel<T> priceLevel = this.priceLevels[this.priceLevelsCount - 1 - i];
+			if (priceLevelsData[2 * i] != priceLevel.getScaledOfferedPrice() || priceLevelsData[2 * i + 1] != priceLevel.getTotalQuantity()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Method copies resting stock orders in price-time priority order.
+	 *
+	 * @return Collection<T> of resting stock orders.
+	 */
+	public Collection<T> getStockOrders() {
+		final List<T> stockOrders = new ArrayList<>(this.size);
+		for (int i = this.priceLevelsCount - 1; i >= 0; i--) {
+			stockOrders.addAll(this.priceLevels[i].getStockOrders());
+		}
+		return stockOrders;
+	}
+}
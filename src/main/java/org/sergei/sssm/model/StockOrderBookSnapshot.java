@@ -0,0 +1,225 @@
+package org.sergei.sssm.model;
+
+import java.math.BigDecimal;
+
+import org.sergei.sssm.utils.ScaledPrice;
+
+/**
+ * Immutable market data of a stock order book: best bid and ask with their
+ * sizes, the top price levels of each side aggregated by price and the last
+ * trade price. A new snapshot with a higher version is published by the stock
+ * order book owner when one of them changes, readers fetch it without locking.
+ * An order resting below the top price levels publishes nothing, and the price
+ * levels of an unchanged side are shared with the previous snapshot.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public class StockOrderBookSnapshot {
+	/**
+	 * Default number of price levels per side kept in a snapshot.
+	 */
+	public static final int DEFAULT_DEPTH = 10;
+	/**
+	 * Snapshot of a stock order book without any change.
+	 */
+	public static final StockOrderBookSnapshot EMPTY = new StockOrderBookSnapshot(0, 0, new long[0], 0, new long[0], 0);
+	private final long version;
+	private final int bidLevelsCount;
+	/**
+	 * Scaled price and total quantity pairs of buy price levels, best first.
+	 */
+	private final long[] bidLevels;
+	private final int askLevelsCount;
+	/**
+	 * Scaled price and total quantity pairs of sell price levels, best first.
+	 */
+	private final long[] askLevels;
+	private final long scaledLastTradePrice;
+
+	/**
+	 * Constructor initializes class attributes, arrays are owned by the snapshot
+	 * afterwards and may be shared by later snapshots, they are never modified.
+	 *
+	 * @param version
+	 *            - long version of the stock order book state.
+	 * @param bidLevelsCount
+	 *            - int number of buy price levels.
+	 * @param bidLevels
+	 *            - long[] scaled price and total quantity pairs of buy levels.
+	 * @param askLevelsCount
+	 *            - int number of sell price levels.
+	 * @param askLevels
+	 *            - long[] scaled price and total quantity pairs of sell levels.
+	 * @param scaledLastTradePrice
+	 *            - long scaled price of the latest trade, zero if none.
+	 */
+	StockOrderBookSnapshot(final long version, final int bidLevelsCount, final long[] bidLevels, final int askLevelsCount, final long[] askLevels, final long scaledLastTradePrice) {
+		this.version = version;
+		this.bidLevelsCount = bidLevelsCount;
+		this.bidLevels = bidLevels;
+		this.askLevelsCount = askLevelsCount;
+		this.askLevels = askLevels;
+		this.scaledLastTradePrice = scaledLastTradePrice;
+	}
+
+	/**
+	 * @return the version, increasing with each published change.
+	 */
+	public long getVersion() {
+		return version;
+	}
+
+	/**
+	 * @return true if a buy stock order rests in the book.
+	 */
+	public boolean hasBid() {
+		return this.bidLevelsCount > 0;
+	}
+
+	/**
+	 * @return true if a sell stock order rests in the book.
+	 */
+	public boolean hasAsk() {
+		return this.askLevelsCount > 0;
+	}
+
+	/**
+	 * @return the scaled best bid price, zero if no buy stock order rests.
+	 */
+	public long getScaledBestBidPrice() {
+		return getScaledBidPrice(0);
+	}
+
+	/**
+	 * @return the best bid quantity, zero if no buy stock order rests.
+	 */
+	public long getBestBidQuantity() {
+		return getBidQuantity(0);
+	}
+
+	/**
+	 * @return the scaled best ask price, zero if no sell stock order rests.
+	 */
+	public long getScaledBestAskPrice() {
+		return getScaledAskPrice(0);
+	}
+
+	/**
+	 * @return the best ask quantity, zero if no sell stock order rests.
+	 */
+	public long getBestAskQuantity() {
+		return getAskQuantity(0);
+	}
+
+	/**
+	 * @return the best bid price, null if no buy stock order rests.
+	 */
+	public BigDecimal getBestBidPrice() {
+		return hasBid() ? ScaledPrice.toBigDecimal(getScaledBestBidPrice()) : null;
+	}
+
+	/**
+	 * @return the best ask price, null if no sell stock order rests.
+	 */
+	public BigDecimal getBestAskPrice() {
+		return hasAsk() ? ScaledPrice.toBigDecimal(getScaledBestAskPrice()) : null;
+	}
+
+	/**
+	 * @return the bidLevelsCount
+	 */
+	public int getBidLevelsCount() {
+		return bidLevelsCount;
+	}
+
+	/**
+	 * @return the askLevelsCount
+	 */
+	public int getAskLevelsCount() {
+		return askLevelsCount;
+	}
+
+	/**
+	 * @param level
+	 *            - int price level, 0 is the best one.
+	 *
+	 * @return long - scaled price of the buy level, zero if it does not exist.
+	 */
+	public long getScaledBidPrice(final int level) {
+		return level < this.bidLevelsCount ? this.bidLevels[2 * level] : 0;
+	}
+
+	/**
+	 * @param level
+	 *            - int price level, 0 is the best one.
+	 *
+	 * @return long - total quantity of the buy level, zero if it does not exist.
+	 */
+	public long getBidQuantity(final int level) {
+		return level < this.bidLevelsCount ? this.bidLevels[2 * level + 1] : 0;
+	}
+
+	/**
+	 * @param level
+	 *            - int price level, 0 is the best one.
+	 *
+	 * @return long - scaled price of the sell level, zero if it does not exist.
+	 */
+	public long getScaledAskPrice(final int level) {
+		return level < this.askLevelsCount ? this.askLevels[2 * level] : 0;
+	}
+
+	/**
+	 * @param level
+	 *            - int price level, 0 is the best one.
+	 *
+	 * @return long - total quantity of the sell level, zero if it does not exist.
+	 */
+	public long getAskQuantity(final int level) {
+		return level < this.askLevelsCount ? this.askLevels[2 * level + 1] : 0;
+	}
+
+	/**
+	 * @return long[] - scaled price and total quantity pairs of buy levels, which
+	 *         must not be modified.
+	 */
+	long[] getBidLevels() {
+		return bidLevels;
+	}
+
+	/**
+	 * @return long[] - scaled price and total quantity pairs of sell levels,
+	 *         which must not be modified.
+	 */
+	long[] getAskLevels() {
+		return askLevels;
+	}
+
+	/**
+	 * @return the scaledLastTradePrice, zero if no trade was executed.
+	 */
+	public long getScaledLastTradePrice() {
+		return scaledLastTradePrice;
+	}
+
+	/**
+	 * Method represents this object as string value.
+	 */
+	@Override
+	public String toString() {
+		final StringBuilder stringBuilder = new StringBuilder("Version: ").append(this.version).append("\tBid: ");
+		if (hasBid()) {
+			stringBuilder.append(getBestBidQuantity()).append(" @ ").append(ScaledPrice.format(getScaledBestBidPrice()));
+		} else {
+			stringBuilder.append('-');
+		}
+		stringBuilder.append("\tAsk: ");
+		if (hasAsk()) {
+			stringBuilder.append(getBestAskQuantity()).append(" @ ").append(ScaledPrice.format(getScaledBestAskPrice()));
+		} else {
+			stringBuilder.append('-');
+		}
+		return stringBuilder.append("\tLevels: ").append(this.bidLevelsCount).append('/').append(this.askLevelsCount).toString();
+	}
+}
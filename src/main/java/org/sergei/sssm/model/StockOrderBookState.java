@@ -0,0 +1,127 @@
+package org.sergei.sssm.model;
+
+/**
+ * Point-in-time copy of the full state of a stock order book kept in primitive
+ * arrays: resting orders of both sides in price-time priority order, last
+ * prices, session and rolling Volume Weighted Stock Price accumulators,
+ * sequence numbers and the position of the stock order journal up to which the
+ * state is applied. It is captured by the stock order book owner and written
+ * or read by StockMarketSnapshotFile on any thread.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+final class StockOrderBookState {
+	final StockSymbol stockSymbol;
+	final long capturedTimeMillis;
+	/**
+	 * Position of the stock order journal after the latest journaled stock order
+	 * of the book, -1 if the book was not journaled.
+	 */
+	final long journalPosition;
+	final long scaledStockPrice;
+	final long scaledLastTradePrice;
+	final long totalScaledPriceQuantitySum;
+	final long totalQuantity;
+	final long lastTransactionSequenceNumber;
+	final long snapshotVersion;
+	final boolean[] timeBasedWindows;
+	final long[] windowBucketWidths;
+	/**
+	 * States of rolling windows, see RollingVolumeWeightedStockPrice.captureState().
+	 */
+	final long[][] windowStates;
+	/**
+	 * Players referred to by resting orders through their index.
+	 */
+	final StockMarketPlayer[] stockMarketPlayers;
+	final RestingStockOrders buyStockOrders;
+	final RestingStockOrders sellStockOrders;
+
+	/**
+	 * Constructor initializes class attributes.
+	 *
+	 * @param stockSymbol
+	 *            - StockSymbol of the stock order book.
+	 * @param capturedTimeMillis
+	 *            - long time the state was captured.
+	 * @param journalPosition
+	 *            - long position of the stock order journal or -1.
+	 * @param scaledStockPrice
+	 *            - long scaled price of the stock.
+	 * @param scaledLastTradePrice
+	 *            - long scaled price of the latest executed trade transaction.
+	 * @param totalScaledPriceQuantitySum
+	 *            - long session sum of price multiplied by quantity.
+	 * @param totalQuantity
+	 *            - long session sum of quantity.
+	 * @param lastTransactionSequenceNumber
+	 *            - long sequence number of the latest executed trade transaction.
+	 * @param snapshotVersion
+	 *            - long version of the latest published market data snapshot.
+	 * @param timeBasedWindows
+	 *            - boolean[] whether each rolling window is time based.
+	 * @param windowBucketWidths
+	 *            - long[] bucket width of each rolling window.
+	 * @param windowStates
+	 *            - long[][] state of each rolling window.
+	 * @param stockMarketPlayers
+	 *            - StockMarketPlayer[] referred to by resting orders.
+	 * @param buyStockOrders
+	 *            - RestingStockOrders of the buy side.
+	 * @param sellStockOrders
+	 *            - RestingStockOrders of the sell side.
+	 */
+	StockOrderBookState(final StockSymbol stockSymbol, final long capturedTimeMillis, final long journalPosition, final long scaledStockPrice, final long scaledLastTradePrice,
+			final long totalScaledPriceQuantitySum, final long totalQuantity, final long lastTransactionSequenceNumber, final long snapshotVersion, final boolean[] timeBasedWindows,
+			final long[] windowBucketWidths, final long[][] windowStates, final StockMarketPlayer[] stockMarketPlayers, final RestingStockOrders buyStockOrders,
+			final RestingStockOrders sellStockOrders) {
+		this.stockSymbol = stockSymbol;
+		this.capturedTimeMillis = capturedTimeMillis;
+		this.journalPosition = journalPosition;
+		this.scaledStockPrice = scaledStockPrice;
+		this.scaledLastTradePrice = scaledLastTradePrice;
+		this.totalScaledPriceQuantitySum = totalScaledPriceQuantitySum;
+		this.totalQuantity = totalQuantity;
+		this.lastTransactionSequenceNumber = lastTransactionSequenceNumber;
+		this.snapshotVersion = snapshotVersion;
+		this.timeBasedWindows = timeBasedWindows;
+		this.windowBucketWidths = windowBucketWidths;
+		this.windowStates = windowStates;
+		this.stockMarketPlayers = stockMarketPlayers;
+		this.buyStockOrders = buyStockOrders;
+		this.sellStockOrders = sellStockOrders;
+	}
+
+	/**
+	 * @return the number of resting orders of both sides.
+	 */
+	int getRestingStockOrdersCount() {
+		return this.buyStockOrders.count + this.sellStockOrders.count;
+	}
+
+	/**
+	 * Resting orders of one side in price-time priority order.
+	 */
+	static final class RestingStockOrders {
+		final int count;
+		final int[] playerIndexes;
+		final int[] quantities;
+		final long[] scaledOfferedPrices;
+		final long[] timestampsMillis;
+
+		/**
+		 * Constructor allocates arrays of a given number of orders.
+		 *
+		 * @param count
+		 *            - int number of resting orders.
+		 */
+		RestingStockOrders(final int count) {
+			this.count = count;
+			this.playerIndexes = new int[count];
+			this.quantities = new int[count];
+			this.scaledOfferedPrices = new long[count];
+			this.timestampsMillis = new long[count];
+		}
+	}
+}
@@ -0,0 +1,149 @@
+package org.sergei.sssm.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.sergei.sssm.utils.LatencyHistogram;
+
+/**
+ * Latency histograms of the stock orders of one stock order book, one
+ * LatencyHistogram per StockOrderLatencyType. Recording is a few atomic
+ * increments and allocates nothing, histograms are allocated by the first
+ * recorded order, so books which never trade take no histogram memory and
+ * their snapshots allocate nothing either.
+ *
+ * Values are recorded into the histograms of the current interval. An interval
+ * snapshot moves them out and adds them to the totals of previous intervals, so
+ * a monitoring thread may report each interval while the total covers the whole
+ * session. Snapshots may be taken from any thread while orders are recorded.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public class StockOrderLatencies {
+	private static final StockOrderLatencyType[] STOCK_ORDER_LATENCY_TYPES = StockOrderLatencyType.values();
+	/**
+	 * Histograms of the current interval indexed by latency type ordinal, null
+	 * until the first recorded order.
+	 */
+	private volatile LatencyHistogram[] intervalLatencyHistograms;
+	/**
+	 * Histograms of previous intervals, guarded by this object, null until the
+	 * first interval snapshot.
+	 */
+	private LatencyHistogram[] totalLatencyHistograms;
+	/**
+	 * Start of the first interval.
+	 */
+	private final long startNanoTime;
+	/**
+	 * Start of the current interval, guarded by this object.
+	 */
+	private long intervalStartNanoTime;
+
+	/**
+	 * Constructor initializes empty histograms, the first interval starts now.
+	 */
+	public StockOrderLatencies() {
+		this.startNanoTime = System.nanoTime();
+		this.intervalStartNanoTime = this.startNanoTime;
+	}
+
+	/**
+	 * Method records the latencies of one matched order.
+	 *
+	 * @param submitNanoTime
+	 *            - long System.nanoTime() of the order submission.
+	 * @param acceptNanoTime
+	 *            - long System.nanoTime() when the stock order book monitor was
+	 *            acquired or the matching engine took the order.
+	 * @param matchedNanoTime
+	 *            - long System.nanoTime() when the order was matched.
+	 */
+	public void recordStockOrder(final long submitNanoTime, final long acceptNanoTime, final long matchedNanoTime) {
+		final LatencyHistogram[] latencyHistograms = getIntervalLatencyHistograms();
+		latencyHistograms[StockOrderLatencyType.SUBMIT_TO_ACK.ordinal()].recordValue(matchedNanoTime - submitNanoTime);
+		latencyHistograms[StockOrderLatencyType.LOCK_WAIT.ordinal()].recordValue(acceptNanoTime - submitNanoTime);
+		latencyHistograms[StockOrderLatencyType.MATCHING.ordinal()].recordValue(matchedNanoTime - acceptNanoTime);
+	}
+
+	/**
+	 * Method records the time a resting order waited for a fill.
+	 *
+	 * @param restedMillis
+	 *            - long milliseconds between the acceptance of the resting order
+	 *            and the fill.
+	 */
+	void recordRestToFill(final long restedMillis) {
+		getIntervalLatencyHistograms()[StockOrderLatencyType.REST_TO_FILL.ordinal()].recordValue(TimeUnit.MILLISECONDS.toNanos(restedMillis));
+	}
+
+	/**
+	 * @return LatencyHistogram[] - histograms of the current interval, allocated
+	 *         by the first call.
+	 */
+	private LatencyHistogram[] getIntervalLatencyHistograms() {
+		LatencyHistogram[] latencyHistograms = this.intervalLatencyHistograms;
+		if (latencyHistograms == null) {
+			synchronized (this) {
+				latencyHistograms = this.intervalLatencyHistograms;
+				if (latencyHistograms == null) {
+					latencyHistograms = StockOrderLatencySnapshot.newEmptyLatencyHistograms();
+					this.intervalLatencyHistograms = latencyHistograms;
+				}
+			}
+		}
+		return latencyHistograms;
+	}
+
+	/**
+	 * Method ends the current interval and returns its latencies, they are added
+	 * to the totals and recording goes on into the next interval.
+	 *
+	 * @return StockOrderLatencySnapshot - latencies recorded since the previous
+	 *         interval snapshot, the shared empty snapshot if no order was ever
+	 *         recorded.
+	 */
+	public synchronized StockOrderLatencySnapshot getIntervalSnapshot() {
+		final long intervalEndNanoTime = System.nanoTime();
+		final LatencyHistogram[] currentLatencyHistograms = this.intervalLatencyHistograms;
+		if (currentLatencyHistograms == null) {
+			this.intervalStartNanoTime = intervalEndNanoTime;
+			return StockOrderLatencySnapshot.EMPTY;
+		}
+		if (this.totalLatencyHistograms == null) {
+			this.totalLatencyHistograms = StockOrderLatencySnapshot.newEmptyLatencyHistograms();
+		}
+		final LatencyHistogram[] latencyHistograms = new LatencyHistogram[STOCK_ORDER_LATENCY_TYPES.length];
+		for (int i = 0; i < STOCK_ORDER_LATENCY_TYPES.length; i++) {
+			latencyHistograms[i] = currentLatencyHistograms[i].copyAndReset();
+			this.totalLatencyHistograms[i].add(latencyHistograms[i]);
+		}
+		final StockOrderLatencySnapshot stockOrderLatencySnapshot = new StockOrderLatencySnapshot(latencyHistograms, intervalEndNanoTime - this.intervalStartNanoTime);
+		this.intervalStartNanoTime = intervalEndNanoTime;
+		return stockOrderLatencySnapshot;
+	}
+
+	/**
+	 * Method returns the latencies of all intervals including the current one,
+	 * the current interval is not ended.
+	 *
+	 * @return StockOrderLatencySnapshot - latencies recorded so far, the shared
+	 *         empty snapshot if no order was ever recorded.
+	 */
+	public synchronized StockOrderLatencySnapshot getSnapshot() {
+		if (this.intervalLatencyHistograms == null && this.totalLatencyHistograms == null) {
+			return StockOrderLatencySnapshot.EMPTY;
+		}
+		final long endNanoTime = System.nanoTime();
+		final LatencyHistogram[] latencyHistograms = StockOrderLatencySnapshot.newEmptyLatencyHistograms();
+		for (int i = 0; i < STOCK_ORDER_LATENCY_TYPES.length; i++) {
+			if (this.totalLatencyHistograms != null) {
+				latencyHistograms[i].add(this.totalLatencyHistograms[i]);
+			}
+			if (this.intervalLatencyHistograms != null) {
+				latencyHistograms[i].add(this.intervalLatencyHistograms[i]);
+			}
+		}
+		return new StockOrderLatencySnapshot(latencyHistograms, endNanoTime - this.startNanoTime);
+	}
+}
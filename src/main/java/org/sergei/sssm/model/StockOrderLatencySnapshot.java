@@ -0,0 +1,87 @@
+package org.sergei.sssm.model;
+
+import org.sergei.sssm.utils.LatencyHistogram;
+
+/**
+ * Copy of the latency histograms of a stock order book covering an interval or
+ * the whole session, see StockOrderLatencies.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public class StockOrderLatencySnapshot {
+	/**
+	 * Snapshot of a stock order book without any recorded order, shared by all
+	 * such books, its duration is zero.
+	 */
+	static final StockOrderLatencySnapshot EMPTY = new StockOrderLatencySnapshot(newEmptyLatencyHistograms(), 0);
+	private final LatencyHistogram[] latencyHistograms;
+	private final long durationNanos;
+
+	/**
+	 * Constructor initializes class attributes.
+	 *
+	 * @param latencyHistograms
+	 *            - LatencyHistogram[] copies indexed by latency type ordinal.
+	 * @param durationNanos
+	 *            - long duration covered by the snapshot in nanoseconds.
+	 */
+	StockOrderLatencySnapshot(final LatencyHistogram[] latencyHistograms, final long durationNanos) {
+		this.latencyHistograms = latencyHistograms;
+		this.durationNanos = durationNanos;
+	}
+
+	/**
+	 * @return LatencyHistogram[] - empty histograms of each latency type.
+	 */
+	static LatencyHistogram[] newEmptyLatencyHistograms() {
+		final LatencyHistogram[] latencyHistograms = new LatencyHistogram[StockOrderLatencyType.values().length];
+		for (int i = 0; i < latencyHistograms.length; i++) {
+			latencyHistograms[i] = new LatencyHistogram();
+		}
+		return latencyHistograms;
+	}
+
+	/**
+	 * Method returns the histogram of a latency type, it is a copy owned by this
+	 * snapshot and may be shared with other snapshots, so it must not be
+	 * modified.
+	 *
+	 * @param stockOrderLatencyType
+	 *            - StockOrderLatencyType of the histogram.
+	 *
+	 * @return LatencyHistogram.
+	 */
+	public LatencyHistogram getLatencyHistogram(final StockOrderLatencyType stockOrderLatencyType) {
+		return this.latencyHistograms[stockOrderLatencyType.ordinal()];
+	}
+
+	/**
+	 * @return the number of matched orders of the snapshot.
+	 */
+	public long getStockOrdersCount() {
+		return getLatencyHistogram(StockOrderLatencyType.MATCHING).getTotalCount();
+	}
+
+	/**
+	 * @return the durationNanos
+	 */
+	public long getDurationNanos() {
+		return durationNanos;
+	}
+
+	/**
+	 * Method represents this object as string value, one line per latency type.
+	 */
+	@Override
+	public String toString() {
+		final StringBuilder stringBuilder = new StringBuilder();
+		for (StockOrderLatencyType stockOrderLatencyType : StockOrderLatencyType.values()) {
+			if (stringBuilder.length() > 0) {
+				stringBuilder.append(System.lineSeparator());
+			}
+			stringBuilder.append(stockOrderLatencyType.getDescription()).append(":\t").append(getLatencyHistogram(stockOrderLatencyType));
+		}
+		return stringBuilder.toString();
+	}
+}
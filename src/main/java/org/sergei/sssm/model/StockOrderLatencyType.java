@@ -0,0 +1,50 @@
+package org.sergei.sssm.model;
+
+/**
+ * Latencies of stock orders recorded by each stock order book, see
+ * StockOrderLatencies.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public enum StockOrderLatencyType {
+	/**
+	 * From the submission of an order until its matching is completed, including
+	 * the lock wait or the ring buffer queueing of SINGLE_WRITER mode.
+	 */
+	SUBMIT_TO_ACK("Submit to ack"),
+	/**
+	 * From the submission of an order until the stock order book monitor is
+	 * acquired, or until the matching engine takes the order from its ring buffer
+	 * in SINGLE_WRITER mode.
+	 */
+	LOCK_WAIT("Lock wait"),
+	/**
+	 * Time spent by the stock order book to journal and match an order.
+	 */
+	MATCHING("Matching"),
+	/**
+	 * From the acceptance of a resting order until each of its fills, measured
+	 * with the stock market clock at millisecond resolution.
+	 */
+	REST_TO_FILL("Rest to fill");
+
+	private String description;
+
+	/**
+	 * Constructor initializes description attribute.
+	 *
+	 * @param description
+	 *            - String latency type description value.
+	 */
+	private StockOrderLatencyType(final String description) {
+		this.description = description;
+	}
+
+	/**
+	 * @return the description
+	 */
+	public String getDescription() {
+		return description;
+	}
+}
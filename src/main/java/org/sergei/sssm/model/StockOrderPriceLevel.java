@@ -0,0 +1,114 @@
+package org.sergei.sssm.model;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.16. initial version
+ */
+public class StockOrderPriceLevel<T extends AbstractStockOrder> {
+	/**
+	 * Scaled offered price shared by all stock orders of this level.
+	 */
+	private long scaledOfferedPrice;
+	/**
+	 * Resting stock orders of this level in arrival (FIFO) order.
+	 */
+	private final Deque<T> stockOrders;
+	/**
+	 * Sum of remaining quantities of resting stock orders of this level.
+	 */
+	private long totalQuantity;
+
+	/**
+	 * Constructor initializes class attributes.
+	 *
+	 * @param scaledOfferedPrice
+	 *            - long scaled offered price of this level.
+	 */
+	public StockOrderPriceLevel(final long scaledOfferedPrice) {
+		this.scaledOfferedPrice = scaledOfferedPrice;
+		this.stockOrders = new ArrayDeque<>();
+	}
+
+	/**
+	 * Method reuses this empty level for another price.
+	 *
+	 * @param scaledOfferedPrice
+	 *            - long scaled offered price of this level.
+	 */
+	void reset(final long scaledOfferedPrice) {
+		this.scaledOfferedPrice = scaledOfferedPrice;
+		this.stockOrders.clear();
+		this.totalQuantity = 0;
+	}
+
+	/**
+	 * Method appends a stock order to the tail of this level's queue.
+	 *
+	 * @param stockOrder
+	 *            - T stock order to rest at this level.
+	 */
+	public void addStockOrder(final T stockOrder) {
+		this.stockOrders.addLast(stockOrder);
+		this.totalQuantity += stockOrder.getQuantity();
+	}
+
+	/**
+	 * Method reduces total quantity of this level by a quantity executed against
+	 * its oldest stock order.
+	 *
+	 * @param exchangedStocksQuantity
+	 *            - int executed quantity.
+	 */
+	public void reduceTotalQuantity(final int exchangedStocksQuantity) {
+		this.totalQuantity -= exchangedStocksQuantity;
+	}
+
+	/**
+	 * Method returns the oldest stock order of this level, or null if the level is
+	 * empty.
+	 *
+	 * @return T - stock order with the highest time priority.
+	 */
+	public T peekStockOrder() {
+		return this.stockOrders.peekFirst();
+	}
+
+	/**
+	 * Method removes the oldest stock order of this level, its executed quantity
+	 * must already be deducted by reduceTotalQuantity(int).
+	 */
+	public void removeStockOrder() {
+		this.stockOrders.pollFirst();
+	}
+
+	/**
+	 * @return true if no stock order rests at this level.
+	 */
+	public boolean isEmpty() {
+		return this.stockOrders.isEmpty();
+	}
+
+	/**
+	 * @return the scaledOfferedPrice
+	 */
+	public long getScaledOfferedPrice() {
+		return scaledOfferedPrice;
+	}
+
+	/**
+	 * @return the totalQuantity
+	 */
+	public long getTotalQuantity() {
+		return totalQuantity;
+	}
+
+	/**
+	 * @return the stockOrders
+	 */
+	public Deque<T> getStockOrders() {
+		return stockOrders;
+	}
+}
@@ -1,10 +1,8 @@
 package org.sergei.sssm.model;
 
 import java.math.BigDecimal;
-import java.sql.Timestamp;
-import java.util.Comparator;
 
-import org.sergei.sssm.utils.NumberFormatter;
+import org.sergei.sssm.utils.ScaledPrice;
 import org.sergei.sssm.utils.TimeFormatter;
 
 /**
@@ -15,10 +13,18 @@ public class StockOrderTransaction implements Comparable<StockOrderTransaction>
 	private StockBuyOrder stockBuyOrder;
 	private StockSellOrder stockSellOrder;
 	private StockOrderTransactionType stockOrderTransactionType;
-	private Integer exchangedStocksQuantiy;
-	private BigDecimal transactionStockPrice;
-	private Timestamp transactionCompletedTimestamp;
-	private Long transactionCompletedNanoTime;
+	private int exchangedStocksQuantiy;
+	/**
+	 * Transaction stock price scaled to 4 implied decimal digits, see
+	 * ScaledPrice.
+	 */
+	private long scaledTransactionStockPrice;
+	private long transactionCompletedTimeMillis;
+	private long transactionCompletedNanoTime;
+	/**
+	 * Unique sequence number assigned by the stock order book's transaction store.
+	 */
+	private long sequenceNumber;
 
 	/**
 	 * Constructor sets class attributes with a given parameters and sets current
@@ -29,21 +35,46 @@ public class StockOrderTransaction implements Comparable<StockOrderTransaction>
 	 * @param stockSellOrder
 	 *            - StockBuyOrder of an executed stock sell order.
 	 * @param exchangedStocksQuantiy
-	 *            - Integer of traded/executed stocks quantity.
-	 * @param transactionStockPrice
-	 *            - BigDecimal of transaction stocks price.
+	 *            - int of traded/executed stocks quantity.
+	 * @param scaledTransactionStockPrice
+	 *            - long of transaction stocks price scaled to 4 decimal digits.
 	 * @param stockOrderTransactionType
 	 *            - StockOrderTransactionType of an executed stock operation.
 	 */
-	public StockOrderTransaction(final StockBuyOrder stockBuyOrder, final StockSellOrder stockSellOrder, final Integer exchangedStocksQuantiy, final BigDecimal transactionStockPrice,
+	public StockOrderTransaction(final StockBuyOrder stockBuyOrder, final StockSellOrder stockSellOrder, final int exchangedStocksQuantiy, final long scaledTransactionStockPrice,
 			final StockOrderTransactionType stockOrderTransactionType) {
+		this(stockBuyOrder, stockSellOrder, exchangedStocksQuantiy, scaledTransactionStockPrice, stockOrderTransactionType, System.currentTimeMillis(), System.nanoTime());
+	}
+
+	/**
+	 * Constructor sets class attributes with a given parameters and transaction
+	 * completed time.
+	 * 
+	 * @param stockBuyOrder
+	 *            - StockBuyOrder of an executed stock buy order.
+	 * @param stockSellOrder
+	 *            - StockBuyOrder of an executed stock sell order.
+	 * @param exchangedStocksQuantiy
+	 *            - int of traded/executed stocks quantity.
+	 * @param scaledTransactionStockPrice
+	 *            - long of transaction stocks price scaled to 4 decimal digits.
+	 * @param stockOrderTransactionType
+	 *            - StockOrderTransactionType of an executed stock operation.
+	 * @param transactionCompletedTimeMillis
+	 *            - long completion time in milliseconds since the epoch.
+	 * @param transactionCompletedNanoTime
+	 *            - long completion time of a monotonic time source in
+	 *            nanoseconds.
+	 */
+	public StockOrderTransaction(final StockBuyOrder stockBuyOrder, final StockSellOrder stockSellOrder, final int exchangedStocksQuantiy, final long scaledTransactionStockPrice,
+			final StockOrderTransactionType stockOrderTransactionType, final long transactionCompletedTimeMillis, final long transactionCompletedNanoTime) {
 		this.stockBuyOrder = stockBuyOrder;
 		this.stockSellOrder = stockSellOrder;
 		this.stockOrderTransactionType = stockOrderTransactionType;
 		this.exchangedStocksQuantiy = exchangedStocksQuantiy;
-		this.transactionStockPrice = transactionStockPrice;
-		this.transactionCompletedTimestamp = new Timestamp(System.currentTimeMillis());
-		this.transactionCompletedNanoTime = System.nanoTime();
+		this.scaledTransactionStockPrice = scaledTransactionStockPrice;
+		this.transactionCompletedTimeMillis = transactionCompletedTimeMillis;
+		this.transactionCompletedNanoTime = transactionCompletedNanoTime;
 	}
 
 	/**
@@ -70,7 +101,7 @@ public class StockOrderTransaction implements Comparable<StockOrderTransaction>
 	/**
 	 * @return the exchangedStocksQuantiy
 	 */
-	public Integer getExchangedStocksQuantiy() {
+	public int getExchangedStocksQuantiy() {
 		return exchangedStocksQuantiy;
 	}
 
@@ -78,26 +109,67 @@ public class StockOrderTransaction implements Comparable<StockOrderTransaction>
 	 * @return the transactionStockPrice
 	 */
 	public BigDecimal getTransactionStockPrice() {
-		return transactionStockPrice;
+		return ScaledPrice.toBigDecimal(scaledTransactionStockPrice);
+	}
+
+	/**
+	 * @return the scaledTransactionStockPrice
+	 */
+	public long getScaledTransactionStockPrice() {
+		return scaledTransactionStockPrice;
 	}
 
 	/**
 	 * @return the transactionCompletedTimestamp
 	 */
-	public Long getTransactionCompletedTimestamp() {
+	public long getTransactionCompletedTimestamp() {
 		return transactionCompletedNanoTime;
 	}
 
+	/**
+	 * @return the transactionCompletedNanoTime
+	 */
+	public long getTransactionCompletedNanoTime() {
+		return transactionCompletedNanoTime;
+	}
+
+	/**
+	 * @return the transactionCompletedTimeMillis
+	 */
+	public long getTransactionCompletedTimeMillis() {
+		return transactionCompletedTimeMillis;
+	}
+
+	/**
+	 * @return the sequenceNumber
+	 */
+	public long getSequenceNumber() {
+		return sequenceNumber;
+	}
+
+	/**
+	 * @param sequenceNumber
+	 *            the sequenceNumber to set
+	 */
+	void setSequenceNumber(long sequenceNumber) {
+		this.sequenceNumber = sequenceNumber;
+	}
+
 	/**
 	 * Method compares this object by timestamp versus a given StockOrderTransaction
-	 * object's timestamp.
+	 * object's timestamp, transactions completed in the same nanosecond are
+	 * compared by sequence number, so none of them is considered equal.
 	 * 
 	 * @param stockOrderTransaction
 	 *            - StockOrderTransaction object to compare.
 	 */
 	@Override
 	public int compareTo(final StockOrderTransaction stockOrderTransaction) {
-		return Comparator.comparing(StockOrderTransaction::getTransactionCompletedTimestamp).compare(this, stockOrderTransaction);
+		final int nanoTimeCompareTo = Long.compare(this.transactionCompletedNanoTime, stockOrderTransaction.transactionCompletedNanoTime);
+		if (nanoTimeCompareTo != 0) {
+			return nanoTimeCompareTo;
+		}
+		return Long.compare(this.sequenceNumber, stockOrderTransaction.sequenceNumber);
 	}
 
 	/**
@@ -105,7 +177,7 @@ public class StockOrderTransaction implements Comparable<StockOrderTransaction>
 	 */
 	@Override
 	public String toString() {
-		return new StringBuilder(this.stockOrderTransactionType.getCode()).append(" transaction \t Executed time: ").append(TimeFormatter.format(this.transactionCompletedTimestamp))
-				.append("\tQuantity: ").append(this.exchangedStocksQuantiy).append("\tPrice: ").append(NumberFormatter.format(this.transactionStockPrice)).toString();
+		return new StringBuilder(this.stockOrderTransactionType.getCode()).append(" transaction \t Executed time: ").append(TimeFormatter.format(this.transactionCompletedTimeMillis))
+				.append("\tQuantity: ").append(this.exchangedStocksQuantiy).append("\tPrice: ").append(ScaledPrice.format(this.scaledTransactionStockPrice)).toString();
 	}
 }
\ No newline at end of file
@@ -0,0 +1,73 @@
+package org.sergei.sssm.model;
+
+import java.util.Arrays;
+
+/**
+ * Reusable buffer of executed trade transactions, filled by stock order books
+ * and cleared by its owner before each use, so order entry does not allocate a
+ * collection per call. It is not thread safe, each thread uses its own buffer.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.16. initial version
+ */
+public class StockOrderTransactionBuffer implements StockOrderTransactionListener {
+	private static final int DEFAULT_CAPACITY = 16;
+	private StockOrderTransaction[] stockOrderTransactions;
+	private int size;
+
+	/**
+	 * Constructor initializes buffer with a default capacity.
+	 */
+	public StockOrderTransactionBuffer() {
+		this.stockOrderTransactions = new StockOrderTransaction[DEFAULT_CAPACITY];
+	}
+
+	/**
+	 * Method appends an executed trade transaction, growing the buffer if needed.
+	 *
+	 * @param stockOrderTransaction
+	 *            - StockOrderTransaction of an executed trade operation.
+	 */
+	@Override
+	public void onStockOrderTransaction(final StockOrderTransaction stockOrderTransaction) {
+		if (this.size == this.stockOrderTransactions.length) {
+			this.stockOrderTransactions = Arrays.copyOf(this.stockOrderTransactions, this.size * 2);
+		}
+		this.stockOrderTransactions[this.size++] = stockOrderTransaction;
+	}
+
+	/**
+	 * Method removes all transactions, keeping the allocated capacity.
+	 */
+	public void clear() {
+		Arrays.fill(this.stockOrderTransactions, 0, this.size, null);
+		this.size = 0;
+	}
+
+	/**
+	 * @param index
+	 *            - int index of a transaction.
+	 *
+	 * @return StockOrderTransaction at a given index.
+	 */
+	public StockOrderTransaction get(final int index) {
+		if (index >= this.size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+		}
+		return this.stockOrderTransactions[index];
+	}
+
+	/**
+	 * @return the number of buffered transactions.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * @return true if no transaction is buffered.
+	 */
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+}
@@ -0,0 +1,19 @@
+package org.sergei.sssm.model;
+
+/**
+ * Receives executed trade transactions of stock order books.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.16. initial version
+ */
+@FunctionalInterface
+public interface StockOrderTransactionListener {
+
+	/**
+	 * Method is called once per executed trade transaction.
+	 *
+	 * @param stockOrderTransaction
+	 *            - StockOrderTransaction of an executed trade operation.
+	 */
+	void onStockOrderTransaction(StockOrderTransaction stockOrderTransaction);
+}
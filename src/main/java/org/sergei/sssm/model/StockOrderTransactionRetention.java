@@ -0,0 +1,81 @@
+package org.sergei.sssm.model;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable retention policy of a StockOrderTransactionStore: either the
+ * maximum number of retained transactions or the time window of retained
+ * transactions.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.16. initial version
+ */
+public class StockOrderTransactionRetention {
+	/**
+	 * Default retention keeps the last 1 048 576 transactions of a stock order
+	 * book.
+	 */
+	public static final StockOrderTransactionRetention DEFAULT = ofTransactionsCount(1 << 20);
+	private final long maxTransactionsCount;
+	private final long timeWindowNanos;
+
+	/**
+	 * Constructor initializes class attributes.
+	 *
+	 * @param maxTransactionsCount
+	 *            - long maximum number of retained transactions.
+	 * @param timeWindowNanos
+	 *            - long time window of retained transactions in nanoseconds.
+	 */
+	private StockOrderTransactionRetention(final long maxTransactionsCount, final long timeWindowNanos) {
+		this.maxTransactionsCount = maxTransactionsCount;
+		this.timeWindowNanos = timeWindowNanos;
+	}
+
+	/**
+	 * Method creates retention keeping a given number of the latest transactions.
+	 *
+	 * @param maxTransactionsCount
+	 *            - long maximum number of retained transactions.
+	 *
+	 * @return StockOrderTransactionRetention.
+	 */
+	public static StockOrderTransactionRetention ofTransactionsCount(final long maxTransactionsCount) {
+		if (maxTransactionsCount <= 0) {
+			throw new IllegalArgumentException("Retained transactions count must be positive: " + maxTransactionsCount);
+		}
+		return new StockOrderTransactionRetention(maxTransactionsCount, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Method creates retention keeping transactions completed within a given time
+	 * window before the latest one.
+	 *
+	 * @param duration
+	 *            - long duration of the time window.
+	 * @param timeUnit
+	 *            - TimeUnit of the duration.
+	 *
+	 * @return StockOrderTransactionRetention.
+	 */
+	public static StockOrderTransactionRetention ofTimeWindow(final long duration, final TimeUnit timeUnit) {
+		if (duration <= 0) {
+			throw new IllegalArgumentException("Retention time window must be positive: " + duration);
+		}
+		return new StockOrderTransactionRetention(Long.MAX_VALUE, timeUnit.toNanos(duration));
+	}
+
+	/**
+	 * @return the maxTransactionsCount
+	 */
+	public long getMaxTransactionsCount() {
+		return maxTransactionsCount;
+	}
+
+	/**
+	 * @return the timeWindowNanos
+	 */
+	public long getTimeWindowNanos() {
+		return timeWindowNanos;
+	}
+}
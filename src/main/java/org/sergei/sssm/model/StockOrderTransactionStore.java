@@ -0,0 +1,295 @@
+package org.sergei.sssm.model;
+
+/**
+ * Bounded, append-only store of executed trade transactions of a stock order
+ * book. Each appended transaction gets a unique, increasing sequence number.
+ * Transactions are kept in fixed size chunks addressed by the sequence number,
+ * so appends and lookups are O(1) and a range scan costs O(1) per transaction.
+ * Transactions outside of the configured retention are evicted on append and
+ * whole chunks are released, so memory stays flat during long runs. A time
+ * index of 1 second buckets is built on append, so the transactions of a time
+ * range are found in O(log n) plus the number of scanned transactions.
+ *
+ * The store is written by a single thread at a time (the stock order book
+ * owner). Readers may run concurrently: bounds are published through volatile
+ * sequence numbers and every read entry is validated by its sequence number, a
+ * transaction evicted in the meantime is simply not returned.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.16. initial version
+ */
+public class StockOrderTransactionStore {
+	private static final int CHUNK_SIZE_SHIFT = 10;
+	private static final int CHUNK_SIZE = 1 << CHUNK_SIZE_SHIFT;
+	private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+	private static final int INITIAL_CHUNKS_CAPACITY = 16;
+	private static final long TIME_INDEX_BUCKET_WIDTH_MILLIS = 1000;
+	private final StockOrderTransactionRetention retention;
+	/**
+	 * Chunks indexed by chunk number (sequence number / chunk size) modulo array
+	 * length, the array grows so that all live chunks fit into it.
+	 */
+	private volatile StockOrderTransaction[][] chunks;
+	/**
+	 * Sequence number of the oldest retained transaction.
+	 */
+	private volatile long firstSequenceNumber;
+	/**
+	 * Sequence number of the latest appended transaction, firstSequenceNumber - 1
+	 * if the store is empty.
+	 */
+	private volatile long lastSequenceNumber;
+	/**
+	 * Chunk number of the oldest chunk that is not released yet.
+	 */
+	private long firstChunkNumber;
+	/**
+	 * Index of sequence numbers by completion time.
+	 */
+	private final StockOrderTransactionTimeIndex timeIndex;
+
+	/**
+	 * Constructor initializes an empty store.
+	 *
+	 * @param retention
+	 *            - StockOrderTransactionRetention policy.
+	 */
+	public StockOrderTransactionStore(final StockOrderTransactionRetention retention) {
+		this.retention = retention;
+		this.chunks = new StockOrderTransaction[INITIAL_CHUNKS_CAPACITY][];
+		this.firstSequenceNumber = 1;
+		this.lastSequenceNumber = 0;
+		this.timeIndex = new StockOrderTransactionTimeIndex(TIME_INDEX_BUCKET_WIDTH_MILLIS);
+	}
+
+	/**
+	 * Method appends a transaction, assigns its sequence number and evicts
+	 * transactions that are out of retention.
+	 *
+	 * @param stockOrderTransaction
+	 *            - StockOrderTransaction to append.
+	 *
+	 * @return long - assigned sequence number.
+	 */
+	public long append(final StockOrderTransaction stockOrderTransaction) {
+		final long sequenceNumber = this.lastSequenceNumber + 1;
+		final long chunkNumber = sequenceNumber >>> CHUNK_SIZE_SHIFT;
+		StockOrderTransaction[][] currentChunks = this.chunks;
+
+		if (chunkNumber - this.firstChunkNumber >= currentChunks.length) {
+			currentChunks = growChunks(chunkNumber);
+		}
+		final int chunkIndex = (int) (chunkNumber & (currentChunks.length - 1));
+		StockOrderTransaction[] chunk = currentChunks[chunkIndex];
+		if (chunk == null) {
+			chunk = new StockOrderTransaction[CHUNK_SIZE];
+			currentChunks[chunkIndex] = chunk;
+		}
+		stockOrderTransaction.setSequenceNumber(sequenceNumber);
+		chunk[(int) (sequenceNumber & CHUNK_MASK)] = stockOrderTransaction;
+		this.lastSequenceNumber = sequenceNumber;
+
+		evict(stockOrderTransaction.getTransactionCompletedNanoTime());
+		this.timeIndex.add(stockOrderTransaction.getTransactionCompletedTimeMillis(), sequenceNumber, this.firstSequenceNumber);
+		return sequenceNumber;
+	}
+
+	/**
+	 * Method makes sequence numbers of an empty store continue after a given one,
+	 * used when a stock order book is restored from a snapshot.
+	 *
+	 * @param lastSequenceNumber
+	 *            - long sequence number of the latest transaction before the
+	 *            snapshot.
+	 */
+	void restartSequenceNumbers(final long lastSequenceNumber) {
+		if (this.lastSequenceNumber >= this.firstSequenceNumber) {
+			throw new IllegalStateException("Sequence numbers of a non empty store cannot be restarted");
+		}
+		this.firstChunkNumber = (lastSequenceNumber + 1) >>> CHUNK_SIZE_SHIFT;
+		this.firstSequenceNumber = lastSequenceNumber + 1;
+		this.lastSequenceNumber = lastSequenceNumber;
+	}
+
+	/**
+	 * Method replaces chunks array with a larger one holding all live chunks.
+	 *
+	 * @param chunkNumber
+	 *            - long chunk number which must fit into the new array.
+	 *
+	 * @return StockOrderTransaction[][] - new chunks array.
+	 */
+	private StockOrderTransaction[][] growChunks(final long chunkNumber) {
+		final StockOrderTransaction[][] currentChunks = this.chunks;
+		int capacity = currentChunks.length;
+		while (chunkNumber - this.firstChunkNumber >= capacity) {
+			capacity *= 2;
+		}
+		final StockOrderTransaction[][] grownChunks = new StockOrderTransaction[capacity][];
+		for (long liveChunkNumber = this.firstChunkNumber; liveChunkNumber < chunkNumber; liveChunkNumber++) {
+			grownChunks[(int) (liveChunkNumber & (capacity - 1))] = currentChunks[(int) (liveChunkNumber & (currentChunks.length - 1))];
+		}
+		this.chunks = grownChunks;
+		return grownChunks;
+	}
+
+	/**
+	 * Method advances the first sequence number past transactions that are out of
+	 * retention and releases chunks holding only evicted transactions.
+	 *
+	 * @param latestNanoTime
+	 *            - long completion time of the latest transaction.
+	 */
+	private void evict(final long latestNanoTime) {
+		final long last = this.lastSequenceNumber;
+		long first = this.firstSequenceNumber;
+
+		while (first <= last && (last - first >= this.retention.getMaxTransactionsCount() || latestNanoTime - getRetained(first).getTransactionCompletedNanoTime() > this.retention.getTimeWindowNanos())) {
+			first++;
+		}
+		if (first == this.firstSequenceNumber) {
+			return;
+		}
+		this.firstSequenceNumber = first;
+
+		final StockOrderTransaction[][] currentChunks = this.chunks;
+		while (this.firstChunkNumber < first >>> CHUNK_SIZE_SHIFT) {
+			currentChunks[(int) (this.firstChunkNumber & (currentChunks.length - 1))] = null;
+			this.firstChunkNumber++;
+		}
+	}
+
+	/**
+	 * Method returns a retained transaction, used by the writer only.
+	 *
+	 * @param sequenceNumber
+	 *            - long sequence number within retained bounds.
+	 *
+	 * @return StockOrderTransaction.
+	 */
+	private StockOrderTransaction getRetained(final long sequenceNumber) {
+		final StockOrderTransaction[][] currentChunks = this.chunks;
+		return currentChunks[(int) ((sequenceNumber >>> CHUNK_SIZE_SHIFT) & (currentChunks.length - 1))][(int) (sequenceNumber & CHUNK_MASK)];
+	}
+
+	/**
+	 * Method returns transaction of a given sequence number.
+	 *
+	 * @param sequenceNumber
+	 *            - long sequence number.
+	 *
+	 * @return StockOrderTransaction - found transaction or null if it was not
+	 *         appended yet or is already evicted.
+	 */
+	public StockOrderTransaction get(final long sequenceNumber) {
+		if (sequenceNumber > this.lastSequenceNumber || sequenceNumber < this.firstSequenceNumber) {
+			return null;
+		}
+		final StockOrderTransaction[][] currentChunks = this.chunks;
+		final StockOrderTransaction[] chunk = currentChunks[(int) ((sequenceNumber >>> CHUNK_SIZE_SHIFT) & (currentChunks.length - 1))];
+		if (chunk == null) {
+			return null;
+		}
+		final StockOrderTransaction stockOrderTransaction = chunk[(int) (sequenceNumber & CHUNK_MASK)];
+		if (stockOrderTransaction == null || stockOrderTransaction.getSequenceNumber() != sequenceNumber) {
+			return null;
+		}
+		return stockOrderTransaction;
+	}
+
+	/**
+	 * Method passes retained transactions of a sequence number range, both bounds
+	 * inclusive, to a listener in sequence order.
+	 *
+	 * @param fromSequenceNumber
+	 *            - long first sequence number of the range.
+	 * @param toSequenceNumber
+	 *            - long last sequence number of the range.
+	 * @param stockOrderTransactionListener
+	 *            - StockOrderTransactionListener receiving transactions.
+	 *
+	 * @return int - number of passed transactions.
+	 */
+	public int scan(final long fromSequenceNumber, final long toSequenceNumber, final StockOrderTransactionListener stockOrderTransactionListener) {
+		final long last = Math.min(toSequenceNumber, this.lastSequenceNumber);
+		int scannedTransactionsCount = 0;
+
+		for (long sequenceNumber = Math.max(fromSequenceNumber, this.firstSequenceNumber); sequenceNumber <= last; sequenceNumber++) {
+			final StockOrderTransaction stockOrderTransaction = get(sequenceNumber);
+			if (stockOrderTransaction != null) {
+				stockOrderTransactionListener.onStockOrderTransaction(stockOrderTransaction);
+				scannedTransactionsCount++;
+			}
+		}
+		return scannedTransactionsCount;
+	}
+
+	/**
+	 * Method passes retained transactions completed within a time range, both
+	 * bounds inclusive, to a listener in sequence order. The scan stops at the
+	 * latest transaction appended before the call, so it sees a consistent prefix
+	 * of the transactions while new ones are appended.
+	 * 
+	 * @param fromTimeMillis
+	 *            - long first completion time of the range in milliseconds since
+	 *            the epoch.
+	 * @param toTimeMillis
+	 *            - long last completion time of the range in milliseconds since
+	 *            the epoch.
+	 * @param stockOrderTransactionListener
+	 *            - StockOrderTransactionListener receiving transactions.
+	 * 
+	 * @return int - number of passed transactions.
+	 */
+	public int scanByTime(final long fromTimeMillis, final long toTimeMillis, final StockOrderTransactionListener stockOrderTransactionListener) {
+		final long last = Math.min(this.lastSequenceNumber, this.timeIndex.findToSequenceNumberExclusive(toTimeMillis) - 1);
+		int scannedTransactionsCount = 0;
+
+		for (long sequenceNumber = Math.max(this.timeIndex.findFromSequenceNumber(fromTimeMillis), this.firstSequenceNumber); sequenceNumber <= last; sequenceNumber++) {
+			final StockOrderTransaction stockOrderTransaction = get(sequenceNumber);
+			if (stockOrderTransaction != null && stockOrderTransaction.getTransactionCompletedTimeMillis() >= fromTimeMillis
+					&& stockOrderTransaction.getTransactionCompletedTimeMillis() <= toTimeMillis) {
+				stockOrderTransactionListener.onStockOrderTransaction(stockOrderTransaction);
+				scannedTransactionsCount++;
+			}
+		}
+		return scannedTransactionsCount;
+	}
+
+	/**
+	 * @return the firstSequenceNumber
+	 */
+	public long getFirstSequenceNumber() {
+		return firstSequenceNumber;
+	}
+
+	/**
+	 * @return the lastSequenceNumber
+	 */
+	public long getLastSequenceNumber() {
+		return lastSequenceNumber;
+	}
+
+	/**
+	 * @return the number of retained transactions.
+	 */
+	public long size() {
+		return this.lastSequenceNumber - this.firstSequenceNumber + 1;
+	}
+
+	/**
+	 * @return the retention
+	 */
+	public StockOrderTransactionRetention getRetention() {
+		return retention;
+	}
+
+	/**
+	 * Method represents this object as string value.
+	 */
+	@Override
+	public String toString() {
+		return new StringBuilder("Transactions: ").append(size()).append("\tFirst sequence number: ").append(this.firstSequenceNumber).append("\tLast sequence number: ")
+				.append(this.lastSequenceNumber).toString();
+	}
+}
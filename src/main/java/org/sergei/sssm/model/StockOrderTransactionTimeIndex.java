@@ -0,0 +1,198 @@
+package org.sergei.sssm.model;
+
+/**
+ * Time index of a StockOrderTransactionStore: completion time is split into
+ * fixed width buckets and the sequence number of the first transaction of each
+ * bucket is kept in a primitive array sorted by time, so the transactions of a
+ * time range are found by a binary search. The index is built by the store
+ * writer as transactions are appended, one entry per bucket with trades.
+ *
+ * Transactions are indexed by the latest completion time seen so far, so a
+ * transaction stamped earlier than a previous one, e.g. after a wall-clock
+ * adjustment, belongs to the bucket of the previous one. Buckets of evicted
+ * transactions are dropped when the array is grown, so the index stays within
+ * the retention of the store.
+ *
+ * The writer publishes entries through a volatile count, readers may search
+ * concurrently without locking.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+final class StockOrderTransactionTimeIndex {
+	private static final int INITIAL_BUCKETS_CAPACITY = 64;
+	private final long bucketWidthMillis;
+	private volatile Buckets buckets;
+	/**
+	 * Start time of the latest bucket, used by the writer only.
+	 */
+	private long latestBucketStartTimeMillis;
+
+	/**
+	 * Constructor initializes an empty index.
+	 *
+	 * @param bucketWidthMillis
+	 *            - long width of a bucket in milliseconds.
+	 */
+	StockOrderTransactionTimeIndex(final long bucketWidthMillis) {
+		this.bucketWidthMillis = bucketWidthMillis;
+		this.buckets = new Buckets(INITIAL_BUCKETS_CAPACITY);
+		this.latestBucketStartTimeMillis = Long.MIN_VALUE;
+	}
+
+	/**
+	 * Method indexes an appended transaction, a new bucket is started if the
+	 * transaction is the first one of its bucket.
+	 *
+	 * @param timeMillis
+	 *            - long completion time of the transaction.
+	 * @param sequenceNumber
+	 *            - long sequence number of the transaction.
+	 * @param firstSequenceNumber
+	 *            - long sequence number of the oldest retained transaction.
+	 */
+	void add(final long timeMillis, final long sequenceNumber, final long firstSequenceNumber) {
+		if (this.latestBucketStartTimeMillis != Long.MIN_VALUE && timeMillis - this.latestBucketStartTimeMillis < this.bucketWidthMillis) {
+			return;
+		}
+		final long bucketStartTimeMillis = Math.floorDiv(timeMillis, this.bucketWidthMillis) * this.bucketWidthMillis;
+		if (bucketStartTimeMillis <= this.latestBucketStartTimeMillis) {
+			return;
+		}
+		this.latestBucketStartTimeMillis = bucketStartTimeMillis;
+
+		final Buckets currentBuckets = this.buckets;
+		final int count = currentBuckets.count;
+		if (count < currentBuckets.startTimesAndSequenceNumbers.length / 2) {
+			currentBuckets.set(count, bucketStartTimeMillis, sequenceNumber);
+			currentBuckets.count = count + 1;
+			return;
+		}
+		// Buckets whose transactions are all evicted are dropped, the rest is copied
+		int firstLiveBucket = 0;
+		while (firstLiveBucket + 1 < count && currentBuckets.getSequenceNumber(firstLiveBucket + 1) <= firstSequenceNumber) {
+			firstLiveBucket++;
+		}
+		final int liveCount = count - firstLiveBucket;
+		final Buckets grownBuckets = new Buckets(Math.max(INITIAL_BUCKETS_CAPACITY, liveCount * 2));
+		System.arraycopy(currentBuckets.startTimesAndSequenceNumbers, firstLiveBucket * 2, grownBuckets.startTimesAndSequenceNumbers, 0, liveCount * 2);
+		grownBuckets.set(liveCount, bucketStartTimeMillis, sequenceNumber);
+		grownBuckets.count = liveCount + 1;
+		this.buckets = grownBuckets;
+	}
+
+	/**
+	 * Method finds the first transaction which may be completed at or after a
+	 * given time.
+	 *
+	 * @param timeMillis
+	 *            - long time.
+	 *
+	 * @return long - sequence number of the first transaction of the bucket of the
+	 *         time, or of the first bucket if the time precedes all buckets, or
+	 *         Long.MAX_VALUE if the index is empty.
+	 */
+	long findFromSequenceNumber(final long timeMillis) {
+		final Buckets currentBuckets = this.buckets;
+		final int count = currentBuckets.count;
+		if (count == 0) {
+			return Long.MAX_VALUE;
+		}
+		return currentBuckets.getSequenceNumber(Math.max(0, findLastBucketStartingAtOrBefore(currentBuckets, count, timeMillis)));
+	}
+
+	/**
+	 * Method finds the first transaction which is completed after a given time.
+	 *
+	 * @param timeMillis
+	 *            - long time.
+	 *
+	 * @return long - sequence number of the first transaction of the first bucket
+	 *         starting after the time, Long.MAX_VALUE if there is no such bucket.
+	 */
+	long findToSequenceNumberExclusive(final long timeMillis) {
+		final Buckets currentBuckets = this.buckets;
+		final int count = currentBuckets.count;
+		final int nextBucket = findLastBucketStartingAtOrBefore(currentBuckets, count, timeMillis) + 1;
+		return nextBucket < count ? currentBuckets.getSequenceNumber(nextBucket) : Long.MAX_VALUE;
+	}
+
+	/**
+	 * Method searches buckets with binary search.
+	 *
+	 * @param currentBuckets
+	 *            - Buckets to search.
+	 * @param count
+	 *            - int number of published buckets.
+	 * @param timeMillis
+	 *            - long time.
+	 *
+	 * @return int - index of the last bucket starting at or before the time, -1
+	 *         if all buckets start after it.
+	 */
+	private static int findLastBucketStartingAtOrBefore(final Buckets currentBuckets, final int count, final long timeMillis) {
+		int low = 0;
+		int high = count - 1;
+		while (low <= high) {
+			final int middle = (low + high) >>> 1;
+			if (currentBuckets.getStartTimeMillis(middle) <= timeMillis) {
+				low = middle + 1;
+			} else {
+				high = middle - 1;
+			}
+		}
+		return high;
+	}
+
+	/**
+	 * Start time and first sequence number pairs of buckets, entries below count
+	 * are never changed once published.
+	 */
+	private static final class Buckets {
+		private final long[] startTimesAndSequenceNumbers;
+		private volatile int count;
+
+		/**
+		 * Constructor allocates an empty array of a given capacity.
+		 *
+		 * @param capacity
+		 *            - int number of buckets.
+		 */
+		private Buckets(final int capacity) {
+			this.startTimesAndSequenceNumbers = new long[capacity * 2];
+		}
+
+		/**
+		 * @param bucket
+		 *            - int index of the bucket.
+		 * @param startTimeMillis
+		 *            - long start time of the bucket.
+		 * @param sequenceNumber
+		 *            - long sequence number of the first transaction of the bucket.
+		 */
+		private void set(final int bucket, final long startTimeMillis, final long sequenceNumber) {
+			this.startTimesAndSequenceNumbers[bucket * 2] = startTimeMillis;
+			this.startTimesAndSequenceNumbers[bucket * 2 + 1] = sequenceNumber;
+		}
+
+		/**
+		 * @param bucket
+		 *            - int index of the bucket.
+		 *
+		 * @return long - start time of the bucket.
+		 */
+		private long getStartTimeMillis(final int bucket) {
+			return this.startTimesAndSequenceNumbers[bucket * 2];
+		}
+
+		/**
+		 * @param bucket
+		 *            - int index of the bucket.
+		 *
+		 * @return long - sequence number of the first transaction of the bucket.
+		 */
+		private long getSequenceNumber(final int bucket) {
+			return this.startTimesAndSequenceNumbers[bucket * 2 + 1];
+		}
+	}
+}
@@ -0,0 +1,139 @@
+package org.sergei.sssm.model;
+
+import java.math.BigDecimal;
+
+import org.sergei.sssm.utils.ScaledPrice;
+
+/**
+ * Immutable position of a stock market player in one stock: net quantity,
+ * average cost, realized Profit and Loss of closed quantity and unrealized
+ * Profit and Loss of the open quantity marked at a stock price. Prices and
+ * amounts are scaled to 4 implied decimal digits, see ScaledPrice.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public class StockPosition {
+	private final StockMarketPlayer stockMarketPlayer;
+	private final StockSymbol stockSymbol;
+	/**
+	 * Net quantity, positive if bought, negative if sold short.
+	 */
+	private final long quantity;
+	/**
+	 * Cost of the open quantity, with the sign of the quantity.
+	 */
+	private final long scaledCostBasis;
+	private final long scaledRealizedProfitAndLoss;
+	private final long scaledMarkPrice;
+
+	/**
+	 * Constructor initializes class attributes.
+	 *
+	 * @param stockMarketPlayer
+	 *            - StockMarketPlayer holding the position.
+	 * @param stockSymbol
+	 *            - StockSymbol of the position.
+	 * @param quantity
+	 *            - long net quantity.
+	 * @param scaledCostBasis
+	 *            - long scaled cost of the open quantity.
+	 * @param scaledRealizedProfitAndLoss
+	 *            - long scaled realized Profit and Loss.
+	 * @param scaledMarkPrice
+	 *            - long scaled price the open quantity is marked at.
+	 */
+	StockPosition(final StockMarketPlayer stockMarketPlayer, final StockSymbol stockSymbol, final long quantity, final long scaledCostBasis, final long scaledRealizedProfitAndLoss,
+			final long scaledMarkPrice) {
+		this.stockMarketPlayer = stockMarketPlayer;
+		this.stockSymbol = stockSymbol;
+		this.quantity = quantity;
+		this.scaledCostBasis = scaledCostBasis;
+		this.scaledRealizedProfitAndLoss = scaledRealizedProfitAndLoss;
+		this.scaledMarkPrice = scaledMarkPrice;
+	}
+
+	/**
+	 * @return the stockMarketPlayer
+	 */
+	public StockMarketPlayer getStockMarketPlayer() {
+		return stockMarketPlayer;
+	}
+
+	/**
+	 * @return the stockSymbol
+	 */
+	public StockSymbol getStockSymbol() {
+		return stockSymbol;
+	}
+
+	/**
+	 * @return the net quantity, positive if bought, negative if sold short.
+	 */
+	public long getQuantity() {
+		return quantity;
+	}
+
+	/**
+	 * @return the scaled average cost of the open quantity, zero if the position
+	 *         is flat.
+	 */
+	public long getScaledAverageCost() {
+		if (this.quantity == 0) {
+			return 0;
+		}
+		return this.quantity > 0 ? ScaledPrice.divide(this.scaledCostBasis, this.quantity) : ScaledPrice.divide(-this.scaledCostBasis, -this.quantity);
+	}
+
+	/**
+	 * @return the scaledRealizedProfitAndLoss
+	 */
+	public long getScaledRealizedProfitAndLoss() {
+		return scaledRealizedProfitAndLoss;
+	}
+
+	/**
+	 * @return the scaled unrealized Profit and Loss of the open quantity.
+	 */
+	public long getScaledUnrealizedProfitAndLoss() {
+		return this.quantity * this.scaledMarkPrice - this.scaledCostBasis;
+	}
+
+	/**
+	 * @return the scaledMarkPrice
+	 */
+	public long getScaledMarkPrice() {
+		return scaledMarkPrice;
+	}
+
+	/**
+	 * @return the average cost
+	 */
+	public BigDecimal getAverageCost() {
+		return ScaledPrice.toBigDecimal(getScaledAverageCost());
+	}
+
+	/**
+	 * @return the realized Profit and Loss
+	 */
+	public BigDecimal getRealizedProfitAndLoss() {
+		return ScaledPrice.toBigDecimal(this.scaledRealizedProfitAndLoss);
+	}
+
+	/**
+	 * @return the unrealized Profit and Loss
+	 */
+	public BigDecimal getUnrealizedProfitAndLoss() {
+		return ScaledPrice.toBigDecimal(getScaledUnrealizedProfitAndLoss());
+	}
+
+	/**
+	 * Method represents this object as string value.
+	 */
+	@Override
+	public String toString() {
+		return new StringBuilder("Player: ").append(this.stockMarketPlayer).append("\tStock symbol: ").append(this.stockSymbol).append("\tQuantity: ").append(this.quantity)
+				.append("\tAverage cost: ").append(ScaledPrice.format(getScaledAverageCost())).append("\tRealized P&L: ").append(ScaledPrice.format(this.scaledRealizedProfitAndLoss))
+				.append("\tUnrealized P&L: ").append(ScaledPrice.format(getScaledUnrealizedProfitAndLoss())).toString();
+	}
+}
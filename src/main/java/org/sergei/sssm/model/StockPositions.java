@@ -0,0 +1,189 @@
+package org.sergei.sssm.model;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Positions of all stock market players in the stock of one stock order book,
+ * updated by each executed trade transaction with the average cost method:
+ * quantity adding to a position adds its cost, quantity reducing a position
+ * realizes the difference between the trade price and the average cost.
+ *
+ * Net quantity, signed cost basis and realized Profit and Loss of each player
+ * are kept in a primitive open addressing hash table keyed by player id, so
+ * memory grows with the players who traded the stock only, not with all
+ * registered players. Only the stock order book owner writes it, so writers
+ * never contend, and readers use optimistic reads of a StampedLock, so any
+ * number of players may be queried live without blocking the book or each
+ * other.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public class StockPositions {
+	private static final int PLAYER_KEY = 0;
+	private static final int QUANTITY = 1;
+	private static final int COST_BASIS = 2;
+	private static final int REALIZED_PROFIT_AND_LOSS = 3;
+	private static final int FIELDS_COUNT = 4;
+	private static final int MIN_CAPACITY = 16;
+	private final StampedLock stampedLock;
+	/**
+	 * Hash table of player positions, FIELDS_COUNT longs per entry: player id
+	 * plus one, 0 for a free entry, followed by the position fields. Its
+	 * capacity is a power of two at least twice the number of traded players, so
+	 * probing always ends at a free entry.
+	 */
+	private long[] positions;
+	private int tradedPlayersCount;
+
+	/**
+	 * Constructor initializes positions without any trade.
+	 */
+	public StockPositions() {
+		this.stampedLock = new StampedLock();
+		this.positions = new long[0];
+	}
+
+	/**
+	 * Method updates positions of both players of an executed trade transaction,
+	 * a trade of a player with itself changes nothing.
+	 *
+	 * @param buyer
+	 *            - StockMarketPlayer of the buy stock order.
+	 * @param seller
+	 *            - StockMarketPlayer of the sell stock order.
+	 * @param quantity
+	 *            - int traded quantity.
+	 * @param scaledPrice
+	 *            - long scaled trade price.
+	 */
+	void update(final StockMarketPlayer buyer, final StockMarketPlayer seller, final int quantity, final long scaledPrice) {
+		if (buyer == seller) {
+			return;
+		}
+		final long stamp = this.stampedLock.writeLock();
+		try {
+			trade(addPosition(buyer.getId()), quantity, scaledPrice);
+			trade(addPosition(seller.getId()), -quantity, scaledPrice);
+		} finally {
+			this.stampedLock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Method returns the entry of the position of a player, a new entry is added
+	 * on the first trade of the player and the table is doubled when it gets
+	 * half full.
+	 *
+	 * @param playerId
+	 *            - int id of the player.
+	 *
+	 * @return int - index of the first field of the entry.
+	 */
+	private int addPosition(final int playerId) {
+		if ((this.tradedPlayersCount + 1) * 2 * FIELDS_COUNT > this.positions.length) {
+			final long[] currentPositions = this.positions;
+			final long[] grownPositions = new long[Math.max(MIN_CAPACITY * FIELDS_COUNT, currentPositions.length * 2)];
+			for (int i = 0; i < currentPositions.length; i += FIELDS_COUNT) {
+				if (currentPositions[i + PLAYER_KEY] != 0) {
+					System.arraycopy(currentPositions, i, grownPositions, findEntry(grownPositions, (int) currentPositions[i + PLAYER_KEY] - 1), FIELDS_COUNT);
+				}
+			}
+			this.positions = grownPositions;
+		}
+		final int index = findEntry(this.positions, playerId);
+		if (this.positions[index + PLAYER_KEY] == 0) {
+			this.positions[index + PLAYER_KEY] = playerId + 1L;
+			this.tradedPlayersCount++;
+		}
+		return index;
+	}
+
+	/**
+	 * Method probes a hash table for the entry of a player.
+	 *
+	 * @param positions
+	 *            - long[] non-empty hash table of positions.
+	 * @param playerId
+	 *            - int id of the player.
+	 *
+	 * @return int - index of the first field of the entry of the player, or of
+	 *         the free entry the player would be added to.
+	 */
+	private static int findEntry(final long[] positions, final int playerId) {
+		final int mask = positions.length / FIELDS_COUNT - 1;
+		final long playerKey = playerId + 1L;
+		final int hash = playerId * 0x9E3779B9;
+		int entry = (hash ^ (hash >>> 16)) & mask;
+		while (positions[entry * FIELDS_COUNT + PLAYER_KEY] != playerKey && positions[entry * FIELDS_COUNT + PLAYER_KEY] != 0) {
+			entry = (entry + 1) & mask;
+		}
+		return entry * FIELDS_COUNT;
+	}
+
+	/**
+	 * Method applies a trade to the position of one player.
+	 *
+	 * @param index
+	 *            - int index of the first field of the position.
+	 * @param signedQuantity
+	 *            - long traded quantity, positive if bought, negative if sold.
+	 * @param scaledPrice
+	 *            - long scaled trade price.
+	 */
+	private void trade(final int index, final long signedQuantity, final long scaledPrice) {
+		final long positionQuantity = this.positions[index + QUANTITY];
+		if (positionQuantity == 0 || (positionQuantity > 0) == (signedQuantity > 0)) {
+			this.positions[index + COST_BASIS] += signedQuantity * scaledPrice;
+			this.positions[index + QUANTITY] = positionQuantity + signedQuantity;
+			return;
+		}
+		final long positionSize = Math.abs(positionQuantity);
+		final long closedQuantity = Math.min(Math.abs(signedQuantity), positionSize);
+		final long closedCostBasis = closedQuantity == positionSize ? this.positions[index + COST_BASIS] : this.positions[index + COST_BASIS] * closedQuantity / positionSize;
+		final long closedSignedQuantity = positionQuantity > 0 ? closedQuantity : -closedQuantity;
+		this.positions[index + REALIZED_PROFIT_AND_LOSS] += closedSignedQuantity * scaledPrice - closedCostBasis;
+		this.positions[index + COST_BASIS] -= closedCostBasis;
+		this.positions[index + QUANTITY] = positionQuantity + signedQuantity;
+		if (closedQuantity < Math.abs(signedQuantity)) {
+			// The position is reversed, the remaining quantity opens at the trade price
+			this.positions[index + COST_BASIS] = this.positions[index + QUANTITY] * scaledPrice;
+		}
+	}
+
+	/**
+	 * Method returns a consistent copy of the position of a player, it may be
+	 * called from any thread.
+	 *
+	 * @param stockMarketPlayer
+	 *            - StockMarketPlayer of the position.
+	 * @param stock
+	 *            - AbstractStock of the position, its current price marks the
+	 *            open quantity.
+	 *
+	 * @return StockPosition.
+	 */
+	public StockPosition getStockPosition(final StockMarketPlayer stockMarketPlayer, final AbstractStock stock) {
+		long quantity;
+		long scaledCostBasis;
+		long scaledRealizedProfitAndLoss;
+		long stamp = this.stampedLock.tryOptimisticRead();
+		while (true) {
+			final long[] currentPositions = this.positions;
+			// Entries are only added to a table, so probing a table being updated
+			// still ends at a free entry
+			final int index = currentPositions.length == 0 ? -1 : findEntry(currentPositions, stockMarketPlayer.getId());
+			final boolean traded = index >= 0 && currentPositions[index + PLAYER_KEY] != 0;
+			quantity = traded ? currentPositions[index + QUANTITY] : 0;
+			scaledCostBasis = traded ? currentPositions[index + COST_BASIS] : 0;
+			scaledRealizedProfitAndLoss = traded ? currentPositions[index + REALIZED_PROFIT_AND_LOSS] : 0;
+			if (this.stampedLock.validate(stamp)) {
+				break;
+			}
+			// The book owner updated positions meanwhile, it holds the lock for a few
+			// field writes only
+			stamp = this.stampedLock.tryOptimisticRead();
+		}
+		return new StockPosition(stockMarketPlayer, stock.getStockSymbol(), quantity, scaledCostBasis, scaledRealizedProfitAndLoss, stock.getScaledPrice());
+	}
+}
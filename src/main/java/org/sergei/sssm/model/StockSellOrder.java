@@ -1,8 +1,5 @@
 package org.sergei.sssm.model;
 
-import java.math.BigDecimal;
-import java.util.Comparator;
-
 /**
  * @author - Sergei Shurpenkov
  * @date - 2017.10.01. initial version
@@ -22,14 +19,32 @@ public class StockSellOrder extends AbstractStockOrder implements Comparable<Sto
 	 * @param stock
 	 *            - AbstractStock of order.
 	 * @param quantity
-	 *            - Integer stock order quantity.
-	 * @param offeredPrice
-	 *            - BigDecimal stock order offered price.
+	 *            - int stock order quantity.
+	 * @param scaledOfferedPrice
+	 *            - long stock order offered price scaled to 4 decimal digits.
+	 * @param stockMarketPlayer
+	 *            - StockMarketPlayer who is issuing stock sell order.
+	 */
+	public StockSellOrder(final AbstractStock stock, final int quantity, final long scaledOfferedPrice, final StockMarketPlayer stockMarketPlayer) {
+		super(stock, quantity, scaledOfferedPrice, stockMarketPlayer);
+	}
+
+	/**
+	 * Constructor calls for super constructor with a given time stamp.
+	 * 
+	 * @param stock
+	 *            - AbstractStock of order.
+	 * @param quantity
+	 *            - int stock order quantity.
+	 * @param scaledOfferedPrice
+	 *            - long stock order offered price scaled to 4 decimal digits.
 	 * @param stockMarketPlayer
 	 *            - StockMarketPlayer who is issuing stock sell order.
+	 * @param timestampMillis
+	 *            - long time stamp of order in milliseconds.
 	 */
-	public StockSellOrder(final AbstractStock stock, final Integer quantity, final BigDecimal offeredPrice, final StockMarketPlayer stockMarketPlayer) {
-		super(stock, quantity, offeredPrice, stockMarketPlayer);
+	public StockSellOrder(final AbstractStock stock, final int quantity, final long scaledOfferedPrice, final StockMarketPlayer stockMarketPlayer, final long timestampMillis) {
+		super(stock, quantity, scaledOfferedPrice, stockMarketPlayer, timestampMillis);
 	}
 
 	/**
@@ -55,6 +70,10 @@ public class StockSellOrder extends AbstractStockOrder implements Comparable<Sto
 	 */
 	@Override
 	public int compareTo(final StockSellOrder stockSellOrder) {
-		return Comparator.comparing(StockSellOrder::getOfferedPrice).thenComparing(StockSellOrder::getTimestamp).compare(this, stockSellOrder);
+		final int offeredPriceCompareTo = Long.compare(this.getScaledOfferedPrice(), stockSellOrder.getScaledOfferedPrice());
+		if (offeredPriceCompareTo != 0) {
+			return offeredPriceCompareTo;
+		}
+		return Long.compare(this.getTimestampMillis(), stockSellOrder.getTimestampMillis());
 	}
 }
\ No newline at end of file
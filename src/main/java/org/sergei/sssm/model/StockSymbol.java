@@ -1,28 +1,149 @@
 package org.sergei.sssm.model;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
+ * Stock symbol identified by its code. Symbols are kept in a dynamic registry:
+ * any number of symbols can be registered at runtime, each code maps to a
+ * single instance with a unique, dense id, so symbols can be compared by
+ * reference and used as array indexes, e.g. of stock order books. The first
+ * five symbols are predefined.
+ *
+ * Lookups by code and by id take constant time and allocate nothing,
+ * registration of a new symbol is synchronized.
+ *
  * @author - Sergei Shurpenkov
  * @date - 2017.09.30. initial version
  */
-public enum StockSymbol {
-	TEA("TEA"), POP("POP"), ALE("ALE"), GIN("GIN"), JOE("JOE");
+public final class StockSymbol {
+	private static final int INITIAL_CAPACITY = 16;
+	private static final Map<String, StockSymbol> REGISTERED_STOCK_SYMBOLS = new ConcurrentHashMap<>();
+	/**
+	 * Registered stock symbols indexed by id, replaced by a larger copy when it
+	 * is full.
+	 */
+	private static volatile StockSymbol[] stockSymbolsById = new StockSymbol[INITIAL_CAPACITY];
+	private static volatile int registeredStockSymbolsCount;
 
-	private String code;
+	public static final StockSymbol TEA = register("TEA");
+	public static final StockSymbol POP = register("POP");
+	public static final StockSymbol ALE = register("ALE");
+	public static final StockSymbol GIN = register("GIN");
+	public static final StockSymbol JOE = register("JOE");
+
+	private final int id;
+	private final String code;
 
 	/**
-	 * Constructor initializes classes code attribute.
-	 * 
-	 * @param description
+	 * Constructor initializes class attributes.
+	 *
+	 * @param id
+	 *            - int unique id of the stock symbol.
+	 * @param code
 	 *            - String stock symbol code value.
 	 */
-	private StockSymbol(final String code) {
+	private StockSymbol(final int id, final String code) {
+		this.id = id;
 		this.code = code;
 	}
 
+	/**
+	 * Method registers a stock symbol of a given code, or returns the already
+	 * registered one. It is safe to call from any thread.
+	 *
+	 * @param stockSymbolCode
+	 *            - String of stock symbol code.
+	 *
+	 * @return StockSymbol - registered stock symbol.
+	 */
+	public static StockSymbol register(final String stockSymbolCode) {
+		final StockSymbol stockSymbol = REGISTERED_STOCK_SYMBOLS.get(stockSymbolCode);
+		if (stockSymbol != null) {
+			return stockSymbol;
+		}
+		synchronized (REGISTERED_STOCK_SYMBOLS) {
+			final StockSymbol registeredStockSymbol = REGISTERED_STOCK_SYMBOLS.get(stockSymbolCode);
+			if (registeredStockSymbol != null) {
+				return registeredStockSymbol;
+			}
+			final int id = registeredStockSymbolsCount;
+			final StockSymbol newStockSymbol = new StockSymbol(id, stockSymbolCode);
+			StockSymbol[] stockSymbols = stockSymbolsById;
+			if (id == stockSymbols.length) {
+				stockSymbols = Arrays.copyOf(stockSymbols, stockSymbols.length * 2);
+			}
+			stockSymbols[id] = newStockSymbol;
+			stockSymbolsById = stockSymbols;
+			registeredStockSymbolsCount = id + 1;
+			REGISTERED_STOCK_SYMBOLS.put(stockSymbolCode, newStockSymbol);
+			return newStockSymbol;
+		}
+	}
+
+	/**
+	 * Method searches for a registered StockSymbol by code parameter.
+	 *
+	 * @param stockSymbolCode
+	 *            - String of stock symbol code.
+	 *
+	 * @return StockSymbol - found stock symbol or null.
+	 */
+	public static StockSymbol valueOfByCode(final String stockSymbolCode) {
+		return REGISTERED_STOCK_SYMBOLS.get(stockSymbolCode);
+	}
+
+	/**
+	 * Method searches for a registered StockSymbol by id parameter.
+	 *
+	 * @param stockSymbolId
+	 *            - int stock symbol id.
+	 *
+	 * @return StockSymbol - found stock symbol or null.
+	 */
+	public static StockSymbol valueOf(final int stockSymbolId) {
+		final StockSymbol[] stockSymbols = stockSymbolsById;
+		return stockSymbolId >= 0 && stockSymbolId < stockSymbols.length ? stockSymbols[stockSymbolId] : null;
+	}
+
+	/**
+	 * @return all registered stock symbols ordered by id.
+	 */
+	public static List<StockSymbol> values() {
+		final int count = registeredStockSymbolsCount;
+		return new ArrayList<>(Arrays.asList(stockSymbolsById).subList(0, count));
+	}
+
+	/**
+	 * @return the number of registered stock symbols, which is also the upper
+	 *         bound of stock symbol ids.
+	 */
+	public static int getRegisteredStockSymbolsCount() {
+		return registeredStockSymbolsCount;
+	}
+
+	/**
+	 * @return the id
+	 */
+	public int getId() {
+		return id;
+	}
+
 	/**
 	 * @return the code
 	 */
 	public String getCode() {
 		return code;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Method represents this object as string value.
+	 */
+	@Override
+	public String toString() {
+		return code;
+	}
+}
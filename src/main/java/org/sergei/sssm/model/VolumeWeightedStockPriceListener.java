@@ -0,0 +1,24 @@
+package org.sergei.sssm.model;
+
+/**
+ * Receives changes of the session Volume Weighted Stock Price of stock order
+ * books.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+@FunctionalInterface
+public interface VolumeWeightedStockPriceListener {
+
+	/**
+	 * Method is called by the stock order book owner each time the scaled
+	 * session Volume Weighted Stock Price of a stock order book changes.
+	 *
+	 * @param previousScaledVolumeWeightedStockPrice
+	 *            - long previous scaled Volume Weighted Stock Price, zero if the
+	 *            stock order book had no trade.
+	 * @param scaledVolumeWeightedStockPrice
+	 *            - long new scaled Volume Weighted Stock Price.
+	 */
+	void onVolumeWeightedStockPriceChange(long previousScaledVolumeWeightedStockPrice, long scaledVolumeWeightedStockPrice);
+}
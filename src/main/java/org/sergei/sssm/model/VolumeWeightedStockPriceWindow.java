@@ -0,0 +1,129 @@
+package org.sergei.sssm.model;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable definition of a rolling Volume Weighted Stock Price window: either
+ * a time window split into buckets, or a window of the last N trades.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.16. initial version
+ */
+public class VolumeWeightedStockPriceWindow {
+	private static final int DEFAULT_TIME_BUCKETS_COUNT = 60;
+	/**
+	 * Window of trades completed in the past 15 minutes.
+	 */
+	public static final VolumeWeightedStockPriceWindow LAST_15_MINUTES = ofTime(15, TimeUnit.MINUTES);
+	private final boolean timeBased;
+	private final long bucketWidth;
+	private final int bucketsCount;
+	private final String description;
+
+	/**
+	 * Constructor initializes class attributes.
+	 *
+	 * @param timeBased
+	 *            - boolean true if buckets are measured in nanoseconds, false if
+	 *            they are measured in trades.
+	 * @param bucketWidth
+	 *            - long width of a bucket in nanoseconds or trades.
+	 * @param bucketsCount
+	 *            - int number of buckets in the window.
+	 * @param description
+	 *            - String description of the window.
+	 */
+	private VolumeWeightedStockPriceWindow(final boolean timeBased, final long bucketWidth, final int bucketsCount, final String description) {
+		this.timeBased = timeBased;
+		this.bucketWidth = bucketWidth;
+		this.bucketsCount = bucketsCount;
+		this.description = description;
+	}
+
+	/**
+	 * Method creates a time window of 60 buckets, trades leave the window one
+	 * bucket at a time, i.e. with 1/60 of the window precision.
+	 *
+	 * @param duration
+	 *            - long duration of the window.
+	 * @param timeUnit
+	 *            - TimeUnit of the duration.
+	 *
+	 * @return VolumeWeightedStockPriceWindow.
+	 */
+	public static VolumeWeightedStockPriceWindow ofTime(final long duration, final TimeUnit timeUnit) {
+		return ofTime(duration, timeUnit, DEFAULT_TIME_BUCKETS_COUNT);
+	}
+
+	/**
+	 * Method creates a time window of a given number of buckets.
+	 *
+	 * @param duration
+	 *            - long duration of the window.
+	 * @param timeUnit
+	 *            - TimeUnit of the duration.
+	 * @param bucketsCount
+	 *            - int number of buckets.
+	 *
+	 * @return VolumeWeightedStockPriceWindow.
+	 */
+	public static VolumeWeightedStockPriceWindow ofTime(final long duration, final TimeUnit timeUnit, final int bucketsCount) {
+		final long durationNanos = timeUnit.toNanos(duration);
+		if (bucketsCount <= 0 || durationNanos < bucketsCount) {
+			throw new IllegalArgumentException("Invalid time window: " + duration + " " + timeUnit + " in " + bucketsCount + " buckets");
+		}
+		return new VolumeWeightedStockPriceWindow(true, durationNanos / bucketsCount, bucketsCount, "Last " + duration + " " + timeUnit.name().toLowerCase());
+	}
+
+	/**
+	 * Method creates a window of the last trades, exact to a single trade.
+	 *
+	 * @param tradesCount
+	 *            - int number of trades in the window.
+	 *
+	 * @return VolumeWeightedStockPriceWindow.
+	 */
+	public static VolumeWeightedStockPriceWindow ofTrades(final int tradesCount) {
+		if (tradesCount <= 0) {
+			throw new IllegalArgumentException("Trades count must be positive: " + tradesCount);
+		}
+		return new VolumeWeightedStockPriceWindow(false, 1, tradesCount, "Last " + tradesCount + " trades");
+	}
+
+	/**
+	 * @return true if this window is measured in time, false if it is measured in
+	 *         trades.
+	 */
+	public boolean isTimeBased() {
+		return timeBased;
+	}
+
+	/**
+	 * @return the bucketWidth in nanoseconds or trades.
+	 */
+	public long getBucketWidth() {
+		return bucketWidth;
+	}
+
+	/**
+	 * @return the bucketsCount
+	 */
+	public int getBucketsCount() {
+		return bucketsCount;
+	}
+
+	/**
+	 * @return the description
+	 */
+	public String getDescription() {
+		return description;
+	}
+
+	/**
+	 * Method represents this object as string value.
+	 */
+	@Override
+	public String toString() {
+		return description;
+	}
+}
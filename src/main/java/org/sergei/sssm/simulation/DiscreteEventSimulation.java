@@ -0,0 +1,184 @@
+package org.sergei.sssm.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.sergei.sssm.model.SimulatedStockMarketClock;
+import org.sergei.sssm.model.StockMarket;
+import org.sergei.sssm.model.StockMarketConcurrencyMode;
+import org.sergei.sssm.model.StockMarketPlayer;
+import org.sergei.sssm.model.StockOrderTransactionBuffer;
+import org.sergei.sssm.model.StockOrderTransactionListener;
+import org.sergei.sssm.thread.Player;
+
+/**
+ * Deterministic discrete-event simulation of a stock market. Instead of
+ * running players on threads against wall-clock time, a single thread pulls
+ * the next player action from a priority event queue, moves a simulated clock
+ * to the time of the action and lets the player place one random order. The
+ * player then thinks for an exponentially distributed time before acting
+ * again, so a trading day is simulated as fast as orders can be matched.
+ *
+ * Think times and orders of every player are generated from the seed, the
+ * stock market is driven by one thread and stamps orders and trades with the
+ * simulated clock, so the same seed, players and stocks always produce the
+ * same trade tape.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public class DiscreteEventSimulation {
+	/**
+	 * Default mean think time of a player between two orders.
+	 */
+	public static final long DEFAULT_MEAN_THINK_TIME_MILLIS = 1000L;
+	private static final long GOLDEN_RATIO_INCREMENT = 0x9E3779B97F4A7C15L;
+	private final long seed;
+	private final SimulatedStockMarketClock stockMarketClock;
+	private final StockMarket stockMarket;
+	private final Random thinkTimeRandom;
+	private final List<Player> players;
+	private final SimulationEventQueue simulationEventQueue;
+	private long meanThinkTimeNanos;
+	private long ordersCount;
+
+	/**
+	 * Constructor initializes a simulation of a new stock market.
+	 *
+	 * @param seed
+	 *            - long seed of all random values of the simulation.
+	 * @param concurrencyMode
+	 *            - StockMarketConcurrencyMode of the stock market, orders must
+	 *            be matched synchronously, so SINGLE_WRITER is not supported.
+	 * @param startTimeMillis
+	 *            - long simulated start time in milliseconds since the epoch.
+	 */
+	public DiscreteEventSimulation(final long seed, final StockMarketConcurrencyMode concurrencyMode, final long startTimeMillis) {
+		if (concurrencyMode == StockMarketConcurrencyMode.SINGLE_WRITER) {
+			throw new IllegalArgumentException("Discrete-event simulation requires synchronous matching, SINGLE_WRITER mode is not supported");
+		}
+		this.seed = seed;
+		this.stockMarketClock = new SimulatedStockMarketClock(startTimeMillis);
+		this.stockMarket = new StockMarket(concurrencyMode);
+		this.stockMarket.setStockMarketClock(this.stockMarketClock);
+		this.thinkTimeRandom = new Random(seed);
+		this.players = new ArrayList<>();
+		this.simulationEventQueue = new SimulationEventQueue();
+		this.meanThinkTimeNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_MEAN_THINK_TIME_MILLIS);
+	}
+
+	/**
+	 * Method registers a stock market player and adds it to the simulation, its
+	 * orders are generated from the seed and the order in which players are
+	 * added. Stocks must be registered in the stock market before the simulation
+	 * is run.
+	 *
+	 * @param stockMarketPlayerCode
+	 *            - String of Stock Market Player code.
+	 *
+	 * @return Player - simulated player.
+	 */
+	public Player addPlayer(final String stockMarketPlayerCode) {
+		final StockMarketPlayer stockMarketPlayer = this.stockMarket.registerStockMarketPlayer(stockMarketPlayerCode);
+		final Random playerRandom = new Random(TradeTapeChecksum.mix(this.seed + GOLDEN_RATIO_INCREMENT * (this.players.size() + 1)));
+		final Player player = new Player(stockMarketPlayer, this.stockMarket, playerRandom);
+		this.players.add(player);
+		return player;
+	}
+
+	/**
+	 * Method runs the simulation until a given simulated time, events are
+	 * processed in order of time. It may be called again to continue the
+	 * simulation.
+	 *
+	 * @param duration
+	 *            - long simulated time to run.
+	 * @param unit
+	 *            - TimeUnit of the duration.
+	 * @param tapeListener
+	 *            - StockOrderTransactionListener receiving executed trade
+	 *            transactions in execution order.
+	 *
+	 * @return long - number of orders placed by this call.
+	 */
+	public long run(final long duration, final TimeUnit unit, final StockOrderTransactionListener tapeListener) {
+		if (this.players.isEmpty() || this.stockMarket.getStocks().isEmpty()) {
+			throw new IllegalStateException("Stocks and players must be added before the simulation is run");
+		}
+		// Each player has exactly one scheduled event, players added since the
+		// previous run are scheduled from the current simulated time
+		for (int i = this.simulationEventQueue.size(); i < this.players.size(); i++) {
+			this.simulationEventQueue.add(this.stockMarketClock.nanoTime() + nextThinkTimeNanos(), i);
+		}
+		final long endNanoTime = this.stockMarketClock.nanoTime() + unit.toNanos(duration);
+		long placedOrdersCount = 0;
+
+		while (this.simulationEventQueue.peekNanoTime() <= endNanoTime) {
+			final long nanoTime = this.simulationEventQueue.peekNanoTime();
+			final int playerIndex = this.simulationEventQueue.poll();
+			this.stockMarketClock.advanceTo(nanoTime);
+
+			final Player player = this.players.get(playerIndex);
+			player.placeRandomOrder();
+			final StockOrderTransactionBuffer executedTransactions = player.getExecutedTransactions();
+			for (int i = 0; i < executedTransactions.size(); i++) {
+				tapeListener.onStockOrderTransaction(executedTransactions.get(i));
+			}
+			placedOrdersCount++;
+			this.simulationEventQueue.add(nanoTime + nextThinkTimeNanos(), playerIndex);
+		}
+		this.stockMarketClock.advanceTo(endNanoTime);
+		this.ordersCount += placedOrdersCount;
+		return placedOrdersCount;
+	}
+
+	/**
+	 * Method generates an exponentially distributed think time. StrictMath is
+	 * used, so the same seed gives the same times on any Java runtime.
+	 *
+	 * @return long - think time in nanoseconds.
+	 */
+	private long nextThinkTimeNanos() {
+		return (long) (-this.meanThinkTimeNanos * StrictMath.log(1.0 - this.thinkTimeRandom.nextDouble()));
+	}
+
+	/**
+	 * @param meanThinkTime
+	 *            - long mean think time of players between two orders.
+	 * @param unit
+	 *            - TimeUnit of the mean think time.
+	 */
+	public void setMeanThinkTime(final long meanThinkTime, final TimeUnit unit) {
+		this.meanThinkTimeNanos = unit.toNanos(meanThinkTime);
+	}
+
+	/**
+	 * @return the stockMarket
+	 */
+	public StockMarket getStockMarket() {
+		return stockMarket;
+	}
+
+	/**
+	 * @return the stockMarketClock
+	 */
+	public SimulatedStockMarketClock getStockMarketClock() {
+		return stockMarketClock;
+	}
+
+	/**
+	 * @return the players
+	 */
+	public List<Player> getPlayers() {
+		return players;
+	}
+
+	/**
+	 * @return the number of orders placed since the simulation started.
+	 */
+	public long getOrdersCount() {
+		return ordersCount;
+	}
+}
@@ -0,0 +1,149 @@
+package org.sergei.sssm.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Priority queue of simulation events kept as a binary min-heap of primitive
+ * arrays, so scheduling an event allocates nothing. An event is the simulated
+ * time at which a player acts next, events of the same time are ordered by
+ * the sequence in which they were scheduled, which keeps the order of events
+ * independent of the heap layout.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+class SimulationEventQueue {
+	private static final int INITIAL_CAPACITY = 16;
+	private long[] nanoTimes;
+	private long[] sequences;
+	private int[] playerIndexes;
+	private int size;
+	private long nextSequence;
+
+	/**
+	 * Constructor initializes an empty queue.
+	 */
+	SimulationEventQueue() {
+		this.nanoTimes = new long[INITIAL_CAPACITY];
+		this.sequences = new long[INITIAL_CAPACITY];
+		this.playerIndexes = new int[INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Method schedules an event of a player.
+	 *
+	 * @param nanoTime
+	 *            - long simulated time of the event.
+	 * @param playerIndex
+	 *            - int index of the acting player.
+	 */
+	void add(final long nanoTime, final int playerIndex) {
+		if (this.size == this.nanoTimes.length) {
+			final int capacity = this.size * 2;
+			this.nanoTimes = Arrays.copyOf(this.nanoTimes, capacity);
+			this.sequences = Arrays.copyOf(this.sequences, capacity);
+			this.playerIndexes = Arrays.copyOf(this.playerIndexes, capacity);
+		}
+		int index = this.size++;
+		final long sequence = this.nextSequence++;
+		while (index > 0) {
+			final int parentIndex = (index - 1) >>> 1;
+			if (!isBefore(nanoTime, sequence, parentIndex)) {
+				break;
+			}
+			set(index, parentIndex);
+			index = parentIndex;
+		}
+		this.nanoTimes[index] = nanoTime;
+		this.sequences[index] = sequence;
+		this.playerIndexes[index] = playerIndex;
+	}
+
+	/**
+	 * @return simulated time of the earliest event, the queue must not be empty.
+	 */
+	long peekNanoTime() {
+		return this.nanoTimes[0];
+	}
+
+	/**
+	 * Method removes the earliest event.
+	 *
+	 * @return int - index of the acting player of the removed event.
+	 */
+	int poll() {
+		final int playerIndex = this.playerIndexes[0];
+		final int lastIndex = --this.size;
+		final long nanoTime = this.nanoTimes[lastIndex];
+		final long sequence = this.sequences[lastIndex];
+		final int lastPlayerIndex = this.playerIndexes[lastIndex];
+		int index = 0;
+		while (true) {
+			int childIndex = 2 * index + 1;
+			if (childIndex >= lastIndex) {
+				break;
+			}
+			if (childIndex + 1 < lastIndex && isBefore(this.nanoTimes[childIndex + 1], this.sequences[childIndex + 1], childIndex)) {
+				childIndex++;
+			}
+			if (!isBefore(this.nanoTimes[childIndex], this.sequences[childIndex], nanoTime, sequence)) {
+				break;
+			}
+			set(index, childIndex);
+			index = childIndex;
+		}
+		this.nanoTimes[index] = nanoTime;
+		this.sequences[index] = sequence;
+		this.playerIndexes[index] = lastPlayerIndex;
+		return playerIndex;
+	}
+
+	/**
+	 * @return true if no event is scheduled.
+	 */
+	boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/**
+	 * @return the number of scheduled events.
+	 */
+	int size() {
+		return this.size;
+	}
+
+	/**
+	 * @param nanoTime
+	 *            - long simulated time of an event.
+	 * @param sequence
+	 *            - long scheduling sequence of an event.
+	 * @param index
+	 *            - int heap index of another event.
+	 *
+	 * @return true if an event is due before the event at a given heap index.
+	 */
+	private boolean isBefore(final long nanoTime, final long sequence, final int index) {
+		return isBefore(nanoTime, sequence, this.nanoTimes[index], this.sequences[index]);
+	}
+
+	/**
+	 * @return true if the first event is due before the other one.
+	 */
+	private static boolean isBefore(final long nanoTime, final long sequence, final long otherNanoTime, final long otherSequence) {
+		return nanoTime < otherNanoTime || (nanoTime == otherNanoTime && sequence < otherSequence);
+	}
+
+	/**
+	 * Method copies an event to another heap index.
+	 *
+	 * @param index
+	 *            - int target heap index.
+	 * @param sourceIndex
+	 *            - int heap index of the copied event.
+	 */
+	private void set(final int index, final int sourceIndex) {
+		this.nanoTimes[index] = this.nanoTimes[sourceIndex];
+		this.sequences[index] = this.sequences[sourceIndex];
+		this.playerIndexes[index] = this.playerIndexes[sourceIndex];
+	}
+}
@@ -0,0 +1,84 @@
+package org.sergei.sssm.simulation;
+
+import org.sergei.sssm.model.StockOrderTransaction;
+import org.sergei.sssm.model.StockOrderTransactionListener;
+
+/**
+ * Order sensitive 64-bit checksum of a trade tape, two simulation runs
+ * produced the same tape if they report the same checksum and trades count.
+ * Each trade contributes its stock symbol id, sequence number, type, quantity,
+ * scaled price, players and completion time.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public class TradeTapeChecksum implements StockOrderTransactionListener {
+	private static final long GOLDEN_RATIO_INCREMENT = 0x9E3779B97F4A7C15L;
+	private long checksum;
+	private long tradesCount;
+
+	/**
+	 * Method adds an executed trade transaction to the checksum.
+	 *
+	 * @param stockOrderTransaction
+	 *            - StockOrderTransaction of the trade tape.
+	 */
+	@Override
+	public void onStockOrderTransaction(final StockOrderTransaction stockOrderTransaction) {
+		update(stockOrderTransaction.getStockBuyOrder().getStock().getStockSymbol().getId());
+		update(stockOrderTransaction.getSequenceNumber());
+		update(stockOrderTransaction.getStockOrderTransactionType().ordinal());
+		update(stockOrderTransaction.getExchangedStocksQuantiy());
+		update(stockOrderTransaction.getScaledTransactionStockPrice());
+		update(stockOrderTransaction.getStockBuyOrder().getStockMarketPlayer().getId());
+		update(stockOrderTransaction.getStockSellOrder().getStockMarketPlayer().getId());
+		update(stockOrderTransaction.getTransactionCompletedNanoTime());
+		this.tradesCount++;
+	}
+
+	/**
+	 * Method mixes a value into the checksum.
+	 *
+	 * @param value
+	 *            - long value.
+	 */
+	private void update(final long value) {
+		this.checksum = mix(this.checksum + GOLDEN_RATIO_INCREMENT + value);
+	}
+
+	/**
+	 * Method scrambles bits of a given value, SplitMix64 finalizer.
+	 *
+	 * @param value
+	 *            - long value.
+	 *
+	 * @return long - scrambled value.
+	 */
+	static long mix(final long value) {
+		long mixed = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+		mixed = (mixed ^ (mixed >>> 27)) * 0x94D049BB133111EBL;
+		return mixed ^ (mixed >>> 31);
+	}
+
+	/**
+	 * @return the checksum
+	 */
+	public long getChecksum() {
+		return checksum;
+	}
+
+	/**
+	 * @return the tradesCount
+	 */
+	public long getTradesCount() {
+		return tradesCount;
+	}
+
+	/**
+	 * Method represents this object as string value.
+	 */
+	@Override
+	public String toString() {
+		return String.format("Trades: %1$d\tTrade tape checksum: %2$016x", this.tradesCount, this.checksum);
+	}
+}
@@ -0,0 +1,40 @@
+package org.sergei.sssm.tape;
+
+/**
+ * Record format of a trade tape written by TradeTapeWriter.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public enum TradeTapeFormat {
+	/**
+	 * One UTF-8 line per executed trade transaction: stock symbol code, tab and
+	 * the transaction as printed by StockOrderTransaction.toString().
+	 */
+	TEXT("Text"),
+	/**
+	 * Little-endian binary records: each stock symbol and player code is written
+	 * once as a definition record before its first use, then each executed trade
+	 * transaction is a fixed-size 42 bytes record referring to them by id.
+	 */
+	BINARY("Binary");
+
+	private String description;
+
+	/**
+	 * Constructor initializes description attribute.
+	 *
+	 * @param description
+	 *            - String trade tape format description value.
+	 */
+	private TradeTapeFormat(final String description) {
+		this.description = description;
+	}
+
+	/**
+	 * @return the description
+	 */
+	public String getDescription() {
+		return description;
+	}
+}
@@ -0,0 +1,384 @@
+package org.sergei.sssm.tape;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.sergei.sssm.engine.ManyToOneRingBuffer;
+import org.sergei.sssm.exeption.StockMarketSystemException;
+import org.sergei.sssm.model.StockMarketPlayer;
+import org.sergei.sssm.model.StockOrderTransaction;
+import org.sergei.sssm.model.StockOrderTransactionListener;
+import org.sergei.sssm.model.StockSymbol;
+
+/**
+ * Asynchronous trade tape: trading threads hand executed trade transactions to
+ * a lock-free ring buffer and a single writer thread drains it in batches,
+ * formats the records and writes them to a channel through a direct buffer.
+ * Nothing is formatted or written on trading threads and no lock is shared
+ * with them.
+ *
+ * When the ring buffer is full, trading threads wait until the writer frees
+ * an entry, so a slow channel slows trading down instead of losing records or
+ * growing memory without bound.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public class TradeTapeWriter implements StockOrderTransactionListener {
+	/**
+	 * Default number of pending executed trade transactions.
+	 */
+	public static final int DEFAULT_RING_BUFFER_CAPACITY = 65536;
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final int MAX_DRAINED_ENTRIES_COUNT = 1024;
+	private static final int SPINNING_IDLE_ITERATIONS = 100;
+	private static final int YIELDING_IDLE_ITERATIONS = 200;
+	private static final long PARKING_IDLE_NANOS = 100000L;
+	private static final String WRITER_THREAD_NAME = "Trade tape writer";
+	private static final byte STOCK_SYMBOL_RECORD_TYPE = 1;
+	private static final byte STOCK_MARKET_PLAYER_RECORD_TYPE = 2;
+	private static final byte STOCK_ORDER_TRANSACTION_RECORD_TYPE = 3;
+	private static final int STOCK_ORDER_TRANSACTION_RECORD_SIZE = 2 + 4 * Integer.BYTES + 3 * Long.BYTES;
+	private static final int MAX_CODE_LENGTH = 0xFF;
+
+	private final ManyToOneRingBuffer<TradeTapeEntry> ringBuffer;
+	private final TradeTapeFormat format;
+	private final WritableByteChannel channel;
+	private final boolean channelOwned;
+	private final ByteBuffer buffer;
+	private final Consumer<TradeTapeEntry> entryHandler;
+	/**
+	 * Stock symbols and players whose definition record is written, by id.
+	 */
+	private final BitSet writtenStockSymbols;
+	private final BitSet writtenStockMarketPlayers;
+	private final StringBuilder line;
+	private final Thread thread;
+	private volatile boolean running;
+	private volatile long writtenTradesCount;
+	private volatile StockMarketSystemException failure;
+
+	/**
+	 * Constructor initializes class attributes and starts the writer thread.
+	 *
+	 * @param channel
+	 *            - WritableByteChannel the trade tape is written to.
+	 * @param channelOwned
+	 *            - boolean whether the channel is closed by close().
+	 * @param format
+	 *            - TradeTapeFormat of records.
+	 * @param ringBufferCapacity
+	 *            - int power of two number of pending executed trade
+	 *            transactions.
+	 */
+	private TradeTapeWriter(final WritableByteChannel channel, final boolean channelOwned, final TradeTapeFormat format, final int ringBufferCapacity) {
+		this.ringBuffer = new ManyToOneRingBuffer<>(ringBufferCapacity, TradeTapeEntry::new);
+		this.format = format;
+		this.channel = channel;
+		this.channelOwned = channelOwned;
+		this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		this.entryHandler = this::write;
+		this.writtenStockSymbols = new BitSet();
+		this.writtenStockMarketPlayers = new BitSet();
+		this.line = new StringBuilder();
+		this.thread = new Thread(this::run, WRITER_THREAD_NAME);
+		this.running = true;
+		this.thread.start();
+	}
+
+	/**
+	 * Method opens a trade tape writing to a given file, an existing file is
+	 * truncated.
+	 *
+	 * @param file
+	 *            - Path of the trade tape file.
+	 * @param format
+	 *            - TradeTapeFormat of records.
+	 *
+	 * @return TradeTapeWriter - started writer.
+	 */
+	public static TradeTapeWriter open(final Path file, final TradeTapeFormat format) {
+		try {
+			return new TradeTapeWriter(FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE), true, format,
+					DEFAULT_RING_BUFFER_CAPACITY);
+		} catch (IOException e) {
+			throw new StockMarketSystemException(e, "Trade tape file cannot be opened: " + file);
+		}
+	}
+
+	/**
+	 * Method opens a trade tape writing to the standard output, which stays open
+	 * after close().
+	 *
+	 * @param format
+	 *            - TradeTapeFormat of records.
+	 *
+	 * @return TradeTapeWriter - started writer.
+	 */
+	public static TradeTapeWriter openStandardOutput(final TradeTapeFormat format) {
+		System.out.flush();
+		return new TradeTapeWriter(new FileOutputStream(FileDescriptor.out).getChannel(), false, format, DEFAULT_RING_BUFFER_CAPACITY);
+	}
+
+	/**
+	 * Method hands an executed trade transaction to the writer thread, waiting
+	 * while the ring buffer is full. It is safe to call from any thread.
+	 *
+	 * @param stockOrderTransaction
+	 *            - StockOrderTransaction executed by a stock order book.
+	 */
+	@Override
+	public void onStockOrderTransaction(final StockOrderTransaction stockOrderTransaction) {
+		final long sequence = this.ringBuffer.claim();
+		this.ringBuffer.get(sequence).stockOrderTransaction = stockOrderTransaction;
+		this.ringBuffer.publish(sequence);
+	}
+
+	/**
+	 * Method drains the ring buffer until the writer is closed and all handed
+	 * transactions are written. Pending bytes are written whenever the ring
+	 * buffer is empty or the buffer is full, so records reach the channel in
+	 * batches and without delay once trading pauses.
+	 */
+	private void run() {
+		int idleIterations = 0;
+
+		while (this.running || !this.ringBuffer.isEmpty()) {
+			if (this.ringBuffer.drain(this.entryHandler, MAX_DRAINED_ENTRIES_COUNT) > 0) {
+				idleIterations = 0;
+				continue;
+			}
+			flushBuffer();
+			if (idleIterations < SPINNING_IDLE_ITERATIONS) {
+				idleIterations++;
+			} else if (idleIterations < SPINNING_IDLE_ITERATIONS + YIELDING_IDLE_ITERATIONS) {
+				idleIterations++;
+				Thread.yield();
+			} else {
+				LockSupport.parkNanos(PARKING_IDLE_NANOS);
+			}
+		}
+		flushBuffer();
+	}
+
+	/**
+	 * Method formats the record of a drained entry. After a write or format
+	 * failure transactions are dropped, so trading threads never wait for a
+	 * broken channel or a dead writer thread.
+	 *
+	 * @param tradeTapeEntry
+	 *            - TradeTapeEntry drained from the ring buffer.
+	 */
+	private void write(final TradeTapeEntry tradeTapeEntry) {
+		final StockOrderTransaction stockOrderTransaction = tradeTapeEntry.stockOrderTransaction;
+		tradeTapeEntry.stockOrderTransaction = null;
+		if (this.failure != null) {
+			return;
+		}
+		try {
+			if (this.format == TradeTapeFormat.TEXT) {
+				writeText(stockOrderTransaction);
+			} else {
+				writeBinary(stockOrderTransaction);
+			}
+			this.writtenTradesCount++;
+		} catch (IOException e) {
+			this.failure = new StockMarketSystemException(e, "Trade tape cannot be written");
+		} catch (RuntimeException e) {
+			// A record which cannot be formatted must not stop the writer thread, trading
+			// threads would wait for ring buffer entries forever
+			this.failure = new StockMarketSystemException(e, "Trade tape record cannot be formatted");
+		}
+	}
+
+	/**
+	 * Method puts a text line of an executed trade transaction.
+	 *
+	 * @param stockOrderTransaction
+	 *            - StockOrderTransaction to write.
+	 *
+	 * @throws IOException
+	 *             - if writing fails.
+	 */
+	private void writeText(final StockOrderTransaction stockOrderTransaction) throws IOException {
+		this.line.setLength(0);
+		this.line.append(stockOrderTransaction.getStockBuyOrder().getStock().getStockSymbol().getCode()).append('\t').append(stockOrderTransaction).append(System.lineSeparator());
+		final byte[] lineBytes = this.line.toString().getBytes(StandardCharsets.UTF_8);
+		ensureRemaining(lineBytes.length);
+		if (lineBytes.length > this.buffer.capacity()) {
+			writeFully(ByteBuffer.wrap(lineBytes));
+		} else {
+			this.buffer.put(lineBytes);
+		}
+	}
+
+	/**
+	 * Method puts a binary record of an executed trade transaction, preceded by
+	 * definition records of its stock symbol and players if they are new.
+	 *
+	 * @param stockOrderTransaction
+	 *            - StockOrderTransaction to write.
+	 *
+	 * @throws IOException
+	 *             - if writing fails.
+	 */
+	private void writeBinary(final StockOrderTransaction stockOrderTransaction) throws IOException {
+		final StockSymbol stockSymbol = stockOrderTransaction.getStockBuyOrder().getStock().getStockSymbol();
+		final StockMarketPlayer buyStockMarketPlayer = stockOrderTransaction.getStockBuyOrder().getStockMarketPlayer();
+		final StockMarketPlayer sellStockMarketPlayer = stockOrderTransaction.getStockSellOrder().getStockMarketPlayer();
+		if (!this.writtenStockSymbols.get(stockSymbol.getId())) {
+			writeDefinition(STOCK_SYMBOL_RECORD_TYPE, stockSymbol.getId(), stockSymbol.getCode());
+			this.writtenStockSymbols.set(stockSymbol.getId());
+		}
+		writeStockMarketPlayerDefinition(buyStockMarketPlayer);
+		writeStockMarketPlayerDefinition(sellStockMarketPlayer);
+		ensureRemaining(STOCK_ORDER_TRANSACTION_RECORD_SIZE);
+		this.buffer.put(STOCK_ORDER_TRANSACTION_RECORD_TYPE).put((byte) stockOrderTransaction.getStockOrderTransactionType().ordinal()).putInt(stockSymbol.getId())
+				.putInt(buyStockMarketPlayer.getId()).putInt(sellStockMarketPlayer.getId()).putInt(stockOrderTransaction.getExchangedStocksQuantiy())
+				.putLong(stockOrderTransaction.getScaledTransactionStockPrice()).putLong(stockOrderTransaction.getTransactionCompletedTimeMillis())
+				.putLong(stockOrderTransaction.getSequenceNumber());
+	}
+
+	/**
+	 * Method puts the definition record of a player if it is new.
+	 *
+	 * @param stockMarketPlayer
+	 *            - StockMarketPlayer of a transaction.
+	 *
+	 * @throws IOException
+	 *             - if writing fails.
+	 */
+	private void writeStockMarketPlayerDefinition(final StockMarketPlayer stockMarketPlayer) throws IOException {
+		if (!this.writtenStockMarketPlayers.get(stockMarketPlayer.getId())) {
+			writeDefinition(STOCK_MARKET_PLAYER_RECORD_TYPE, stockMarketPlayer.getId(), stockMarketPlayer.getCode());
+			this.writtenStockMarketPlayers.set(stockMarketPlayer.getId());
+		}
+	}
+
+	/**
+	 * Method puts a definition record: type, id, UTF-8 code length and bytes.
+	 *
+	 * @param recordType
+	 *            - byte type of the record.
+	 * @param id
+	 *            - int id of the stock symbol or player.
+	 * @param code
+	 *            - String code of the stock symbol or player.
+	 *
+	 * @throws IOException
+	 *             - if writing fails.
+	 */
+	private void writeDefinition(final byte recordType, final int id, final String code) throws IOException {
+		final byte[] codeBytes = code.getBytes(StandardCharsets.UTF_8);
+		final int codeLength = Math.min(codeBytes.length, MAX_CODE_LENGTH);
+		ensureRemaining(2 + Integer.BYTES + codeLength);
+		this.buffer.put(recordType).putInt(id).put((byte) codeLength).put(codeBytes, 0, codeLength);
+	}
+
+	/**
+	 * Method writes pending bytes if the buffer has not enough room left.
+	 *
+	 * @param length
+	 *            - int number of bytes to put next.
+	 *
+	 * @throws IOException
+	 *             - if writing fails.
+	 */
+	private void ensureRemaining(final int length) throws IOException {
+		if (this.buffer.remaining() < length) {
+			((Buffer) this.buffer).flip();
+			writeFully(this.buffer);
+			((Buffer) this.buffer).clear();
+		}
+	}
+
+	/**
+	 * Method writes pending bytes of the buffer, a failure is kept and reported
+	 * by close().
+	 */
+	private void flushBuffer() {
+		if (this.buffer.position() == 0 || this.failure != null) {
+			return;
+		}
+		try {
+			((Buffer) this.buffer).flip();
+			writeFully(this.buffer);
+		} catch (IOException | RuntimeException e) {
+			this.failure = new StockMarketSystemException(e, "Trade tape cannot be written");
+		} finally {
+			((Buffer) this.buffer).clear();
+		}
+	}
+
+	/**
+	 * Method writes all remaining bytes of a given buffer to the channel.
+	 *
+	 * @param byteBuffer
+	 *            - ByteBuffer to write.
+	 *
+	 * @throws IOException
+	 *             - if writing fails.
+	 */
+	private void writeFully(final ByteBuffer byteBuffer) throws IOException {
+		while (byteBuffer.hasRemaining()) {
+			this.channel.write(byteBuffer);
+		}
+	}
+
+	/**
+	 * Method waits until all handed transactions are written, stops the writer
+	 * thread and closes a file channel. It is called once trading threads and
+	 * matching engines are stopped.
+	 */
+	public void close() {
+		this.running = false;
+		try {
+			this.thread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (this.channelOwned) {
+			try {
+				this.channel.close();
+			} catch (IOException e) {
+				throw new StockMarketSystemException(e, "Trade tape cannot be closed");
+			}
+		}
+		if (this.failure != null) {
+			throw this.failure;
+		}
+	}
+
+	/**
+	 * @return the format
+	 */
+	public TradeTapeFormat getFormat() {
+		return format;
+	}
+
+	/**
+	 * @return the number of executed trade transactions written so far.
+	 */
+	public long getWrittenTradesCount() {
+		return writtenTradesCount;
+	}
+
+	/**
+	 * Pre-allocated, reusable ring buffer entry.
+	 */
+	private static final class TradeTapeEntry {
+		private StockOrderTransaction stockOrderTransaction;
+	}
+}
@@ -1,18 +1,18 @@
 package org.sergei.sssm.thread;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.List;
 import java.util.Random;
-import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 
 import org.sergei.sssm.model.AbstractStock;
 import org.sergei.sssm.model.StockBuyOrder;
 import org.sergei.sssm.model.StockMarket;
+import org.sergei.sssm.model.StockMarketConcurrencyMode;
 import org.sergei.sssm.model.StockMarketPlayer;
-import org.sergei.sssm.model.StockOrderTransaction;
-import org.sergei.sssm.utils.NumberFormatter;
+import org.sergei.sssm.model.StockOrderTransactionBuffer;
+import org.sergei.sssm.model.StockOrderTransactionListener;
+import org.sergei.sssm.utils.LatencyHistogram;
+import org.sergei.sssm.utils.ScaledPrice;
 
 /**
  * @author - Sergei Shurpenkov
@@ -22,22 +22,42 @@ public class Player implements Runnable {
 	/**
 	 * Trading playing time limit is set to 5 minutes.
 	 */
-	private static final int PLAYING_TIME_LIMIT = 5 * 60 * 1000;
+	public static final long PLAYING_TIME_LIMIT = 5 * 60 * 1000L;
 	/**
 	 * Buy stock price max percentage, used to set maximum and minimum buy stock
 	 * price.
 	 */
-	private static final BigDecimal BUY_STOCK_PRICE_MAX_PERCENTAGE = new BigDecimal("0.1");
+	private static final long BUY_STOCK_PRICE_MAX_PERCENTAGE = 10;
 	/**
 	 * Sell stock price multiplier, used to set maximim and minimum sell stock
 	 * price.
 	 */
-	private static final BigDecimal SELL_STOCK_PRICE_MULTIPLIER = new BigDecimal("2");
+	private static final long SELL_STOCK_PRICE_MULTIPLIER = 2;
+	private static final long PERCENTAGE_DIVISOR = 100;
 
 	private StockMarketPlayer stockMarketPlayer;
 	private StockMarket stockMarket;
 	private CountDownLatch countDownLatch;
 	private Random random;
+	/**
+	 * Reusable buffer receiving executed trade transactions of each placed order.
+	 */
+	private StockOrderTransactionBuffer executedTransactions;
+	private long playingTimeLimit;
+	private long tradingStartTime;
+	/**
+	 * True if executed trade transactions are printed to standard output.
+	 */
+	private boolean printExecutedTransactions;
+	/**
+	 * Optional histogram recording latency of each placed order.
+	 */
+	private LatencyHistogram orderLatencyHistogram;
+	/**
+	 * Optional trade tape receiving executed trade transactions instead of
+	 * standard output, e.g. an asynchronous TradeTapeWriter.
+	 */
+	private StockOrderTransactionListener tradeTape;
 
 	/**
 	 * Constructor initializes classes attributes.
@@ -50,10 +70,52 @@ public class Player implements Runnable {
 	 *            - CountDownLatch.
 	 */
 	public Player(final StockMarketPlayer stockMarketPlayer, final StockMarket stockMarket, final CountDownLatch countDownLatch) {
+		this(stockMarketPlayer, stockMarket, countDownLatch, PLAYING_TIME_LIMIT);
+	}
+
+	/**
+	 * Constructor initializes classes attributes with a given playing time limit.
+	 * 
+	 * @param stockMarketPlayer
+	 *            - StockMarketPlayer.
+	 * @param stockMarket
+	 *            - StockMarket.
+	 * @param countDownLatch
+	 *            - CountDownLatch.
+	 * @param playingTimeLimit
+	 *            - long trading time in milliseconds.
+	 */
+	public Player(final StockMarketPlayer stockMarketPlayer, final StockMarket stockMarket, final CountDownLatch countDownLatch, final long playingTimeLimit) {
 		this.stockMarketPlayer = stockMarketPlayer;
 		this.stockMarket = stockMarket;
 		this.countDownLatch = countDownLatch;
 		this.random = new Random();
+		this.executedTransactions = new StockOrderTransactionBuffer();
+		this.playingTimeLimit = playingTimeLimit;
+		this.printExecutedTransactions = true;
+	}
+
+	/**
+	 * Constructor initializes classes attributes of a player driven by a
+	 * simulation, which calls placeRandomOrder() instead of running the player.
+	 * Orders are generated by a given random generator, so a seeded generator
+	 * makes orders reproducible.
+	 * 
+	 * @param stockMarketPlayer
+	 *            - StockMarketPlayer.
+	 * @param stockMarket
+	 *            - StockMarket.
+	 * @param random
+	 *            - Random generator of orders.
+	 */
+	public Player(final StockMarketPlayer stockMarketPlayer, final StockMarket stockMarket, final Random random) {
+		this.stockMarketPlayer = stockMarketPlayer;
+		this.stockMarket = stockMarket;
+		this.countDownLatch = new CountDownLatch(0);
+		this.random = random;
+		this.executedTransactions = new StockOrderTransactionBuffer();
+		this.playingTimeLimit = 0;
+		this.printExecutedTransactions = false;
 	}
 
 	/**
@@ -61,17 +123,27 @@ public class Player implements Runnable {
 	 */
 	@Override
 	public void run() {
-		waitForSynchronizedStart();
+		startTrading();
 		trade();
 	}
 
 	/**
-	 * Method calls countDownLatch count down method to synchronize player's start.
+	 * Method calls countDownLatch count down method to synchronize player's start
+	 * and starts the playing time. Players run by a shared scheduler are started
+	 * by the scheduler.
 	 */
-	private void waitForSynchronizedStart() {
+	public void startTrading() {
+		this.tradingStartTime = System.currentTimeMillis();
 		countDownLatch.countDown();
 	}
 
+	/**
+	 * @return true while the playing time limit is not reached.
+	 */
+	public boolean isTrading() {
+		return System.currentTimeMillis() - this.tradingStartTime <= this.playingTimeLimit;
+	}
+
 	/**
 	 * Method runs trade operations for a given time, each operation uses random
 	 * stock, quantity, buy price, sell price, operation buy/sell. After each
@@ -80,33 +152,56 @@ public class Player implements Runnable {
 	 * 
 	 * If a quantity of an placed order is superior of a counterpart order, many
 	 * transactions can be executed to completely fulfill a placed order.
+	 * 
+	 * Stock order books are guarded by the stock market according to its
+	 * concurrency mode.
 	 */
 	private void trade() {
-		final long startTime = System.currentTimeMillis();
-
-		while (System.currentTimeMillis() - startTime <= PLAYING_TIME_LIMIT) {
-			final AbstractStock randomStock = getRandomStock();
-			final Integer randomQuantity = getRandomQuantity();
-			final BigDecimal randomBuyPrice = getRandomBuyPrice(randomStock);
-			final BigDecimal randomSellPrice = getRandomSellPrice(randomStock);
-			final Boolean buyRandomOperation = isBuyRandomOperation();
-			Set<StockOrderTransaction> executedTransactions = null;
-
-			synchronized (this.stockMarket) {
-				if (buyRandomOperation) {
-					executedTransactions = this.stockMarket.putBuyOrder(randomStock, randomQuantity, randomBuyPrice, stockMarketPlayer);
-				} else {
-					executedTransactions = this.stockMarket.putSellOrder(randomStock, randomQuantity, randomSellPrice, stockMarketPlayer);
-				}
-			}
+		while (isTrading()) {
+			placeRandomOrder();
+		}
+	}
 
-			if (executedTransactions != null) {
-				for (StockOrderTransaction stockOrderTransaction : executedTransactions) {
-					// For simplicity of simulation, no logging libraries are used
-					System.out.println(String.format("%1$s\t%2$s", randomStock.getStockSymbol().getCode(), stockOrderTransaction));
-				}
+	/**
+	 * Method places a single order of random stock, quantity, price and
+	 * operation buy/sell and hands its executed trade transactions to the trade
+	 * tape or prints them.
+	 * 
+	 * @return int - number of executed trade transactions.
+	 */
+	public int placeRandomOrder() {
+		final AbstractStock randomStock = getRandomStock();
+		final int randomQuantity = getRandomQuantity();
+		final long scaledStockPrice = getScaledStockPrice(randomStock);
+		final long scaledRandomBuyPrice = getRandomBuyPrice(scaledStockPrice);
+		final long scaledRandomSellPrice = getRandomSellPrice(scaledStockPrice);
+		final Boolean buyRandomOperation = isBuyRandomOperation();
+		this.executedTransactions.clear();
+		// Matching engines of SINGLE_WRITER mode pass executed trade transactions to the trade tape
+		final StockOrderTransactionListener stockOrderTransactionListener = this.stockMarket.getConcurrencyMode() == StockMarketConcurrencyMode.SINGLE_WRITER ? null
+				: this.executedTransactions;
+
+		final long orderStartNanoTime = System.nanoTime();
+		if (buyRandomOperation) {
+			this.stockMarket.putBuyOrder(randomStock, randomQuantity, scaledRandomBuyPrice, stockMarketPlayer, stockOrderTransactionListener);
+		} else {
+			this.stockMarket.putSellOrder(randomStock, randomQuantity, scaledRandomSellPrice, stockMarketPlayer, stockOrderTransactionListener);
+		}
+		if (this.orderLatencyHistogram != null) {
+			this.orderLatencyHistogram.recordValue(System.nanoTime() - orderStartNanoTime);
+		}
+
+		if (this.tradeTape != null) {
+			for (int i = 0; i < this.executedTransactions.size(); i++) {
+				this.tradeTape.onStockOrderTransaction(this.executedTransactions.get(i));
+			}
+		} else if (this.printExecutedTransactions) {
+			for (int i = 0; i < this.executedTransactions.size(); i++) {
+				// For simplicity of simulation, no logging libraries are used
+				System.out.println(String.format("%1$s\t%2$s", randomStock.getStockSymbol().getCode(), this.executedTransactions.get(i)));
 			}
 		}
+		return this.executedTransactions.size();
 	}
 
 	/**
@@ -135,9 +230,9 @@ public class Player implements Runnable {
 	 * 
 	 * In a real world, this issue should be validated at the input time.
 	 * 
-	 * @return
+	 * @return int - random generated quantity.
 	 */
-	private Integer getRandomQuantity() {
+	private int getRandomQuantity() {
 		int randomQuantity = 0;
 		for (int i = 0; i < 10 && randomQuantity == 0; i++) {
 			randomQuantity = random.nextInt(StockBuyOrder.MAX_QUANTITY_LIMIT);
@@ -145,34 +240,53 @@ public class Player implements Runnable {
 		return randomQuantity;
 	}
 
+	/**
+	 * Method reads current stock price once, from the latest published snapshot
+	 * of its stock order book, so buy and sell prices are generated from the same
+	 * consistent value without locking. Initial stock price is used until the
+	 * first trade.
+	 * 
+	 * @param stock
+	 *            - AbstractStock to get current price of.
+	 * 
+	 * @return long - current stock price scaled to 4 decimal digits.
+	 */
+	private long getScaledStockPrice(final AbstractStock stock) {
+		final long scaledLastTradePrice = this.stockMarket.getStockOrderBookSnapshot(stock.getStockSymbol()).getScaledLastTradePrice();
+		if (scaledLastTradePrice > 0) {
+			return scaledLastTradePrice;
+		}
+		return stock.getScaledPrice();
+	}
+
 	/**
 	 * Method generates maximum and minimum price trend to be used in random price
 	 * generation method.
 	 * 
-	 * @param stock
-	 *            - AbstractStock used to get stock current price.
+	 * @param scaledStockPrice
+	 *            - long current stock price scaled to 4 decimal digits.
 	 * 
-	 * @return BigDecimal - random generated buy price which is in max/min trend.
+	 * @return long - random generated scaled buy price which is in max/min trend.
 	 */
-	private BigDecimal getRandomBuyPrice(final AbstractStock stock) {
-		final BigDecimal minPrice = stock.getPrice().multiply(BUY_STOCK_PRICE_MAX_PERCENTAGE);
-		final BigDecimal maxPrice = stock.getPrice().add(minPrice);
-		return getRandomPrice(minPrice, maxPrice);
+	private long getRandomBuyPrice(final long scaledStockPrice) {
+		final long scaledMinPrice = ScaledPrice.divide(scaledStockPrice * BUY_STOCK_PRICE_MAX_PERCENTAGE, PERCENTAGE_DIVISOR);
+		final long scaledMaxPrice = scaledStockPrice + scaledMinPrice;
+		return getRandomPrice(scaledMinPrice, scaledMaxPrice);
 	}
 
 	/**
 	 * Method generates maximum and minimum price trend to be used in random price
 	 * generation method.
 	 * 
-	 * @param stock
-	 *            - AbstractStock used to get stock current price.
+	 * @param scaledStockPrice
+	 *            - long current stock price scaled to 4 decimal digits.
 	 * 
-	 * @return BigDecimal - random generated sell price which is in max/min trend.
+	 * @return long - random generated scaled sell price which is in max/min trend.
 	 */
-	private BigDecimal getRandomSellPrice(AbstractStock stock) {
-		final BigDecimal minPrice = stock.getPrice().subtract(stock.getPrice().multiply(BUY_STOCK_PRICE_MAX_PERCENTAGE));
-		final BigDecimal maxPrice = stock.getPrice().multiply(SELL_STOCK_PRICE_MULTIPLIER);
-		return getRandomPrice(minPrice, maxPrice);
+	private long getRandomSellPrice(final long scaledStockPrice) {
+		final long scaledMinPrice = scaledStockPrice - ScaledPrice.divide(scaledStockPrice * BUY_STOCK_PRICE_MAX_PERCENTAGE, PERCENTAGE_DIVISOR);
+		final long scaledMaxPrice = scaledStockPrice * SELL_STOCK_PRICE_MULTIPLIER;
+		return getRandomPrice(scaledMinPrice, scaledMaxPrice);
 	}
 
 	/**
@@ -182,18 +296,62 @@ public class Player implements Runnable {
 	 * 
 	 * In a real world, this issue should be validated at the input time.
 	 * 
-	 * @param minPrice
-	 *            - BigDecimal of minimum price to be generated.
-	 * @param maxPrice
-	 *            - BigDecimal of maximum price to be generated.
+	 * Prices are generated as scaled longs, so no BigDecimal is allocated per
+	 * order.
 	 * 
-	 * @return BigDecimal - random generated buy price which is in max/min trend.
+	 * @param scaledMinPrice
+	 *            - long of minimum price to be generated, scaled to 4 decimal
+	 *            digits.
+	 * @param scaledMaxPrice
+	 *            - long of maximum price to be generated, scaled to 4 decimal
+	 *            digits.
+	 * 
+	 * @return long - random generated scaled price which is in max/min trend.
 	 */
-	private BigDecimal getRandomPrice(final BigDecimal minPrice, final BigDecimal maxPrice) {
-		BigDecimal price = BigDecimal.ZERO;
-		for (int i = 0; i < 10 && price.doubleValue() == 0; i++) {
-			price = maxPrice.subtract(minPrice).multiply(BigDecimal.valueOf(random.nextDouble())).add(minPrice);
+	private long getRandomPrice(final long scaledMinPrice, final long scaledMaxPrice) {
+		long scaledPrice = 0;
+		for (int i = 0; i < 10 && scaledPrice == 0; i++) {
+			scaledPrice = scaledMinPrice + Math.round((scaledMaxPrice - scaledMinPrice) * random.nextDouble());
 		}
-		return price.setScale(NumberFormatter.SCALE_4_DECIMAL_DIGITS, RoundingMode.HALF_EVEN);
+		return scaledPrice;
+	}
+
+	/**
+	 * @return the stockMarketPlayer
+	 */
+	public StockMarketPlayer getStockMarketPlayer() {
+		return stockMarketPlayer;
+	}
+
+	/**
+	 * @return the executed trade transactions of the latest placed order.
+	 */
+	public StockOrderTransactionBuffer getExecutedTransactions() {
+		return executedTransactions;
+	}
+
+	/**
+	 * @param printExecutedTransactions
+	 *            the printExecutedTransactions to set
+	 */
+	public void setPrintExecutedTransactions(boolean printExecutedTransactions) {
+		this.printExecutedTransactions = printExecutedTransactions;
+	}
+
+	/**
+	 * @param orderLatencyHistogram
+	 *            the orderLatencyHistogram to set, it may be shared by players.
+	 */
+	public void setOrderLatencyHistogram(LatencyHistogram orderLatencyHistogram) {
+		this.orderLatencyHistogram = orderLatencyHistogram;
+	}
+
+	/**
+	 * @param tradeTape
+	 *            the tradeTape to set, it may be shared by players and replaces
+	 *            printing of executed trade transactions.
+	 */
+	public void setTradeTape(StockOrderTransactionListener tradeTape) {
+		this.tradeTape = tradeTape;
 	}
 }
\ No newline at end of file
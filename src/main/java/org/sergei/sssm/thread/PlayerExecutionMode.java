@@ -0,0 +1,40 @@
+package org.sergei.sssm.thread;
+
+/**
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public enum PlayerExecutionMode {
+	/**
+	 * Each player runs on its own platform thread.
+	 */
+	PLATFORM_THREAD("Platform thread"),
+	/**
+	 * Each player runs on its own virtual thread, requires Java 21 or later.
+	 */
+	VIRTUAL_THREAD("Virtual thread"),
+	/**
+	 * Players are multiplexed on a small pool of platform threads, one per
+	 * available processor, each thread places one order per player in turn.
+	 */
+	SHARED_SCHEDULER("Shared scheduler");
+
+	private String description;
+
+	/**
+	 * Constructor initializes description attribute.
+	 *
+	 * @param description
+	 *            - String player execution mode description value.
+	 */
+	private PlayerExecutionMode(final String description) {
+		this.description = description;
+	}
+
+	/**
+	 * @return the description
+	 */
+	public String getDescription() {
+		return description;
+	}
+}
@@ -0,0 +1,175 @@
+package org.sergei.sssm.thread;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.sergei.sssm.exeption.StockMarketSystemException;
+
+/**
+ * Runs players according to a PlayerExecutionMode: one platform thread per
+ * player, one virtual thread per player, or a small shared pool of platform
+ * threads each placing one order per player in turn.
+ *
+ * Virtual threads are created through reflection, so this class still runs on
+ * Java 8 and virtual thread mode is available on Java 21 or later.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public class PlayerExecutor {
+	private final PlayerExecutionMode playerExecutionMode;
+	private final int sharedSchedulerThreadsCount;
+	private final List<Thread> threads;
+
+	/**
+	 * Constructor initializes class attributes, the shared scheduler uses one
+	 * thread per available processor.
+	 *
+	 * @param playerExecutionMode
+	 *            - PlayerExecutionMode.
+	 */
+	public PlayerExecutor(final PlayerExecutionMode playerExecutionMode) {
+		this(playerExecutionMode, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Constructor initializes class attributes.
+	 *
+	 * @param playerExecutionMode
+	 *            - PlayerExecutionMode.
+	 * @param sharedSchedulerThreadsCount
+	 *            - int number of threads of SHARED_SCHEDULER mode.
+	 */
+	public PlayerExecutor(final PlayerExecutionMode playerExecutionMode, final int sharedSchedulerThreadsCount) {
+		this.playerExecutionMode = playerExecutionMode;
+		this.sharedSchedulerThreadsCount = Math.max(1, sharedSchedulerThreadsCount);
+		this.threads = new ArrayList<>();
+	}
+
+	/**
+	 * Method checks whether a player execution mode can run on the current Java
+	 * runtime.
+	 *
+	 * @param playerExecutionMode
+	 *            - PlayerExecutionMode to check.
+	 *
+	 * @return true if the mode is supported.
+	 */
+	public static boolean isSupported(final PlayerExecutionMode playerExecutionMode) {
+		if (playerExecutionMode != PlayerExecutionMode.VIRTUAL_THREAD) {
+			return true;
+		}
+		try {
+			Thread.class.getMethod("ofVirtual");
+			return true;
+		} catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Method starts all players, it returns once threads are started.
+	 *
+	 * @param players
+	 *            - List<Player> of players to run.
+	 */
+	public void start(final List<Player> players) {
+		if (this.playerExecutionMode == PlayerExecutionMode.SHARED_SCHEDULER) {
+			startSharedScheduler(players);
+			return;
+		}
+		for (Player player : players) {
+			final Thread thread;
+			if (this.playerExecutionMode == PlayerExecutionMode.VIRTUAL_THREAD) {
+				thread = newVirtualThread(player);
+			} else {
+				thread = new Thread(player);
+			}
+			thread.setName(player.getStockMarketPlayer().getCode());
+			this.threads.add(thread);
+			thread.start();
+		}
+	}
+
+	/**
+	 * Method starts shared scheduler threads, each one owns every n-th player and
+	 * places one order per player in turn until playing time of all its players
+	 * is over.
+	 *
+	 * @param players
+	 *            - List<Player> of players to run.
+	 */
+	private void startSharedScheduler(final List<Player> players) {
+		final int threadsCount = Math.min(this.sharedSchedulerThreadsCount, Math.max(1, players.size()));
+		for (int i = 0; i < threadsCount; i++) {
+			final List<Player> scheduledPlayers = new ArrayList<>();
+			for (int j = i; j < players.size(); j += threadsCount) {
+				scheduledPlayers.add(players.get(j));
+			}
+			final Thread thread = new Thread(() -> runScheduledPlayers(scheduledPlayers), "Player scheduler " + (i + 1));
+			this.threads.add(thread);
+			thread.start();
+		}
+	}
+
+	/**
+	 * Method runs players of one shared scheduler thread.
+	 *
+	 * @param scheduledPlayers
+	 *            - List<Player> owned by the current thread.
+	 */
+	private static void runScheduledPlayers(final List<Player> scheduledPlayers) {
+		for (Player player : scheduledPlayers) {
+			player.startTrading();
+		}
+		boolean trading = true;
+		while (trading) {
+			trading = false;
+			for (Player player : scheduledPlayers) {
+				if (player.isTrading()) {
+					player.placeRandomOrder();
+					trading = true;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Method creates an unstarted virtual thread.
+	 *
+	 * @param runnable
+	 *            - Runnable to run.
+	 *
+	 * @return Thread - virtual thread.
+	 */
+	private static Thread newVirtualThread(final Runnable runnable) {
+		try {
+			final Object threadBuilder = Thread.class.getMethod("ofVirtual").invoke(null);
+			return (Thread) Class.forName("java.lang.Thread$Builder").getMethod("unstarted", Runnable.class).invoke(threadBuilder, runnable);
+		} catch (ReflectiveOperationException e) {
+			throw new StockMarketSystemException(e, "Virtual threads require Java 21 or later");
+		}
+	}
+
+	/**
+	 * Method waits until all players have finished.
+	 */
+	public void join() {
+		for (Thread thread : this.threads) {
+			try {
+				thread.join();
+			} catch (InterruptedException e) {
+				System.out.println("Error in synchronous thread starting.");
+				Thread.currentThread().interrupt();
+			}
+		}
+		this.threads.clear();
+	}
+
+	/**
+	 * @return the playerExecutionMode
+	 */
+	public PlayerExecutionMode getPlayerExecutionMode() {
+		return playerExecutionMode;
+	}
+}
@@ -0,0 +1,232 @@
+package org.sergei.sssm.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size, log-linear histogram of latencies in nanoseconds, in the manner
+ * of HdrHistogram: each power of two range is split into 64 linear
+ * sub-buckets, so a value is recorded in constant time with a relative error
+ * below 1.6% and percentiles are read without sorting samples.
+ *
+ * The trackable range is bounded to 1 ns - 2^42 ns (about 73 minutes), values
+ * above are recorded as the highest trackable value. The bound keeps a
+ * histogram to 2368 buckets, about 18.5 KB, so one may be kept per latency
+ * type of each of many thousands of stock order books.
+ *
+ * Recording is a single atomic increment, so one histogram may be shared by
+ * any number of threads.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public class LatencyHistogram {
+	/**
+	 * Highest trackable value in nanoseconds, about 73 minutes.
+	 */
+	public static final long MAX_TRACKABLE_VALUE = (1L << 42) - 1;
+	private static final int TRACKABLE_VALUE_BITS = Long.SIZE - Long.numberOfLeadingZeros(MAX_TRACKABLE_VALUE);
+	private static final int SUB_BUCKET_BITS = 7;
+	private static final int SUB_BUCKETS_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int SUB_BUCKETS_HALF_COUNT = SUB_BUCKETS_COUNT / 2;
+	private static final int BUCKETS_COUNT = SUB_BUCKETS_COUNT + (TRACKABLE_VALUE_BITS - SUB_BUCKET_BITS) * SUB_BUCKETS_HALF_COUNT;
+	private static final double NANOS_PER_MICROSECOND = 1000.0;
+	private final AtomicLongArray counts;
+	private final AtomicLong maxValue;
+
+	/**
+	 * Constructor initializes an empty histogram.
+	 */
+	public LatencyHistogram() {
+		this.counts = new AtomicLongArray(BUCKETS_COUNT);
+		this.maxValue = new AtomicLong();
+	}
+
+	/**
+	 * Method records a latency value, negative values are recorded as zero and
+	 * values above MAX_TRACKABLE_VALUE as MAX_TRACKABLE_VALUE.
+	 *
+	 * @param nanos
+	 *            - long latency in nanoseconds.
+	 */
+	public void recordValue(final long nanos) {
+		final long value = Math.min(Math.max(0, nanos), MAX_TRACKABLE_VALUE);
+		this.counts.incrementAndGet(getBucketIndex(value));
+		long currentMaxValue = this.maxValue.get();
+		while (value > currentMaxValue && !this.maxValue.compareAndSet(currentMaxValue, value)) {
+			currentMaxValue = this.maxValue.get();
+		}
+	}
+
+	/**
+	 * Method adds all values recorded by another histogram to this one.
+	 *
+	 * @param latencyHistogram
+	 *            - LatencyHistogram to add.
+	 */
+	public void add(final LatencyHistogram latencyHistogram) {
+		for (int i = 0; i < BUCKETS_COUNT; i++) {
+			final long count = latencyHistogram.counts.get(i);
+			if (count != 0) {
+				this.counts.addAndGet(i, count);
+			}
+		}
+		final long otherMaxValue = latencyHistogram.maxValue.get();
+		long currentMaxValue = this.maxValue.get();
+		while (otherMaxValue > currentMaxValue && !this.maxValue.compareAndSet(currentMaxValue, otherMaxValue)) {
+			currentMaxValue = this.maxValue.get();
+		}
+	}
+
+	/**
+	 * @return LatencyHistogram - copy of all values recorded so far.
+	 */
+	public LatencyHistogram copy() {
+		final LatencyHistogram latencyHistogram = new LatencyHistogram();
+		latencyHistogram.add(this);
+		return latencyHistogram;
+	}
+
+	/**
+	 * Method moves all recorded values to a new histogram, so recording may go on
+	 * for the next interval. Each bucket is swapped atomically, a value recorded
+	 * concurrently is counted either by the copy or by this histogram, never lost
+	 * nor counted twice.
+	 *
+	 * @return LatencyHistogram - values recorded since the previous call.
+	 */
+	public LatencyHistogram copyAndReset() {
+		final LatencyHistogram latencyHistogram = new LatencyHistogram();
+		for (int i = 0; i < BUCKETS_COUNT; i++) {
+			if (this.counts.get(i) != 0) {
+				latencyHistogram.counts.set(i, this.counts.getAndSet(i, 0));
+			}
+		}
+		latencyHistogram.maxValue.set(this.maxValue.getAndSet(0));
+		return latencyHistogram;
+	}
+
+	/**
+	 * Method removes all recorded values.
+	 */
+	public void reset() {
+		for (int i = 0; i < BUCKETS_COUNT; i++) {
+			this.counts.set(i, 0);
+		}
+		this.maxValue.set(0);
+	}
+
+	/**
+	 * @return the number of recorded values.
+	 */
+	public long getTotalCount() {
+		long totalCount = 0;
+		for (int i = 0; i < BUCKETS_COUNT; i++) {
+			totalCount += this.counts.get(i);
+		}
+		return totalCount;
+	}
+
+	/**
+	 * Method returns the value below or at which a given percentage of recorded
+	 * values fall, as the highest value of its bucket.
+	 *
+	 * @param percentile
+	 *            - double percentile from 0 to 100.
+	 *
+	 * @return long - value in nanoseconds, zero if nothing is recorded.
+	 */
+	public long getValueAtPercentile(final double percentile) {
+		final long totalCount = getTotalCount();
+		if (totalCount == 0) {
+			return 0;
+		}
+		final long countAtPercentile = Math.max(1, (long) Math.ceil(Math.min(100.0, percentile) / 100.0 * totalCount));
+		long count = 0;
+		for (int i = 0; i < BUCKETS_COUNT; i++) {
+			count += this.counts.get(i);
+			if (count >= countAtPercentile) {
+				return Math.min(getHighestEquivalentValue(i), this.maxValue.get());
+			}
+		}
+		return this.maxValue.get();
+	}
+
+	/**
+	 * @return the mean of recorded values in nanoseconds, computed from bucket
+	 *         middle values.
+	 */
+	public double getMean() {
+		long totalCount = 0;
+		double total = 0;
+		for (int i = 0; i < BUCKETS_COUNT; i++) {
+			final long count = this.counts.get(i);
+			if (count != 0) {
+				totalCount += count;
+				total += count * ((getLowestEquivalentValue(i) + (double) getHighestEquivalentValue(i)) / 2);
+			}
+		}
+		return totalCount == 0 ? 0 : total / totalCount;
+	}
+
+	/**
+	 * @return the maximum recorded value in nanoseconds.
+	 */
+	public long getMaxValue() {
+		return this.maxValue.get();
+	}
+
+	/**
+	 * @param value
+	 *            - long non negative value.
+	 *
+	 * @return int - index of the bucket recording a given value.
+	 */
+	private static int getBucketIndex(final long value) {
+		if (value < SUB_BUCKETS_COUNT) {
+			return (int) value;
+		}
+		final int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+		return SUB_BUCKETS_COUNT + (shift - 1) * SUB_BUCKETS_HALF_COUNT + (int) ((value >>> shift) - SUB_BUCKETS_HALF_COUNT);
+	}
+
+	/**
+	 * @param bucketIndex
+	 *            - int bucket index.
+	 *
+	 * @return long - lowest value recorded in a given bucket.
+	 */
+	private static long getLowestEquivalentValue(final int bucketIndex) {
+		if (bucketIndex < SUB_BUCKETS_COUNT) {
+			return bucketIndex;
+		}
+		final int shift = (bucketIndex - SUB_BUCKETS_COUNT) / SUB_BUCKETS_HALF_COUNT + 1;
+		final long subBucket = (bucketIndex - SUB_BUCKETS_COUNT) % SUB_BUCKETS_HALF_COUNT + SUB_BUCKETS_HALF_COUNT;
+		return subBucket << shift;
+	}
+
+	/**
+	 * @param bucketIndex
+	 *            - int bucket index.
+	 *
+	 * @return long - highest value recorded in a given bucket.
+	 */
+	private static long getHighestEquivalentValue(final int bucketIndex) {
+		if (bucketIndex < SUB_BUCKETS_COUNT) {
+			return bucketIndex;
+		}
+		final int shift = (bucketIndex - SUB_BUCKETS_COUNT) / SUB_BUCKETS_HALF_COUNT + 1;
+		return getLowestEquivalentValue(bucketIndex) + (1L << shift) - 1;
+	}
+
+	/**
+	 * Method represents this object as string value, latencies are printed in
+	 * microseconds.
+	 */
+	@Override
+	public String toString() {
+		return String.format("Count: %1$d\tMean: %2$.1f us\tp50: %3$.1f us\tp99: %4$.1f us\tp99.9: %5$.1f us\tMax: %6$.1f us", getTotalCount(), getMean() / NANOS_PER_MICROSECOND,
+				getValueAtPercentile(50) / NANOS_PER_MICROSECOND, getValueAtPercentile(99) / NANOS_PER_MICROSECOND, getValueAtPercentile(99.9) / NANOS_PER_MICROSECOND,
+				getMaxValue() / NANOS_PER_MICROSECOND);
+	}
+}
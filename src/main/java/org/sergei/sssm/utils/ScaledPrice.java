@@ -0,0 +1,85 @@
+package org.sergei.sssm.utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point price representation used inside the matching engine: a price is
+ * kept as a long with 4 implied decimal digits, i.e. 12.3456 is stored as
+ * 123456.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.16. initial version
+ */
+public class ScaledPrice {
+	/**
+	 * Multiplier between a price and its scaled long value.
+	 */
+	public static final long SCALE_FACTOR = 10000L;
+
+	/**
+	 * Private constructor throws illegal state exception in case of instantiation
+	 * execution.
+	 */
+	private ScaledPrice() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * Method converts price to a scaled long value, prices with more than 4
+	 * decimal digits are rounded using half even rounding mode.
+	 *
+	 * @param price
+	 *            - BigDecimal price value.
+	 *
+	 * @return long - scaled price value.
+	 */
+	public static long valueOf(final BigDecimal price) {
+		return price.setScale(NumberFormatter.SCALE_4_DECIMAL_DIGITS, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+	}
+
+	/**
+	 * Method converts scaled long value back to a price with 4 decimal digits.
+	 *
+	 * @param scaledPrice
+	 *            - long scaled price value.
+	 *
+	 * @return BigDecimal - price value.
+	 */
+	public static BigDecimal toBigDecimal(final long scaledPrice) {
+		return BigDecimal.valueOf(scaledPrice, NumberFormatter.SCALE_4_DECIMAL_DIGITS);
+	}
+
+	/**
+	 * Method divides a scaled value by a divisor and rounds the result using half
+	 * even rounding mode, as BigDecimal.divide() does, without allocation. Both
+	 * values must not be negative.
+	 *
+	 * @param scaledDividend
+	 *            - long scaled dividend, e.g. a sum of scaled price * quantity.
+	 * @param divisor
+	 *            - long positive divisor, e.g. a sum of quantity.
+	 *
+	 * @return long - scaled quotient.
+	 */
+	public static long divide(final long scaledDividend, final long divisor) {
+		final long quotient = scaledDividend / divisor;
+		final long doubledRemainder = (scaledDividend - quotient * divisor) * 2;
+		if (doubledRemainder > divisor || (doubledRemainder == divisor && (quotient & 1) == 1)) {
+			return quotient + 1;
+		}
+		return quotient;
+	}
+
+	/**
+	 * Method formats scaled long value as a price String.
+	 *
+	 * @param scaledPrice
+	 *            - long scaled price value.
+	 *
+	 * @return String - formatted price value.
+	 */
+	public static String format(final long scaledPrice) {
+		return NumberFormatter.format(toBigDecimal(scaledPrice));
+	}
+}
@@ -0,0 +1,356 @@
+package org.sergei.sssm.journal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.sergei.sssm.model.AbstractStock;
+import org.sergei.sssm.model.AbstractStockOrder;
+import org.sergei.sssm.model.SimulatedStockMarketClock;
+import org.sergei.sssm.model.StockMarket;
+import org.sergei.sssm.model.StockMarketConcurrencyMode;
+import org.sergei.sssm.model.StockMarketPlayer;
+import org.sergei.sssm.model.StockOrderBook;
+import org.sergei.sssm.model.StockOrderTransactionListener;
+import org.sergei.sssm.model.StockOrderTransactionType;
+import org.sergei.sssm.model.StockSymbol;
+
+/**
+ * Tests of StockOrderJournal: torn records, segment rollover, sessions and
+ * replay of journaled stock orders into stock order books.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public class StockOrderJournalTest {
+	private static final int SMALL_SEGMENT_SIZE = 8 * StockOrderJournal.RECORD_SIZE;
+	private static final long SCALED_PRICE = 500000;
+	private static final long TIMESTAMP_MILLIS = 1000;
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test
+	public void testReplayReturnsAppendedStockOrdersInOrder() throws IOException {
+		final Path directory = temporaryFolder.newFolder().toPath();
+		appendBuyStockOrders(directory, 1, 5);
+
+		final List<long[]> stockOrders = replay(directory);
+		assertEquals(5, stockOrders.size());
+		for (int i = 0; i < 5; i++) {
+			assertEquals(i + 1, stockOrders.get(i)[1]);
+			if (i > 0) {
+				assertTrue(stockOrders.get(i)[0] > stockOrders.get(i - 1)[0]);
+			}
+		}
+	}
+
+	@Test
+	public void testReplayStopsAtTornLastRecord() throws IOException {
+		final Path directory = temporaryFolder.newFolder().toPath();
+		appendBuyStockOrders(directory, 1, 5);
+		// Stock symbol and player records come first, so the last order is the 7th record
+		tearRecord(directory.resolve("stock-orders-00000-000-00000000.journal"), 6, 12);
+
+		final List<long[]> stockOrders = replay(directory);
+		assertEquals(4, stockOrders.size());
+		assertEquals(4, stockOrders.get(3)[1]);
+	}
+
+	@Test
+	public void testReplayStopsAtRecordWithoutHeader() throws IOException {
+		final Path directory = temporaryFolder.newFolder().toPath();
+		appendBuyStockOrders(directory, 1, 5);
+		// A crash before the header is written leaves the payload of a record only
+		tearRecord(directory.resolve("stock-orders-00000-000-00000000.journal"), 6, 0);
+
+		assertEquals(4, replay(directory).size());
+	}
+
+	@Test
+	public void testSegmentsRollOverAtSegmentSize() throws IOException {
+		final Path directory = temporaryFolder.newFolder().toPath();
+		// 2 code records and 20 orders fill 2 segments of 8 records and 6 records of a third one
+		appendBuyStockOrders(directory, 1, 20);
+
+		assertTrue(Files.exists(directory.resolve("stock-orders-00000-000-00000000.journal")));
+		assertTrue(Files.exists(directory.resolve("stock-orders-00000-000-00000001.journal")));
+		assertTrue(Files.exists(directory.resolve("stock-orders-00000-000-00000002.journal")));
+		assertFalse(Files.exists(directory.resolve("stock-orders-00000-000-00000003.journal")));
+		assertEquals(SMALL_SEGMENT_SIZE, Files.size(directory.resolve("stock-orders-00000-000-00000000.journal")));
+
+		final List<long[]> stockOrders = replay(directory);
+		assertEquals(20, stockOrders.size());
+		for (int i = 0; i < 20; i++) {
+			assertEquals(i + 1, stockOrders.get(i)[1]);
+			if (i > 0) {
+				assertTrue(stockOrders.get(i)[0] > stockOrders.get(i - 1)[0]);
+			}
+		}
+	}
+
+	@Test
+	public void testReopenAfterTornTailAppendsNewSession() throws IOException {
+		final Path directory = temporaryFolder.newFolder().toPath();
+		appendBuyStockOrders(directory, 1, 5);
+		final Path tornSegmentPath = directory.resolve("stock-orders-00000-000-00000000.journal");
+		tearRecord(tornSegmentPath, 6, 12);
+		final byte[] tornSegment = Files.readAllBytes(tornSegmentPath);
+
+		final StockOrderJournal stockOrderJournal = StockOrderJournal.open(directory, StockOrderJournalFlushPolicy.NONE, 1, SMALL_SEGMENT_SIZE);
+		assertEquals(1, stockOrderJournal.getSession());
+		assertEquals(4, stockOrderJournal.replay((journalPosition, stockOrderType, stockSymbol, stockMarketPlayer, quantity, scaledOfferedPrice, timestampMillis) -> {
+		}));
+		stockOrderJournal.getStream(0).appendStockOrder(StockOrderTransactionType.SELL, StockSymbol.TEA, StockMarketPlayer.PLAYER2, 100, SCALED_PRICE, TIMESTAMP_MILLIS);
+		stockOrderJournal.close();
+
+		assertArrayEquals(tornSegment, Files.readAllBytes(tornSegmentPath));
+		final List<long[]> stockOrders = replay(directory);
+		assertEquals(5, stockOrders.size());
+		assertEquals(4, stockOrders.get(3)[1]);
+		assertEquals(100, stockOrders.get(4)[1]);
+		assertTrue(stockOrders.get(4)[0] > stockOrders.get(3)[0]);
+	}
+
+	@Test
+	public void testReplayTranslatesIdsOfEachSession() throws IOException {
+		final Path directory = temporaryFolder.newFolder().toPath();
+		// A session of another process, where TEA and Player 2 were given other ids
+		try (FileChannel fileChannel = FileChannel.open(directory.resolve("stock-orders-00000-000-00000000.journal"), StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+				StandardOpenOption.WRITE)) {
+			final MappedByteBuffer segment = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, SMALL_SEGMENT_SIZE);
+			segment.order(ByteOrder.LITTLE_ENDIAN);
+			writeCodeRecord(segment, 0, StockOrderJournal.STOCK_SYMBOL_RECORD_TYPE, 40, StockSymbol.TEA.getCode());
+			writeCodeRecord(segment, 1, StockOrderJournal.STOCK_MARKET_PLAYER_RECORD_TYPE, 41, StockMarketPlayer.PLAYER2.getCode());
+			final int recordPosition = 2 * StockOrderJournal.RECORD_SIZE;
+			segment.putInt(recordPosition + 4, 40);
+			segment.putInt(recordPosition + 8, 41);
+			segment.putInt(recordPosition + 12, 1);
+			segment.putLong(recordPosition + 16, SCALED_PRICE);
+			segment.putLong(recordPosition + 24, TIMESTAMP_MILLIS);
+			StockOrderJournal.writeHeader(segment, recordPosition, StockOrderJournal.BUY_STOCK_ORDER_RECORD_TYPE, 0);
+		}
+		appendBuyStockOrders(directory, 2, 1);
+
+		final List<StockSymbol> stockSymbols = new ArrayList<>();
+		final List<StockMarketPlayer> stockMarketPlayers = new ArrayList<>();
+		StockOrderJournal.replay(directory, (journalPosition, stockOrderType, stockSymbol, stockMarketPlayer, quantity, scaledOfferedPrice, timestampMillis) -> {
+			stockSymbols.add(stockSymbol);
+			stockMarketPlayers.add(stockMarketPlayer);
+		});
+		assertEquals(2, stockSymbols.size());
+		for (int i = 0; i < 2; i++) {
+			assertSame(StockSymbol.TEA, stockSymbols.get(i));
+			assertSame(StockMarketPlayer.PLAYER2, stockMarketPlayers.get(i));
+		}
+	}
+
+	@Test
+	public void testReplayRebuildsIdenticalStockOrderBooks() throws IOException {
+		for (StockMarketConcurrencyMode concurrencyMode : StockMarketConcurrencyMode.values()) {
+			final Path directory = temporaryFolder.newFolder().toPath();
+			final StockMarket stockMarket = newStockMarket(concurrencyMode);
+			assertEquals(0, stockMarket.openStockOrderJournal(directory, StockOrderJournalFlushPolicy.NONE));
+			putStockOrders(stockMarket, new Random(1), 20000);
+			stockMarket.shutdown();
+
+			final StockMarket replayedStockMarket = newStockMarket(concurrencyMode);
+			assertEquals(20000, replayedStockMarket.openStockOrderJournal(directory, StockOrderJournalFlushPolicy.NONE));
+			replayedStockMarket.shutdown();
+			assertEquals(concurrencyMode.toString(), describeStockOrderBooks(stockMarket), describeStockOrderBooks(replayedStockMarket));
+		}
+	}
+
+	@Test
+	public void testReplayRebuildsStockOrderBooksJournaledByDifferentStreams() throws IOException {
+		final Path directory = temporaryFolder.newFolder().toPath();
+		final StockMarket referenceStockMarket = newStockMarket(StockMarketConcurrencyMode.GLOBAL_LOCK);
+		final Random referenceRandom = new Random(2);
+		final Random random = new Random(2);
+		long journaledStockOrdersCount = 0;
+		// Books move between streams when the number of streams changes between sessions
+		for (StockMarketConcurrencyMode concurrencyMode : new StockMarketConcurrencyMode[] { StockMarketConcurrencyMode.SINGLE_WRITER, StockMarketConcurrencyMode.GLOBAL_LOCK,
+				StockMarketConcurrencyMode.SINGLE_WRITER }) {
+			final StockMarket stockMarket = newStockMarket(concurrencyMode);
+			assertEquals(journaledStockOrdersCount, stockMarket.openStockOrderJournal(directory, StockOrderJournalFlushPolicy.NONE));
+			putStockOrders(stockMarket, random, 10000);
+			putStockOrders(referenceStockMarket, referenceRandom, 10000);
+			stockMarket.shutdown();
+			journaledStockOrdersCount += 10000;
+			assertEquals(describeStockOrderBooks(referenceStockMarket), describeStockOrderBooks(stockMarket));
+		}
+	}
+
+	/**
+	 * Method journals buy orders of TEA in a new session of one stream with
+	 * small segments.
+	 *
+	 * @param directory
+	 *            - Path of the journal directory.
+	 * @param firstQuantity
+	 *            - int quantity of the first order, each next order has a
+	 *            quantity greater by 1.
+	 * @param stockOrdersCount
+	 *            - int number of orders.
+	 */
+	private static void appendBuyStockOrders(final Path directory, final int firstQuantity, final int stockOrdersCount) {
+		final StockOrderJournal stockOrderJournal = StockOrderJournal.open(directory, StockOrderJournalFlushPolicy.NONE, 1, SMALL_SEGMENT_SIZE);
+		for (int i = 0; i < stockOrdersCount; i++) {
+			stockOrderJournal.getStream(0).appendStockOrder(StockOrderTransactionType.BUY, StockSymbol.TEA, StockMarketPlayer.PLAYER2, firstQuantity + i, SCALED_PRICE,
+					TIMESTAMP_MILLIS);
+		}
+		stockOrderJournal.close();
+	}
+
+	/**
+	 * @param directory
+	 *            - Path of the journal directory.
+	 *
+	 * @return List<long[]> - journal position and quantity of each replayed
+	 *         order.
+	 */
+	private static List<long[]> replay(final Path directory) {
+		final List<long[]> stockOrders = new ArrayList<>();
+		final long stockOrdersCount = StockOrderJournal.replay(directory,
+				(journalPosition, stockOrderType, stockSymbol, stockMarketPlayer, quantity, scaledOfferedPrice, timestampMillis) -> stockOrders
+						.add(new long[] { journalPosition, quantity }));
+		assertEquals(stockOrders.size(), stockOrdersCount);
+		return stockOrders;
+	}
+
+	/**
+	 * Method changes one byte of a record of a segment file.
+	 *
+	 * @param segmentPath
+	 *            - Path of the segment file.
+	 * @param recordIndex
+	 *            - int index of the record in the segment.
+	 * @param offset
+	 *            - int offset of the changed byte in the record.
+	 */
+	private static void tearRecord(final Path segmentPath, final int recordIndex, final int offset) throws IOException {
+		final byte[] segment = Files.readAllBytes(segmentPath);
+		final int position = recordIndex * StockOrderJournal.RECORD_SIZE + offset;
+		segment[position] = (byte) (offset == 0 ? 0 : segment[position] ^ 1);
+		Files.write(segmentPath, segment);
+	}
+
+	/**
+	 * Method writes a record mapping an id to a code.
+	 *
+	 * @param segment
+	 *            - MappedByteBuffer of a segment.
+	 * @param recordIndex
+	 *            - int index of the record in the segment.
+	 * @param recordType
+	 *            - byte record type.
+	 * @param id
+	 *            - int id.
+	 * @param code
+	 *            - String code.
+	 */
+	private static void writeCodeRecord(final MappedByteBuffer segment, final int recordIndex, final byte recordType, final int id, final String code) {
+		final int recordPosition = recordIndex * StockOrderJournal.RECORD_SIZE;
+		final byte[] codeBytes = code.getBytes(StandardCharsets.UTF_8);
+		segment.putInt(recordPosition + 4, id);
+		for (int i = 0; i < codeBytes.length; i++) {
+			segment.put(recordPosition + 8 + i, codeBytes[i]);
+		}
+		StockOrderJournal.writeHeader(segment, recordPosition, recordType, codeBytes.length);
+	}
+
+	/**
+	 * @param concurrencyMode
+	 *            - StockMarketConcurrencyMode.
+	 *
+	 * @return StockMarket - stock market of TEA, POP and ALE with 2 matching
+	 *         engines in SINGLE_WRITER mode, its clock is stopped so orders of
+	 *         different stock markets have the same time.
+	 */
+	private static StockMarket newStockMarket(final StockMarketConcurrencyMode concurrencyMode) {
+		final StockMarket stockMarket = new StockMarket(concurrencyMode, 2);
+		stockMarket.setStockMarketClock(new SimulatedStockMarketClock(TIMESTAMP_MILLIS));
+		for (StockSymbol stockSymbol : new StockSymbol[] { StockSymbol.TEA, StockSymbol.POP, StockSymbol.ALE }) {
+			stockMarket.registerStockMarketCompany(stockSymbol.getCode(), BigDecimal.ZERO, BigDecimal.ONE, new BigDecimal("50"));
+		}
+		return stockMarket;
+	}
+
+	/**
+	 * Method puts random crossing buy and sell orders.
+	 *
+	 * @param stockMarket
+	 *            - StockMarket.
+	 * @param random
+	 *            - Random source of the orders.
+	 * @param stockOrdersCount
+	 *            - int number of orders.
+	 */
+	private static void putStockOrders(final StockMarket stockMarket, final Random random, final int stockOrdersCount) {
+		// Matching engines of SINGLE_WRITER mode do not take a listener per order
+		final StockOrderTransactionListener stockOrderTransactionListener = stockMarket.getConcurrencyMode() == StockMarketConcurrencyMode.SINGLE_WRITER ? null
+				: stockOrderTransaction -> {
+				};
+		for (int i = 0; i < stockOrdersCount; i++) {
+			final AbstractStock stock = stockMarket.getStocks().get(random.nextInt(stockMarket.getStocks().size()));
+			final long scaledOfferedPrice = 450000 + random.nextInt(100001);
+			final StockMarketPlayer stockMarketPlayer = i % 7 == 0 ? StockMarketPlayer.PLAYER3 : StockMarketPlayer.PLAYER1;
+			if (random.nextBoolean()) {
+				stockMarket.putBuyOrder(stock, 1 + random.nextInt(999), scaledOfferedPrice, stockMarketPlayer, stockOrderTransactionListener);
+			} else {
+				stockMarket.putSellOrder(stock, 1 + random.nextInt(999), scaledOfferedPrice, stockMarketPlayer, stockOrderTransactionListener);
+			}
+		}
+	}
+
+	/**
+	 * @param stockMarket
+	 *            - StockMarket whose matching engines are shut down.
+	 *
+	 * @return String - stock prices, trade sequence numbers, Volume Weighted
+	 *         Stock Prices and resting orders of all stock order books.
+	 */
+	private static String describeStockOrderBooks(final StockMarket stockMarket) {
+		final StringBuilder description = new StringBuilder();
+		for (AbstractStock stock : stockMarket.getStocks()) {
+			final StockOrderBook stockOrderBook = stockMarket.getStockOrderBook(stock.getStockSymbol());
+			description.append(stock.getStockSymbol()).append(' ').append(stock.getScaledPrice()).append(' ')
+					.append(stockOrderBook.getStockOrderTransactions().getLastSequenceNumber()).append(' ').append(stockOrderBook.calculateScaledVolumeWeightedStockPrice())
+					.append('\n');
+			describeStockOrders(description, stockOrderBook.getBuyStockOrders());
+			describeStockOrders(description, stockOrderBook.getSellStockOrders());
+		}
+		return description.toString();
+	}
+
+	/**
+	 * @param description
+	 *            - StringBuilder appended with resting orders in priority order.
+	 * @param stockOrders
+	 *            - Iterable of resting orders.
+	 */
+	private static void describeStockOrders(final StringBuilder description, final Iterable<? extends AbstractStockOrder> stockOrders) {
+		for (AbstractStockOrder stockOrder : stockOrders) {
+			description.append(stockOrder.getStockMarketPlayer().getCode()).append(' ').append(stockOrder.getQuantity()).append(' ').append(stockOrder.getScaledOfferedPrice())
+					.append(' ').append(stockOrder.getTimestampMillis()).append('\n');
+		}
+	}
+}
@@ -0,0 +1,309 @@
+package org.sergei.sssm.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.sergei.sssm.journal.StockOrderJournalFlushPolicy;
+
+/**
+ * Tests of stock market snapshots: StockMarketSnapshotFile round trip,
+ * StockOrderBook.restoreState() and replay of the journal tail written after
+ * a snapshot.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public class StockMarketSnapshotTest {
+	private static final long START_TIME_MILLIS = 1000;
+	private static final VolumeWeightedStockPriceWindow LAST_10_TRADES = VolumeWeightedStockPriceWindow.ofTrades(10);
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test
+	public void testRestoreStateKeepsRestingOrdersInPriceTimeOrder() throws IOException {
+		final SimulatedStockMarketClock stockMarketClock = new SimulatedStockMarketClock(START_TIME_MILLIS);
+		final AbstractStock stock = newStock();
+		final StockOrderBook stockOrderBook = newStockOrderBook(stockMarketClock);
+		// Orders of equal price from different players and times, added out of price order
+		final long[][] sellStockOrders = { { 510000, 10 }, { 505000, 20 }, { 510000, 30 }, { 505000, 40 }, { 520000, 50 } };
+		final long[][] buyStockOrders = { { 490000, 15 }, { 495000, 25 }, { 490000, 35 }, { 495000, 45 } };
+		for (int i = 0; i < sellStockOrders.length; i++) {
+			stockMarketClock.advanceTo(TimeUnit.SECONDS.toNanos(i + 1));
+			stockOrderBook.addSellStockOrder(stock, (int) sellStockOrders[i][1], sellStockOrders[i][0], i % 2 == 0 ? StockMarketPlayer.PLAYER1 : StockMarketPlayer.PLAYER2);
+		}
+		for (int i = 0; i < buyStockOrders.length; i++) {
+			stockMarketClock.advanceTo(TimeUnit.SECONDS.toNanos(10 + i));
+			stockOrderBook.addBuyStockOrder(stock, (int) buyStockOrders[i][1], buyStockOrders[i][0], i % 2 == 0 ? StockMarketPlayer.PLAYER3 : StockMarketPlayer.PLAYER4);
+		}
+
+		final StockOrderBook restoredStockOrderBook = roundTrip(stockOrderBook, stock, stockMarketClock);
+
+		assertEquals(describeStockOrders(stockOrderBook.getBuyStockOrders()), describeStockOrders(restoredStockOrderBook.getBuyStockOrders()));
+		assertEquals(describeStockOrders(stockOrderBook.getSellStockOrders()), describeStockOrders(restoredStockOrderBook.getSellStockOrders()));
+		assertEquals(Arrays.asList("Player  2 20 505000 3000", "Player  2 40 505000 5000", "Player  1 10 510000 2000", "Player  1 30 510000 4000",
+				"Player  1 50 520000 6000"), describeStockOrders(restoredStockOrderBook.getSellStockOrders()));
+		// Restoring publishes the restored price levels as the version following the captured one
+		assertEquals(stockOrderBook.getSnapshot().getVersion() + 1, restoredStockOrderBook.getSnapshot().getVersion());
+		assertEquals(505000, restoredStockOrderBook.getSnapshot().getScaledBestAskPrice());
+		assertEquals(60, restoredStockOrderBook.getSnapshot().getBestAskQuantity());
+		assertEquals(495000, restoredStockOrderBook.getSnapshot().getScaledBestBidPrice());
+		assertEquals(70, restoredStockOrderBook.getSnapshot().getBestBidQuantity());
+
+		// The restored book matches the next order against the same resting orders
+		final List<String> stockOrderTransactions = new ArrayList<>();
+		final List<String> restoredStockOrderTransactions = new ArrayList<>();
+		stockOrderBook.addBuyStockOrder(stock, 65, 510000, StockMarketPlayer.PLAYER5, stockOrderTransaction -> stockOrderTransactions.add(describe(stockOrderTransaction)));
+		restoredStockOrderBook.addBuyStockOrder(stock, 65, 510000, StockMarketPlayer.PLAYER5,
+				stockOrderTransaction -> restoredStockOrderTransactions.add(describe(stockOrderTransaction)));
+		assertEquals(3, stockOrderTransactions.size());
+		assertEquals(stockOrderTransactions, restoredStockOrderTransactions);
+	}
+
+	@Test
+	public void testRestoreStateKeepsVolumeWeightedStockPriceWindowsAndSequenceNumbers() throws IOException {
+		final SimulatedStockMarketClock stockMarketClock = new SimulatedStockMarketClock(START_TIME_MILLIS);
+		final AbstractStock stock = newStock();
+		final StockOrderBook stockOrderBook = newStockOrderBook(stockMarketClock);
+		final Random random = new Random(1);
+		for (int i = 0; i < 40; i++) {
+			stockMarketClock.advanceTo(TimeUnit.SECONDS.toNanos(30 * (i + 1)));
+			final long scaledPrice = 450000 + random.nextInt(100001);
+			stockOrderBook.addSellStockOrder(stock, 1 + random.nextInt(99), scaledPrice, StockMarketPlayer.PLAYER1);
+			stockOrderBook.addBuyStockOrder(stock, 1 + random.nextInt(99), scaledPrice, StockMarketPlayer.PLAYER2);
+		}
+		final long lastSequenceNumber = stockOrderBook.getStockOrderTransactions().getLastSequenceNumber();
+		assertTrue(lastSequenceNumber >= 40);
+
+		final StockOrderBook restoredStockOrderBook = roundTrip(stockOrderBook, stock, stockMarketClock);
+
+		assertEquals(lastSequenceNumber, restoredStockOrderBook.getStockOrderTransactions().getLastSequenceNumber());
+		assertEquals(stockOrderBook.calculateScaledVolumeWeightedStockPrice(), restoredStockOrderBook.calculateScaledVolumeWeightedStockPrice());
+		assertVolumeWeightedStockPricesEqual(stockOrderBook, restoredStockOrderBook);
+
+		// Buckets of the windows are restored, not only their current values
+		for (int i = 0; i < 20; i++) {
+			stockMarketClock.advanceTo(TimeUnit.SECONDS.toNanos(1200 + 30 * i));
+			final long scaledPrice = 450000 + random.nextInt(100001);
+			final int quantity = 1 + random.nextInt(99);
+			for (StockOrderBook book : new StockOrderBook[] { stockOrderBook, restoredStockOrderBook }) {
+				book.addSellStockOrder(stock, quantity, scaledPrice, StockMarketPlayer.PLAYER1);
+				book.addBuyStockOrder(stock, quantity, scaledPrice, StockMarketPlayer.PLAYER2);
+			}
+			assertVolumeWeightedStockPricesEqual(stockOrderBook, restoredStockOrderBook);
+		}
+		assertEquals(stockOrderBook.getStockOrderTransactions().getLastSequenceNumber(), restoredStockOrderBook.getStockOrderTransactions().getLastSequenceNumber());
+		assertEquals(lastSequenceNumber + 1, restoredStockOrderBook.getStockOrderTransactions().getFirstSequenceNumber());
+	}
+
+	@Test
+	public void testTruncatedSnapshotFileIsRejected() throws IOException {
+		final SimulatedStockMarketClock stockMarketClock = new SimulatedStockMarketClock(START_TIME_MILLIS);
+		final AbstractStock stock = newStock();
+		final StockOrderBook stockOrderBook = newStockOrderBook(stockMarketClock);
+		for (int i = 0; i < 10; i++) {
+			stockOrderBook.addSellStockOrder(stock, 10, 500000 + i * 1000, StockMarketPlayer.PLAYER1);
+		}
+		final Path file = temporaryFolder.newFile().toPath();
+		StockMarketSnapshotFile.write(file, Collections.singletonList(stockOrderBook.captureState(stock)));
+		final byte[] snapshot = Files.readAllBytes(file);
+
+		for (int length : new int[] { 0, 8, snapshot.length / 2, snapshot.length - 1 }) {
+			Files.write(file, Arrays.copyOf(snapshot, length));
+			try {
+				StockMarketSnapshotFile.read(file);
+				fail("Snapshot truncated to " + length + " of " + snapshot.length + " bytes is read");
+			} catch (IllegalArgumentException e) {
+				assertTrue(e.getMessage().startsWith("File is not a complete stock market snapshot"));
+			}
+		}
+	}
+
+	@Test
+	public void testJournalTailAfterSnapshotIsReplayedExactlyOnce() throws IOException {
+		for (StockMarketConcurrencyMode concurrencyMode : StockMarketConcurrencyMode.values()) {
+			final Path directory = temporaryFolder.newFolder().toPath();
+			final Path file = directory.resolve("stock-market.snapshot");
+			final StockMarket stockMarket = newStockMarket(concurrencyMode);
+			stockMarket.openStockOrderJournal(directory, StockOrderJournalFlushPolicy.NONE);
+			final Random random = new Random(3);
+			putStockOrders(stockMarket, random, 5000);
+			stockMarket.writeSnapshot(file).join();
+			putStockOrders(stockMarket, random, 3000);
+			stockMarket.shutdown();
+
+			for (int i = 0; i < 2; i++) {
+				// Each restart journals a new, empty session, the tail stays the same
+				final StockMarket restoredStockMarket = newStockMarket(concurrencyMode);
+				assertTrue(restoredStockMarket.loadSnapshot(file) > 0);
+				assertEquals(concurrencyMode.toString(), 3000, restoredStockMarket.openStockOrderJournal(directory, StockOrderJournalFlushPolicy.NONE));
+				restoredStockMarket.shutdown();
+				assertEquals(concurrencyMode.toString(), describeStockOrderBooks(stockMarket), describeStockOrderBooks(restoredStockMarket));
+			}
+		}
+	}
+
+	/**
+	 * Method writes the state of a stock order book to a snapshot file, reads it
+	 * back and restores it into a new book.
+	 *
+	 * @param stockOrderBook
+	 *            - StockOrderBook to copy.
+	 * @param stock
+	 *            - AbstractStock traded in the book.
+	 * @param stockMarketClock
+	 *            - StockMarketClock of the new book.
+	 *
+	 * @return StockOrderBook - restored book.
+	 */
+	private StockOrderBook roundTrip(final StockOrderBook stockOrderBook, final AbstractStock stock, final StockMarketClock stockMarketClock) throws IOException {
+		final Path file = temporaryFolder.newFile().toPath();
+		StockMarketSnapshotFile.write(file, Collections.singletonList(stockOrderBook.captureState(stock)));
+		final List<StockOrderBookState> stockOrderBookStates = StockMarketSnapshotFile.read(file);
+		assertEquals(1, stockOrderBookStates.size());
+		final StockOrderBook restoredStockOrderBook = newStockOrderBook(stockMarketClock);
+		assertEquals(stockOrderBook.getBuyStockOrders().size() + stockOrderBook.getSellStockOrders().size(),
+				restoredStockOrderBook.restoreState(stockOrderBookStates.get(0), stock));
+		return restoredStockOrderBook;
+	}
+
+	/**
+	 * @param stockOrderBook
+	 *            - StockOrderBook.
+	 * @param restoredStockOrderBook
+	 *            - StockOrderBook restored from the state of the first one.
+	 */
+	private static void assertVolumeWeightedStockPricesEqual(final StockOrderBook stockOrderBook, final StockOrderBook restoredStockOrderBook) {
+		for (int i = 0; i < stockOrderBook.getRollingVolumeWeightedStockPrices().length; i++) {
+			assertEquals(stockOrderBook.getRollingVolumeWeightedStockPrices()[i].getWindow().getDescription(),
+					stockOrderBook.getRollingVolumeWeightedStockPrices()[i].calculateScaledVolumeWeightedStockPrice(),
+					restoredStockOrderBook.getRollingVolumeWeightedStockPrices()[i].calculateScaledVolumeWeightedStockPrice());
+		}
+	}
+
+	/**
+	 * @return AbstractStock - TEA stock.
+	 */
+	private static AbstractStock newStock() {
+		return new CommonStock(StockSymbol.TEA.getCode(), BigDecimal.ZERO, BigDecimal.ONE, new BigDecimal("50"));
+	}
+
+	/**
+	 * @param stockMarketClock
+	 *            - StockMarketClock of the book.
+	 *
+	 * @return StockOrderBook - book with a time based and a trade count based
+	 *         window.
+	 */
+	private static StockOrderBook newStockOrderBook(final StockMarketClock stockMarketClock) {
+		return new StockOrderBook(stockMarketClock, StockOrderTransactionRetention.DEFAULT, VolumeWeightedStockPriceWindow.LAST_15_MINUTES, LAST_10_TRADES);
+	}
+
+	/**
+	 * @param concurrencyMode
+	 *            - StockMarketConcurrencyMode.
+	 *
+	 * @return StockMarket - stock market of TEA, POP and ALE with a stopped clock.
+	 */
+	private static StockMarket newStockMarket(final StockMarketConcurrencyMode concurrencyMode) {
+		final StockMarket stockMarket = new StockMarket(concurrencyMode, 2);
+		stockMarket.setStockMarketClock(new SimulatedStockMarketClock(START_TIME_MILLIS));
+		stockMarket.setVolumeWeightedStockPriceWindows(VolumeWeightedStockPriceWindow.LAST_15_MINUTES, LAST_10_TRADES);
+		for (StockSymbol stockSymbol : new StockSymbol[] { StockSymbol.TEA, StockSymbol.POP, StockSymbol.ALE }) {
+			stockMarket.registerStockMarketCompany(stockSymbol.getCode(), BigDecimal.ZERO, BigDecimal.ONE, new BigDecimal("50"));
+		}
+		return stockMarket;
+	}
+
+	/**
+	 * Method puts random crossing buy and sell orders.
+	 *
+	 * @param stockMarket
+	 *            - StockMarket.
+	 * @param random
+	 *            - Random source of the orders.
+	 * @param stockOrdersCount
+	 *            - int number of orders.
+	 */
+	private static void putStockOrders(final StockMarket stockMarket, final Random random, final int stockOrdersCount) {
+		// Matching engines of SINGLE_WRITER mode do not take a listener per order
+		final StockOrderTransactionListener stockOrderTransactionListener = stockMarket.getConcurrencyMode() == StockMarketConcurrencyMode.SINGLE_WRITER ? null
+				: stockOrderTransaction -> {
+				};
+		for (int i = 0; i < stockOrdersCount; i++) {
+			final AbstractStock stock = stockMarket.getStocks().get(random.nextInt(stockMarket.getStocks().size()));
+			final long scaledOfferedPrice = 450000 + random.nextInt(100001);
+			final StockMarketPlayer stockMarketPlayer = i % 7 == 0 ? StockMarketPlayer.PLAYER3 : StockMarketPlayer.PLAYER1;
+			if (random.nextBoolean()) {
+				stockMarket.putBuyOrder(stock, 1 + random.nextInt(999), scaledOfferedPrice, stockMarketPlayer, stockOrderTransactionListener);
+			} else {
+				stockMarket.putSellOrder(stock, 1 + random.nextInt(999), scaledOfferedPrice, stockMarketPlayer, stockOrderTransactionListener);
+			}
+		}
+	}
+
+	/**
+	 * @param stockMarket
+	 *            - StockMarket whose matching engines are shut down.
+	 *
+	 * @return String - stock prices, trade sequence numbers, Volume Weighted
+	 *         Stock Prices and resting orders of all stock order books.
+	 */
+	private static String describeStockOrderBooks(final StockMarket stockMarket) {
+		final StringBuilder description = new StringBuilder();
+		for (AbstractStock stock : stockMarket.getStocks()) {
+			final StockOrderBook stockOrderBook = stockMarket.getStockOrderBook(stock.getStockSymbol());
+			description.append(stock.getStockSymbol()).append(' ').append(stock.getScaledPrice()).append(' ')
+					.append(stockOrderBook.getStockOrderTransactions().getLastSequenceNumber()).append(' ').append(stockOrderBook.calculateScaledVolumeWeightedStockPrice());
+			for (RollingVolumeWeightedStockPrice rollingVolumeWeightedStockPrice : stockOrderBook.getRollingVolumeWeightedStockPrices()) {
+				description.append(' ').append(rollingVolumeWeightedStockPrice.calculateScaledVolumeWeightedStockPrice());
+			}
+			description.append('\n').append(describeStockOrders(stockOrderBook.getBuyStockOrders())).append('\n')
+					.append(describeStockOrders(stockOrderBook.getSellStockOrders())).append('\n');
+		}
+		return description.toString();
+	}
+
+	/**
+	 * @param stockOrders
+	 *            - Iterable of resting orders.
+	 *
+	 * @return List<String> - player, quantity, price and time of each order in
+	 *         priority order.
+	 */
+	private static List<String> describeStockOrders(final Iterable<? extends AbstractStockOrder> stockOrders) {
+		final List<String> descriptions = new ArrayList<>();
+		for (AbstractStockOrder stockOrder : stockOrders) {
+			descriptions.add(stockOrder.getStockMarketPlayer().getCode() + " " + stockOrder.getQuantity() + " " + stockOrder.getScaledOfferedPrice() + " "
+					+ stockOrder.getTimestampMillis());
+		}
+		return descriptions;
+	}
+
+	/**
+	 * @param stockOrderTransaction
+	 *            - StockOrderTransaction.
+	 *
+	 * @return String - sequence number, players, quantity and price of the trade.
+	 */
+	private static String describe(final StockOrderTransaction stockOrderTransaction) {
+		return stockOrderTransaction.getSequenceNumber() + " " + stockOrderTransaction.getStockBuyOrder().getStockMarketPlayer().getCode() + " "
+				+ stockOrderTransaction.getStockSellOrder().getStockMarketPlayer().getCode() + " " + stockOrderTransaction.getExchangedStocksQuantiy() + " "
+				+ stockOrderTransaction.getScaledTransactionStockPrice();
+	}
+}
@@ -0,0 +1,120 @@
+package org.sergei.sssm.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests of the order entry contract of StockMarket in each concurrency mode.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public class StockMarketTest {
+	private static final long SCALED_PRICE = 500000;
+
+	@Test
+	public void testSingleWriterPassesExecutedTransactionsToStockMarketListener() {
+		final StockMarket stockMarket = newStockMarket(StockMarketConcurrencyMode.SINGLE_WRITER);
+		final List<StockOrderTransaction> executedStockOrderTransactions = Collections.synchronizedList(new ArrayList<>());
+		stockMarket.setStockOrderTransactionListener(executedStockOrderTransactions::add);
+		final AbstractStock stock = stockMarket.getStocks().get(0);
+
+		assertEquals(0, stockMarket.putSellOrder(stock, 10, SCALED_PRICE, StockMarketPlayer.PLAYER1, null));
+		assertTrue(stockMarket.putBuyOrder(stock, 10, SCALED_PRICE, StockMarketPlayer.PLAYER2).isEmpty());
+		stockMarket.shutdown();
+
+		assertEquals(1, executedStockOrderTransactions.size());
+		assertEquals(10, executedStockOrderTransactions.get(0).getExchangedStocksQuantiy());
+	}
+
+	@Test
+	public void testSingleWriterRejectsListenerOfOrder() {
+		final StockMarket stockMarket = newStockMarket(StockMarketConcurrencyMode.SINGLE_WRITER);
+		final AbstractStock stock = stockMarket.getStocks().get(0);
+		try {
+			stockMarket.putBuyOrder(stock, 10, SCALED_PRICE, StockMarketPlayer.PLAYER1, stockOrderTransaction -> {
+			});
+			fail("Listener of an order is accepted in SINGLE_WRITER mode");
+		} catch (IllegalArgumentException e) {
+			// expected
+		} finally {
+			stockMarket.shutdown();
+		}
+	}
+
+	@Test
+	public void testLockModesPassExecutedTransactionsToListenerOfOrder() {
+		for (StockMarketConcurrencyMode concurrencyMode : new StockMarketConcurrencyMode[] { StockMarketConcurrencyMode.GLOBAL_LOCK, StockMarketConcurrencyMode.ORDER_BOOK_LOCK }) {
+			final StockMarket stockMarket = newStockMarket(concurrencyMode);
+			final AbstractStock stock = stockMarket.getStocks().get(0);
+			final StockOrderTransactionBuffer stockOrderTransactionBuffer = new StockOrderTransactionBuffer();
+
+			assertEquals(concurrencyMode.toString(), 0, stockMarket.putSellOrder(stock, 10, SCALED_PRICE, StockMarketPlayer.PLAYER1, stockOrderTransactionBuffer));
+			assertEquals(concurrencyMode.toString(), 1, stockMarket.putBuyOrder(stock, 10, SCALED_PRICE, StockMarketPlayer.PLAYER2, stockOrderTransactionBuffer));
+			assertEquals(concurrencyMode.toString(), 1, stockOrderTransactionBuffer.size());
+		}
+	}
+
+	@Test
+	public void testOrderOfUnlistedStockSymbolIsRejected() {
+		for (StockMarketConcurrencyMode concurrencyMode : StockMarketConcurrencyMode.values()) {
+			final StockMarket stockMarket = newStockMarket(concurrencyMode);
+			// POP is registered but not listed, the new stock symbol is registered after the stock market is created
+			final AbstractStock[] unlistedStocks = { new CommonStock(StockSymbol.POP.getCode(), BigDecimal.ZERO, BigDecimal.ONE, new BigDecimal("50")),
+					new CommonStock("UNLISTED", BigDecimal.ZERO, BigDecimal.ONE, new BigDecimal("50")) };
+			try {
+				for (AbstractStock unlistedStock : unlistedStocks) {
+					final String message = concurrencyMode + " " + unlistedStock.getStockSymbol().getCode();
+					assertUnlistedStockSymbol(message, () -> stockMarket.putBuyOrder(unlistedStock, 10, SCALED_PRICE, StockMarketPlayer.PLAYER1, null));
+					assertUnlistedStockSymbol(message, () -> stockMarket.putSellOrder(unlistedStock, 10, SCALED_PRICE, StockMarketPlayer.PLAYER1, null));
+					final StockOrderBatch stockOrderBatch = new StockOrderBatch();
+					stockOrderBatch.add(StockOrderTransactionType.BUY, unlistedStock, 10, SCALED_PRICE, StockMarketPlayer.PLAYER1);
+					assertUnlistedStockSymbol(message, () -> stockMarket.submitBatch(stockOrderBatch, new StockOrderBatchResult()));
+					assertUnlistedStockSymbol(message, () -> stockMarket.getStockPosition(StockMarketPlayer.PLAYER1, unlistedStock));
+					assertUnlistedStockSymbol(message, () -> stockMarket.getStockOrderLatencies(unlistedStock.getStockSymbol()));
+					assertUnlistedStockSymbol(message, () -> stockMarket.getStockOrderBookSnapshot(unlistedStock.getStockSymbol()));
+				}
+			} finally {
+				stockMarket.shutdown();
+			}
+		}
+	}
+
+	/**
+	 * Method asserts that a call fails with an IllegalArgumentException naming
+	 * the unlisted stock symbol.
+	 *
+	 * @param message
+	 *            - String concurrency mode and code of the stock symbol.
+	 * @param call
+	 *            - Runnable call taking the unlisted stock symbol.
+	 */
+	private static void assertUnlistedStockSymbol(final String message, final Runnable call) {
+		try {
+			call.run();
+			fail("Unlisted stock symbol is accepted: " + message);
+		} catch (IllegalArgumentException e) {
+			assertTrue(message, e.getMessage().endsWith(message.substring(message.indexOf(' ') + 1)));
+		}
+	}
+
+	/**
+	 * @param concurrencyMode
+	 *            - StockMarketConcurrencyMode of the stock market.
+	 *
+	 * @return StockMarket - stock market with TEA listed.
+	 */
+	private static StockMarket newStockMarket(final StockMarketConcurrencyMode concurrencyMode) {
+		final StockMarket stockMarket = new StockMarket(concurrencyMode, 2);
+		stockMarket.registerStockMarketCompany(StockSymbol.TEA.getCode(), BigDecimal.ZERO, BigDecimal.ONE, new BigDecimal("50"));
+		return stockMarket;
+	}
+}
@@ -0,0 +1,72 @@
+package org.sergei.sssm.model;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests of StockPositions, average cost accounting and the hash table of
+ * positions of traded players.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public class StockPositionsTest {
+	private static final long SCALED_PRICE = 500000;
+	private static final int PLAYERS_COUNT = 1000;
+
+	@Test
+	public void testAverageCostAndRealizedProfitAndLoss() {
+		final AbstractStock stock = newStock();
+		final StockPositions stockPositions = new StockPositions();
+		stockPositions.update(StockMarketPlayer.PLAYER1, StockMarketPlayer.PLAYER2, 10, 500000);
+		stockPositions.update(StockMarketPlayer.PLAYER1, StockMarketPlayer.PLAYER2, 10, 520000);
+		// PLAYER1 sells 15 of 20 bought at an average cost of 51, and reverses on 10 more
+		stockPositions.update(StockMarketPlayer.PLAYER2, StockMarketPlayer.PLAYER1, 30, 530000);
+
+		final StockPosition stockPosition = stockPositions.getStockPosition(StockMarketPlayer.PLAYER1, stock);
+		assertEquals(-10, stockPosition.getQuantity());
+		assertEquals(530000, stockPosition.getScaledAverageCost());
+		assertEquals(20 * 530000 - 10 * 500000 - 10 * 520000, stockPosition.getScaledRealizedProfitAndLoss());
+		assertEquals(-stockPosition.getScaledRealizedProfitAndLoss(), stockPositions.getStockPosition(StockMarketPlayer.PLAYER2, stock).getScaledRealizedProfitAndLoss());
+	}
+
+	@Test
+	public void testPositionsOfPlayersAreKeptAcrossTableGrowth() {
+		final AbstractStock stock = newStock();
+		final StockPositions stockPositions = new StockPositions();
+		final List<StockMarketPlayer> stockMarketPlayers = new ArrayList<>();
+		for (int i = 0; i < PLAYERS_COUNT; i++) {
+			stockMarketPlayers.add(StockMarketPlayer.register(String.format("Positions %04d", i)));
+		}
+		// Each player buys its number of stocks from the next player
+		for (int i = 0; i < PLAYERS_COUNT - 1; i++) {
+			stockPositions.update(stockMarketPlayers.get(i), stockMarketPlayers.get(i + 1), i + 1, SCALED_PRICE);
+		}
+
+		assertEquals(1, stockPositions.getStockPosition(stockMarketPlayers.get(0), stock).getQuantity());
+		for (int i = 1; i < PLAYERS_COUNT - 1; i++) {
+			assertEquals(stockMarketPlayers.get(i).getCode(), 1, stockPositions.getStockPosition(stockMarketPlayers.get(i), stock).getQuantity());
+		}
+		assertEquals(1 - PLAYERS_COUNT, stockPositions.getStockPosition(stockMarketPlayers.get(PLAYERS_COUNT - 1), stock).getQuantity());
+		assertEquals(0, stockPositions.getStockPosition(StockMarketPlayer.PLAYER1, stock).getQuantity());
+	}
+
+	@Test
+	public void testPositionOfPlayerWithoutTradeIsEmpty() {
+		final StockPosition stockPosition = new StockPositions().getStockPosition(StockMarketPlayer.PLAYER1, newStock());
+		assertEquals(0, stockPosition.getQuantity());
+		assertEquals(0, stockPosition.getScaledRealizedProfitAndLoss());
+	}
+
+	/**
+	 * @return AbstractStock - TEA stock at the price of 50.
+	 */
+	private static AbstractStock newStock() {
+		return new CommonStock(StockSymbol.TEA.getCode(), BigDecimal.ZERO, BigDecimal.ONE, new BigDecimal("50"));
+	}
+}
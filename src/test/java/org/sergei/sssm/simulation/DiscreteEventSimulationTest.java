@@ -0,0 +1,156 @@
+package org.sergei.sssm.simulation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.sergei.sssm.model.AbstractStock;
+import org.sergei.sssm.model.AbstractStockOrder;
+import org.sergei.sssm.model.StockMarket;
+import org.sergei.sssm.model.StockMarketConcurrencyMode;
+import org.sergei.sssm.model.StockMarketPlayer;
+import org.sergei.sssm.model.StockOrderBook;
+import org.sergei.sssm.model.StockOrderTransaction;
+
+/**
+ * Tests of determinism of DiscreteEventSimulation: the same seed gives the
+ * same trade tape and final stock order books.
+ *
+ * @author - Sergei Shurpenkov
+ * @date - 2026.10.17. initial version
+ */
+public class DiscreteEventSimulationTest {
+	private static final long START_TIME_MILLIS = 1000;
+	private static final long SEED = 42;
+	private static final int PLAYERS_COUNT = 20;
+	private static final long MEAN_THINK_TIME_MILLIS = 100;
+	private static final long DURATION_MINUTES = 1;
+
+	@Test
+	public void testSameSeedGivesSameTradesAndStockOrderBooks() {
+		final SimulationResult simulationResult = simulate(SEED, StockMarketConcurrencyMode.GLOBAL_LOCK);
+		final SimulationResult repeatedSimulationResult = simulate(SEED, StockMarketConcurrencyMode.GLOBAL_LOCK);
+
+		assertFalse(simulationResult.trades.isEmpty());
+		assertEquals(simulationResult.ordersCount, repeatedSimulationResult.ordersCount);
+		assertEquals(simulationResult.trades, repeatedSimulationResult.trades);
+		assertEquals(simulationResult.stockOrderBooks, repeatedSimulationResult.stockOrderBooks);
+		assertEquals(simulationResult.tradeTapeChecksum, repeatedSimulationResult.tradeTapeChecksum);
+	}
+
+	@Test
+	public void testSameSeedGivesSameTradesInEachLockMode() {
+		final SimulationResult simulationResult = simulate(SEED, StockMarketConcurrencyMode.GLOBAL_LOCK);
+		final SimulationResult orderBookLockSimulationResult = simulate(SEED, StockMarketConcurrencyMode.ORDER_BOOK_LOCK);
+
+		assertEquals(simulationResult.trades, orderBookLockSimulationResult.trades);
+		assertEquals(simulationResult.stockOrderBooks, orderBookLockSimulationResult.stockOrderBooks);
+	}
+
+	@Test
+	public void testDifferentSeedGivesDifferentTrades() {
+		final SimulationResult simulationResult = simulate(SEED, StockMarketConcurrencyMode.GLOBAL_LOCK);
+		final SimulationResult otherSimulationResult = simulate(SEED + 1, StockMarketConcurrencyMode.GLOBAL_LOCK);
+
+		assertFalse(otherSimulationResult.trades.isEmpty());
+		assertNotEquals(simulationResult.trades, otherSimulationResult.trades);
+		assertNotEquals(simulationResult.tradeTapeChecksum, otherSimulationResult.tradeTapeChecksum);
+	}
+
+	/**
+	 * Method runs a simulation of players trading TEA, POP, ALE and GIN.
+	 *
+	 * @param seed
+	 *            - long seed of the simulation.
+	 * @param concurrencyMode
+	 *            - StockMarketConcurrencyMode of the stock market.
+	 *
+	 * @return SimulationResult - trades and final stock order books.
+	 */
+	private static SimulationResult simulate(final long seed, final StockMarketConcurrencyMode concurrencyMode) {
+		final DiscreteEventSimulation discreteEventSimulation = new DiscreteEventSimulation(seed, concurrencyMode, START_TIME_MILLIS);
+		final StockMarket stockMarket = discreteEventSimulation.getStockMarket();
+		stockMarket.registerStockMarketCompany("TEA", BigDecimal.ZERO, BigDecimal.ONE, new BigDecimal("50"));
+		stockMarket.registerStockMarketCompany("POP", new BigDecimal("0.08"), BigDecimal.ONE, new BigDecimal("20"));
+		stockMarket.registerStockMarketCompany("ALE", new BigDecimal("0.23"), new BigDecimal("0.60"), new BigDecimal("35"));
+		stockMarket.registerStockMarketCompany("GIN", new BigDecimal("0.08"), new BigDecimal("0.02"), BigDecimal.ONE, new BigDecimal("75"));
+		for (int i = 1; i <= PLAYERS_COUNT; i++) {
+			discreteEventSimulation.addPlayer(StockMarketPlayer.formatCode(i));
+		}
+		discreteEventSimulation.setMeanThinkTime(MEAN_THINK_TIME_MILLIS, TimeUnit.MILLISECONDS);
+
+		final SimulationResult simulationResult = new SimulationResult();
+		final TradeTapeChecksum tradeTapeChecksum = new TradeTapeChecksum();
+		simulationResult.ordersCount = discreteEventSimulation.run(DURATION_MINUTES, TimeUnit.MINUTES, stockOrderTransaction -> {
+			simulationResult.trades.add(describeTrade(stockOrderTransaction));
+			tradeTapeChecksum.onStockOrderTransaction(stockOrderTransaction);
+		});
+		simulationResult.tradeTapeChecksum = tradeTapeChecksum.getChecksum();
+		simulationResult.stockOrderBooks = describeStockOrderBooks(stockMarket);
+		return simulationResult;
+	}
+
+	/**
+	 * @param stockOrderTransaction
+	 *            - StockOrderTransaction of the trade tape.
+	 *
+	 * @return String - stock symbol, sequence number, type, quantity, price,
+	 *         players and completion time of the trade.
+	 */
+	private static String describeTrade(final StockOrderTransaction stockOrderTransaction) {
+		return stockOrderTransaction.getStockBuyOrder().getStock().getStockSymbol() + " " + stockOrderTransaction.getSequenceNumber() + " "
+				+ stockOrderTransaction.getStockOrderTransactionType() + " " + stockOrderTransaction.getExchangedStocksQuantiy() + " "
+				+ stockOrderTransaction.getScaledTransactionStockPrice() + " " + stockOrderTransaction.getStockBuyOrder().getStockMarketPlayer().getCode() + " "
+				+ stockOrderTransaction.getStockSellOrder().getStockMarketPlayer().getCode() + " " + stockOrderTransaction.getTransactionCompletedNanoTime() + " "
+				+ stockOrderTransaction.getTransactionCompletedTimeMillis();
+	}
+
+	/**
+	 * @param stockMarket
+	 *            - StockMarket.
+	 *
+	 * @return String - prices, last sequence numbers, Volume Weighted Stock
+	 *         Prices and resting orders of all stock order books.
+	 */
+	private static String describeStockOrderBooks(final StockMarket stockMarket) {
+		final StringBuilder description = new StringBuilder();
+		for (AbstractStock stock : stockMarket.getStocks()) {
+			final StockOrderBook stockOrderBook = stockMarket.getStockOrderBook(stock.getStockSymbol());
+			description.append(stock.getStockSymbol()).append(' ').append(stock.getScaledPrice()).append(' ')
+					.append(stockOrderBook.getStockOrderTransactions().getLastSequenceNumber()).append(' ').append(stockOrderBook.calculateScaledVolumeWeightedStockPrice())
+					.append('\n');
+			describeStockOrders(description, stockOrderBook.getBuyStockOrders());
+			describeStockOrders(description, stockOrderBook.getSellStockOrders());
+		}
+		return description.toString();
+	}
+
+	/**
+	 * @param description
+	 *            - StringBuilder appended with resting orders in priority order.
+	 * @param stockOrders
+	 *            - Iterable of resting orders.
+	 */
+	private static void describeStockOrders(final StringBuilder description, final Iterable<? extends AbstractStockOrder> stockOrders) {
+		for (AbstractStockOrder stockOrder : stockOrders) {
+			description.append(stockOrder.getStockMarketPlayer().getCode()).append(' ').append(stockOrder.getQuantity()).append(' ').append(stockOrder.getScaledOfferedPrice())
+					.append(' ').append(stockOrder.getTimestampMillis()).append('\n');
+		}
+	}
+
+	/**
+	 * Trades and final stock order books of a simulation.
+	 */
+	private static final class SimulationResult {
+		private final List<String> trades = new ArrayList<>();
+		private long ordersCount;
+		private long tradeTapeChecksum;
+		private String stockOrderBooks;
+	}
+}